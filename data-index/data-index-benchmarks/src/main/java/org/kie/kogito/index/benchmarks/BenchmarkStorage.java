@@ -0,0 +1,128 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.index.benchmarks;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.kogito.persistence.api.Storage;
+import org.kie.kogito.persistence.api.query.Query;
+
+import io.smallrye.mutiny.Multi;
+
+/**
+ * In-memory storage where every call pays a simulated database round trip, a bulk read or write pays a single one.
+ */
+public class BenchmarkStorage<V> implements Storage<String, V> {
+
+    private final Map<String, V> values = new ConcurrentHashMap<>();
+    private final String rootType;
+    private final long roundTripNanos;
+
+    public BenchmarkStorage(String rootType, long roundTripMicros) {
+        this.rootType = rootType;
+        this.roundTripNanos = TimeUnit.MICROSECONDS.toNanos(roundTripMicros);
+    }
+
+    private void roundTrip() {
+        final long start = System.nanoTime();
+        while (System.nanoTime() - start < roundTripNanos) {
+            Thread.onSpinWait();
+        }
+    }
+
+    @Override
+    public V get(String key) {
+        roundTrip();
+        return values.get(key);
+    }
+
+    @Override
+    public Map<String, V> getAll(Collection<String> keys) {
+        roundTrip();
+        Map<String, V> result = new HashMap<>();
+        keys.forEach(key -> {
+            V value = values.get(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public V put(String key, V value) {
+        roundTrip();
+        values.put(key, value);
+        return value;
+    }
+
+    @Override
+    public void putAll(Map<String, V> values) {
+        roundTrip();
+        this.values.putAll(values);
+    }
+
+    @Override
+    public V remove(String key) {
+        roundTrip();
+        return values.remove(key);
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        roundTrip();
+        return values.containsKey(key);
+    }
+
+    @Override
+    public Map<String, V> entries() {
+        return values;
+    }
+
+    @Override
+    public void clear() {
+        values.clear();
+    }
+
+    @Override
+    public String getRootType() {
+        return rootType;
+    }
+
+    @Override
+    public Multi<V> objectCreatedListener() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Multi<V> objectUpdatedListener() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Multi<String> objectRemovedListener() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Query<V> query() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.index.benchmarks;
+
+import org.kie.kogito.index.model.Job;
+import org.kie.kogito.index.model.ProcessDefinition;
+import org.kie.kogito.index.model.ProcessInstance;
+import org.kie.kogito.index.model.UserTaskInstance;
+import org.kie.kogito.index.storage.DataIndexStorageService;
+import org.kie.kogito.persistence.api.Storage;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class BenchmarkStorageService implements DataIndexStorageService {
+
+    public static final String PROCESS_ID = "travels";
+
+    private static final String DOMAIN_MODEL_TYPE = "org.acme.travels.Travels";
+
+    private final Storage<String, ProcessDefinition> processDefinitions;
+    private final Storage<String, ProcessInstance> processInstances;
+    private final Storage<String, UserTaskInstance> userTaskInstances;
+    private final Storage<String, Job> jobs;
+    private final Storage<String, ObjectNode> domainModels;
+
+    public BenchmarkStorageService(long roundTripMicros) {
+        this.processDefinitions = new BenchmarkStorage<>(ProcessDefinition.class.getName(), roundTripMicros);
+        this.processInstances = new BenchmarkStorage<>(ProcessInstance.class.getName(), roundTripMicros);
+        this.userTaskInstances = new BenchmarkStorage<>(UserTaskInstance.class.getName(), roundTripMicros);
+        this.jobs = new BenchmarkStorage<>(Job.class.getName(), roundTripMicros);
+        this.domainModels = new BenchmarkStorage<>(DOMAIN_MODEL_TYPE, roundTripMicros);
+    }
+
+    @Override
+    public Storage<String, ProcessDefinition> getProcessDefinitionsCache() {
+        return processDefinitions;
+    }
+
+    @Override
+    public Storage<String, ProcessInstance> getProcessInstancesCache() {
+        return processInstances;
+    }
+
+    @Override
+    public Storage<String, UserTaskInstance> getUserTaskInstancesCache() {
+        return userTaskInstances;
+    }
+
+    @Override
+    public Storage<String, Job> getJobsCache() {
+        return jobs;
+    }
+
+    @Override
+    public Storage<String, ObjectNode> getDomainModelCache(String processId) {
+        return PROCESS_ID.equals(processId) ? domainModels : null;
+    }
+
+    @Override
+    public String getDomainModelCacheName(String processId) {
+        return PROCESS_ID.equals(processId) ? DOMAIN_MODEL_TYPE : null;
+    }
+
+    @Override
+    public Storage<String, String> getProcessIdModelCache() {
+        return null;
+    }
+}
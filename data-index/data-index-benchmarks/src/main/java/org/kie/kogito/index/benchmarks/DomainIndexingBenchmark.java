@@ -0,0 +1,124 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.index.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.kie.kogito.index.service.IndexingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.util.concurrent.Striped;
+
+import static org.kie.kogito.index.json.JsonUtils.getObjectMapper;
+import static org.kie.kogito.index.storage.Constants.ID;
+import static org.kie.kogito.index.storage.Constants.KOGITO_DOMAIN_ATTRIBUTE;
+import static org.kie.kogito.index.storage.Constants.LAST_UPDATE;
+import static org.kie.kogito.index.storage.Constants.PROCESS_ID;
+import static org.kie.kogito.index.storage.Constants.PROCESS_INSTANCES_DOMAIN_ATTRIBUTE;
+
+/**
+ * Domain model events indexed per second by concurrent threads, serialized by a single lock as done before by the
+ * DomainEventConsumer, or by a lock per process instance stripe as done now. Run it with an increasing number of
+ * threads to see how it scales with the cores:
+ * <p>
+ * java -jar target/benchmarks.jar DomainIndexingBenchmark -t 1
+ * java -jar target/benchmarks.jar DomainIndexingBenchmark -t 16
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Threads(Threads.MAX)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DomainIndexingBenchmark {
+
+    private static final int INSTANCES = 10_000;
+
+    /**
+     * Same number of stripes as the DomainEventConsumer.
+     */
+    private static final int LOCK_STRIPES = 256;
+
+    @Param({ "global", "striped" })
+    String locking;
+
+    /**
+     * Simulated latency of every storage call.
+     */
+    @Param({ "20" })
+    long roundTripMicros;
+
+    private IndexingService indexingService;
+
+    private Function<String, Lock> locks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        indexingService = new BenchmarkIndexingService(new BenchmarkStorageService(roundTripMicros));
+        if ("global".equals(locking)) {
+            Lock lock = new ReentrantLock();
+            locks = id -> lock;
+        } else {
+            Striped<Lock> striped = Striped.lock(LOCK_STRIPES);
+            locks = striped::get;
+        }
+    }
+
+    @Benchmark
+    public void indexModel() {
+        String id = "pi-" + ThreadLocalRandom.current().nextInt(INSTANCES);
+        ObjectNode json = model(id);
+        Lock lock = locks.apply(id);
+        lock.lock();
+        try {
+            indexingService.indexModel(json);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static ObjectNode model(String id) {
+        ObjectNode json = getObjectMapper().createObjectNode();
+        json.put(ID, id);
+        json.put(PROCESS_ID, BenchmarkStorageService.PROCESS_ID);
+        json.put("traveller", "admin");
+        ObjectNode kogito = json.putObject(KOGITO_DOMAIN_ATTRIBUTE);
+        kogito.put(LAST_UPDATE, System.currentTimeMillis());
+        kogito.putArray(PROCESS_INSTANCES_DOMAIN_ATTRIBUTE).addObject()
+                .put(ID, id)
+                .put("processId", BenchmarkStorageService.PROCESS_ID)
+                .put("state", 1);
+        return json;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.index.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.kogito.index.model.NodeInstance;
+import org.kie.kogito.index.model.ProcessDefinition;
+import org.kie.kogito.index.model.ProcessInstance;
+import org.kie.kogito.index.service.IndexingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Process instance events indexed per second, one by one as done by the reactive and blocking consumers, or in
+ * micro-batches as done by the batching consumer. Every storage call pays the configured round trip.
+ * <p>
+ * java -jar target/benchmarks.jar IngestionBenchmark -p roundTripMicros=200
+ */
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IngestionBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final int INSTANCES = 10_000;
+
+    private static final int NODES_PER_INSTANCE = 20;
+
+    /**
+     * Simulated latency of every storage call.
+     */
+    @Param({ "0", "100" })
+    long roundTripMicros;
+
+    /**
+     * Number of events received in a row for the same process instance.
+     */
+    @Param({ "1", "5" })
+    int eventsPerInstance;
+
+    private IndexingService indexingService;
+
+    private int next;
+
+    private List<ProcessInstance> events;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        indexingService = new BenchmarkIndexingService(new BenchmarkStorageService(roundTripMicros));
+    }
+
+    @Setup(Level.Invocation)
+    public void nextEvents() {
+        events = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            String id = "pi-" + (next % INSTANCES);
+            events.add(event(id, i % NODES_PER_INSTANCE));
+            if ((i + 1) % eventsPerInstance == 0) {
+                next++;
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void perEvent() {
+        for (ProcessInstance event : events) {
+            indexingService.indexProcessInstance(event);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void batch() {
+        indexingService.indexProcessInstances(events);
+    }
+
+    private static ProcessInstance event(String id, int node) {
+        ProcessDefinition definition = new ProcessDefinition();
+        definition.setId(BenchmarkStorageService.PROCESS_ID);
+        definition.setVersion("1.0");
+        NodeInstance nodeInstance = new NodeInstance();
+        nodeInstance.setId("node-" + node);
+        nodeInstance.setName("Node " + node);
+        List<NodeInstance> nodes = new ArrayList<>();
+        nodes.add(nodeInstance);
+        ProcessInstance pi = new ProcessInstance();
+        pi.setId(id);
+        pi.setProcessId(BenchmarkStorageService.PROCESS_ID);
+        pi.setUpdatedBy("admin");
+        pi.setDefinition(definition);
+        pi.setNodes(nodes);
+        return pi;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.index.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.kogito.index.model.NodeInstance;
+import org.kie.kogito.index.model.ProcessDefinition;
+import org.kie.kogito.index.model.ProcessInstance;
+import org.kie.kogito.index.service.IndexingService;
+import org.kie.kogito.persistence.api.Storage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Cost of indexing an event of a long running process instance with {@link #NODES} node instances already indexed,
+ * when the event carries {@link #eventNodes} of them. The legacy merge is the previous List.contains based one.
+ */
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NodeMergeBenchmark {
+
+    private static final int NODES = 5_000;
+
+    private static final String PROCESS_INSTANCE_ID = "pi-1";
+
+    @Param({ "1", "100", "5000" })
+    int eventNodes;
+
+    private BenchmarkStorageService storageService;
+
+    private IndexingService indexingService;
+
+    private List<NodeInstance> nodes;
+
+    private ProcessInstance event;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        storageService = new BenchmarkStorageService(0);
+        indexingService = new BenchmarkIndexingService(storageService);
+        nodes = new ArrayList<>(NODES);
+        for (int i = 0; i < NODES; i++) {
+            NodeInstance node = new NodeInstance();
+            node.setId("node-instance-" + i);
+            node.setNodeId(String.valueOf(i));
+            node.setName("Node " + i);
+            node.setType("WorkItemNode");
+            nodes.add(node);
+        }
+        indexingService.indexProcessInstance(event(nodes));
+    }
+
+    @Setup(Level.Invocation)
+    public void nextEvent() {
+        //the latest node instances, so the stored ones keep the same size
+        event = event(nodes.subList(NODES - eventNodes, NODES));
+    }
+
+    @Benchmark
+    public ProcessInstance indexProcessInstance() {
+        indexingService.indexProcessInstance(event);
+        return event;
+    }
+
+    @Benchmark
+    public ProcessInstance legacyIndexProcessInstance() {
+        Storage<String, ProcessInstance> cache = storageService.getProcessInstancesCache();
+        ProcessInstance previousPI = cache.get(event.getId());
+        if (previousPI != null) {
+            List<NodeInstance> previousNodes = previousPI.getNodes().stream().filter(n -> !event.getNodes().contains(n)).collect(toList());
+            event.getNodes().addAll(previousNodes);
+        }
+        cache.put(event.getId(), event);
+        return event;
+    }
+
+    private static ProcessInstance event(List<NodeInstance> nodes) {
+        ProcessDefinition definition = new ProcessDefinition();
+        definition.setId(BenchmarkStorageService.PROCESS_ID);
+        definition.setVersion("1.0");
+        ProcessInstance pi = new ProcessInstance();
+        pi.setId(PROCESS_INSTANCE_ID);
+        pi.setProcessId(BenchmarkStorageService.PROCESS_ID);
+        pi.setDefinition(definition);
+        pi.setNodes(new ArrayList<>(nodes));
+        return pi;
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.index.benchmarks;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.kie.kogito.index.model.Comment;
+import org.kie.kogito.index.model.NodeInstance;
+import org.kie.kogito.index.model.ProcessInstance;
+import org.kie.kogito.index.model.UserTaskInstance;
+import org.kie.kogito.index.oracle.mapper.ProcessInstanceEntityMapper;
+import org.kie.kogito.index.oracle.mapper.UserTaskInstanceEntityMapper;
+import org.kie.kogito.index.oracle.model.AttachmentEntity;
+import org.kie.kogito.index.oracle.model.CommentEntity;
+import org.kie.kogito.index.oracle.model.MilestoneEntity;
+import org.kie.kogito.index.oracle.model.NodeInstanceEntity;
+import org.kie.kogito.index.oracle.model.ProcessInstanceEntity;
+import org.kie.kogito.index.oracle.model.ProcessInstanceEntityRepository;
+import org.kie.kogito.index.oracle.model.UserTaskInstanceEntity;
+import org.kie.kogito.index.oracle.model.UserTaskInstanceEntityRepository;
+import org.kie.kogito.index.oracle.storage.ProcessInstanceEntityStorage;
+import org.kie.kogito.index.oracle.storage.UserTaskInstanceEntityStorage;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.kie.kogito.index.json.JsonUtils.getObjectMapper;
+
+/**
+ * Write path of the JPA storages of the Oracle data index, with their entity mappings, against an embedded H2
+ * database in Oracle mode, as there is no containerless Oracle available for the benchmarks. Every process instance
+ * event changes the instance and the exit time of one of its {@link #nodes} node instances, every user task event
+ * changes the task, which has {@link #COMMENTS} comments. The legacy path is the previous put of the storages, which
+ * deleted the stored entity and inserted it again with all its children.
+ * <p>
+ * The storages run without the Quarkus runtime: the Panache operations they use are bound to the current Hibernate
+ * session, and each operation runs in its own transaction, demarcated here instead of by the interceptors.
+ */
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UpsertBenchmark {
+
+    private static final String PROCESS_INSTANCE_ID = "pi-1";
+
+    private static final int USER_TASKS = 100;
+
+    private static final int COMMENTS = 5;
+
+    @Param({ "10", "100", "1000" })
+    int nodes;
+
+    private SessionFactory sessionFactory;
+
+    private ProcessInstanceEntityMapper processInstanceMapper;
+
+    private ProcessInstanceEntityStorage processInstanceStorage;
+
+    private UserTaskInstanceEntityStorage userTaskInstanceStorage;
+
+    private ProcessInstance processInstance;
+
+    private Map<String, UserTaskInstance> userTasks;
+
+    private UserTaskInstance userTask;
+
+    private int events;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Configuration configuration = new Configuration()
+                .setProperty(AvailableSettings.URL, "jdbc:h2:mem:upsert;MODE=Oracle;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.CURRENT_SESSION_CONTEXT_CLASS, "thread");
+        Stream.of(ProcessInstanceEntity.class, NodeInstanceEntity.class, MilestoneEntity.class, UserTaskInstanceEntity.class, CommentEntity.class,
+                AttachmentEntity.class).forEach(configuration::addAnnotatedClass);
+        sessionFactory = configuration.buildSessionFactory();
+
+        processInstanceMapper = Mappers.getMapper(ProcessInstanceEntityMapper.class);
+        processInstanceStorage = new ProcessInstanceEntityStorage(new SessionProcessInstanceEntityRepository(sessionFactory), processInstanceMapper);
+        userTaskInstanceStorage = new UserTaskInstanceEntityStorage(new SessionUserTaskInstanceEntityRepository(sessionFactory),
+                Mappers.getMapper(UserTaskInstanceEntityMapper.class));
+
+        processInstance = processInstance(nodes);
+        userTasks = new LinkedHashMap<>();
+        for (int i = 0; i < USER_TASKS; i++) {
+            UserTaskInstance task = userTask("ut-" + i);
+            userTasks.put(task.getId(), task);
+        }
+        userTask = userTasks.values().iterator().next();
+        inTransaction(() -> {
+            processInstanceStorage.put(PROCESS_INSTANCE_ID, processInstance);
+            userTaskInstanceStorage.putAll(userTasks);
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public ProcessInstance processInstancePut() {
+        nextProcessInstanceEvent();
+        inTransaction(() -> processInstanceStorage.put(PROCESS_INSTANCE_ID, processInstance));
+        return processInstance;
+    }
+
+    @Benchmark
+    public ProcessInstance legacyProcessInstancePut() {
+        nextProcessInstanceEvent();
+        inTransaction(() -> {
+            Session session = sessionFactory.getCurrentSession();
+            ProcessInstanceEntity stored = session.get(ProcessInstanceEntity.class, PROCESS_INSTANCE_ID);
+            if (stored != null) {
+                session.remove(stored);
+            }
+            session.persist(processInstanceMapper.mapToEntity(processInstance));
+        });
+        return processInstance;
+    }
+
+    @Benchmark
+    public UserTaskInstance userTaskInstancePut() {
+        userTask.setLastUpdate(ZonedDateTime.now());
+        inTransaction(() -> userTaskInstanceStorage.put(userTask.getId(), userTask));
+        return userTask;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(USER_TASKS)
+    public Map<String, UserTaskInstance> userTaskInstancePutAll() {
+        ZonedDateTime lastUpdate = ZonedDateTime.now();
+        userTasks.values().forEach(task -> task.setLastUpdate(lastUpdate));
+        inTransaction(() -> userTaskInstanceStorage.putAll(userTasks));
+        return userTasks;
+    }
+
+    private void nextProcessInstanceEvent() {
+        ZonedDateTime now = ZonedDateTime.now();
+        processInstance.setLastUpdate(now);
+        processInstance.getNodes().get(events++ % nodes).setExit(now);
+    }
+
+    private void inTransaction(Runnable work) {
+        Transaction transaction = sessionFactory.getCurrentSession().beginTransaction();
+        try {
+            work.run();
+            transaction.commit();
+        } catch (RuntimeException e) {
+            transaction.rollback();
+            throw e;
+        }
+    }
+
+    private static ProcessInstance processInstance(int nodes) {
+        ZonedDateTime start = ZonedDateTime.now();
+        List<NodeInstance> nodeInstances = new ArrayList<>(nodes);
+        for (int i = 0; i < nodes; i++) {
+            NodeInstance node = new NodeInstance();
+            node.setId("node-instance-" + i);
+            node.setNodeId(String.valueOf(i));
+            node.setName("Node " + i);
+            node.setType("WorkItemNode");
+            node.setEnter(start);
+            nodeInstances.add(node);
+        }
+        ProcessInstance pi = new ProcessInstance();
+        pi.setId(PROCESS_INSTANCE_ID);
+        pi.setProcessId("travels");
+        pi.setProcessName("Travels");
+        pi.setVersion("1.0");
+        pi.setState(1);
+        pi.setStart(start);
+        pi.setLastUpdate(start);
+        pi.setVariables(getObjectMapper().createObjectNode().put("traveller", "John"));
+        pi.setNodes(nodeInstances);
+        pi.setMilestones(new ArrayList<>());
+        return pi;
+    }
+
+    private static UserTaskInstance userTask(String id) {
+        ZonedDateTime started = ZonedDateTime.now();
+        List<Comment> comments = new ArrayList<>(COMMENTS);
+        for (int i = 0; i < COMMENTS; i++) {
+            Comment comment = new Comment();
+            comment.setId(id + "-comment-" + i);
+            comment.setContent("Comment " + i);
+            comment.setUpdatedBy("admin");
+            comment.setUpdatedAt(started);
+            comments.add(comment);
+        }
+        UserTaskInstance task = new UserTaskInstance();
+        task.setId(id);
+        task.setName("VisaApplication");
+        task.setState("Ready");
+        task.setProcessId("travels");
+        task.setProcessInstanceId(PROCESS_INSTANCE_ID);
+        task.setStarted(started);
+        task.setLastUpdate(started);
+        task.setInputs(getObjectMapper().createObjectNode().put("traveller", "John"));
+        task.setComments(comments);
+        task.setAttachments(new ArrayList<>());
+        return task;
+    }
+
+    /**
+     * The Panache operations used by {@link ProcessInstanceEntityStorage}, on the current session.
+     */
+    private static class SessionProcessInstanceEntityRepository extends ProcessInstanceEntityRepository {
+
+        private final SessionFactory sessionFactory;
+
+        SessionProcessInstanceEntityRepository(SessionFactory sessionFactory) {
+            this.sessionFactory = sessionFactory;
+        }
+
+        @Override
+        public EntityManager getEntityManager() {
+            return sessionFactory.getCurrentSession();
+        }
+
+        @Override
+        public ProcessInstanceEntity findById(String id) {
+            return getEntityManager().find(ProcessInstanceEntity.class, id);
+        }
+
+        @Override
+        public void persist(ProcessInstanceEntity entity) {
+            getEntityManager().persist(entity);
+        }
+    }
+
+    /**
+     * The Panache operations used by the put and putAll of the storages, on the current session.
+     */
+    private static class SessionUserTaskInstanceEntityRepository extends UserTaskInstanceEntityRepository {
+
+        private final SessionFactory sessionFactory;
+
+        SessionUserTaskInstanceEntityRepository(SessionFactory sessionFactory) {
+            this.sessionFactory = sessionFactory;
+        }
+
+        @Override
+        public EntityManager getEntityManager() {
+            return sessionFactory.getCurrentSession();
+        }
+    }
+}
@@ -15,7 +15,11 @@
  */
 package org.kie.kogito.index.service;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
@@ -35,6 +39,7 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static org.kie.kogito.index.json.JsonUtils.getObjectMapper;
 import static org.kie.kogito.index.storage.Constants.ID;
 import static org.kie.kogito.index.storage.Constants.KOGITO_DOMAIN_ATTRIBUTE;
@@ -49,31 +54,83 @@ public class IndexingService {
     private static final Logger LOGGER = LoggerFactory.getLogger(IndexingService.class);
 
     @Inject
-    DataIndexStorageService manager;
+    protected DataIndexStorageService manager;
 
     public void indexProcessInstance(ProcessInstance pi) {
-        ProcessInstance previousPI = manager.getProcessInstancesCache().get(pi.getId());
+        merge(manager.getProcessInstancesCache().get(pi.getId()), pi);
+        indexProcessDefinition(pi.getDefinition());
+        manager.getProcessInstancesCache().put(pi.getId(), pi);
+    }
+
+    /**
+     * Indexes a batch of process instance events. The events of the same process instance are merged in memory, in
+     * the order they were received, so the storage is read once and written once per process instance.
+     */
+    public void indexProcessInstances(List<ProcessInstance> processInstances) {
+        if (processInstances.isEmpty()) {
+            return;
+        }
+        Map<String, ProcessInstance> merged = new LinkedHashMap<>();
+        Map<String, ProcessDefinition> definitions = new LinkedHashMap<>();
+        for (ProcessInstance pi : processInstances) {
+            ProcessInstance previousPI = merged.containsKey(pi.getId()) ? merged.get(pi.getId()) : manager.getProcessInstancesCache().get(pi.getId());
+            merge(previousPI, pi);
+            merged.put(pi.getId(), pi);
+            definitions.putIfAbsent(pi.getDefinition().getKey(), pi.getDefinition());
+        }
+        definitions.values().forEach(this::indexProcessDefinition);
+        manager.getProcessInstancesCache().putAll(merged);
+    }
+
+    private static void merge(ProcessInstance previousPI, ProcessInstance pi) {
         if (previousPI != null) {
-            List<NodeInstance> nodes = previousPI.getNodes().stream().filter(n -> !pi.getNodes().contains(n)).collect(toList());
+            //node instances are matched by id, the ones in the event replace the previous ones
+            Set<String> nodeIds = pi.getNodes().stream().map(NodeInstance::getId).collect(toSet());
+            List<NodeInstance> nodes = previousPI.getNodes().stream().filter(n -> !nodeIds.contains(n.getId())).collect(toList());
             pi.getNodes().addAll(nodes);
         } else {
             pi.setCreatedBy(pi.getUpdatedBy());
         }
-        ProcessDefinition definition = pi.getDefinition();
+    }
+
+    private void indexProcessDefinition(ProcessDefinition definition) {
         if (!manager.getProcessDefinitionsCache().containsKey(definition.getKey())) {
             manager.getProcessDefinitionsCache().put(definition.getKey(), definition);
         }
-        manager.getProcessInstancesCache().put(pi.getId(), pi);
     }
 
     public void indexJob(Job job) {
         manager.getJobsCache().put(job.getId(), job);
     }
 
+    /**
+     * Indexes a batch of job events, only the last event of each job is written.
+     */
+    public void indexJobs(List<Job> jobs) {
+        if (!jobs.isEmpty()) {
+            manager.getJobsCache().putAll(lastById(jobs, Job::getId));
+        }
+    }
+
     public void indexUserTaskInstance(UserTaskInstance ut) {
         manager.getUserTaskInstancesCache().put(ut.getId(), ut);
     }
 
+    /**
+     * Indexes a batch of user task instance events, only the last event of each user task instance is written.
+     */
+    public void indexUserTaskInstances(List<UserTaskInstance> userTaskInstances) {
+        if (!userTaskInstances.isEmpty()) {
+            manager.getUserTaskInstancesCache().putAll(lastById(userTaskInstances, UserTaskInstance::getId));
+        }
+    }
+
+    private static <T> Map<String, T> lastById(List<T> values, Function<T, String> id) {
+        Map<String, T> result = new LinkedHashMap<>();
+        values.forEach(value -> result.put(id.apply(value), value));
+        return result;
+    }
+
     public void indexModel(ObjectNode json) {
         String processId = json.remove(PROCESS_ID).asText();
         Storage<String, ObjectNode> cache = manager.getDomainModelCache(processId);
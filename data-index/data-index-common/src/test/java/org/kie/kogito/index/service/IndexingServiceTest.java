@@ -0,0 +1,152 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.index.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kie.kogito.index.model.NodeInstance;
+import org.kie.kogito.index.model.ProcessDefinition;
+import org.kie.kogito.index.model.ProcessInstance;
+import org.kie.kogito.index.model.UserTaskInstance;
+import org.kie.kogito.index.storage.DataIndexStorageService;
+import org.kie.kogito.persistence.api.Storage;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IndexingServiceTest {
+
+    private static final String PROCESS_ID = "travels";
+
+    @Mock
+    DataIndexStorageService manager;
+
+    @Mock
+    Storage<String, ProcessInstance> processInstances;
+
+    @Mock
+    Storage<String, ProcessDefinition> processDefinitions;
+
+    @Mock
+    Storage<String, UserTaskInstance> userTaskInstances;
+
+    @Captor
+    ArgumentCaptor<Map<String, ProcessInstance>> processInstancesCaptor;
+
+    @Captor
+    ArgumentCaptor<Map<String, UserTaskInstance>> userTaskInstancesCaptor;
+
+    @InjectMocks
+    IndexingService indexingService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(manager.getProcessInstancesCache()).thenReturn(processInstances);
+        lenient().when(manager.getProcessDefinitionsCache()).thenReturn(processDefinitions);
+        lenient().when(manager.getUserTaskInstancesCache()).thenReturn(userTaskInstances);
+    }
+
+    @Test
+    void indexProcessInstances() {
+        ProcessInstance stored = processInstance("pi1", "node1");
+        stored.setCreatedBy("creator");
+        when(processInstances.get("pi1")).thenReturn(stored);
+        when(processDefinitions.containsKey(anyString())).thenReturn(false);
+
+        indexingService.indexProcessInstances(Arrays.asList(
+                processInstance("pi1", "node2"),
+                processInstance("pi2", "node1"),
+                processInstance("pi1", "node1", "node3")));
+
+        //the storage is read once per process instance, the following events are merged in memory
+        verify(processInstances).get("pi1");
+        verify(processInstances).get("pi2");
+        verify(processInstances, never()).put(anyString(), any());
+        verify(processDefinitions).put(eq(ProcessDefinition.toKey(PROCESS_ID, "1.0")), any());
+        verify(processInstances).putAll(processInstancesCaptor.capture());
+
+        Map<String, ProcessInstance> written = processInstancesCaptor.getValue();
+        assertThat(written).containsOnlyKeys("pi1", "pi2");
+        assertThat(written.get("pi1").getNodes()).extracting(NodeInstance::getId).containsExactlyInAnyOrder("node1", "node2", "node3");
+        assertThat(written.get("pi2").getNodes()).extracting(NodeInstance::getId).containsExactly("node1");
+        assertThat(written.get("pi2").getCreatedBy()).isEqualTo("updater");
+    }
+
+    @Test
+    void indexProcessInstancesEmpty() {
+        indexingService.indexProcessInstances(Collections.emptyList());
+
+        verify(manager, never()).getProcessInstancesCache();
+    }
+
+    @Test
+    void indexUserTaskInstances() {
+        UserTaskInstance first = userTaskInstance("ut1", "Ready");
+        UserTaskInstance second = userTaskInstance("ut2", "Ready");
+        UserTaskInstance last = userTaskInstance("ut1", "Completed");
+
+        indexingService.indexUserTaskInstances(Arrays.asList(first, second, last));
+
+        verify(userTaskInstances).putAll(userTaskInstancesCaptor.capture());
+        assertThat(userTaskInstancesCaptor.getValue()).containsOnlyKeys("ut1", "ut2");
+        assertThat(userTaskInstancesCaptor.getValue().get("ut1")).isSameAs(last);
+    }
+
+    private static ProcessInstance processInstance(String id, String... nodeIds) {
+        ProcessDefinition definition = new ProcessDefinition();
+        definition.setId(PROCESS_ID);
+        definition.setVersion("1.0");
+        ProcessInstance pi = new ProcessInstance();
+        pi.setId(id);
+        pi.setProcessId(PROCESS_ID);
+        pi.setUpdatedBy("updater");
+        pi.setDefinition(definition);
+        List<NodeInstance> nodes = new ArrayList<>();
+        for (String nodeId : nodeIds) {
+            NodeInstance node = new NodeInstance();
+            node.setId(nodeId);
+            nodes.add(node);
+        }
+        pi.setNodes(nodes);
+        return pi;
+    }
+
+    private static UserTaskInstance userTaskInstance(String id, String state) {
+        UserTaskInstance ut = new UserTaskInstance();
+        ut.setId(id);
+        ut.setState(state);
+        return ut;
+    }
+}
@@ -18,16 +18,28 @@ package org.kie.kogito.index.graphql;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import javax.annotation.PostConstruct;
 import javax.inject.Inject;
 
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderFactory;
+import org.dataloader.DataLoaderRegistry;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.kie.kogito.index.api.KogitoRuntimeClient;
 import org.kie.kogito.index.graphql.query.GraphQLQueryOrderByParser;
 import org.kie.kogito.index.graphql.query.GraphQLQueryParserRegistry;
@@ -39,21 +51,33 @@ import org.kie.kogito.index.model.UserTaskInstance;
 import org.kie.kogito.index.service.DataIndexServiceException;
 import org.kie.kogito.index.storage.DataIndexStorageService;
 import org.kie.kogito.persistence.api.Storage;
+import org.kie.kogito.persistence.api.query.AttributeSort;
 import org.kie.kogito.persistence.api.query.Query;
+import org.kie.kogito.persistence.api.query.SortDirection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.Metrics;
+
 import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.GraphQLEnumType;
 import graphql.schema.GraphQLInputObjectType;
 import graphql.schema.GraphQLNamedType;
+import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLScalarType;
 import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLType;
+import graphql.schema.GraphQLTypeUtil;
 import graphql.schema.idl.SchemaParser;
 import graphql.schema.idl.TypeDefinitionRegistry;
 
 import static java.lang.String.format;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.groupingBy;
 import static org.kie.kogito.persistence.api.query.QueryFilterFactory.equalTo;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.in;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.orderBy;
 
 public abstract class AbstractGraphQLSchemaManager implements GraphQLSchemaManager {
 
@@ -66,6 +90,21 @@ public abstract class AbstractGraphQLSchemaManager implements GraphQLSchemaManag
 
     private static final String UNABLE_TO_FIND_ERROR_MSG = "Unable to find the instance with %s %s";
 
+    // Attributes identifying a result, the keyset pagination sorts by them after the requested attributes
+    private static final List<String> KEY_ATTRIBUTES = List.of(ID);
+    private static final List<String> PROCESS_DEFINITION_KEY_ATTRIBUTES = List.of(ID, "version");
+
+    // Attributes used by the data fetchers of the computed fields, e.g. serviceUrl or childProcessInstances
+    static final List<String> PROCESS_INSTANCE_FETCHER_ATTRIBUTES = List.of(ID, "processId", "version", "endpoint", "parentProcessInstanceId");
+    private static final List<String> USER_TASK_INSTANCE_FETCHER_ATTRIBUTES = List.of(ID, "name", "processId", "processInstanceId", "endpoint");
+
+    static final String PROCESS_INSTANCE_LOADER = "processInstance";
+    static final String CHILD_PROCESS_INSTANCES_LOADER = "childProcessInstances";
+    static final String PROCESS_DEFINITION_LOADER = "processDefinition";
+
+    //version attribute of the process element of a BPMN source, e.g. drools:version="1.0"
+    private static final Pattern PROCESS_VERSION = Pattern.compile("<(?:\\w+:)?process\\s[^>]*?\\b(?:\\w+:)?version=\"([^\"]*)\"");
+
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractGraphQLSchemaManager.class);
 
     @Inject
@@ -77,10 +116,30 @@ public abstract class AbstractGraphQLSchemaManager implements GraphQLSchemaManag
     @Inject
     KogitoRuntimeClient dataIndexApiExecutor;
 
+    /**
+     * The maximum number of process sources, and of process node definitions, fetched from the runtimes kept in memory.
+     */
+    @ConfigProperty(name = "kogito.data-index.runtime-cache.max-size", defaultValue = "1000")
+    long runtimeCacheMaxSize;
+
+    /**
+     * The time the contents fetched from the runtimes are kept in memory, also the longest time a content of another
+     * version may be returned after a runtime is upgraded.
+     */
+    @ConfigProperty(name = "kogito.data-index.runtime-cache.ttl", defaultValue = "PT1M")
+    Duration runtimeCacheTtl;
+
     private GraphQLSchema schema;
 
+    private RuntimeContentCache<String> sourceCache;
+
+    private RuntimeContentCache<List<Node>> nodesCache;
+
     @PostConstruct
     public void setup() {
+        sourceCache = new RuntimeContentCache<>("source", runtimeCacheMaxSize, runtimeCacheTtl, AbstractGraphQLSchemaManager::getProcessSourceVersion,
+                Metrics.globalRegistry);
+        nodesCache = new RuntimeContentCache<>("nodes", runtimeCacheMaxSize, runtimeCacheTtl, nodes -> null, Metrics.globalRegistry);
         schema = createSchema();
         GraphQLQueryParserRegistry.get().registerParsers(
                 (GraphQLInputObjectType) schema.getType("ProcessDefinitionArgument"),
@@ -133,9 +192,35 @@ public abstract class AbstractGraphQLSchemaManager implements GraphQLSchemaManag
         return getServiceUrl(source.getEndpoint(), source.getProcessId());
     }
 
-    public ProcessDefinition getProcessDefinition(DataFetchingEnvironment env) {
+    public CompletableFuture<ProcessDefinition> getProcessDefinition(DataFetchingEnvironment env) {
         ProcessInstance source = env.getSource();
-        return cacheService.getProcessDefinitionsCache().get(ProcessDefinition.toKey(source.getProcessId(), source.getVersion()));
+        return loadProcessDefinition(env, source);
+    }
+
+    /**
+     * The nested fields of a list of results are resolved through the data loaders of the execution, so the storage
+     * is read once per level of the query instead of once per result. The storage is read directly when the execution
+     * has no data loaders.
+     */
+    @Override
+    public DataLoaderRegistry createDataLoaderRegistry() {
+        DataLoaderRegistry registry = new DataLoaderRegistry();
+        registry.register(PROCESS_INSTANCE_LOADER,
+                DataLoaderFactory.newMappedDataLoader((Set<String> ids) -> CompletableFuture.completedFuture(cacheService.getProcessInstancesCache().getAll(ids))));
+        registry.register(CHILD_PROCESS_INSTANCES_LOADER,
+                DataLoaderFactory.newMappedDataLoader((Set<String> ids) -> CompletableFuture.completedFuture(getChildProcessInstances(ids))));
+        registry.register(PROCESS_DEFINITION_LOADER,
+                DataLoaderFactory.newMappedDataLoader((Set<String> keys) -> CompletableFuture.completedFuture(cacheService.getProcessDefinitionsCache().getAll(keys))));
+        return registry;
+    }
+
+    private CompletableFuture<ProcessDefinition> loadProcessDefinition(DataFetchingEnvironment env, ProcessInstance pi) {
+        String key = ProcessDefinition.toKey(pi.getProcessId(), pi.getVersion());
+        DataLoader<String, ProcessDefinition> loader = env.getDataLoader(PROCESS_DEFINITION_LOADER);
+        if (loader == null) {
+            return CompletableFuture.completedFuture(cacheService.getProcessDefinitionsCache().get(key));
+        }
+        return loader.load(key);
     }
 
     protected String getServiceUrl(String endpoint, String processId) {
@@ -157,33 +242,76 @@ public abstract class AbstractGraphQLSchemaManager implements GraphQLSchemaManag
         return processId.contains(".") ? processId.substring(processId.lastIndexOf('.') + 1) : processId;
     }
 
-    protected Collection<ProcessInstance> getChildProcessInstancesValues(DataFetchingEnvironment env) {
+    protected CompletableFuture<List<ProcessInstance>> getChildProcessInstancesValues(DataFetchingEnvironment env) {
         ProcessInstance source = env.getSource();
-        Query<ProcessInstance> query = cacheService.getProcessInstancesCache().query();
-        query.filter(singletonList(equalTo("parentProcessInstanceId", source.getId())));
-        return query.execute();
+        DataLoader<String, List<ProcessInstance>> loader = env.getDataLoader(CHILD_PROCESS_INSTANCES_LOADER);
+        if (loader == null) {
+            Query<ProcessInstance> query = cacheService.getProcessInstancesCache().query();
+            query.filter(singletonList(equalTo("parentProcessInstanceId", source.getId())));
+            return CompletableFuture.completedFuture(query.execute());
+        }
+        return loader.load(source.getId()).thenApply(children -> children == null ? Collections.<ProcessInstance> emptyList() : children);
     }
 
-    protected ProcessInstance getParentProcessInstanceValue(DataFetchingEnvironment env) {
+    protected CompletableFuture<ProcessInstance> getParentProcessInstanceValue(DataFetchingEnvironment env) {
         ProcessInstance source = env.getSource();
         if (source.getParentProcessInstanceId() == null) {
-            return null;
+            return CompletableFuture.completedFuture(null);
         }
+        DataLoader<String, ProcessInstance> loader = env.getDataLoader(PROCESS_INSTANCE_LOADER);
+        if (loader == null) {
+            return CompletableFuture.completedFuture(cacheService.getProcessInstancesCache().get(source.getParentProcessInstanceId()));
+        }
+        return loader.load(source.getParentProcessInstanceId());
+    }
+
+    private Map<String, List<ProcessInstance>> getChildProcessInstances(Set<String> parentIds) {
         Query<ProcessInstance> query = cacheService.getProcessInstancesCache().query();
-        query.filter(singletonList(equalTo("id", source.getParentProcessInstanceId())));
-        List<ProcessInstance> execute = query.execute();
-        return !execute.isEmpty() ? execute.get(0) : null;
+        query.filter(singletonList(in("parentProcessInstanceId", new ArrayList<>(parentIds))));
+        return query.execute().stream().collect(groupingBy(ProcessInstance::getParentProcessInstanceId));
     }
 
     protected Collection<ProcessDefinition> getProcessDefinitionsValues(DataFetchingEnvironment env) {
-        return executeAdvancedQueryForCache(cacheService.getProcessDefinitionsCache(), env);
+        return createAdvancedQuery(cacheService.getProcessDefinitionsCache(), env, PROCESS_DEFINITION_KEY_ATTRIBUTES).execute();
     }
 
     protected Collection<ProcessInstance> getProcessInstancesValues(DataFetchingEnvironment env) {
-        return executeAdvancedQueryForCache(cacheService.getProcessInstancesCache(), env);
+        return executeAdvancedQueryForCache(cacheService.getProcessInstancesCache(), env, PROCESS_INSTANCE_FETCHER_ATTRIBUTES);
     }
 
     protected <T> List<T> executeAdvancedQueryForCache(Storage<String, T> cache, DataFetchingEnvironment env) {
+        return createAdvancedQuery(cache, env).execute();
+    }
+
+    /**
+     * Executes the query reading only the fields selected in the GraphQL query, plus the given attributes required by
+     * the data fetchers of the computed fields.
+     */
+    protected <T> List<T> executeAdvancedQueryForCache(Storage<String, T> cache, DataFetchingEnvironment env, List<String> fetcherAttributes) {
+        Query<T> query = createAdvancedQuery(cache, env);
+        query.project(getSelectedAttributes(env, fetcherAttributes));
+        return query.execute();
+    }
+
+    protected List<String> getSelectedAttributes(DataFetchingEnvironment env, List<String> fetcherAttributes) {
+        DataFetchingFieldSelectionSet selectionSet = env.getSelectionSet();
+        if (selectionSet == null) {
+            return null;
+        }
+        Set<String> attributes = new LinkedHashSet<>(fetcherAttributes);
+        selectionSet.getImmediateFields().forEach(field -> attributes.add(field.getName()));
+        return new ArrayList<>(attributes);
+    }
+
+    private <T> Query<T> createAdvancedQuery(Storage<String, T> cache, DataFetchingEnvironment env) {
+        return createAdvancedQuery(cache, env, KEY_ATTRIBUTES);
+    }
+
+    /**
+     * Creates the query of the given arguments. With the after pagination argument the results are sorted by the given
+     * key attributes after the requested ones, so the sort values of the last result of a page identify it.
+     */
+    private <T> Query<T> createAdvancedQuery(Storage<String, T> cache, DataFetchingEnvironment env, List<String> keyAttributes) {
         Objects.requireNonNull(cache, "Cache not found");
 
         String inputTypeName = ((GraphQLNamedType) env.getFieldDefinition().getArgument("where").getType()).getName();
@@ -193,25 +321,86 @@ public abstract class AbstractGraphQLSchemaManager implements GraphQLSchemaManag
         Map<String, Object> where = env.getArgument("where");
         query.filter(GraphQLQueryParserRegistry.get().getParser(inputTypeName).apply(where));
 
-        query.sort(new GraphQLQueryOrderByParser().apply(env));
+        List<AttributeSort> sortBy = new GraphQLQueryOrderByParser().apply(env);
 
-        Map<String, Integer> pagination = env.getArgument("pagination");
+        Map<String, Object> pagination = env.getArgument("pagination");
         if (pagination != null) {
-            Integer limit = pagination.get("limit");
+            Integer limit = (Integer) pagination.get("limit");
             if (limit != null) {
                 query.limit(limit);
             }
-            Integer offset = pagination.get("offset");
+            Integer offset = (Integer) pagination.get("offset");
             if (offset != null) {
                 query.offset(offset);
             }
+            List<String> after = (List<String>) pagination.get("after");
+            if (after != null) {
+                sortBy = withKeyAttributes(sortBy, keyAttributes);
+                if (!after.isEmpty()) {
+                    query.after(parseSortValues(env, sortBy, after));
+                }
+            }
         }
 
-        return query.execute();
+        query.sort(sortBy);
+
+        return query;
+    }
+
+    private static List<AttributeSort> withKeyAttributes(List<AttributeSort> sortBy, List<String> keyAttributes) {
+        List<AttributeSort> keysetSortBy = new ArrayList<>(sortBy);
+        keyAttributes.stream()
+                .filter(attribute -> sortBy.stream().noneMatch(sort -> attribute.equals(sort.getAttribute())))
+                .forEach(attribute -> keysetSortBy.add(orderBy(attribute, SortDirection.ASC)));
+        return keysetSortBy;
+    }
+
+    /**
+     * Parses the sort values of the after pagination argument, as the values of the fields of the results they belong to.
+     */
+    private static List<Object> parseSortValues(DataFetchingEnvironment env, List<AttributeSort> sortBy, List<String> values) {
+        if (sortBy.size() != values.size()) {
+            throw new IllegalArgumentException(format("Pagination after requires %d values, one for each orderBy attribute followed by the key ones", sortBy.size()));
+        }
+        GraphQLType resultType = GraphQLTypeUtil.unwrapAll(env.getFieldType());
+        List<Object> sortValues = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            sortValues.add(parseSortValue(resultType, sortBy.get(i).getAttribute(), values.get(i)));
+        }
+        return sortValues;
+    }
+
+    private static Object parseSortValue(GraphQLType resultType, String attribute, String value) {
+        if (value == null) {
+            return null;
+        }
+        GraphQLType type = resultType;
+        for (String field : attribute.split("\\.")) {
+            type = GraphQLTypeUtil.unwrapAll(((GraphQLObjectType) type).getFieldDefinition(field).getType());
+        }
+        if (type instanceof GraphQLEnumType) {
+            return ((GraphQLEnumType) type).parseValue(value);
+        }
+        switch (((GraphQLNamedType) type).getName()) {
+            case "Int":
+                return Integer.valueOf(value);
+            case "Long":
+                return Long.valueOf(value);
+            case "Float":
+                return Double.valueOf(value);
+            case "BigDecimal":
+                return new BigDecimal(value);
+            case "Boolean":
+                return Boolean.valueOf(value);
+            case "DateTime":
+                return ((GraphQLScalarType) type).getCoercing().parseValue(value);
+            default:
+                return value;
+        }
     }
 
     protected Collection<UserTaskInstance> getUserTaskInstancesValues(DataFetchingEnvironment env) {
-        return executeAdvancedQueryForCache(cacheService.getUserTaskInstancesCache(), env);
+        return executeAdvancedQueryForCache(cacheService.getUserTaskInstancesCache(), env, USER_TASK_INSTANCE_FETCHER_ATTRIBUTES);
     }
 
     protected Collection<Job> getJobsValues(DataFetchingEnvironment env) {
@@ -226,29 +415,31 @@ public abstract class AbstractGraphQLSchemaManager implements GraphQLSchemaManag
 
     public CompletableFuture<String> getProcessInstanceSource(DataFetchingEnvironment env) {
         ProcessInstance pi = env.getSource();
-        ProcessDefinition pd = cacheService.getProcessDefinitionsCache().get(ProcessDefinition.toKey(pi.getProcessId(), pi.getVersion()));
-        if (pd == null) {
-            return dataIndexApiExecutor.getProcessDefinitionSourceFileContent(getServiceUrl(pi.getEndpoint(), pi.getProcessId()), pi.getProcessId());
-        } else {
-            return getProcessDefinitionSource(pd);
-        }
+        return loadProcessDefinition(env, pi).thenCompose(pd -> {
+            if (pd == null) {
+                return getRuntimeProcessSource(getServiceUrl(pi.getEndpoint(), pi.getProcessId()), pi.getProcessId(), pi.getVersion());
+            } else {
+                return getProcessDefinitionSource(pd);
+            }
+        });
     }
 
     public CompletableFuture<List<Node>> getProcessInstanceNodes(DataFetchingEnvironment env) {
         ProcessInstance pi = env.getSource();
-        ProcessDefinition pd = cacheService.getProcessDefinitionsCache().get(ProcessDefinition.toKey(pi.getProcessId(), pi.getVersion()));
-        if (pd == null) {
-            return dataIndexApiExecutor.getProcessDefinitionNodes(getServiceUrl(pi.getEndpoint(), pi.getProcessId()), pi.getProcessId());
-        } else {
-            return getProcessDefinitionNodes(pd);
-        }
+        return loadProcessDefinition(env, pi).thenCompose(pd -> {
+            if (pd == null) {
+                return getRuntimeProcessNodes(getServiceUrl(pi.getEndpoint(), pi.getProcessId()), pi.getProcessId(), pi.getVersion());
+            } else {
+                return getProcessDefinitionNodes(pd);
+            }
+        });
     }
 
     public CompletableFuture<String> getProcessDefinitionSource(ProcessDefinition pd) {
         if (pd == null) {
             return CompletableFuture.completedFuture(null);
         } else if (pd.getSource() == null) {
-            return dataIndexApiExecutor.getProcessDefinitionSourceFileContent(getServiceUrl(pd.getEndpoint(), pd.getId()), pd.getId());
+            return getRuntimeProcessSource(getServiceUrl(pd.getEndpoint(), pd.getId()), pd.getId(), pd.getVersion());
         } else {
             return CompletableFuture.completedFuture(pd.getSource());
         }
@@ -258,12 +449,28 @@ public abstract class AbstractGraphQLSchemaManager implements GraphQLSchemaManag
         if (pd == null) {
             return CompletableFuture.completedFuture(null);
         } else if (pd.getNodes() == null || pd.getNodes().isEmpty()) {
-            return dataIndexApiExecutor.getProcessDefinitionNodes(getServiceUrl(pd.getEndpoint(), pd.getId()), pd.getId());
+            return getRuntimeProcessNodes(getServiceUrl(pd.getEndpoint(), pd.getId()), pd.getId(), pd.getVersion());
         } else {
             return CompletableFuture.completedFuture(pd.getNodes());
         }
     }
 
+    private CompletableFuture<String> getRuntimeProcessSource(String serviceUrl, String processId, String version) {
+        return sourceCache.get(serviceUrl, processId, version, () -> dataIndexApiExecutor.getProcessDefinitionSourceFileContent(serviceUrl, processId));
+    }
+
+    private CompletableFuture<List<Node>> getRuntimeProcessNodes(String serviceUrl, String processId, String version) {
+        return nodesCache.get(serviceUrl, processId, version, () -> dataIndexApiExecutor.getProcessDefinitionNodes(serviceUrl, processId));
+    }
+
+    /**
+     * @return the version declared by the process element of a BPMN source, null if there is none.
+     */
+    static String getProcessSourceVersion(String source) {
+        Matcher matcher = PROCESS_VERSION.matcher(source);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
     @Override
     public GraphQLSchema getGraphQLSchema() {
         return schema;
@@ -18,6 +18,8 @@ package org.kie.kogito.index.graphql;
 
 import java.util.function.Consumer;
 
+import org.dataloader.DataLoaderRegistry;
+
 import graphql.schema.GraphQLSchema;
 
 public interface GraphQLSchemaManager {
@@ -25,4 +27,9 @@ public interface GraphQLSchemaManager {
     GraphQLSchema getGraphQLSchema();
 
     void transform(Consumer<GraphQLSchema.Builder> builder);
+
+    /**
+     * Creates the data loaders of a single GraphQL execution, they must not be shared between executions.
+     */
+    DataLoaderRegistry createDataLoaderRegistry();
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.index.graphql;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Cache of the process contents fetched from the runtimes, e.g. the source or the node definitions, which do not
+ * change for a given process version. The entries are keyed by service URL, process id and version, bounded in number
+ * and expired after a while.
+ * <p>
+ * The runtimes only serve the contents of the version they currently run, which may not be the requested one, e.g.
+ * while a service is upgraded. Contents declaring another version are returned but not kept, contents without a
+ * declared version are kept and may be stale until they expire. Lookups without a version are not cached.
+ * <p>
+ * Concurrent lookups of a missing entry share the same request to the runtime. Failed requests and missing contents
+ * are not kept, so they are requested again on the next lookup.
+ */
+public class RuntimeContentCache<V> {
+
+    static final String CACHE_METRIC = "kogito.data-index.runtime.cache";
+
+    private final Cache<String, CompletableFuture<V>> cache;
+
+    private final Function<V, String> versionOf;
+
+    /**
+     * @param versionOf the version declared by a content, null if unknown.
+     */
+    public RuntimeContentCache(String name, long maxSize, Duration ttl, Function<V, String> versionOf, MeterRegistry registry) {
+        this.versionOf = versionOf;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl.toMillis(), TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build();
+        FunctionCounter.builder(CACHE_METRIC, cache, c -> c.stats().hitCount())
+                .description("Lookups of the contents fetched from the runtimes")
+                .tag("cache", name)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder(CACHE_METRIC, cache, c -> c.stats().missCount())
+                .description("Lookups of the contents fetched from the runtimes")
+                .tag("cache", name)
+                .tag("result", "miss")
+                .register(registry);
+    }
+
+    public CompletableFuture<V> get(String serviceUrl, String processId, String version, Supplier<CompletableFuture<V>> loader) {
+        if (version == null) {
+            return request(loader);
+        }
+        String key = serviceUrl + "|" + processId + "|" + version;
+        CompletableFuture<V> content = load(key, loader);
+        content.whenComplete((value, error) -> {
+            if (value == null || error != null || !isVersion(value, version)) {
+                cache.asMap().remove(key, content);
+            }
+        });
+        return content;
+    }
+
+    private boolean isVersion(V value, String version) {
+        String declared = versionOf.apply(value);
+        return declared == null || declared.equals(version);
+    }
+
+    private static <V> CompletableFuture<V> request(Supplier<CompletableFuture<V>> loader) {
+        return Objects.requireNonNullElseGet(loader.get(), () -> CompletableFuture.completedFuture(null));
+    }
+
+    private CompletableFuture<V> load(String key, Supplier<CompletableFuture<V>> loader) {
+        try {
+            return cache.get(key, () -> request(loader));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public long size() {
+        return cache.size();
+    }
+}
@@ -19,6 +19,8 @@ import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
+import org.kie.kogito.index.graphql.GraphQLSchemaManager;
+
 import io.quarkus.arc.properties.IfBuildProperty;
 import io.quarkus.vertx.web.Route;
 import io.vertx.ext.web.RoutingContext;
@@ -38,6 +40,9 @@ public class BlockingGraphqlRouterProducer {
     @Inject
     GraphQL graphQL;
 
+    @Inject
+    GraphQLSchemaManager schemaManager;
+
     GraphQLHandler graphQLHandler;
 
     ApolloWSHandler apolloWSHandler;
@@ -46,6 +51,9 @@ public class BlockingGraphqlRouterProducer {
     public void init() {
         graphQLHandler = GraphQLHandler.create(graphQL, new GraphQLHandlerOptions());
         apolloWSHandler = ApolloWSHandler.create(graphQL);
+        //the data loaders cache the loaded values, every execution gets its own ones
+        graphQLHandler.beforeExecute(execution -> execution.builder().dataLoaderRegistry(schemaManager.createDataLoaderRegistry()));
+        apolloWSHandler.beforeExecute(execution -> execution.builder().dataLoaderRegistry(schemaManager.createDataLoaderRegistry()));
     }
 
     @Route(path = "/graphql", type = Route.HandlerType.BLOCKING, order = 1, methods = { GET })
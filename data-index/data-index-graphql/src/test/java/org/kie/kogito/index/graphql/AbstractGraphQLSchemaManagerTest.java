@@ -0,0 +1,266 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.index.graphql;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.dataloader.DataLoaderRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kie.kogito.index.api.KogitoRuntimeClient;
+import org.kie.kogito.index.model.Node;
+import org.kie.kogito.index.model.ProcessDefinition;
+import org.kie.kogito.index.model.ProcessInstance;
+import org.kie.kogito.index.storage.DataIndexStorageService;
+import org.kie.kogito.persistence.api.Storage;
+import org.kie.kogito.persistence.api.query.AttributeFilter;
+import org.kie.kogito.persistence.api.query.Query;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingEnvironmentImpl;
+import graphql.schema.GraphQLSchema;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AbstractGraphQLSchemaManagerTest {
+
+    private static final int INSTANCES = 100;
+    private static final int PARENTS = 10;
+
+    @Mock
+    DataIndexStorageService storageService;
+
+    @Mock
+    Storage<String, ProcessInstance> processInstanceStorage;
+
+    @Mock
+    Storage<String, ProcessDefinition> processDefinitionStorage;
+
+    @Mock
+    Query<ProcessInstance> query;
+
+    AbstractGraphQLSchemaManager schemaManager;
+
+    @BeforeEach
+    void setup() {
+        schemaManager = new AbstractGraphQLSchemaManager() {
+            @Override
+            public GraphQLSchema createSchema() {
+                return null;
+            }
+        };
+        schemaManager.cacheService = storageService;
+    }
+
+    @Test
+    void testParentProcessInstancesLoadedInOneBatch() {
+        when(storageService.getProcessInstancesCache()).thenReturn(processInstanceStorage);
+        when(processInstanceStorage.getAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> ids = invocation.getArgument(0);
+            return ids.stream().map(id -> processInstance(id, null, "process", "1.0"))
+                    .collect(Collectors.toMap(ProcessInstance::getId, Function.identity()));
+        });
+        DataLoaderRegistry registry = schemaManager.createDataLoaderRegistry();
+
+        List<CompletableFuture<ProcessInstance>> parents = new ArrayList<>();
+        for (int i = 0; i < INSTANCES; i++) {
+            parents.add(schemaManager.getParentProcessInstanceValue(env(processInstance("pi" + i, "parent" + (i % PARENTS), "process", "1.0"), registry)));
+        }
+        registry.dispatchAll();
+
+        for (int i = 0; i < INSTANCES; i++) {
+            assertThat(parents.get(i).join().getId()).isEqualTo("parent" + (i % PARENTS));
+        }
+        ArgumentCaptor<Collection<String>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(processInstanceStorage).getAll(ids.capture());
+        assertThat(ids.getValue()).hasSize(PARENTS);
+        verify(processInstanceStorage, never()).get(anyString());
+        verify(processInstanceStorage, never()).query();
+    }
+
+    @Test
+    void testChildProcessInstancesLoadedInOneQuery() {
+        when(storageService.getProcessInstancesCache()).thenReturn(processInstanceStorage);
+        when(processInstanceStorage.query()).thenReturn(query);
+        List<ProcessInstance> children = new ArrayList<>();
+        for (int i = 0; i < INSTANCES; i++) {
+            children.add(processInstance("child" + i, "pi" + (i % PARENTS), "process", "1.0"));
+        }
+        when(query.execute()).thenReturn(children);
+        DataLoaderRegistry registry = schemaManager.createDataLoaderRegistry();
+
+        //one more parent without children
+        List<CompletableFuture<List<ProcessInstance>>> results = new ArrayList<>();
+        for (int i = 0; i <= PARENTS; i++) {
+            results.add(schemaManager.getChildProcessInstancesValues(env(processInstance("pi" + i, null, "process", "1.0"), registry)));
+        }
+        registry.dispatchAll();
+
+        for (int i = 0; i < PARENTS; i++) {
+            assertThat(results.get(i).join()).hasSize(INSTANCES / PARENTS);
+        }
+        assertThat(results.get(PARENTS).join()).isEmpty();
+        verify(processInstanceStorage, times(1)).query();
+        verify(query, times(1)).execute();
+    }
+
+    @Test
+    void testProcessDefinitionsLoadedInOneBatch() {
+        when(storageService.getProcessDefinitionsCache()).thenReturn(processDefinitionStorage);
+        when(processDefinitionStorage.getAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> keys = invocation.getArgument(0);
+            return keys.stream().collect(Collectors.toMap(Function.identity(), key -> new ProcessDefinition()));
+        });
+        DataLoaderRegistry registry = schemaManager.createDataLoaderRegistry();
+
+        List<CompletableFuture<ProcessDefinition>> definitions = new ArrayList<>();
+        for (int i = 0; i < INSTANCES; i++) {
+            definitions.add(schemaManager.getProcessDefinition(env(processInstance("pi" + i, null, "process" + (i % PARENTS), "1.0"), registry)));
+        }
+        registry.dispatchAll();
+
+        assertThat(definitions).allSatisfy(definition -> assertThat(definition.join()).isNotNull());
+        verify(processDefinitionStorage, times(1)).getAll(anyCollection());
+        verify(processDefinitionStorage, never()).get(anyString());
+    }
+
+    @Test
+    void testProcessSourceVersion() {
+        String source = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                "<bpmn2:definitions xmlns:bpmn2=\"http://www.omg.org/spec/BPMN/20100524/MODEL\" exporterVersion=\"1.0\">\n" +
+                "  <bpmn2:process id=\"hello\" drools:packageName=\"com.example\" drools:version=\"2.0\" name=\"hello\">\n";
+
+        assertThat(AbstractGraphQLSchemaManager.getProcessSourceVersion(source)).isEqualTo("2.0");
+        assertThat(AbstractGraphQLSchemaManager.getProcessSourceVersion("<process id=\"hello\" version=\"1.0\">")).isEqualTo("1.0");
+        assertThat(AbstractGraphQLSchemaManager.getProcessSourceVersion("<bpmn2:process id=\"hello\" name=\"hello\">")).isNull();
+    }
+
+    @Test
+    void testWithoutDataLoaders() {
+        when(storageService.getProcessInstancesCache()).thenReturn(processInstanceStorage);
+        ProcessInstance parent = processInstance("parent", null, "process", "1.0");
+        when(processInstanceStorage.get("parent")).thenReturn(parent);
+
+        CompletableFuture<ProcessInstance> result = schemaManager.getParentProcessInstanceValue(env(processInstance("pi", "parent", "process", "1.0"), new DataLoaderRegistry()));
+
+        assertThat(result.join()).isSameAs(parent);
+        verify(processInstanceStorage, never()).getAll(any());
+    }
+
+    @Test
+    void testComputedFieldsOfProjectedProcessInstance() {
+        ProcessInstance processInstance = processInstance("pi", "parent", "travels", "1.0");
+        processInstance.setEndpoint("http://localhost:8080/travels");
+        ProcessInstance projected = project(processInstance, AbstractGraphQLSchemaManager.PROCESS_INSTANCE_FETCHER_ATTRIBUTES);
+        DataFetchingEnvironment env = env(projected, new DataLoaderRegistry());
+
+        ProcessDefinition processDefinition = new ProcessDefinition();
+        processDefinition.setId("travels");
+        processDefinition.setVersion("1.0");
+        processDefinition.setSource("source");
+        processDefinition.setNodes(singletonList(new Node()));
+        when(storageService.getProcessDefinitionsCache()).thenReturn(processDefinitionStorage);
+        when(processDefinitionStorage.get(ProcessDefinition.toKey("travels", "1.0"))).thenReturn(processDefinition);
+        ProcessInstance parent = processInstance("parent", null, "travels", "1.0");
+        when(storageService.getProcessInstancesCache()).thenReturn(processInstanceStorage);
+        when(processInstanceStorage.get("parent")).thenReturn(parent);
+        when(processInstanceStorage.query()).thenReturn(query);
+        when(query.execute()).thenReturn(emptyList());
+        KogitoRuntimeClient runtimeClient = mock(KogitoRuntimeClient.class);
+        when(runtimeClient.getProcessInstanceDiagram(anyString(), same(projected))).thenReturn(CompletableFuture.completedFuture("diagram"));
+        schemaManager.setDataIndexApiExecutor(runtimeClient);
+
+        assertThat(schemaManager.getProcessInstanceServiceUrl(env)).isEqualTo("http://localhost:8080");
+        assertThat(schemaManager.getProcessInstanceDiagram(env).join()).isEqualTo("diagram");
+        verify(runtimeClient).getProcessInstanceDiagram("http://localhost:8080", projected);
+        assertThat(schemaManager.getProcessDefinition(env).join()).isSameAs(processDefinition);
+        assertThat(schemaManager.getProcessInstanceSource(env).join()).isEqualTo("source");
+        assertThat(schemaManager.getProcessInstanceNodes(env).join()).isSameAs(processDefinition.getNodes());
+        assertThat(schemaManager.getParentProcessInstanceValue(env).join()).isSameAs(parent);
+        assertThat(schemaManager.getChildProcessInstancesValues(env).join()).isEmpty();
+        ArgumentCaptor<List<AttributeFilter<?>>> filters = ArgumentCaptor.forClass(List.class);
+        verify(query).filter(filters.capture());
+        assertThat(filters.getValue()).hasSize(1);
+        assertThat(filters.getValue().get(0).getAttribute()).isEqualTo("parentProcessInstanceId");
+        assertThat(filters.getValue().get(0).getValue()).isEqualTo("pi");
+    }
+
+    /**
+     * @return the instance as read by a query projected on the given attributes.
+     */
+    private static ProcessInstance project(ProcessInstance processInstance, List<String> attributes) {
+        ProcessInstance projected = new ProcessInstance();
+        for (String attribute : attributes) {
+            switch (attribute) {
+                case "id":
+                    projected.setId(processInstance.getId());
+                    break;
+                case "processId":
+                    projected.setProcessId(processInstance.getProcessId());
+                    break;
+                case "version":
+                    projected.setVersion(processInstance.getVersion());
+                    break;
+                case "endpoint":
+                    projected.setEndpoint(processInstance.getEndpoint());
+                    break;
+                case "parentProcessInstanceId":
+                    projected.setParentProcessInstanceId(processInstance.getParentProcessInstanceId());
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unexpected projected attribute " + attribute);
+            }
+        }
+        return projected;
+    }
+
+    private static DataFetchingEnvironment env(ProcessInstance source, DataLoaderRegistry registry) {
+        return DataFetchingEnvironmentImpl.newDataFetchingEnvironment()
+                .source(source)
+                .dataLoaderRegistry(registry)
+                .build();
+    }
+
+    private static ProcessInstance processInstance(String id, String parentId, String processId, String version) {
+        ProcessInstance pi = new ProcessInstance();
+        pi.setId(id);
+        pi.setParentProcessInstanceId(parentId);
+        pi.setProcessId(processId);
+        pi.setVersion(version);
+        return pi;
+    }
+}
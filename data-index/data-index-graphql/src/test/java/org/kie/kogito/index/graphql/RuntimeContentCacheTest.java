@@ -0,0 +1,108 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.index.graphql;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.kie.kogito.index.graphql.RuntimeContentCache.CACHE_METRIC;
+
+class RuntimeContentCacheTest {
+
+    private static final String SERVICE_URL = "http://localhost:8080";
+
+    private SimpleMeterRegistry registry;
+    private RuntimeContentCache<String> cache;
+    private AtomicInteger requests;
+
+    @BeforeEach
+    void setup() {
+        registry = new SimpleMeterRegistry();
+        cache = new RuntimeContentCache<>("source", 100, Duration.ofHours(1), source -> source.contains("@") ? source.substring(source.indexOf('@') + 1) : null, registry);
+        requests = new AtomicInteger();
+    }
+
+    @Test
+    void testConcurrentMissesShareRequest() {
+        CompletableFuture<String> response = new CompletableFuture<>();
+
+        CompletableFuture<String> first = cache.get(SERVICE_URL, "travels", "1.0", request(() -> response));
+        CompletableFuture<String> second = cache.get(SERVICE_URL, "travels", "1.0", request(() -> response));
+        response.complete("source");
+
+        assertThat(first).isSameAs(second).isCompletedWithValue("source");
+        assertThat(cache.get(SERVICE_URL, "travels", "1.0", request(() -> CompletableFuture.completedFuture("other")))).isCompletedWithValue("source");
+        assertThat(requests).hasValue(1);
+        assertThat(counter("hit")).isEqualTo(2);
+        assertThat(counter("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void testKeyedByVersionAndServiceUrl() {
+        cache.get(SERVICE_URL, "travels", "1.0", request(() -> CompletableFuture.completedFuture("v1")));
+        assertThat(cache.get(SERVICE_URL, "travels", "2.0", request(() -> CompletableFuture.completedFuture("v2")))).isCompletedWithValue("v2");
+        assertThat(cache.get("http://other:8080", "travels", "1.0", request(() -> CompletableFuture.completedFuture("other")))).isCompletedWithValue("other");
+        assertThat(requests).hasValue(3);
+        assertThat(cache.size()).isEqualTo(3);
+    }
+
+    @Test
+    void testFailuresAndMissingContentNotCached() {
+        CompletableFuture<String> failed = cache.get(SERVICE_URL, "travels", "1.0", request(() -> CompletableFuture.failedFuture(new IllegalStateException())));
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(cache.get(SERVICE_URL, "travels", "1.0", request(() -> CompletableFuture.completedFuture(null)))).isCompletedWithValue(null);
+        assertThat(cache.get(SERVICE_URL, "travels", "1.0", request(() -> null))).isCompletedWithValue(null);
+        assertThat(cache.get(SERVICE_URL, "travels", "1.0", request(() -> CompletableFuture.completedFuture("source")))).isCompletedWithValue("source");
+        assertThat(requests).hasValue(4);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void testContentOfAnotherVersionNotCached() {
+        assertThat(cache.get(SERVICE_URL, "travels", "1.0", request(() -> CompletableFuture.completedFuture("source@2.0")))).isCompletedWithValue("source@2.0");
+        assertThat(cache.get(SERVICE_URL, "travels", "1.0", request(() -> CompletableFuture.completedFuture("source@1.0")))).isCompletedWithValue("source@1.0");
+        assertThat(cache.get(SERVICE_URL, "travels", "1.0", request(() -> CompletableFuture.completedFuture("source@2.0")))).isCompletedWithValue("source@1.0");
+        assertThat(requests).hasValue(2);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void testWithoutVersionNotCached() {
+        assertThat(cache.get(SERVICE_URL, "travels", null, request(() -> CompletableFuture.completedFuture("source")))).isCompletedWithValue("source");
+        assertThat(cache.get(SERVICE_URL, "travels", null, request(() -> null))).isCompletedWithValue(null);
+        assertThat(requests).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    private Supplier<CompletableFuture<String>> request(Supplier<CompletableFuture<String>> response) {
+        return () -> {
+            requests.incrementAndGet();
+            return response.get();
+        };
+    }
+
+    private double counter(String result) {
+        return registry.get(CACHE_METRIC).tag("cache", "source").tag("result", result).functionCounter().count();
+    }
+}
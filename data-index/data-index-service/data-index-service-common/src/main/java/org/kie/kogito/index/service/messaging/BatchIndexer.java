@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.index.service.messaging;
+
+import java.util.List;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.transaction.Transactional;
+
+import org.kie.kogito.event.process.ProcessInstanceDataEvent;
+import org.kie.kogito.event.process.UserTaskInstanceDataEvent;
+import org.kie.kogito.index.event.KogitoJobCloudEvent;
+import org.kie.kogito.index.event.ProcessInstanceEventMapper;
+import org.kie.kogito.index.event.UserTaskInstanceEventMapper;
+import org.kie.kogito.index.service.IndexingService;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Writes each batch of events received by the {@link BatchingMessagingEventConsumer} in a single transaction.
+ */
+@ApplicationScoped
+@IfBuildProperty(name = "kogito.data-index.batching", stringValue = "true")
+public class BatchIndexer {
+
+    @Inject
+    IndexingService indexingService;
+
+    @Transactional
+    public void indexProcessInstances(List<ProcessInstanceDataEvent> events) {
+        ProcessInstanceEventMapper mapper = new ProcessInstanceEventMapper();
+        indexingService.indexProcessInstances(events.stream().map(mapper).collect(toList()));
+    }
+
+    @Transactional
+    public void indexUserTaskInstances(List<UserTaskInstanceDataEvent> events) {
+        UserTaskInstanceEventMapper mapper = new UserTaskInstanceEventMapper();
+        indexingService.indexUserTaskInstances(events.stream().map(mapper).collect(toList()));
+    }
+
+    @Transactional
+    public void indexJobs(List<KogitoJobCloudEvent> events) {
+        indexingService.indexJobs(events.stream().map(KogitoJobCloudEvent::getData).collect(toList()));
+    }
+}
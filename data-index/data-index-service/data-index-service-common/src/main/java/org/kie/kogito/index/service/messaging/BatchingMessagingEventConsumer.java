@@ -0,0 +1,126 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.index.service.messaging;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Event;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.reactive.messaging.Acknowledgment;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.kie.kogito.event.DataEvent;
+import org.kie.kogito.event.process.ProcessInstanceDataEvent;
+import org.kie.kogito.event.process.UserTaskInstanceDataEvent;
+import org.kie.kogito.index.event.KogitoJobCloudEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+
+import static org.kie.kogito.index.service.messaging.ReactiveMessagingEventConsumer.KOGITO_JOBS_EVENTS;
+import static org.kie.kogito.index.service.messaging.ReactiveMessagingEventConsumer.KOGITO_PROCESSINSTANCES_EVENTS;
+import static org.kie.kogito.index.service.messaging.ReactiveMessagingEventConsumer.KOGITO_USERTASKINSTANCES_EVENTS;
+
+/**
+ * Ingestion mode enabled with kogito.data-index.batching, where the events are indexed in micro-batches instead of one
+ * by one. The events of the same instance within a batch are merged in memory and every batch is written with a single
+ * bulk write per storage in one transaction. The messages are acked, and so the offsets committed, once their batch is
+ * written.
+ */
+@ApplicationScoped
+@IfBuildProperty(name = "kogito.data-index.batching", stringValue = "true")
+public class BatchingMessagingEventConsumer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchingMessagingEventConsumer.class);
+
+    /**
+     * The maximum number of events in a batch.
+     */
+    @ConfigProperty(name = "kogito.data-index.batching.maxSize", defaultValue = "500")
+    int maxSize;
+
+    /**
+     * The maximum time an event waits for its batch to be complete before it is written.
+     */
+    @ConfigProperty(name = "kogito.data-index.batching.maxWaitMillis", defaultValue = "100")
+    long maxWaitMillis;
+
+    @Inject
+    BatchIndexer batchIndexer;
+
+    @Inject
+    Event<DataEvent> eventPublisher;
+
+    private EventBatcher<ProcessInstanceDataEvent> processInstances;
+
+    private EventBatcher<UserTaskInstanceDataEvent> userTaskInstances;
+
+    private EventBatcher<KogitoJobCloudEvent> jobs;
+
+    @PostConstruct
+    void init() {
+        LOGGER.info("Indexing events in batches of up to {} events every {} ms", maxSize, maxWaitMillis);
+        processInstances = new EventBatcher<>(KOGITO_PROCESSINSTANCES_EVENTS, maxSize, maxWaitMillis, this::indexProcessInstances);
+        userTaskInstances = new EventBatcher<>(KOGITO_USERTASKINSTANCES_EVENTS, maxSize, maxWaitMillis, this::indexUserTaskInstances);
+        jobs = new EventBatcher<>(KOGITO_JOBS_EVENTS, maxSize, maxWaitMillis, batchIndexer::indexJobs);
+    }
+
+    @PreDestroy
+    void close() {
+        processInstances.close();
+        userTaskInstances.close();
+        jobs.close();
+    }
+
+    @Incoming(KOGITO_PROCESSINSTANCES_EVENTS)
+    @Acknowledgment(Acknowledgment.Strategy.MANUAL)
+    public CompletionStage<Void> onProcessInstanceEvent(Message<ProcessInstanceDataEvent> message) {
+        LOGGER.debug("Process instance consumer received ProcessInstanceDataEvent: \n{}", message.getPayload());
+        return processInstances.add(message);
+    }
+
+    @Incoming(KOGITO_USERTASKINSTANCES_EVENTS)
+    @Acknowledgment(Acknowledgment.Strategy.MANUAL)
+    public CompletionStage<Void> onUserTaskInstanceEvent(Message<UserTaskInstanceDataEvent> message) {
+        LOGGER.debug("Task instance received UserTaskInstanceDataEvent \n{}", message.getPayload());
+        return userTaskInstances.add(message);
+    }
+
+    @Incoming(KOGITO_JOBS_EVENTS)
+    @Acknowledgment(Acknowledgment.Strategy.MANUAL)
+    public CompletionStage<Void> onJobEvent(Message<KogitoJobCloudEvent> message) {
+        LOGGER.debug("Job received KogitoJobCloudEvent \n{}", message.getPayload());
+        return jobs.add(message);
+    }
+
+    void indexProcessInstances(List<ProcessInstanceDataEvent> events) {
+        batchIndexer.indexProcessInstances(events);
+        //the events are published once the batch is committed
+        events.forEach(eventPublisher::fire);
+    }
+
+    void indexUserTaskInstances(List<UserTaskInstanceDataEvent> events) {
+        batchIndexer.indexUserTaskInstances(events);
+        events.forEach(eventPublisher::fire);
+    }
+}
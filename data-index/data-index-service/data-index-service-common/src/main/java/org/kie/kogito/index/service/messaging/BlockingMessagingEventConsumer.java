@@ -32,6 +32,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.quarkus.arc.properties.IfBuildProperty;
+import io.quarkus.arc.properties.UnlessBuildProperty;
 import io.smallrye.reactive.messaging.annotations.Blocking;
 
 import static org.kie.kogito.index.service.messaging.ReactiveMessagingEventConsumer.KOGITO_JOBS_EVENTS;
@@ -40,6 +41,7 @@ import static org.kie.kogito.index.service.messaging.ReactiveMessagingEventConsu
 
 @ApplicationScoped
 @IfBuildProperty(name = "kogito.data-index.blocking", stringValue = "true")
+@UnlessBuildProperty(name = "kogito.data-index.batching", stringValue = "true", enableIfMissing = true)
 public class BlockingMessagingEventConsumer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BlockingMessagingEventConsumer.class);
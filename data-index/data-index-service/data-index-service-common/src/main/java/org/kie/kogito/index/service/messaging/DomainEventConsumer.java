@@ -16,6 +16,8 @@
 
 package org.kie.kogito.index.service.messaging;
 
+import java.util.concurrent.locks.Lock;
+
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Observes;
 import javax.inject.Inject;
@@ -31,17 +33,25 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
-
-import io.quarkus.arc.Lock;
+import com.google.common.util.concurrent.Striped;
 
 import static java.lang.String.format;
+import static org.kie.kogito.index.storage.Constants.ID;
 
+/**
+ * Indexes the domain model of the process and user task events. The model of a process instance is read, merged and
+ * written back, so the events of the same process instance are indexed one at a time, in the order they are observed,
+ * while the events of different process instances are indexed in parallel.
+ */
 @ApplicationScoped
-@Lock
 public class DomainEventConsumer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DomainEventConsumer.class);
 
+    private static final int LOCK_STRIPES = 256;
+
+    private final Striped<Lock> locks = Striped.lock(LOCK_STRIPES);
+
     @ConfigProperty(name = "kogito.data-index.domain-indexing", defaultValue = "true")
     Boolean indexDomain;
 
@@ -54,7 +64,15 @@ public class DomainEventConsumer {
         }
 
         LOGGER.debug("Processing domain event: {}", event);
-        indexingService.indexModel(getDomainData(event));
+        ObjectNode json = getDomainData(event);
+        //the model is stored by the root process instance id
+        Lock lock = locks.get(json.get(ID).asText());
+        lock.lock();
+        try {
+            indexingService.indexModel(json);
+        } finally {
+            lock.unlock();
+        }
     }
 
     private ObjectNode getDomainData(DataEvent event) {
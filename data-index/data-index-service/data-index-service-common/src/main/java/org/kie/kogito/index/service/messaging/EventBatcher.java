@@ -0,0 +1,153 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.index.service.messaging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Groups the messages of a channel into micro-batches, written once {@link #maxSize} messages are pending or
+ * {@link #maxWaitMillis} after the first pending message arrived. Batches are written one at a time, in the order they
+ * were received, by the given writer. The messages are acked once the writer returns, so the offsets are committed
+ * only after the batch is durable, and nacked if the writer fails.
+ */
+class EventBatcher<T> implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventBatcher.class);
+
+    private final String channel;
+    private final int maxSize;
+    private final long maxWaitMillis;
+    private final Consumer<List<T>> writer;
+    private final ScheduledExecutorService executor;
+
+    private List<Message<T>> pending;
+    private CompletableFuture<Void> pendingWritten;
+    private long generation;
+
+    EventBatcher(String channel, int maxSize, long maxWaitMillis, Consumer<List<T>> writer) {
+        this.channel = channel;
+        this.maxSize = maxSize;
+        this.maxWaitMillis = maxWaitMillis;
+        this.writer = writer;
+        ScheduledThreadPoolExecutor scheduledExecutor = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread thread = new Thread(r, "data-index-batch-" + channel);
+            thread.setDaemon(true);
+            return thread;
+        });
+        //the pending messages are written on close, the timeouts are not needed anymore
+        scheduledExecutor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.executor = scheduledExecutor;
+        this.pending = new ArrayList<>(maxSize);
+        this.pendingWritten = new CompletableFuture<>();
+    }
+
+    /**
+     * Adds a message to the current batch.
+     *
+     * @return a completion stage completed right away, or once the batch is written when the message completes it,
+     *         so the upstream does not get ahead of the storage.
+     */
+    CompletionStage<Void> add(Message<T> message) {
+        final List<Message<T>> batch;
+        final CompletableFuture<Void> written;
+        synchronized (this) {
+            pending.add(message);
+            if (pending.size() < maxSize) {
+                if (pending.size() == 1) {
+                    final long current = generation;
+                    executor.schedule(() -> flush(current), maxWaitMillis, TimeUnit.MILLISECONDS);
+                }
+                return CompletableFuture.completedFuture(null);
+            }
+            written = pendingWritten;
+            batch = swap();
+        }
+        executor.execute(() -> write(batch, written));
+        return written;
+    }
+
+    private void flush(long expectedGeneration) {
+        final List<Message<T>> batch;
+        final CompletableFuture<Void> written;
+        synchronized (this) {
+            if (generation != expectedGeneration || pending.isEmpty()) {
+                //already written because it was full
+                return;
+            }
+            written = pendingWritten;
+            batch = swap();
+        }
+        write(batch, written);
+    }
+
+    private List<Message<T>> swap() {
+        List<Message<T>> batch = pending;
+        pending = new ArrayList<>(maxSize);
+        pendingWritten = new CompletableFuture<>();
+        generation++;
+        return batch;
+    }
+
+    private void write(List<Message<T>> batch, CompletableFuture<Void> written) {
+        try {
+            final long start = System.nanoTime();
+            writer.accept(batch.stream().map(Message::getPayload).collect(toList()));
+            LOGGER.debug("Indexed batch of {} events from {} in {} ms", batch.size(), channel,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            batch.forEach(Message::ack);
+        } catch (Exception e) {
+            LOGGER.error("Error indexing batch of {} events from {}: {}", batch.size(), channel, e.getMessage(), e);
+            batch.forEach(m -> m.nack(e));
+        } finally {
+            written.complete(null);
+        }
+    }
+
+    /**
+     * Writes the pending messages and stops the writer thread.
+     */
+    @Override
+    public void close() {
+        if (executor.isShutdown()) {
+            return;
+        }
+        synchronized (this) {
+            final long current = generation;
+            executor.execute(() -> flush(current));
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                LOGGER.warn("Timeout writing the pending events from {}", channel);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
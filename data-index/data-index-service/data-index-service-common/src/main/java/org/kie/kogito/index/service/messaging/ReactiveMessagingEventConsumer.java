@@ -35,6 +35,7 @@ import io.smallrye.mutiny.Uni;
 
 @ApplicationScoped
 @UnlessBuildProperty(name = "kogito.data-index.blocking", stringValue = "true", enableIfMissing = true)
+@UnlessBuildProperty(name = "kogito.data-index.batching", stringValue = "true", enableIfMissing = true)
 public class ReactiveMessagingEventConsumer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveMessagingEventConsumer.class);
@@ -231,6 +231,24 @@ public abstract class AbstractIndexingServiceIT extends AbstractIndexingIT {
                         .body("data.ProcessInstances.size()", is(50))
                         .body("data.ProcessInstances[0].id", is(pIds.get(0)))
                         .body("data.ProcessInstances[49].id", is(pIds.get(49))));
+
+        String lastStart = given().contentType(ContentType.JSON)
+                .body("{ \"query\" : \"{ProcessInstances(orderBy : {start: ASC}, pagination: {limit: 50, after: []}) { id, start } }\" }")
+                .when().post("/graphql")
+                .then().log().ifValidationFails().statusCode(200)
+                .body("data.ProcessInstances.size()", is(50))
+                .body("data.ProcessInstances[0].id", is(pIds.get(0)))
+                .body("data.ProcessInstances[49].id", is(pIds.get(49)))
+                .extract().path("data.ProcessInstances[49].start");
+
+        given().contentType(ContentType.JSON)
+                .body(String.format("{ \"query\" : \"{ProcessInstances(orderBy : {start: ASC}, pagination: {limit: 50, after: [\\\"%s\\\", \\\"%s\\\"]}) { id, start } }\" }",
+                        lastStart, pIds.get(49)))
+                .when().post("/graphql")
+                .then().log().ifValidationFails().statusCode(200)
+                .body("data.ProcessInstances.size()", is(50))
+                .body("data.ProcessInstances[0].id", is(pIds.get(50)))
+                .body("data.ProcessInstances[49].id", is(pIds.get(99)));
     }
 
     @Test
@@ -16,7 +16,21 @@
 
 package org.kie.kogito.index.service.messaging;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,11 +46,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import static java.util.stream.Collectors.toList;
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.kie.kogito.index.storage.Constants.ID;
+import static org.kie.kogito.index.storage.Constants.KOGITO_DOMAIN_ATTRIBUTE;
+import static org.kie.kogito.index.storage.Constants.PROCESS_INSTANCES_DOMAIN_ATTRIBUTE;
 import static org.kie.kogito.index.test.TestUtils.getProcessCloudEvent;
 import static org.kie.kogito.index.test.TestUtils.getUserTaskCloudEvent;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -120,4 +140,93 @@ public class DomainEventConsumerTest {
         assertThatExceptionOfType(RuntimeException.class).isThrownBy(() -> consumer.onDomainEvent(event));
         verify(service).indexModel(any());
     }
+
+    @Test
+    public void testOnDomainEventOrderedPerProcessInstance() throws Exception {
+        int instances = 8;
+        int eventsPerInstance = 100;
+        Map<String, List<String>> indexed = new ConcurrentHashMap<>();
+        Set<String> inFlight = ConcurrentHashMap.newKeySet();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        doAnswer(invocation -> {
+            ObjectNode json = invocation.getArgument(0);
+            String id = json.get(ID).asText();
+            inFlight.add(id);
+            maxInFlight.accumulateAndGet(inFlight.size(), Math::max);
+            Thread.sleep(1);
+            indexed.computeIfAbsent(id, k -> new CopyOnWriteArrayList<>())
+                    .add(json.get(KOGITO_DOMAIN_ATTRIBUTE).get(PROCESS_INSTANCES_DOMAIN_ATTRIBUTE).get(0).get("updatedBy").asText());
+            inFlight.remove(id);
+            return null;
+        }).when(service).indexModel(any());
+
+        //every thread sends the events of its own process instance
+        runConcurrently(instances, thread -> {
+            for (int i = 0; i < eventsPerInstance; i++) {
+                consumer.onDomainEvent(getProcessCloudEvent("travels", "pi-" + thread, ProcessInstanceState.ACTIVE, null, null, null, String.valueOf(i)));
+            }
+        });
+
+        List<String> expected = IntStream.range(0, eventsPerInstance).mapToObj(String::valueOf).collect(toList());
+        assertThat(indexed).hasSize(instances);
+        indexed.values().forEach(events -> assertThat(events).containsExactlyElementsOf(expected));
+        //different process instances are indexed in parallel
+        assertThat(maxInFlight).hasValueGreaterThan(1);
+    }
+
+    @Test
+    public void testOnDomainEventExclusivePerProcessInstance() throws Exception {
+        int threads = 8;
+        int eventsPerThread = 100;
+        List<String> processInstanceIds = List.of("pi-1", "pi-2", "pi-3", "pi-4");
+        Map<String, Integer> models = new ConcurrentHashMap<>();
+        Set<String> inFlight = ConcurrentHashMap.newKeySet();
+        AtomicInteger overlapping = new AtomicInteger();
+        doAnswer(invocation -> {
+            String id = ((ObjectNode) invocation.getArgument(0)).get(ID).asText();
+            if (!inFlight.add(id)) {
+                overlapping.incrementAndGet();
+            }
+            //read, merge and write back the model, updates are lost if the same instance is indexed concurrently
+            int model = models.getOrDefault(id, 0);
+            Thread.yield();
+            models.put(id, model + 1);
+            inFlight.remove(id);
+            return null;
+        }).when(service).indexModel(any());
+
+        //all the threads send events for the same process instances
+        runConcurrently(threads, thread -> {
+            for (int i = 0; i < eventsPerThread; i++) {
+                consumer.onDomainEvent(getProcessCloudEvent("travels", processInstanceIds.get(i % processInstanceIds.size()), ProcessInstanceState.ACTIVE,
+                        null, null, null, "currentUser"));
+            }
+        });
+
+        assertThat(overlapping).hasValue(0);
+        assertThat(models).containsOnlyKeys(processInstanceIds);
+        models.values().forEach(count -> assertThat(count).isEqualTo(threads * eventsPerThread / processInstanceIds.size()));
+    }
+
+    private static void runConcurrently(int threads, IntConsumer task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                final int thread = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.accept(thread);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.index.service.messaging;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class EventBatcherTest {
+
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+    private final AtomicInteger acked = new AtomicInteger();
+    private final AtomicInteger nacked = new AtomicInteger();
+
+    private EventBatcher<String> batcher;
+
+    @AfterEach
+    void tearDown() {
+        batcher.close();
+    }
+
+    @Test
+    void writeFullBatch() throws Exception {
+        batcher = new EventBatcher<>("test", 3, TimeUnit.MINUTES.toMillis(1), batches::add);
+
+        assertThat(batcher.add(message("1")).toCompletableFuture()).isCompleted();
+        assertThat(batcher.add(message("2")).toCompletableFuture()).isCompleted();
+        //the message completing the batch waits for the batch to be written
+        batcher.add(message("3")).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertThat(batches).containsExactly(List.of("1", "2", "3"));
+        assertThat(acked).hasValue(3);
+        assertThat(nacked).hasValue(0);
+    }
+
+    @Test
+    void writeBatchOnTimeout() {
+        batcher = new EventBatcher<>("test", 100, 50, batches::add);
+
+        batcher.add(message("1"));
+        batcher.add(message("2"));
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertThat(batches).containsExactly(List.of("1", "2")));
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertThat(acked).hasValue(2));
+    }
+
+    @Test
+    void nackFailedBatch() throws Exception {
+        batcher = new EventBatcher<>("test", 2, TimeUnit.MINUTES.toMillis(1), events -> {
+            throw new IllegalStateException("storage down");
+        });
+
+        batcher.add(message("1"));
+        batcher.add(message("2")).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertThat(acked).hasValue(0);
+        assertThat(nacked).hasValue(2);
+    }
+
+    @Test
+    void writePendingOnClose() {
+        batcher = new EventBatcher<>("test", 100, TimeUnit.MINUTES.toMillis(1), batches::add);
+
+        batcher.add(message("1"));
+        batcher.close();
+
+        assertThat(batches).containsExactly(List.of("1"));
+        assertThat(acked).hasValue(1);
+    }
+
+    private Message<String> message(String payload) {
+        return Message.of(payload, () -> {
+            acked.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        }, e -> {
+            nacked.incrementAndGet();
+            return CompletableFuture.<Void> completedFuture(null);
+        });
+    }
+}
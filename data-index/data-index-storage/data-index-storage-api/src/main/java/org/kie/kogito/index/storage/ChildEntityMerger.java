@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.index.storage;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Updates the children of a stored entity in place, e.g. the node instances of a process instance, so the storages
+ * tracking the changes of their entities only write the children that changed.
+ */
+public final class ChildEntityMerger {
+
+    private ChildEntityMerger() {
+    }
+
+    /**
+     * Matches the stored children with the new ones by id, the matching ones are updated, so they are written only if
+     * they changed, the new ones are added and the missing ones removed. The last of the new children with the same id
+     * wins.
+     *
+     * @param parent the stored entity owning the children.
+     * @param stored the stored children, updated in place.
+     * @param values the new children, null if there are none.
+     */
+    public static <P, E, M> void merge(P parent, List<E> stored, List<M> values, Function<E, String> entityId, Function<M, String> modelId,
+            Function<M, E> mapToEntity, BiConsumer<M, E> updater, BiConsumer<E, P> parentSetter) {
+        Map<String, M> byId = values == null ? new LinkedHashMap<>() : values.stream().collect(toMap(modelId, Function.identity(), (first, last) -> last, LinkedHashMap::new));
+        Iterator<E> iterator = stored.iterator();
+        while (iterator.hasNext()) {
+            E child = iterator.next();
+            M value = byId.remove(entityId.apply(child));
+            if (value == null) {
+                //deleted as an orphan
+                iterator.remove();
+            } else {
+                updater.accept(value, child);
+            }
+        }
+        byId.values().forEach(value -> {
+            E child = mapToEntity.apply(value);
+            parentSetter.accept(child, parent);
+            stored.add(child);
+        });
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.index.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChildEntityMergerTest {
+
+    @Test
+    void testMerge() {
+        Child unchanged = new Child("1", "a");
+        Child changed = new Child("2", "b");
+        Child removed = new Child("3", "c");
+        List<Child> stored = new ArrayList<>(asList(unchanged, changed, removed));
+
+        ChildEntityMerger.merge("parent", stored, asList(new Child("1", "a"), new Child("2", "x"), new Child("4", "d"), new Child("4", "e")),
+                Child::getId, Child::getId, child -> new Child(child.getId(), child.getValue()), (value, child) -> child.setValue(value.getValue()),
+                Child::setParent);
+
+        assertThat(stored).extracting(Child::getId).containsExactly("1", "2", "4");
+        assertThat(stored.get(0)).isSameAs(unchanged);
+        assertThat(stored.get(1)).isSameAs(changed);
+        assertThat(changed.getValue()).isEqualTo("x");
+        assertThat(stored.get(2).getValue()).isEqualTo("e");
+        assertThat(stored.get(2).getParent()).isEqualTo("parent");
+        assertThat(unchanged.getParent()).isNull();
+    }
+
+    @Test
+    void testMergeWithoutValues() {
+        List<Child> stored = new ArrayList<>(asList(new Child("1", "a")));
+
+        ChildEntityMerger.merge("parent", stored, null, Child::getId, Child::getId, child -> child, (value, child) -> {
+        }, Child::setParent);
+
+        assertThat(stored).isEmpty();
+    }
+
+    private static class Child {
+
+        private final String id;
+        private String value;
+        private String parent;
+
+        Child(String id, String value) {
+            this.id = id;
+            this.value = value;
+        }
+
+        String getId() {
+            return id;
+        }
+
+        String getValue() {
+            return value;
+        }
+
+        void setValue(String value) {
+            this.value = value;
+        }
+
+        String getParent() {
+            return parent;
+        }
+
+        void setParent(String parent) {
+            this.parent = parent;
+        }
+    }
+}
@@ -45,6 +45,15 @@ public abstract class QueryTestBase<K, V> {
         assertConsumer.accept(storage.query().filter(filters).sort(sort).offset(offset).limit(limit).execute(), ids);
     }
 
+    public void queryAfterAndAssert(BiConsumer<List<V>, String[]> assertConsumer, Storage<K, V> storage, List<AttributeFilter<?>> filters, List<AttributeSort> sort, List<Object> after,
+            Integer limit, String... ids) {
+        assertConsumer.accept(storage.query().filter(filters).sort(sort).after(after).limit(limit).execute(), ids);
+    }
+
+    public void streamAndAssert(BiConsumer<List<V>, String[]> assertConsumer, Storage<K, V> storage, List<AttributeFilter<?>> filters, List<AttributeSort> sort, String... ids) {
+        assertConsumer.accept(storage.query().filter(filters).sort(sort).stream().collect().asList().await().indefinitely(), ids);
+    }
+
     protected Object getDateTime(ZonedDateTime dateTime) {
         return isDateTimeAsLong() ? dateTime.toInstant().toEpochMilli() : dateTime;
     }
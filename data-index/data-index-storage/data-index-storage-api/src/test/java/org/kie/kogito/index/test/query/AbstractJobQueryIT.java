@@ -16,6 +16,7 @@
 
 package org.kie.kogito.index.test.query;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.apache.commons.lang3.RandomStringUtils;
@@ -24,6 +25,7 @@ import org.kie.kogito.index.model.Job;
 import org.kie.kogito.index.test.QueryTestBase;
 import org.kie.kogito.index.test.TestUtils;
 import org.kie.kogito.persistence.api.Storage;
+import org.kie.kogito.persistence.api.query.AttributeSort;
 import org.kie.kogito.persistence.api.query.SortDirection;
 
 import static java.util.Arrays.asList;
@@ -90,5 +92,22 @@ public abstract class AbstractJobQueryIT extends QueryTestBase<String, Job> {
         queryAndAssert(assertWithIdInOrder(), storage, null, null, 1, 1, jobId2);
         queryAndAssert(assertWithIdInOrder(), storage, null,
                 asList(orderBy("status", SortDirection.ASC), orderBy("priority", SortDirection.ASC)), 1, 1, jobId2);
+
+        queryAfterAndAssert(assertWithIdInOrder(), storage, null, asList(orderBy("status", SortDirection.ASC), orderBy("id", SortDirection.ASC)),
+                asList("EXPECTED", jobId1), 10, jobId2);
+        queryAfterAndAssert(assertWithIdInOrder(), storage, null, asList(orderBy("status", SortDirection.DESC), orderBy("id", SortDirection.ASC)),
+                asList("SCHEDULED", jobId2), 10, jobId1);
+        queryAfterAndAssert(assertWithIdInOrder(), storage, null, asList(orderBy("status", SortDirection.ASC), orderBy("id", SortDirection.ASC)),
+                asList("SCHEDULED", jobId2), 10);
+        for (SortDirection direction : SortDirection.values()) {
+            // The null values are sorted first or last depending on the storage, so the pages are read after the first result
+            List<AttributeSort> sort = asList(orderBy("rootProcessInstanceId", direction), orderBy("id", SortDirection.ASC));
+            Job first = storage.query().sort(sort).limit(1).execute().get(0);
+            Job second = first.getId().equals(jobId1) ? job2 : job1;
+            queryAfterAndAssert(assertWithIdInOrder(), storage, null, sort, asList(first.getRootProcessInstanceId(), first.getId()), 10, second.getId());
+            queryAfterAndAssert(assertWithIdInOrder(), storage, null, sort, asList(second.getRootProcessInstanceId(), second.getId()), 10);
+        }
+        streamAndAssert(assertWithIdInOrder(), storage, singletonList(in("id", asList(jobId1, jobId2))), singletonList(orderBy("status", SortDirection.DESC)),
+                jobId2, jobId1);
     }
 }
@@ -16,6 +16,7 @@
 
 package org.kie.kogito.index.test.query;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
@@ -27,6 +28,7 @@ import org.kie.kogito.persistence.api.query.SortDirection;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.kie.kogito.index.model.ProcessInstanceState.ACTIVE;
 import static org.kie.kogito.index.model.ProcessInstanceState.COMPLETED;
 import static org.kie.kogito.index.test.QueryTestUtils.assertWithId;
@@ -111,4 +113,49 @@ public abstract class AbstractProcessInstanceQueryIT extends QueryTestBase<Strin
                 subProcessInstanceId);
     }
 
+    @Test
+    void testProcessInstanceProjection() {
+        String processInstanceId = UUID.randomUUID().toString();
+        ProcessInstance processInstance = TestUtils.createProcessInstance(processInstanceId, "travels", null, null, ACTIVE.ordinal(), 0L);
+        Storage<String, ProcessInstance> storage = getStorage();
+        storage.put(processInstanceId, processInstance);
+
+        List<ProcessInstance> results = storage.query().filter(singletonList(equalTo("id", processInstanceId)))
+                .project(asList("processId", "state", "serviceUrl"))
+                .execute();
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).getId()).isEqualTo(processInstanceId);
+        assertThat(results.get(0).getProcessId()).isEqualTo(processInstance.getProcessId());
+        assertThat(results.get(0).getState()).isEqualTo(processInstance.getState());
+
+        results = storage.query().filter(singletonList(equalTo("id", processInstanceId)))
+                .project(asList("processId", "nodes"))
+                .execute();
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).getNodes()).hasSameSizeAs(processInstance.getNodes());
+    }
+
+    @Test
+    void testProcessInstanceProjectionOfComputedFields() {
+        String processInstanceId = UUID.randomUUID().toString();
+        String parentProcessInstanceId = UUID.randomUUID().toString();
+        ProcessInstance processInstance = TestUtils.createProcessInstance(processInstanceId, "travels", parentProcessInstanceId, "travels", ACTIVE.ordinal(), 0L);
+        processInstance.setVersion("1.0");
+        processInstance.setEndpoint("http://localhost:8080/travels");
+        Storage<String, ProcessInstance> storage = getStorage();
+        storage.put(processInstanceId, processInstance);
+
+        // the computed GraphQL fields are unknown to the storage, their data fetchers read the attributes projected along with them
+        List<ProcessInstance> results = storage.query().filter(singletonList(equalTo("id", processInstanceId)))
+                .project(asList("id", "processId", "version", "endpoint", "parentProcessInstanceId", "serviceUrl", "diagram", "source",
+                        "nodeDefinitions", "definition", "parentProcessInstance", "childProcessInstances"))
+                .execute();
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).getId()).isEqualTo(processInstanceId);
+        assertThat(results.get(0).getProcessId()).isEqualTo("travels");
+        assertThat(results.get(0).getVersion()).isEqualTo("1.0");
+        assertThat(results.get(0).getEndpoint()).isEqualTo("http://localhost:8080/travels");
+        assertThat(results.get(0).getParentProcessInstanceId()).isEqualTo(parentProcessInstanceId);
+    }
+
 }
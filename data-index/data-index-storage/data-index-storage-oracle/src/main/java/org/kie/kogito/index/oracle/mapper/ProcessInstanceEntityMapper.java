@@ -17,12 +17,15 @@
 package org.kie.kogito.index.oracle.mapper;
 
 import org.kie.kogito.index.model.Milestone;
+import org.kie.kogito.index.model.NodeInstance;
 import org.kie.kogito.index.model.ProcessInstance;
 import org.kie.kogito.index.oracle.model.MilestoneEntity;
+import org.kie.kogito.index.oracle.model.NodeInstanceEntity;
 import org.kie.kogito.index.oracle.model.ProcessInstanceEntity;
 import org.mapstruct.AfterMapping;
 import org.mapstruct.InheritInverseConfiguration;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 
 @Mapper(componentModel = "cdi")
@@ -30,14 +33,32 @@ public interface ProcessInstanceEntityMapper {
 
     MilestoneEntity mapMilestoneToEntity(Milestone mi);
 
-    @InheritInverseConfiguration
+    @InheritInverseConfiguration(name = "mapMilestoneToEntity")
     Milestone mapMilestoneToModel(MilestoneEntity pi);
 
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "processInstance", ignore = true)
+    void updateMilestoneEntity(Milestone mi, @MappingTarget MilestoneEntity entity);
+
+    NodeInstanceEntity mapNodeInstanceToEntity(NodeInstance ni);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "processInstance", ignore = true)
+    void updateNodeInstanceEntity(NodeInstance ni, @MappingTarget NodeInstanceEntity entity);
+
     ProcessInstanceEntity mapToEntity(ProcessInstance pi);
 
-    @InheritInverseConfiguration
+    @InheritInverseConfiguration(name = "mapToEntity")
     ProcessInstance mapToModel(ProcessInstanceEntity pi);
 
+    /**
+     * Updates the process instance attributes, the node instances and milestones are updated one by one by the
+     * storage.
+     */
+    @Mapping(target = "nodes", ignore = true)
+    @Mapping(target = "milestones", ignore = true)
+    void updateEntity(ProcessInstance pi, @MappingTarget ProcessInstanceEntity entity);
+
     @AfterMapping
     default void afterMapping(@MappingTarget ProcessInstanceEntity entity) {
         entity.getNodes().forEach(n -> n.setProcessInstance(entity));
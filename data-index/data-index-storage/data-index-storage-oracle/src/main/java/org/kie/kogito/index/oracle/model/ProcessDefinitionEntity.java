@@ -67,7 +67,7 @@ public class ProcessDefinitionEntity extends AbstractEntity {
 
     private String endpoint;
 
-    @OneToMany(cascade = CascadeType.ALL, mappedBy = "processDefinition")
+    @OneToMany(cascade = CascadeType.ALL, mappedBy = "processDefinition", orphanRemoval = true)
     private List<NodeEntity> nodes;
 
     @Override
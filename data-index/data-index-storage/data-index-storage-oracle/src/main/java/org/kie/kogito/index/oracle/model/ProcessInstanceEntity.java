@@ -75,9 +75,9 @@ public class ProcessInstanceEntity extends AbstractEntity {
     private String updatedBy;
     @Type(type = "jsonb")
     private ObjectNode variables;
-    @OneToMany(cascade = CascadeType.ALL, mappedBy = "processInstance")
+    @OneToMany(cascade = CascadeType.ALL, mappedBy = "processInstance", orphanRemoval = true)
     private List<NodeInstanceEntity> nodes;
-    @OneToMany(cascade = CascadeType.ALL, mappedBy = "processInstance")
+    @OneToMany(cascade = CascadeType.ALL, mappedBy = "processInstance", orphanRemoval = true)
     private List<MilestoneEntity> milestones;
     @ElementCollection
     @JoinColumn(name = "process_id")
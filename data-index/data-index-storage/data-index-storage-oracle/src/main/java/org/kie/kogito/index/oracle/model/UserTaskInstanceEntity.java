@@ -95,9 +95,9 @@ public class UserTaskInstanceEntity extends AbstractEntity {
     @Type(type = "jsonb")
     private ObjectNode outputs;
     private String endpoint;
-    @OneToMany(cascade = CascadeType.ALL, mappedBy = "userTask")
+    @OneToMany(cascade = CascadeType.ALL, mappedBy = "userTask", orphanRemoval = true)
     private List<CommentEntity> comments;
-    @OneToMany(cascade = CascadeType.ALL, mappedBy = "userTask")
+    @OneToMany(cascade = CascadeType.ALL, mappedBy = "userTask", orphanRemoval = true)
     private List<AttachmentEntity> attachments;
 
     @Override
@@ -16,11 +16,15 @@
 
 package org.kie.kogito.index.oracle.storage;
 
+import java.util.Collection;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
+import org.hibernate.Session;
 import org.kie.kogito.index.oracle.model.AbstractEntity;
 import org.kie.kogito.persistence.api.Storage;
 import org.kie.kogito.persistence.api.query.Query;
@@ -28,6 +32,7 @@ import org.kie.kogito.persistence.api.query.Query;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
 import io.smallrye.mutiny.Multi;
 
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
 public abstract class AbstractStorage<E extends AbstractEntity, V> implements Storage<String, V> {
@@ -81,14 +86,36 @@ public abstract class AbstractStorage<E extends AbstractEntity, V> implements St
         return repository.findByIdOptional(key).map(mapToModel).orElse(null);
     }
 
+    @Override
+    @Transactional
+    public Map<String, V> getAll(Collection<String> keys) {
+        //loaded in batches of IN queries
+        return repository.getEntityManager().unwrap(Session.class).byMultipleIds(entityClass)
+                .multiLoad(keys.stream().map(this::mapKeyToId).collect(toList()))
+                .stream()
+                .filter(Objects::nonNull)
+                .collect(toMap(mapEntityToKey, mapToModel));
+    }
+
+    protected Object mapKeyToId(String key) {
+        return key;
+    }
+
     @Override
     @Transactional
     public V put(String key, V value) {
-        repository.deleteById(key);
-        repository.persist(mapToEntity.apply(value));
+        //merged into the stored entity, so only the changed rows, including the child ones, are written
+        repository.getEntityManager().merge(mapToEntity.apply(value));
         return value;
     }
 
+    @Override
+    @Transactional
+    public void putAll(Map<String, V> values) {
+        EntityManager entityManager = repository.getEntityManager();
+        values.values().stream().map(mapToEntity).forEach(entityManager::merge);
+    }
+
     @Override
     @Transactional
     public V remove(String key) {
@@ -16,6 +16,9 @@
 
 package org.kie.kogito.index.oracle.storage;
 
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import javax.inject.Inject;
@@ -23,17 +26,22 @@ import javax.transaction.Transactional;
 
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.Test;
+import org.kie.kogito.index.model.Milestone;
+import org.kie.kogito.index.model.NodeInstance;
 import org.kie.kogito.index.model.ProcessInstance;
 import org.kie.kogito.index.model.ProcessInstanceState;
 import org.kie.kogito.index.oracle.model.ProcessInstanceEntity;
 import org.kie.kogito.index.oracle.model.ProcessInstanceEntityRepository;
 import org.kie.kogito.index.test.TestUtils;
+import org.kie.kogito.persistence.api.Storage;
 import org.kie.kogito.persistence.api.StorageService;
 import org.kie.kogito.testcontainers.quarkus.OracleSqlQuarkusTestResource;
 
 import io.quarkus.test.common.QuarkusTestResource;
 import io.quarkus.test.junit.QuarkusTest;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 @QuarkusTest
 @QuarkusTestResource(OracleSqlQuarkusTestResource.class)
 public class ProcessInstanceStorageIT extends AbstractStorageIT<ProcessInstanceEntity, ProcessInstance> {
@@ -71,4 +79,37 @@ public class ProcessInstanceStorageIT extends AbstractStorageIT<ProcessInstanceE
         testStorage(processInstanceId, processInstance1, processInstance2);
     }
 
+    @Test
+    @Transactional
+    public void testUpdateNodeInstances() {
+        String processInstanceId = UUID.randomUUID().toString();
+        ProcessInstance processInstance1 = TestUtils.createProcessInstance(processInstanceId, RandomStringUtils.randomAlphabetic(5), null, null,
+                ProcessInstanceState.ACTIVE.ordinal(), 0L);
+        Storage<String, ProcessInstance> cache = storage.getCache("cache", ProcessInstance.class);
+        cache.put(processInstanceId, processInstance1);
+
+        NodeInstance start = processInstance1.getNodes().get(0);
+        start.setExit(ZonedDateTime.now(ZoneOffset.UTC));
+        NodeInstance task = new NodeInstance();
+        task.setId(UUID.randomUUID().toString());
+        task.setEnter(ZonedDateTime.now(ZoneOffset.UTC));
+        task.setName("Task");
+        task.setType("HumanTaskNode");
+        task.setNodeId("3");
+        task.setDefinitionId("UserTask_1");
+        ProcessInstance processInstance2 = TestUtils.createProcessInstance(processInstanceId, processInstance1.getProcessId(), null, null,
+                ProcessInstanceState.ACTIVE.ordinal(), 0L);
+        processInstance2.setNodes(List.of(start, processInstance1.getNodes().get(1), task));
+        cache.put(processInstanceId, processInstance2);
+
+        ProcessInstance stored = cache.get(processInstanceId);
+        assertThat(stored.getNodes()).extracting(NodeInstance::getId)
+                .containsExactlyInAnyOrder(start.getId(), processInstance1.getNodes().get(1).getId(), task.getId());
+        assertThat(stored.getNodes()).filteredOn(n -> n.getId().equals(start.getId())).first()
+                .extracting(NodeInstance::getExit).isNotNull();
+        assertThat(stored.getMilestones()).extracting(Milestone::getId).containsExactly(processInstance2.getMilestones().get(0).getId());
+
+        cache.remove(processInstanceId);
+        assertThat(getRepository().count()).isZero();
+    }
 }
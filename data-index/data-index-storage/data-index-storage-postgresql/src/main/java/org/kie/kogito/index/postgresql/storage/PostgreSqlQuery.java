@@ -15,10 +15,17 @@
  */
 package org.kie.kogito.index.postgresql.storage;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Join;
@@ -26,7 +33,12 @@ import javax.persistence.criteria.Order;
 import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.SingularAttribute;
 
+import org.hibernate.annotations.QueryHints;
 import org.hibernate.query.criteria.internal.path.PluralAttributePath;
 import org.kie.kogito.index.postgresql.model.AbstractEntity;
 import org.kie.kogito.persistence.api.query.AttributeFilter;
@@ -35,16 +47,23 @@ import org.kie.kogito.persistence.api.query.Query;
 import org.kie.kogito.persistence.api.query.SortDirection;
 
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import io.smallrye.mutiny.Multi;
 
 import static java.util.stream.Collectors.toList;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.withKeyset;
 
 public class PostgreSqlQuery<K, E extends AbstractEntity, T> implements Query<T> {
 
+    //rows fetched on each round trip while streaming the results
+    private static final int STREAM_FETCH_SIZE = 500;
+
     private PanacheRepositoryBase<E, K> repository;
     private Integer limit;
     private Integer offset;
     private List<AttributeFilter<?>> filters;
     private List<AttributeSort> sortBy;
+    private List<Object> after;
+    private List<String> projection;
     private Class<E> entityClass;
     private Function<E, T> mapper;
 
@@ -78,13 +97,71 @@ public class PostgreSqlQuery<K, E extends AbstractEntity, T> implements Query<T>
         return this;
     }
 
+    @Override
+    public Query<T> after(List<Object> sortValues) {
+        this.after = sortValues;
+        return this;
+    }
+
+    @Override
+    public Query<T> project(List<String> attributes) {
+        this.projection = attributes;
+        return this;
+    }
+
     @Override
     public List<T> execute() {
+        List<SingularAttribute<? super E, ?>> attributes = getProjectedAttributes();
+        if (attributes != null) {
+            Function<Tuple, E> toEntity = toEntity(attributes);
+            return createProjectionQuery(attributes).getResultList().stream()
+                    .map(tuple -> mapper.apply(toEntity.apply(tuple)))
+                    .collect(toList());
+        }
+        return createQuery().getResultList().stream().map(mapper).collect(toList());
+    }
+
+    @Override
+    public Multi<T> stream() {
+        List<SingularAttribute<? super E, ?>> attributes = getProjectedAttributes();
+        if (attributes != null) {
+            Function<Tuple, E> toEntity = toEntity(attributes);
+            return Multi.createFrom().resource(() -> createProjectionQuery(attributes).setHint(QueryHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE).getResultStream(),
+                    results -> Multi.createFrom().<Tuple> iterable(results::iterator))
+                    .withFinalizer(Stream::close)
+                    .map(tuple -> mapper.apply(toEntity.apply(tuple)));
+        }
+        EntityManager entityManager = repository.getEntityManager();
+        return Multi.createFrom().resource(() -> createQuery().setHint(QueryHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE).getResultStream(),
+                results -> Multi.createFrom().<E> iterable(results::iterator))
+                .withFinalizer(Stream::close)
+                .map(entity -> {
+                    T model = mapper.apply(entity);
+                    //the streamed entities are not kept in the persistence context
+                    entityManager.detach(entity);
+                    return model;
+                });
+    }
+
+    private TypedQuery<E> createQuery() {
         CriteriaBuilder builder = repository.getEntityManager().getCriteriaBuilder();
         CriteriaQuery<E> criteriaQuery = builder.createQuery(entityClass);
         Root<E> root = criteriaQuery.from(entityClass);
-        if (filters != null && !filters.isEmpty()) {
-            List<Predicate> predicates = getPredicates(builder, root);
+        return createQuery(builder, criteriaQuery.select(root), root);
+    }
+
+    private TypedQuery<Tuple> createProjectionQuery(List<SingularAttribute<? super E, ?>> attributes) {
+        CriteriaBuilder builder = repository.getEntityManager().getCriteriaBuilder();
+        CriteriaQuery<Tuple> criteriaQuery = builder.createTupleQuery();
+        Root<E> root = criteriaQuery.from(entityClass);
+        criteriaQuery.multiselect(attributes.stream().<Selection<?>> map(root::get).collect(toList()));
+        return createQuery(builder, criteriaQuery, root);
+    }
+
+    private <R> TypedQuery<R> createQuery(CriteriaBuilder builder, CriteriaQuery<R> criteriaQuery, Root<E> root) {
+        List<AttributeFilter<?>> queryFilters = withKeyset(filters, sortBy, after);
+        if (queryFilters != null && !queryFilters.isEmpty()) {
+            List<Predicate> predicates = getPredicates(builder, root, queryFilters);
             criteriaQuery.where(predicates.toArray(new Predicate[] {}));
         }
         if (sortBy != null && !sortBy.isEmpty()) {
@@ -95,7 +172,7 @@ public class PostgreSqlQuery<K, E extends AbstractEntity, T> implements Query<T>
             criteriaQuery.orderBy(orderBy);
         }
 
-        javax.persistence.Query query = repository.getEntityManager().createQuery(criteriaQuery);
+        TypedQuery<R> query = repository.getEntityManager().createQuery(criteriaQuery);
 
         if (limit != null) {
             query.setMaxResults(limit);
@@ -103,10 +180,70 @@ public class PostgreSqlQuery<K, E extends AbstractEntity, T> implements Query<T>
         if (offset != null) {
             query.setFirstResult(offset);
         }
-        return (List<T>) query.getResultList().stream().map(mapper).collect(toList());
+        return query;
+    }
+
+    /**
+     * Resolves the projected attributes of the entity, including its identifier. Unknown attributes are skipped, they
+     * are usually computed ones. Collections are loaded with their owner entity, so the whole entities are read when
+     * a collection is projected.
+     *
+     * @return the projected attributes, or null if the whole entities must be read.
+     */
+    private List<SingularAttribute<? super E, ?>> getProjectedAttributes() {
+        if (projection == null || projection.isEmpty()) {
+            return null;
+        }
+        EntityType<E> entityType = repository.getEntityManager().getMetamodel().entity(entityClass);
+        List<SingularAttribute<? super E, ?>> attributes = new ArrayList<>();
+        entityType.getSingularAttributes().stream().filter(SingularAttribute::isId).forEach(attributes::add);
+        for (String name : projection) {
+            Attribute<? super E, ?> attribute = entityType.getAttributes().stream()
+                    .filter(a -> a.getName().equals(name))
+                    .findFirst()
+                    .orElse(null);
+            if (attribute == null || attributes.contains(attribute)) {
+                continue;
+            }
+            if (attribute.isCollection()) {
+                return null;
+            }
+            attributes.add((SingularAttribute<? super E, ?>) attribute);
+        }
+        return attributes;
+    }
+
+    /**
+     * @return the mapping of the projected tuples to partially filled entities, the reflective members are resolved
+     *         once for all the tuples of the query.
+     */
+    private Function<Tuple, E> toEntity(List<SingularAttribute<? super E, ?>> attributes) {
+        Constructor<E> constructor;
+        List<Field> fields = new ArrayList<>(attributes.size());
+        try {
+            constructor = entityClass.getDeclaredConstructor();
+            for (SingularAttribute<? super E, ?> attribute : attributes) {
+                Field field = (Field) attribute.getJavaMember();
+                field.setAccessible(true);
+                fields.add(field);
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create the projected entity " + entityClass.getName(), e);
+        }
+        return tuple -> {
+            try {
+                E entity = constructor.newInstance();
+                for (int i = 0; i < fields.size(); i++) {
+                    fields.get(i).set(entity, tuple.get(i));
+                }
+                return entity;
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Unable to create the projected entity " + entityClass.getName(), e);
+            }
+        };
     }
 
-    protected List<Predicate> getPredicates(CriteriaBuilder builder, Root<E> root) {
+    protected List<Predicate> getPredicates(CriteriaBuilder builder, Root<E> root, List<AttributeFilter<?>> filters) {
         return filters.stream().map(filterPredicateFunction(root, builder)).collect(toList());
     }
 
@@ -48,6 +48,11 @@ public class ProcessDefinitionEntityStorage extends AbstractStorage<ProcessDefin
         return getRepository().count("id = ?1 and version = ?2", id.getId(), id.getVersion()) == 1;
     }
 
+    @Override
+    protected Object mapKeyToId(String key) {
+        return new ProcessDefinitionEntityId(key);
+    }
+
     public static class RepositoryAdapter implements PanacheRepositoryBase<ProcessDefinitionEntity, String> {
 
         ProcessDefinitionEntityRepository repository;
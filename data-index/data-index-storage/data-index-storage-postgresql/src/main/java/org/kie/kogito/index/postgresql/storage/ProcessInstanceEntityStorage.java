@@ -16,23 +16,67 @@
 
 package org.kie.kogito.index.postgresql.storage;
 
+import java.util.Map;
+
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
+import javax.transaction.Transactional;
 
+import org.kie.kogito.index.model.Milestone;
+import org.kie.kogito.index.model.NodeInstance;
 import org.kie.kogito.index.model.ProcessInstance;
 import org.kie.kogito.index.postgresql.mapper.ProcessInstanceEntityMapper;
 import org.kie.kogito.index.postgresql.model.AbstractEntity;
+import org.kie.kogito.index.postgresql.model.MilestoneEntity;
+import org.kie.kogito.index.postgresql.model.NodeInstanceEntity;
 import org.kie.kogito.index.postgresql.model.ProcessInstanceEntity;
 import org.kie.kogito.index.postgresql.model.ProcessInstanceEntityRepository;
+import org.kie.kogito.index.storage.ChildEntityMerger;
 
 @ApplicationScoped
 public class ProcessInstanceEntityStorage extends AbstractStorage<ProcessInstanceEntity, ProcessInstance> {
 
+    private ProcessInstanceEntityRepository repository;
+
+    private ProcessInstanceEntityMapper mapper;
+
     public ProcessInstanceEntityStorage() {
     }
 
     @Inject
     public ProcessInstanceEntityStorage(ProcessInstanceEntityRepository repository, ProcessInstanceEntityMapper mapper) {
         super(repository, ProcessInstance.class, ProcessInstanceEntity.class, mapper::mapToModel, mapper::mapToEntity, AbstractEntity::getId);
+        this.repository = repository;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Updates the stored process instance in place instead of replacing it, so only the new or changed node
+     * instances and milestones are written.
+     */
+    @Override
+    @Transactional
+    public ProcessInstance put(String key, ProcessInstance value) {
+        ProcessInstanceEntity entity = repository.findById(key);
+        if (entity == null) {
+            repository.persist(mapper.mapToEntity(value));
+        } else {
+            update(entity, value);
+        }
+        return value;
+    }
+
+    @Override
+    @Transactional
+    public void putAll(Map<String, ProcessInstance> values) {
+        values.forEach(this::put);
+    }
+
+    private void update(ProcessInstanceEntity entity, ProcessInstance value) {
+        mapper.updateEntity(value, entity);
+        ChildEntityMerger.merge(entity, entity.getNodes(), value.getNodes(), NodeInstanceEntity::getId, NodeInstance::getId,
+                mapper::mapNodeInstanceToEntity, mapper::updateNodeInstanceEntity, NodeInstanceEntity::setProcessInstance);
+        ChildEntityMerger.merge(entity, entity.getMilestones(), value.getMilestones(), MilestoneEntity::getId, Milestone::getId,
+                mapper::mapMilestoneToEntity, mapper::updateMilestoneEntity, MilestoneEntity::setProcessInstance);
     }
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jitexecutor.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.core.StreamingOutput;
+
+import org.kie.kogito.jitexecutor.dmn.JITDMNObjectMapperCustomizer;
+import org.kie.kogito.jitexecutor.dmn.JITDMNServiceImpl;
+import org.kie.kogito.jitexecutor.dmn.api.JITDMNResource;
+import org.kie.kogito.jitexecutor.dmn.requests.JITDMNBatchPayload;
+import org.kie.kogito.jitexecutor.dmn.requests.JITDMNPayload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Evaluation of a dataset of {@link #contexts} contexts against the loan approval model through {@link JITDMNResource},
+ * including the JSON marshalling of the requests and the responses, without the HTTP layer. The single calls send the
+ * model and one context per request and evaluate them one after the other, the batch sends the model once and streams
+ * the results evaluated in parallel as NDJSON. The compiled model is cached in both cases.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BatchEvaluationBenchmark {
+
+    @Param({ "100", "1000" })
+    int contexts;
+
+    private JITDMNServiceImpl service;
+
+    private JITDMNResource resource;
+
+    private ObjectMapper objectMapper;
+
+    private String model;
+
+    private List<Map<String, Object>> dataset;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        try (InputStream stream = BatchEvaluationBenchmark.class.getResourceAsStream("/loan.dmn")) {
+            model = new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        service = new JITDMNServiceImpl(300, 1);
+        objectMapper = new ObjectMapper();
+        new JITDMNObjectMapperCustomizer().customize(objectMapper);
+        resource = new JITDMNResource(service, objectMapper);
+        Random random = new Random(0);
+        dataset = new ArrayList<>(contexts);
+        for (int i = 0; i < contexts; i++) {
+            Map<String, Object> context = new HashMap<>();
+            context.put("FICO Score", 500 + random.nextInt(350));
+            context.put("DTI Ratio", random.nextDouble());
+            context.put("PITI Ratio", random.nextDouble());
+            dataset.add(context);
+        }
+    }
+
+    @Benchmark
+    public int sequentialSingleCalls() throws IOException {
+        int size = 0;
+        for (Map<String, Object> context : dataset) {
+            byte[] request = objectMapper.writeValueAsBytes(new JITDMNPayload(model, context));
+            Object result = resource.jitdmnResult(objectMapper.readValue(request, JITDMNPayload.class)).getEntity();
+            size += objectMapper.writeValueAsBytes(result).length;
+        }
+        return size;
+    }
+
+    @Benchmark
+    public int batch() throws IOException {
+        byte[] request = objectMapper.writeValueAsBytes(new JITDMNBatchPayload(model, dataset));
+        StreamingOutput results = (StreamingOutput) resource.jitdmnBatch(objectMapper.readValue(request, JITDMNBatchPayload.class)).getEntity();
+        ByteArrayOutputStream response = new ByteArrayOutputStream();
+        results.write(response);
+        return response.size();
+    }
+}
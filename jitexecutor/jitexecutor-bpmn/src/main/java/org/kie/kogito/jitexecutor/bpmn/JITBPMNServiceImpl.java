@@ -20,12 +20,23 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.Reader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.enterprise.context.ApplicationScoped;
 
 import org.drools.io.InputStreamResource;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jbpm.bpmn2.xml.BPMNDISemanticModule;
 import org.jbpm.bpmn2.xml.BPMNExtensionsSemanticModule;
 import org.jbpm.bpmn2.xml.BPMNSemanticModule;
@@ -38,6 +49,7 @@ import org.kie.api.io.Resource;
 import org.kie.kogito.jitexecutor.bpmn.responses.JITBPMNValidationResult;
 import org.kie.kogito.jitexecutor.common.requests.MultipleResourcesPayload;
 import org.kie.kogito.jitexecutor.common.requests.ResourceWithURI;
+import org.kie.kogito.jitexecutor.common.utils.ContentHash;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xml.sax.SAXException;
@@ -51,6 +63,10 @@ public class JITBPMNServiceImpl implements JITBPMNService {
 
     private static final SemanticModules BPMN_SEMANTIC_MODULES = new SemanticModules();
 
+    private static final int DEFAULT_CACHE_SIZE = 1000;
+
+    private static final int DEFAULT_VALIDATION_PARALLELISM = 0;
+
     private static String ERROR_TEMPLATE = "Uri: %s - Process id: %s - name : %s - error : %s";
 
     static {
@@ -59,11 +75,101 @@ public class JITBPMNServiceImpl implements JITBPMNService {
         BPMN_SEMANTIC_MODULES.addSemanticModule(new BPMNDISemanticModule());
     }
 
+    /**
+     * The maximum number of validated resources kept in memory.
+     */
+    @ConfigProperty(name = "kogito.jitexecutor.bpmn.cache-size", defaultValue = "1000")
+    int cacheSize;
+
+    /**
+     * The maximum number of threads validating the changed resources of the payloads, shared by all the requests.
+     * 0 uses the number of available processors, 1 validates them on the calling thread.
+     */
+    @ConfigProperty(name = "kogito.jitexecutor.bpmn.validation.parallelism", defaultValue = "0")
+    int validationParallelism;
+
+    /**
+     * Validation errors keyed by the hash of the resource URI and content, the URI is part of the errors. The
+     * modeler sends the whole project on every change, so most of the resources are unchanged.
+     */
+    private Map<String, Collection<String>> validationCache;
+
+    private ExecutorService validationExecutor;
+
+    public JITBPMNServiceImpl() {
+    }
+
+    public JITBPMNServiceImpl(int cacheSize) {
+        this(cacheSize, DEFAULT_VALIDATION_PARALLELISM);
+    }
+
+    public JITBPMNServiceImpl(int cacheSize, int validationParallelism) {
+        this.cacheSize = cacheSize;
+        this.validationParallelism = validationParallelism;
+        init();
+    }
+
+    @PostConstruct
+    void init() {
+        int maxSize = cacheSize > 0 ? cacheSize : DEFAULT_CACHE_SIZE;
+        validationCache = Collections.synchronizedMap(new LinkedHashMap<String, Collection<String>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Collection<String>> eldest) {
+                return size() > maxSize;
+            }
+        });
+        if (validationParallelism <= 0) {
+            validationParallelism = Runtime.getRuntime().availableProcessors();
+        }
+        if (validationParallelism > 1) {
+            AtomicInteger threadCount = new AtomicInteger();
+            validationExecutor = Executors.newFixedThreadPool(validationParallelism, runnable -> {
+                Thread thread = new Thread(runnable, "jitexecutor-bpmn-validation-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        if (validationExecutor != null) {
+            validationExecutor.shutdownNow();
+        }
+    }
+
+    int getCacheSize() {
+        return validationCache.size();
+    }
+
     @Override
     public JITBPMNValidationResult validatePayload(MultipleResourcesPayload payload) {
-        Collection<String> errors = new ArrayList<>();
+        //the parsing resolves the classes with the context class loader of the calling thread
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        List<CompletableFuture<Collection<String>>> results = new ArrayList<>(payload.getResources().size());
+        Runnable validateOnCaller = null;
         for (ResourceWithURI resourceWithURI : payload.getResources()) {
-            errors.addAll(collectErrors(resourceWithURI.getContent(), resourceWithURI.getURI()));
+            String key = ContentHash.of(resourceWithURI.getURI(), resourceWithURI.getContent());
+            Collection<String> cached = validationCache.get(key);
+            if (cached != null) {
+                results.add(CompletableFuture.completedFuture(cached));
+            } else if (validationExecutor == null) {
+                results.add(CompletableFuture.completedFuture(validate(key, resourceWithURI.getContent(), resourceWithURI.getURI(), classLoader)));
+            } else if (validateOnCaller == null) {
+                //the first changed resource is validated on the calling thread, the others in parallel
+                CompletableFuture<Collection<String>> result = new CompletableFuture<>();
+                validateOnCaller = () -> result.complete(validate(key, resourceWithURI.getContent(), resourceWithURI.getURI(), classLoader));
+                results.add(result);
+            } else {
+                results.add(CompletableFuture.supplyAsync(() -> validate(key, resourceWithURI.getContent(), resourceWithURI.getURI(), classLoader), validationExecutor));
+            }
+        }
+        if (validateOnCaller != null) {
+            validateOnCaller.run();
+        }
+        Collection<String> errors = new ArrayList<>();
+        for (CompletableFuture<Collection<String>> result : results) {
+            errors.addAll(result.join());
         }
         return new JITBPMNValidationResult(errors);
     }
@@ -71,59 +177,87 @@ public class JITBPMNServiceImpl implements JITBPMNService {
     @Override
     public JITBPMNValidationResult validateModel(String modelXML) {
         LOGGER.trace("Received\n{}", modelXML);
-        Collection<String> errors = collectErrors(modelXML, null);
+        String key = ContentHash.of(null, modelXML);
+        Collection<String> errors = validationCache.get(key);
+        if (errors == null) {
+            errors = validate(key, modelXML, null, Thread.currentThread().getContextClassLoader());
+        }
         return new JITBPMNValidationResult(errors);
     }
 
+    /**
+     * Only the validations that completed are cached, a failure could be transient and is not served from the cache.
+     */
+    private Collection<String> validate(String key, String modelXML, String resourceUri, ClassLoader classLoader) {
+        Collection<String> errors;
+        try {
+            errors = Collections.unmodifiableCollection(validationErrors(modelXML, resourceUri, classLoader));
+        } catch (Throwable e) {
+            return failureErrors(e);
+        }
+        validationCache.put(key, errors);
+        return errors;
+    }
+
     static Collection<String> collectErrors(String modelXML, String resourceUri) {
-        LOGGER.trace("Received\n{}", modelXML);
-        Collection<String> toReturn;
-        Collection<Process> processes;
+        return collectErrors(modelXML, resourceUri, Thread.currentThread().getContextClassLoader());
+    }
+
+    static Collection<String> collectErrors(String modelXML, String resourceUri, ClassLoader classLoader) {
         try {
-            processes = parseModelXml(modelXML);
-            if (processes.isEmpty()) {
-                String error = "No process found";
-                if (resourceUri != null) {
-                    error += " on resource " + resourceUri;
-                }
-                toReturn = Collections.singleton(error);
-            } else {
-                toReturn = new ArrayList<>();
-                ProcessValidationError[] processValidationErrors = validateProcesses(processes);
-                for (ProcessValidationError processValidationError : processValidationErrors) {
-                    toReturn.add(getErrorString(processValidationError, resourceUri));
-                }
-            }
+            return validationErrors(modelXML, resourceUri, classLoader);
         } catch (Throwable e) {
-            String error = e.getMessage() != null && !e.getMessage().isEmpty() ? e.getMessage() : e.toString();
-            toReturn = Collections.singleton(error);
-            LOGGER.error("Fail to validate", e);
+            return failureErrors(e);
+        }
+    }
+
+    private static Collection<String> validationErrors(String modelXML, String resourceUri, ClassLoader classLoader) {
+        LOGGER.trace("Received\n{}", modelXML);
+        Collection<Process> processes = parseModelXml(modelXML, classLoader);
+        if (processes.isEmpty()) {
+            String error = "No process found";
+            if (resourceUri != null) {
+                error += " on resource " + resourceUri;
+            }
+            return Collections.singleton(error);
+        }
+        Collection<String> toReturn = new ArrayList<>();
+        for (ProcessValidationError processValidationError : validateProcesses(processes)) {
+            toReturn.add(getErrorString(processValidationError, resourceUri));
         }
         return toReturn;
     }
 
-    static ProcessValidationError[] validateProcesses(Collection<Process> processes) {
-        ProcessValidationError[] toReturn = new ProcessValidationError[0];
+    private static Collection<String> failureErrors(Throwable e) {
+        String error = e.getMessage() != null && !e.getMessage().isEmpty() ? e.getMessage() : e.toString();
+        LOGGER.error("Fail to validate", e);
+        return Collections.singleton(error);
+    }
+
+    static List<ProcessValidationError> validateProcesses(Collection<Process> processes) {
+        List<ProcessValidationError> toReturn = new ArrayList<>();
         for (Process toValidate : processes) {
-            ProcessValidationError[] toAdd = PROCESS_VALIDATOR.validateProcess(toValidate);
-            ProcessValidationError[] temp = new ProcessValidationError[toReturn.length + toAdd.length];
-            System.arraycopy(toReturn, 0, temp, 0, toReturn.length);
-            System.arraycopy(toAdd, 0, temp, (temp.length - toAdd.length), toAdd.length);
-            toReturn = temp;
+            toReturn.addAll(Arrays.asList(PROCESS_VALIDATOR.validateProcess(toValidate)));
         }
         return toReturn;
     }
 
     static Collection<Process> parseModelXml(String modelXML) {
+        return parseModelXml(modelXML, Thread.currentThread().getContextClassLoader());
+    }
+
+    static Collection<Process> parseModelXml(String modelXML, ClassLoader classLoader) {
         Resource r = new InputStreamResource(new ByteArrayInputStream(modelXML.getBytes()));
-        return parseModelResource(r);
+        return parseModelResource(r, classLoader);
     }
 
     static Collection<Process> parseModelResource(Resource r) {
+        return parseModelResource(r, Thread.currentThread().getContextClassLoader());
+    }
+
+    static Collection<Process> parseModelResource(Resource r, ClassLoader classLoader) {
         try (Reader reader = r.getReader()) {
-            XmlProcessReader xmlReader = new XmlProcessReader(
-                    BPMN_SEMANTIC_MODULES,
-                    Thread.currentThread().getContextClassLoader());
+            XmlProcessReader xmlReader = new XmlProcessReader(BPMN_SEMANTIC_MODULES, classLoader);
             return xmlReader.read(reader);
         } catch (SAXException | IOException e) {
             throw new RuntimeException("Could not parse " + r, e);
@@ -17,7 +17,10 @@ package org.kie.kogito.jitexecutor.bpmn;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 
 import org.drools.io.FileSystemResource;
@@ -30,6 +33,8 @@ import org.junit.jupiter.api.Test;
 import org.kie.api.definition.process.Process;
 import org.kie.api.io.Resource;
 import org.kie.kogito.jitexecutor.bpmn.responses.JITBPMNValidationResult;
+import org.kie.kogito.jitexecutor.common.requests.MultipleResourcesPayload;
+import org.kie.kogito.jitexecutor.common.requests.ResourceWithURI;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -42,7 +47,7 @@ import static org.kie.kogito.jitexecutor.bpmn.TestingUtils.UNPARSABLE_BPMN2_FILE
 
 class JITBPMNServiceImplTest {
 
-    private static final JITBPMNService jitBpmnService = new JITBPMNServiceImpl();
+    private static final JITBPMNService jitBpmnService = new JITBPMNServiceImpl(100);
 
     @Test
     void validateModel_SingleValidBPMN2() throws IOException {
@@ -91,6 +96,69 @@ class JITBPMNServiceImplTest {
         assertThat(retrieved.getErrors()).contains("Could not find message _T6T0kEcTEDuygKsUt0on2Q____");
     }
 
+    @Test
+    void validatePayload_CachedResources() throws IOException {
+        JITBPMNServiceImpl service = new JITBPMNServiceImpl(100);
+        ResourceWithURI valid = new ResourceWithURI("valid.bpmn2", readFile(SINGLE_BPMN2_FILE));
+        ResourceWithURI invalid = new ResourceWithURI("invalid.bpmn2", readFile(SINGLE_INVALID_BPMN2_FILE));
+        ResourceWithURI multipleInvalid = new ResourceWithURI("multipleInvalid.bpmn2", readFile(MULTIPLE_INVALID_BPMN2_FILE));
+
+        JITBPMNValidationResult retrieved = service.validatePayload(new MultipleResourcesPayload("valid.bpmn2", Arrays.asList(valid, invalid, multipleInvalid)));
+        List<String> errors = new ArrayList<>(retrieved.getErrors());
+        assertThat(errors).hasSize(6);
+        //the errors follow the order of the resources
+        assertThat(errors.get(0)).startsWith("Uri: invalid.bpmn2");
+        assertThat(errors.get(5)).startsWith("Uri: multipleInvalid.bpmn2");
+        assertThat(service.getCacheSize()).isEqualTo(3);
+
+        //unchanged resources are not validated again
+        JITBPMNValidationResult cached = service.validatePayload(new MultipleResourcesPayload("valid.bpmn2", Arrays.asList(valid, invalid, multipleInvalid)));
+        assertThat(cached.getErrors()).containsExactlyElementsOf(retrieved.getErrors());
+        assertThat(service.getCacheSize()).isEqualTo(3);
+
+        //the errors contain the URI, the same content on another URI is validated again
+        ResourceWithURI moved = new ResourceWithURI("moved.bpmn2", invalid.getContent());
+        JITBPMNValidationResult changed = service.validatePayload(new MultipleResourcesPayload("valid.bpmn2", Arrays.asList(valid, moved)));
+        assertThat(changed.getErrors()).hasSize(2).allMatch(error -> error.startsWith("Uri: moved.bpmn2"));
+        assertThat(service.getCacheSize()).isEqualTo(4);
+    }
+
+    @Test
+    void validatePayload_SequentialValidation() throws IOException {
+        JITBPMNServiceImpl service = new JITBPMNServiceImpl(100, 1);
+        ResourceWithURI valid = new ResourceWithURI("valid.bpmn2", readFile(SINGLE_BPMN2_FILE));
+        ResourceWithURI invalid = new ResourceWithURI("invalid.bpmn2", readFile(SINGLE_INVALID_BPMN2_FILE));
+        ResourceWithURI multipleInvalid = new ResourceWithURI("multipleInvalid.bpmn2", readFile(MULTIPLE_INVALID_BPMN2_FILE));
+
+        JITBPMNValidationResult retrieved = service.validatePayload(new MultipleResourcesPayload("valid.bpmn2", Arrays.asList(valid, invalid, multipleInvalid)));
+        List<String> errors = new ArrayList<>(retrieved.getErrors());
+        assertThat(errors).hasSize(6);
+        assertThat(errors.get(0)).startsWith("Uri: invalid.bpmn2");
+        assertThat(errors.get(5)).startsWith("Uri: multipleInvalid.bpmn2");
+        assertThat(service.getCacheSize()).isEqualTo(3);
+    }
+
+    @Test
+    void validateModel_FailedValidationNotCached() throws IOException {
+        JITBPMNServiceImpl service = new JITBPMNServiceImpl(100);
+        JITBPMNValidationResult retrieved = service.validateModel(readFile(SINGLE_UNPARSABLE_BPMN2_FILE));
+        assertThat(retrieved.getErrors()).hasSize(1);
+        assertThat(service.getCacheSize()).isZero();
+
+        JITBPMNValidationResult validatedAgain = service.validateModel(readFile(SINGLE_UNPARSABLE_BPMN2_FILE));
+        assertThat(validatedAgain.getErrors()).containsExactlyElementsOf(retrieved.getErrors());
+        assertThat(service.getCacheSize()).isZero();
+    }
+
+    @Test
+    void validateModel_CacheEviction() throws IOException {
+        JITBPMNServiceImpl service = new JITBPMNServiceImpl(1);
+        service.validateModel(readFile(SINGLE_BPMN2_FILE));
+        JITBPMNValidationResult retrieved = service.validateModel(readFile(SINGLE_INVALID_BPMN2_FILE));
+        assertThat(retrieved.getErrors()).hasSize(2);
+        assertThat(service.getCacheSize()).isEqualTo(1);
+    }
+
     @Test
     void parseModelXml_SingleValidBPMN2() throws IOException {
         String toValidate = new String(IoUtils.readBytesFromInputStream(Objects.requireNonNull(JITBPMNService.class.getResourceAsStream(SINGLE_BPMN2_FILE))));
@@ -157,4 +225,7 @@ class JITBPMNServiceImplTest {
         assertThat(retrieved).isEqualTo(expected);
     }
 
+    private static String readFile(String fileName) throws IOException {
+        return new String(IoUtils.readBytesFromInputStream(Objects.requireNonNull(JITBPMNService.class.getResourceAsStream(fileName))));
+    }
 }
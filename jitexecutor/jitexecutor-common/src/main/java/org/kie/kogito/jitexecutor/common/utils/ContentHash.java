@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jitexecutor.common.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Comparator;
+
+import org.kie.kogito.jitexecutor.common.requests.MultipleResourcesPayload;
+import org.kie.kogito.jitexecutor.common.requests.ResourceWithURI;
+
+/**
+ * SHA-256 hashes of the submitted models, used as keys of the caches of the compiled and validated models.
+ */
+public final class ContentHash {
+
+    private ContentHash() {
+    }
+
+    /**
+     * The hash of the given values, in order. Null values are allowed.
+     */
+    public static String of(String... values) {
+        MessageDigest digest = newDigest();
+        for (String value : values) {
+            update(digest, value);
+        }
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+    /**
+     * The hash of the main URI and of every resource, the order of the resources does not change the hash.
+     */
+    public static String of(MultipleResourcesPayload payload) {
+        MessageDigest digest = newDigest();
+        update(digest, payload.getMainURI());
+        payload.getResources().stream()
+                .sorted(Comparator.comparing(ResourceWithURI::getURI, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .forEach(resource -> {
+                    update(digest, resource.getURI());
+                    update(digest, resource.getContent());
+                });
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        //separator, so that moving characters between values changes the hash
+        digest.update((byte) 0);
+    }
+}
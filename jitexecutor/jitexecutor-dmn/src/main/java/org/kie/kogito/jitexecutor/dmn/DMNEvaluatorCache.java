@@ -0,0 +1,195 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jitexecutor.dmn;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.kie.kogito.jitexecutor.common.requests.MultipleResourcesPayload;
+import org.kie.kogito.jitexecutor.common.utils.ContentHash;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Cache of the compiled models, keyed by a hash of their content so that any change of the model compiles it again.
+ * Building a {@link DMNEvaluator} parses, compiles and type-checks the models, which takes much longer than evaluating
+ * them, while the editor and the batch callers evaluate the same models over and over.
+ * <p>
+ * The least recently used models are evicted once the cache is full. Concurrent lookups of a missing model wait for
+ * a single compilation, failed compilations are not cached.
+ * <p>
+ * The JSON schemas generated from the models are kept as well, in a separate map bounded by the same size, as the
+ * forms request them on every render.
+ */
+public class DMNEvaluatorCache {
+
+    static final String CACHE_METRIC = "kogito.jitexecutor.dmn.cache";
+    static final String SCHEMA_CACHE_METRIC = "kogito.jitexecutor.dmn.schema.cache";
+
+    private final Map<String, CompletableFuture<DMNEvaluator>> evaluators;
+    private final Map<String, ObjectNode> schemas;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder schemaHits = new LongAdder();
+    private final LongAdder schemaMisses = new LongAdder();
+
+    public DMNEvaluatorCache(int maxSize, MeterRegistry registry) {
+        this.evaluators = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<DMNEvaluator>> eldest) {
+                return size() > maxSize;
+            }
+        };
+        FunctionCounter.builder(CACHE_METRIC, hits, LongAdder::sum)
+                .description("Lookups of the compiled DMN models")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder(CACHE_METRIC, misses, LongAdder::sum)
+                .description("Lookups of the compiled DMN models")
+                .tag("result", "miss")
+                .register(registry);
+        this.schemas = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ObjectNode> eldest) {
+                return size() > maxSize;
+            }
+        };
+        FunctionCounter.builder(SCHEMA_CACHE_METRIC, schemaHits, LongAdder::sum)
+                .description("Lookups of the JSON schemas generated from the DMN models")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder(SCHEMA_CACHE_METRIC, schemaMisses, LongAdder::sum)
+                .description("Lookups of the JSON schemas generated from the DMN models")
+                .tag("result", "miss")
+                .register(registry);
+    }
+
+    public DMNEvaluator fromXML(String modelXML) {
+        return get(hash(modelXML), () -> DMNEvaluator.fromXML(modelXML));
+    }
+
+    public DMNEvaluator fromMultiple(MultipleResourcesPayload payload) {
+        return get(hash(payload), () -> DMNEvaluator.fromMultiple(payload));
+    }
+
+    DMNEvaluator get(String key, Supplier<DMNEvaluator> compiler) {
+        CompletableFuture<DMNEvaluator> evaluator;
+        boolean compile = false;
+        synchronized (evaluators) {
+            evaluator = evaluators.get(key);
+            if (evaluator == null) {
+                evaluator = new CompletableFuture<>();
+                evaluators.put(key, evaluator);
+                compile = true;
+            }
+        }
+        if (!compile) {
+            hits.increment();
+            return join(evaluator);
+        }
+        misses.increment();
+        try {
+            evaluator.complete(compiler.get());
+        } catch (RuntimeException e) {
+            synchronized (evaluators) {
+                evaluators.remove(key, evaluator);
+            }
+            evaluator.completeExceptionally(e);
+            throw e;
+        }
+        return evaluator.join();
+    }
+
+    /**
+     * Returns the schema cached with the given key, usually the kind of schema and the hash of the model, or generates
+     * and caches it. The returned node is shared and must not be modified.
+     */
+    public ObjectNode getSchema(String key, Supplier<ObjectNode> generator) {
+        ObjectNode schema;
+        synchronized (schemas) {
+            schema = schemas.get(key);
+        }
+        if (schema != null) {
+            schemaHits.increment();
+            return schema;
+        }
+        schemaMisses.increment();
+        //the models are compiled once through the evaluators, concurrent generations of the same schema are harmless
+        schema = generator.get();
+        synchronized (schemas) {
+            schemas.put(key, schema);
+        }
+        return schema;
+    }
+
+    private static DMNEvaluator join(CompletableFuture<DMNEvaluator> evaluator) {
+        try {
+            return evaluator.join();
+        } catch (CompletionException e) {
+            //same failure as the compiling thread
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        synchronized (evaluators) {
+            return evaluators.size();
+        }
+    }
+
+    public long getSchemaHits() {
+        return schemaHits.sum();
+    }
+
+    public long getSchemaMisses() {
+        return schemaMisses.sum();
+    }
+
+    public int schemaSize() {
+        synchronized (schemas) {
+            return schemas.size();
+        }
+    }
+
+    static String hash(String modelXML) {
+        return ContentHash.of(modelXML);
+    }
+
+    /**
+     * The hash of the main URI and of every resource, the order of the resources does not change the compiled models.
+     */
+    static String hash(MultipleResourcesPayload payload) {
+        return ContentHash.of(payload);
+    }
+}
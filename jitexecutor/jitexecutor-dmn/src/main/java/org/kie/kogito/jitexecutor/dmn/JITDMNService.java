@@ -16,7 +16,9 @@
 
 package org.kie.kogito.jitexecutor.dmn;
 
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.kie.kogito.jitexecutor.common.requests.MultipleResourcesPayload;
 import org.kie.kogito.jitexecutor.dmn.responses.DMNResultWithExplanation;
@@ -31,4 +33,12 @@ public interface JITDMNService {
     DMNResultWithExplanation evaluateModelAndExplain(String modelXML, Map<String, Object> context);
 
     DMNResultWithExplanation evaluateModelAndExplain(MultipleResourcesPayload payload, Map<String, Object> context);
+
+    /**
+     * Evaluates the model once for each of the contexts. The model is compiled before returning, the contexts are
+     * evaluated in parallel while the results are consumed, in the same order as the contexts.
+     */
+    Stream<JITDMNResult> evaluateModelBatch(String modelXML, List<Map<String, Object>> contexts);
+
+    Stream<JITDMNResult> evaluateModelBatch(MultipleResourcesPayload payload, List<Map<String, Object>> contexts);
 }
@@ -16,16 +16,33 @@
 
 package org.kie.kogito.jitexecutor.dmn;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Random;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Produces;
+import javax.inject.Singleton;
 
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.kie.dmn.api.core.DMNModel;
@@ -42,12 +59,15 @@ import org.kie.kogito.explainability.model.Saliency;
 import org.kie.kogito.explainability.model.SimplePrediction;
 import org.kie.kogito.jitexecutor.common.requests.MultipleResourcesPayload;
 import org.kie.kogito.jitexecutor.dmn.responses.DMNResultWithExplanation;
+import org.kie.kogito.jitexecutor.dmn.responses.JITDMNMessage;
 import org.kie.kogito.jitexecutor.dmn.responses.JITDMNResult;
 import org.kie.kogito.trusty.service.common.responses.SalienciesResponse;
 import org.kie.kogito.trusty.service.common.responses.SaliencyResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.Metrics;
+
 @ApplicationScoped
 public class JITDMNServiceImpl implements JITDMNService {
 
@@ -56,6 +76,8 @@ public class JITDMNServiceImpl implements JITDMNService {
     private static final String EXPLAINABILITY_FAILED = "FAILED";
     private static final String EXPLAINABILITY_FAILED_MESSAGE = "Failed to calculate values";
     private static final String EXPLAINABILITY_SUCCEEDED = "SUCCEEDED";
+    private static final int DEFAULT_CACHE_SIZE = 100;
+    private static final int DEFAULT_EXPLAINABILITY_PARALLELISM = 0;
 
     @ConfigProperty(name = "kogito.explainability.lime.sample-size", defaultValue = "300")
     int explainabilityLimeSampleSize;
@@ -63,35 +85,96 @@ public class JITDMNServiceImpl implements JITDMNService {
     @ConfigProperty(name = "kogito.explainability.lime.no-of-perturbation", defaultValue = "1")
     int explainabilityLimeNoOfPerturbation;
 
+    /**
+     * The maximum number of compiled models kept in memory.
+     */
+    @ConfigProperty(name = "kogito.jitexecutor.dmn.cache-size", defaultValue = "100")
+    int cacheSize;
+
+    /**
+     * The maximum number of threads evaluating the LIME samples and the contexts of the batches, shared by all the
+     * requests. 0 uses the number of available processors, 1 evaluates them on the calling thread.
+     */
+    @ConfigProperty(name = "kogito.jitexecutor.dmn.explainability.parallelism", defaultValue = "0")
+    int explainabilityParallelism;
+
+    private DMNEvaluatorCache evaluatorCache;
+
+    private ExecutorService explainabilityExecutor;
+
     public JITDMNServiceImpl() {
     }
 
     public JITDMNServiceImpl(int explainabilityLimeSampleSize, int explainabilityLimeNoOfPerturbation) {
+        this(explainabilityLimeSampleSize, explainabilityLimeNoOfPerturbation, DEFAULT_CACHE_SIZE);
+    }
+
+    public JITDMNServiceImpl(int explainabilityLimeSampleSize, int explainabilityLimeNoOfPerturbation, int cacheSize) {
+        this(explainabilityLimeSampleSize, explainabilityLimeNoOfPerturbation, cacheSize, DEFAULT_EXPLAINABILITY_PARALLELISM);
+    }
+
+    public JITDMNServiceImpl(int explainabilityLimeSampleSize, int explainabilityLimeNoOfPerturbation, int cacheSize, int explainabilityParallelism) {
         this.explainabilityLimeSampleSize = explainabilityLimeSampleSize;
         this.explainabilityLimeNoOfPerturbation = explainabilityLimeNoOfPerturbation;
+        this.cacheSize = cacheSize;
+        this.explainabilityParallelism = explainabilityParallelism;
+        init();
+    }
+
+    @PostConstruct
+    void init() {
+        evaluatorCache = new DMNEvaluatorCache(cacheSize, Metrics.globalRegistry);
+        if (explainabilityParallelism <= 0) {
+            explainabilityParallelism = Runtime.getRuntime().availableProcessors();
+        }
+        if (explainabilityParallelism > 1) {
+            AtomicInteger threadCount = new AtomicInteger();
+            explainabilityExecutor = Executors.newFixedThreadPool(explainabilityParallelism, runnable -> {
+                Thread thread = new Thread(runnable, "jitexecutor-dmn-explainability-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        if (explainabilityExecutor != null) {
+            explainabilityExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * The compiled models are shared with the other resources compiling the same models, e.g. the schema generation.
+     */
+    @Produces
+    @Singleton
+    DMNEvaluatorCache getEvaluatorCache() {
+        return evaluatorCache;
     }
 
     @Override
     public JITDMNResult evaluateModel(String modelXML, Map<String, Object> context) {
-        DMNEvaluator dmnEvaluator = DMNEvaluator.fromXML(modelXML);
+        DMNEvaluator dmnEvaluator = evaluatorCache.fromXML(modelXML);
         DMNResult dmnResult = dmnEvaluator.evaluate(context);
         return new JITDMNResult(dmnEvaluator.getNamespace(), dmnEvaluator.getName(), dmnResult);
     }
 
     @Override
     public DMNResultWithExplanation evaluateModelAndExplain(String modelXML, Map<String, Object> context) {
-        DMNEvaluator dmnEvaluator = DMNEvaluator.fromXML(modelXML);
+        DMNEvaluator dmnEvaluator = evaluatorCache.fromXML(modelXML);
         return evaluateModelAndExplain(dmnEvaluator, context);
     }
 
     @Override
     public DMNResultWithExplanation evaluateModelAndExplain(MultipleResourcesPayload payload, Map<String, Object> context) {
-        DMNEvaluator dmnEvaluator = DMNEvaluator.fromMultiple(payload);
+        DMNEvaluator dmnEvaluator = evaluatorCache.fromMultiple(payload);
         return evaluateModelAndExplain(dmnEvaluator, context);
     }
 
     public DMNResultWithExplanation evaluateModelAndExplain(DMNEvaluator dmnEvaluator, Map<String, Object> context) {
-        LocalDMNPredictionProvider localDMNPredictionProvider = new LocalDMNPredictionProvider(dmnEvaluator);
+        LocalDMNPredictionProvider localDMNPredictionProvider =
+                new LocalDMNPredictionProvider(dmnEvaluator, explainabilityExecutor, explainabilityParallelism);
 
         DMNResult dmnResult = dmnEvaluator.evaluate(context);
 
@@ -146,8 +229,70 @@ public class JITDMNServiceImpl implements JITDMNService {
 
     @Override
     public JITDMNResult evaluateModel(MultipleResourcesPayload payload, Map<String, Object> context) {
-        DMNEvaluator dmnEvaluator = DMNEvaluator.fromMultiple(payload);
+        DMNEvaluator dmnEvaluator = evaluatorCache.fromMultiple(payload);
         DMNResult dmnResult = dmnEvaluator.evaluate(context);
         return new JITDMNResult(dmnEvaluator.getNamespace(), dmnEvaluator.getName(), dmnResult);
     }
+
+    @Override
+    public Stream<JITDMNResult> evaluateModelBatch(String modelXML, List<Map<String, Object>> contexts) {
+        return evaluateModelBatch(evaluatorCache.fromXML(modelXML), contexts);
+    }
+
+    @Override
+    public Stream<JITDMNResult> evaluateModelBatch(MultipleResourcesPayload payload, List<Map<String, Object>> contexts) {
+        return evaluateModelBatch(evaluatorCache.fromMultiple(payload), contexts);
+    }
+
+    Stream<JITDMNResult> evaluateModelBatch(DMNEvaluator dmnEvaluator, List<Map<String, Object>> contexts) {
+        //contexts evaluated ahead of the consumed results
+        int batchWindow = explainabilityExecutor != null ? 2 * explainabilityParallelism : 1;
+        Iterator<Map<String, Object>> pending = contexts.iterator();
+        Deque<CompletableFuture<JITDMNResult>> window = new ArrayDeque<>();
+        Iterator<JITDMNResult> results = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                fill();
+                return !window.isEmpty();
+            }
+
+            @Override
+            public JITDMNResult next() {
+                fill();
+                if (window.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                return window.remove().join();
+            }
+
+            private void fill() {
+                while (window.size() < batchWindow && pending.hasNext()) {
+                    Map<String, Object> context = pending.next();
+                    window.add(explainabilityExecutor != null
+                            ? CompletableFuture.supplyAsync(() -> evaluateBatchContext(dmnEvaluator, context), explainabilityExecutor)
+                            : CompletableFuture.completedFuture(evaluateBatchContext(dmnEvaluator, context)));
+                }
+            }
+        };
+        //the contexts not evaluated yet are skipped when the results are not consumed anymore, e.g. the client is gone
+        return StreamSupport.stream(Spliterators.spliterator(results, contexts.size(), Spliterator.ORDERED), false)
+                .onClose(() -> window.forEach(result -> result.cancel(false)));
+    }
+
+    /**
+     * @return the result of the context, or a result with the error message if the evaluation failed, so the other
+     *         contexts of the batch are still evaluated.
+     */
+    private static JITDMNResult evaluateBatchContext(DMNEvaluator dmnEvaluator, Map<String, Object> context) {
+        try {
+            return new JITDMNResult(dmnEvaluator.getNamespace(), dmnEvaluator.getName(), dmnEvaluator.evaluate(context));
+        } catch (RuntimeException e) {
+            LOGGER.debug("Failed to evaluate a context of the batch of model {}", dmnEvaluator.getName(), e);
+            JITDMNResult result = new JITDMNResult();
+            result.setNamespace(dmnEvaluator.getNamespace());
+            result.setModelName(dmnEvaluator.getName());
+            result.setMessages(Collections.singletonList(JITDMNMessage.error(e.toString())));
+            return result;
+        }
+    }
 }
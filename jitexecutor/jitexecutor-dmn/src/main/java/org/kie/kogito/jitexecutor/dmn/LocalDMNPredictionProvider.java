@@ -22,6 +22,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.kie.dmn.api.core.DMNDecisionResult;
 import org.kie.dmn.api.core.DMNResult;
@@ -35,24 +36,56 @@ import org.kie.kogito.explainability.model.Type;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
 
+/**
+ * Evaluates the perturbed inputs of an explanation against the DMN model. When an {@link Executor} is given, the
+ * inputs are split in up to {@code parallelism} chunks evaluated concurrently, otherwise they are evaluated on the
+ * calling thread.
+ */
 public class LocalDMNPredictionProvider implements PredictionProvider {
 
     private static final String DUMMY_DMN_CONTEXT_KEY = "dummyDMNContext";
     private final DMNEvaluator dmnEvaluator;
+    private final Executor executor;
+    private final int parallelism;
 
     public LocalDMNPredictionProvider(DMNEvaluator dmnEvaluator) {
+        this(dmnEvaluator, null, 1);
+    }
+
+    public LocalDMNPredictionProvider(DMNEvaluator dmnEvaluator, Executor executor, int parallelism) {
         this.dmnEvaluator = dmnEvaluator;
+        this.executor = executor;
+        this.parallelism = parallelism;
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public CompletableFuture<List<PredictionOutput>> predictAsync(List<PredictionInput> inputs) {
-        List<PredictionOutput> predictionOutputs = new ArrayList<>();
+        if (executor == null || parallelism <= 1 || inputs.size() <= 1) {
+            return completedFuture(predict(inputs));
+        }
+        //one task per chunk, so a single explanation never takes more than parallelism threads
+        int chunkSize = (inputs.size() + parallelism - 1) / parallelism;
+        List<CompletableFuture<List<PredictionOutput>>> chunks = new ArrayList<>(parallelism);
+        for (int from = 0; from < inputs.size(); from += chunkSize) {
+            List<PredictionInput> chunk = inputs.subList(from, Math.min(from + chunkSize, inputs.size()));
+            chunks.add(CompletableFuture.supplyAsync(() -> predict(chunk), executor));
+        }
+        return CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0]))
+                .thenApply(v -> {
+                    List<PredictionOutput> predictionOutputs = new ArrayList<>(inputs.size());
+                    for (CompletableFuture<List<PredictionOutput>> chunk : chunks) {
+                        predictionOutputs.addAll(chunk.join());
+                    }
+                    return predictionOutputs;
+                });
+    }
+
+    private List<PredictionOutput> predict(List<PredictionInput> inputs) {
+        List<PredictionOutput> predictionOutputs = new ArrayList<>(inputs.size());
         for (PredictionInput input : inputs) {
-            Map<String, Object> contextVariables = (Map<String, Object>) toMap(input.getFeatures()).get(DUMMY_DMN_CONTEXT_KEY);
-            predictionOutputs.add(toPredictionOutput(dmnEvaluator.evaluate(contextVariables)));
+            predictionOutputs.add(toPredictionOutput(dmnEvaluator.evaluate(toContext(input.getFeatures()))));
         }
-        return completedFuture(predictionOutputs);
+        return predictionOutputs;
     }
 
     public static PredictionInput toPredictionInput(Map<String, Object> context) {
@@ -76,36 +109,49 @@ public class LocalDMNPredictionProvider implements PredictionProvider {
     }
 
     @SuppressWarnings("unchecked")
-    private Map<String, Object> toMap(List<Feature> features) {
+    static Map<String, Object> toContext(List<Feature> features) {
+        for (Feature f : features) {
+            if (DUMMY_DMN_CONTEXT_KEY.equals(f.getName()) && Type.COMPOSITE.equals(f.getType())) {
+                List<Feature> contextFeatures = (List<Feature>) f.getValue().getUnderlyingObject();
+                Map<String, Object> context = new HashMap<>();
+                putAll(context, contextFeatures);
+                return context;
+            }
+        }
         Map<String, Object> map = new HashMap<>();
+        putAll(map, features);
+        return (Map<String, Object>) map.get(DUMMY_DMN_CONTEXT_KEY);
+    }
+
+    private static void putAll(Map<String, Object> map, List<Feature> features) {
         for (Feature f : features) {
-            if (Type.COMPOSITE.equals(f.getType())) {
-                List<Feature> compositeFeatures = (List<Feature>) f.getValue().getUnderlyingObject();
-                boolean isList = compositeFeatures.stream().allMatch(feature -> feature.getName().startsWith(f.getName() + "_"));
-                if (isList) {
-                    List<Object> objects = new ArrayList<>(compositeFeatures.size());
-                    for (Feature fs : compositeFeatures) {
-                        objects.add(fs.getValue().getUnderlyingObject());
-                    }
-                    map.put(f.getName(), objects);
-                } else {
-                    Map<String, Object> maps = new HashMap<>();
-                    for (Feature cf : compositeFeatures) {
-                        Map<String, Object> compositeFeatureMap = toMap(Collections.singletonList((cf)));
-                        maps.putAll(compositeFeatureMap);
-                    }
-                    map.put(f.getName(), maps);
+            put(map, f);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void put(Map<String, Object> map, Feature f) {
+        if (Type.COMPOSITE.equals(f.getType())) {
+            List<Feature> compositeFeatures = (List<Feature>) f.getValue().getUnderlyingObject();
+            String listPrefix = f.getName() + "_";
+            boolean isList = compositeFeatures.stream().allMatch(feature -> feature.getName().startsWith(listPrefix));
+            if (isList) {
+                List<Object> objects = new ArrayList<>(compositeFeatures.size());
+                for (Feature fs : compositeFeatures) {
+                    objects.add(fs.getValue().getUnderlyingObject());
                 }
+                map.put(f.getName(), objects);
             } else {
-                if (Type.UNDEFINED.equals(f.getType())) {
-                    Feature underlyingFeature = (Feature) f.getValue().getUnderlyingObject();
-                    map.put(f.getName(), toMap(Collections.singletonList(underlyingFeature)));
-                } else {
-                    Object underlyingObject = f.getValue().getUnderlyingObject();
-                    map.put(f.getName(), underlyingObject);
-                }
+                Map<String, Object> maps = new HashMap<>();
+                putAll(maps, compositeFeatures);
+                map.put(f.getName(), maps);
             }
+        } else if (Type.UNDEFINED.equals(f.getType())) {
+            Map<String, Object> underlying = new HashMap<>();
+            put(underlying, (Feature) f.getValue().getUnderlyingObject());
+            map.put(f.getName(), underlying);
+        } else {
+            map.put(f.getName(), f.getValue().getUnderlyingObject());
         }
-        return map;
     }
 }
@@ -17,8 +17,10 @@
 package org.kie.kogito.jitexecutor.dmn.api;
 
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 import javax.ws.rs.Consumes;
@@ -27,19 +29,36 @@ import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import org.kie.dmn.core.internal.utils.MarshallingStubUtils;
 import org.kie.kogito.jitexecutor.dmn.JITDMNService;
+import org.kie.kogito.jitexecutor.dmn.requests.JITDMNBatchPayload;
 import org.kie.kogito.jitexecutor.dmn.requests.JITDMNPayload;
 import org.kie.kogito.jitexecutor.dmn.responses.DMNResultWithExplanation;
 import org.kie.kogito.jitexecutor.dmn.responses.JITDMNResult;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 @Path("/jitdmn")
 public class JITDMNResource {
 
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
     @Inject
     JITDMNService jitdmnService;
 
+    @Inject
+    ObjectMapper objectMapper;
+
+    public JITDMNResource() {
+    }
+
+    public JITDMNResource(JITDMNService jitdmnService, ObjectMapper objectMapper) {
+        this.jitdmnService = jitdmnService;
+        this.objectMapper = objectMapper;
+    }
+
     @POST
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
@@ -61,6 +80,34 @@ public class JITDMNResource {
         return Response.ok(dmnResult).build();
     }
 
+    /**
+     * Evaluates the model once for each of the contexts, the results are streamed as one JSON document per line in
+     * the same order as the contexts. A context failing to evaluate gets a result with an error message, a payload
+     * without contexts is a bad request.
+     */
+    @POST
+    @Path("/batch")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(APPLICATION_NDJSON)
+    public Response jitdmnBatch(JITDMNBatchPayload payload) {
+        if (payload == null || payload.getContexts() == null) {
+            return Response.status(Response.Status.BAD_REQUEST).entity("The batch payload should contain the contexts to evaluate").type(MediaType.TEXT_PLAIN).build();
+        }
+        Stream<JITDMNResult> results = payload.getModel() != null ? jitdmnService.evaluateModelBatch(payload.getModel(), payload.getContexts())
+                : jitdmnService.evaluateModelBatch(payload, payload.getContexts());
+        StreamingOutput output = outputStream -> {
+            try (results) {
+                Iterator<JITDMNResult> iterator = results.iterator();
+                while (iterator.hasNext()) {
+                    outputStream.write(objectMapper.writeValueAsBytes(iterator.next()));
+                    outputStream.write('\n');
+                    outputStream.flush();
+                }
+            }
+        };
+        return Response.ok(output).build();
+    }
+
     @POST
     @Path("/evaluateAndExplain")
     @Consumes(MediaType.APPLICATION_JSON)
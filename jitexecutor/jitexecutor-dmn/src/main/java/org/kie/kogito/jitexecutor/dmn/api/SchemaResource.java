@@ -19,11 +19,16 @@ package org.kie.kogito.jitexecutor.dmn.api;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
+import javax.inject.Inject;
 import javax.ws.rs.Consumes;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
@@ -37,7 +42,9 @@ import org.kie.dmn.api.core.DMNType;
 import org.kie.dmn.openapi.DMNOASGeneratorFactory;
 import org.kie.dmn.openapi.model.DMNOASResult;
 import org.kie.kogito.jitexecutor.common.requests.MultipleResourcesPayload;
+import org.kie.kogito.jitexecutor.common.utils.ContentHash;
 import org.kie.kogito.jitexecutor.dmn.DMNEvaluator;
+import org.kie.kogito.jitexecutor.dmn.DMNEvaluatorCache;
 
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -47,6 +54,9 @@ import io.smallrye.openapi.runtime.io.schema.SchemaWriter;
 @Path("jitdmn/schema")
 public class SchemaResource {
 
+    private static final String SCHEMA = "schema";
+    private static final String FORM = "form";
+
     // trick for resolver/implementation for NI
     static final OpenAPI x;
     static Schema resourceWithURI;
@@ -59,16 +69,53 @@ public class SchemaResource {
                 .required(List.of("URI", "content"));
     }
 
+    @Inject
+    DMNEvaluatorCache evaluatorCache;
+
     @POST
     @Consumes(MediaType.APPLICATION_XML)
     @Produces(MediaType.APPLICATION_JSON)
-    public Response schema(String payload) {
-        DMNModel dmnModel = DMNEvaluator.fromXML(payload).getDmnModel();
-        DMNOASResult oasResult = DMNOASGeneratorFactory.generator(Collections.singletonList(dmnModel)).build();
-        return fullSchema(dmnModel, oasResult, true);
+    public Response schema(String payload, @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
+        return cachedSchema(SCHEMA, ContentHash.of(payload), ifNoneMatch, () -> {
+            DMNModel dmnModel = evaluatorCache.fromXML(payload).getDmnModel();
+            DMNOASResult oasResult = DMNOASGeneratorFactory.generator(Collections.singletonList(dmnModel)).build();
+            return fullSchema(dmnModel, oasResult, true);
+        });
+    }
+
+    /**
+     * The schemas only depend on the models, so the hash of the models is used as entity tag and the clients sending
+     * it back get a 304 response without the models being compiled again.
+     */
+    private Response cachedSchema(String kind, String modelHash, String ifNoneMatch, Supplier<ObjectNode> generator) {
+        EntityTag entityTag = new EntityTag(kind + "-" + modelHash);
+        if (matches(ifNoneMatch, entityTag)) {
+            return Response.notModified(entityTag).build();
+        }
+        return Response.ok(evaluatorCache.getSchema(entityTag.getValue(), generator)).tag(entityTag).build();
+    }
+
+    static boolean matches(String ifNoneMatch, EntityTag entityTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String value = tag.trim();
+            if (value.equals("*")) {
+                return true;
+            }
+            //weak comparison, as in RFC 7232
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("\"" + entityTag.getValue() + "\"")) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    private Response fullSchema(DMNModel dmnModel, DMNOASResult oasResult, final boolean singleModel) {
+    private ObjectNode fullSchema(DMNModel dmnModel, DMNOASResult oasResult, final boolean singleModel) {
         ObjectNode jsNode = oasResult.getJsonSchemaNode();
 
         DMNType is = oasResult.lookupIOSetsByModel(dmnModel).getInputSet();
@@ -92,47 +139,53 @@ public class SchemaResource {
         } else {
             requiredArray.add("mainURI").add("resources");
         }
-        return Response.ok(jsNode).build();
+        return jsNode;
     }
 
     @POST
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
-    public Response schema(MultipleResourcesPayload payload) {
-        DMNEvaluator dmnEvaluator = DMNEvaluator.fromMultiple(payload);
-        DMNModel dmnModel = dmnEvaluator.getDmnModel();
-        DMNOASResult oasResult = DMNOASGeneratorFactory.generator(dmnEvaluator.getAllDMNModels()).build();
-        return fullSchema(dmnModel, oasResult, false);
+    public Response schema(MultipleResourcesPayload payload, @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
+        return cachedSchema(SCHEMA, ContentHash.of(payload), ifNoneMatch, () -> {
+            DMNEvaluator dmnEvaluator = evaluatorCache.fromMultiple(payload);
+            DMNModel dmnModel = dmnEvaluator.getDmnModel();
+            DMNOASResult oasResult = DMNOASGeneratorFactory.generator(dmnEvaluator.getAllDMNModels()).build();
+            return fullSchema(dmnModel, oasResult, false);
+        });
     }
 
     @POST
     @Consumes(MediaType.APPLICATION_XML)
     @Produces(MediaType.APPLICATION_JSON)
     @Path("form")
-    public Response form(String payload) {
-        DMNModel dmnModel = DMNEvaluator.fromXML(payload).getDmnModel();
-        DMNOASResult oasResult = DMNOASGeneratorFactory.generator(Collections.singletonList(dmnModel)).build();
-        return formSchema(dmnModel, oasResult);
+    public Response form(String payload, @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
+        return cachedSchema(FORM, ContentHash.of(payload), ifNoneMatch, () -> {
+            DMNModel dmnModel = evaluatorCache.fromXML(payload).getDmnModel();
+            DMNOASResult oasResult = DMNOASGeneratorFactory.generator(Collections.singletonList(dmnModel)).build();
+            return formSchema(dmnModel, oasResult);
+        });
     }
 
     @POST
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
     @Path("form")
-    public Response form(MultipleResourcesPayload payload) {
-        DMNEvaluator dmnEvaluator = DMNEvaluator.fromMultiple(payload);
-        DMNModel dmnModel = dmnEvaluator.getDmnModel();
-        DMNOASResult oasResult = DMNOASGeneratorFactory.generator(dmnEvaluator.getAllDMNModels()).build();
-        return formSchema(dmnModel, oasResult);
+    public Response form(MultipleResourcesPayload payload, @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
+        return cachedSchema(FORM, ContentHash.of(payload), ifNoneMatch, () -> {
+            DMNEvaluator dmnEvaluator = evaluatorCache.fromMultiple(payload);
+            DMNModel dmnModel = dmnEvaluator.getDmnModel();
+            DMNOASResult oasResult = DMNOASGeneratorFactory.generator(dmnEvaluator.getAllDMNModels()).build();
+            return formSchema(dmnModel, oasResult);
+        });
     }
 
-    private Response formSchema(DMNModel dmnModel, DMNOASResult oasResult) {
+    private ObjectNode formSchema(DMNModel dmnModel, DMNOASResult oasResult) {
         ObjectNode jsNode = oasResult.getJsonSchemaNode();
 
         DMNType is = oasResult.lookupIOSetsByModel(dmnModel).getInputSet();
         String isRef = oasResult.getNamingPolicy().getRef(is);
         jsNode.put("$ref", isRef);
 
-        return Response.ok(jsNode).build();
+        return jsNode;
     }
 }
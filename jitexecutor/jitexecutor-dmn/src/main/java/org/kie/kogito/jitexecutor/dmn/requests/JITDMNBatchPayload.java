@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jitexecutor.dmn.requests;
+
+import java.util.List;
+import java.util.Map;
+
+import org.kie.kogito.jitexecutor.common.requests.MultipleResourcesPayload;
+import org.kie.kogito.jitexecutor.common.requests.ResourceWithURI;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * A model, or a collection of resources, evaluated once for each of the contexts.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class JITDMNBatchPayload extends MultipleResourcesPayload {
+
+    private String model;
+    private List<Map<String, Object>> contexts;
+
+    public JITDMNBatchPayload() {
+    }
+
+    public JITDMNBatchPayload(String model, List<Map<String, Object>> contexts) {
+        this.model = model;
+        this.contexts = contexts;
+    }
+
+    public JITDMNBatchPayload(String mainURI, List<ResourceWithURI> resources, List<Map<String, Object>> contexts) {
+        super(mainURI, resources);
+        this.contexts = contexts;
+    }
+
+    @Override
+    public List<ResourceWithURI> getResources() {
+        consistencyChecks();
+        return super.getResources();
+    }
+
+    public String getModel() {
+        consistencyChecks();
+        return model;
+    }
+
+    public void setModel(String model) {
+        this.model = model;
+    }
+
+    public List<Map<String, Object>> getContexts() {
+        return contexts;
+    }
+
+    public void setContexts(List<Map<String, Object>> contexts) {
+        this.contexts = contexts;
+    }
+
+    private void consistencyChecks() {
+        if (model != null && getMainURI() != null && getResources() != null && !getResources().isEmpty()) {
+            throw new IllegalStateException("JITDMNBatchPayload should not contain both (main) model and resources collection");
+        }
+    }
+}
@@ -81,6 +81,13 @@ public class JITDMNMessage implements Serializable, DMNMessage {
         return res;
     }
 
+    public static JITDMNMessage error(String message) {
+        JITDMNMessage res = new JITDMNMessage();
+        res.severity = DMNMessageSeverityKS.ERROR;
+        res.message = message;
+        return res;
+    }
+
     @Override
     public Severity getSeverity() {
         return severity.asSeverity();
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jitexecutor.dmn;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.drools.util.IoUtils;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.jitexecutor.common.requests.MultipleResourcesPayload;
+import org.kie.kogito.jitexecutor.common.requests.ResourceWithURI;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.kie.kogito.jitexecutor.dmn.DMNEvaluatorCache.CACHE_METRIC;
+import static org.kie.kogito.jitexecutor.dmn.DMNEvaluatorCache.SCHEMA_CACHE_METRIC;
+
+public class DMNEvaluatorCacheTest {
+
+    private static String model;
+    private static DMNEvaluator evaluator;
+
+    private SimpleMeterRegistry registry;
+    private DMNEvaluatorCache cache;
+
+    @BeforeAll
+    public static void setupModel() throws IOException {
+        model = new String(IoUtils.readBytesFromInputStream(DMNEvaluatorCacheTest.class.getResourceAsStream("/test.dmn")));
+        evaluator = DMNEvaluator.fromXML(model);
+    }
+
+    @BeforeEach
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+        cache = new DMNEvaluatorCache(2, registry);
+    }
+
+    @Test
+    public void testCompiledOncePerContent() {
+        DMNEvaluator first = cache.fromXML(model);
+        DMNEvaluator second = cache.fromXML(new String(model));
+        DMNEvaluator changed = cache.fromXML(model + "<!-- changed -->");
+
+        assertThat(second).isSameAs(first);
+        assertThat(changed).isNotSameAs(first);
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(2);
+        assertThat(registry.get(CACHE_METRIC).tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get(CACHE_METRIC).tag("result", "miss").functionCounter().count()).isEqualTo(2);
+    }
+
+    @Test
+    public void testMultipleResourcesHash() {
+        ResourceWithURI importing = new ResourceWithURI("/multiple/importing.dmn", "importing");
+        ResourceWithURI imported = new ResourceWithURI("/multiple/stdlib.dmn", "imported");
+
+        String hash = DMNEvaluatorCache.hash(new MultipleResourcesPayload("/multiple/importing.dmn", List.of(importing, imported)));
+
+        assertThat(DMNEvaluatorCache.hash(new MultipleResourcesPayload("/multiple/importing.dmn", List.of(imported, importing)))).isEqualTo(hash);
+        assertThat(DMNEvaluatorCache.hash(new MultipleResourcesPayload("/multiple/stdlib.dmn", List.of(importing, imported)))).isNotEqualTo(hash);
+        assertThat(DMNEvaluatorCache.hash(new MultipleResourcesPayload("/multiple/importing.dmn",
+                List.of(importing, new ResourceWithURI("/multiple/stdlib.dmn", "changed"))))).isNotEqualTo(hash);
+    }
+
+    @Test
+    public void testConcurrentCompilations() throws Exception {
+        int threads = 8;
+        AtomicInteger compilations = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<DMNEvaluator>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get("model", () -> {
+                        compilations.incrementAndGet();
+                        return evaluator;
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<DMNEvaluator> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).isSameAs(evaluator);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(compilations).hasValue(1);
+        assertThat(cache.getHits()).isEqualTo(threads - 1);
+    }
+
+    @Test
+    public void testFailedCompilationNotCached() {
+        assertThatThrownBy(() -> cache.get("model", () -> {
+            throw new IllegalStateException("invalid model");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get("model", () -> evaluator)).isSameAs(evaluator);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() {
+        AtomicInteger compilations = new AtomicInteger();
+        cache.get("first", () -> compile(compilations));
+        cache.get("second", () -> compile(compilations));
+        cache.get("first", () -> compile(compilations));
+        cache.get("third", () -> compile(compilations));
+
+        assertThat(cache.size()).isEqualTo(2);
+        cache.get("first", () -> compile(compilations));
+        assertThat(compilations).hasValue(3);
+        cache.get("second", () -> compile(compilations));
+        assertThat(compilations).hasValue(4);
+    }
+
+    @Test
+    public void testSchemaCache() {
+        AtomicInteger generations = new AtomicInteger();
+        ObjectNode schema = cache.getSchema("form-first", () -> generate(generations));
+
+        assertThat(cache.getSchema("form-first", () -> generate(generations))).isSameAs(schema);
+        cache.getSchema("form-second", () -> generate(generations));
+        cache.getSchema("form-third", () -> generate(generations));
+
+        assertThat(generations).hasValue(3);
+        assertThat(cache.schemaSize()).isEqualTo(2);
+        assertThat(cache.getSchemaHits()).isEqualTo(1);
+        assertThat(cache.getSchemaMisses()).isEqualTo(3);
+        assertThat(registry.get(SCHEMA_CACHE_METRIC).tag("result", "miss").functionCounter().count()).isEqualTo(3);
+        //the schemas do not take the room of the compiled models
+        assertThat(cache.size()).isZero();
+    }
+
+    private static ObjectNode generate(AtomicInteger generations) {
+        generations.incrementAndGet();
+        return JsonNodeFactory.instance.objectNode();
+    }
+
+    private static DMNEvaluator compile(AtomicInteger compilations) {
+        compilations.incrementAndGet();
+        return evaluator;
+    }
+}
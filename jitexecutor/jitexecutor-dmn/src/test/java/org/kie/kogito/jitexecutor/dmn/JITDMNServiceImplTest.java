@@ -17,14 +17,19 @@
 package org.kie.kogito.jitexecutor.dmn;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.drools.util.IoUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.kie.dmn.api.core.DMNMessage;
 import org.kie.kogito.jitexecutor.dmn.api.JITDMNResourceTest;
 import org.kie.kogito.jitexecutor.dmn.responses.DMNResultWithExplanation;
 import org.kie.kogito.jitexecutor.dmn.responses.JITDMNResult;
@@ -89,4 +94,43 @@ public class JITDMNServiceImplTest {
         Assertions.assertEquals(1, response.salienciesResponse.getSaliencies().size());
         Assertions.assertEquals(17, response.salienciesResponse.getSaliencies().get(0).getFeatureImportance().size());
     }
+
+    @Test
+    public void testBatchEvaluation() {
+        List<Map<String, Object>> contexts = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Map<String, Object> context = new HashMap<>();
+            context.put("FICO Score", 400 + i * 10);
+            context.put("DTI Ratio", i % 2 == 0 ? .1 : .9);
+            context.put("PITI Ratio", .1);
+            contexts.add(context);
+        }
+
+        List<JITDMNResult> results = jitdmnService.evaluateModelBatch(model, contexts).collect(Collectors.toList());
+
+        Assertions.assertEquals(contexts.size(), results.size());
+        for (int i = 0; i < contexts.size(); i++) {
+            JITDMNResult expected = jitdmnService.evaluateModel(model, contexts.get(i));
+            Assertions.assertEquals("xls2dmn", results.get(i).getModelName());
+            Assertions.assertEquals(expected.getDecisionResultByName("Loan Approval").getResult(),
+                    results.get(i).getDecisionResultByName("Loan Approval").getResult());
+        }
+    }
+
+    @Test
+    public void testBatchEvaluationWithFailingContext() {
+        Map<String, Object> context = new HashMap<>();
+        context.put("FICO Score", 800);
+        context.put("DTI Ratio", .1);
+        context.put("PITI Ratio", .1);
+
+        List<JITDMNResult> results = jitdmnService.evaluateModelBatch(model, Arrays.asList(context, null, context)).collect(Collectors.toList());
+
+        Assertions.assertEquals(3, results.size());
+        Assertions.assertEquals("Approved", results.get(0).getDecisionResultByName("Loan Approval").getResult());
+        Assertions.assertEquals("xls2dmn", results.get(1).getModelName());
+        Assertions.assertTrue(results.get(1).hasErrors());
+        Assertions.assertEquals(1, results.get(1).getMessages(DMNMessage.Severity.ERROR).size());
+        Assertions.assertEquals("Approved", results.get(2).getDecisionResultByName("Loan Approval").getResult());
+    }
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jitexecutor.dmn;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.drools.util.IoUtils;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.explainability.model.Output;
+import org.kie.kogito.explainability.model.PredictionInput;
+import org.kie.kogito.explainability.model.PredictionOutput;
+import org.kie.kogito.explainability.model.Value;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LocalDMNPredictionProviderTest {
+
+    private static DMNEvaluator dmnEvaluator;
+
+    @BeforeAll
+    public static void setup() throws IOException {
+        dmnEvaluator = DMNEvaluator.fromXML(new String(IoUtils.readBytesFromInputStream(LocalDMNPredictionProviderTest.class.getResourceAsStream("/test.dmn"))));
+    }
+
+    @Test
+    public void testParallelPrediction() throws Exception {
+        List<PredictionInput> inputs = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Map<String, Object> context = new HashMap<>();
+            context.put("FICO Score", 600 + i * 5);
+            context.put("DTI Ratio", .1);
+            context.put("PITI Ratio", .1);
+            inputs.add(LocalDMNPredictionProvider.toPredictionInput(context));
+        }
+
+        List<PredictionOutput> sequential = new LocalDMNPredictionProvider(dmnEvaluator).predictAsync(inputs).get();
+
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        ExecutorService tracking = Executors.newFixedThreadPool(4);
+        try {
+            List<PredictionOutput> parallel = new LocalDMNPredictionProvider(dmnEvaluator, runnable -> tracking.execute(() -> {
+                threads.add(Thread.currentThread().getName());
+                runnable.run();
+            }), 4).predictAsync(inputs).get(30, TimeUnit.SECONDS);
+
+            assertThat(parallel).hasSize(inputs.size());
+            assertThat(parallel.stream().map(LocalDMNPredictionProviderTest::toValues).collect(Collectors.toList()))
+                    .isEqualTo(sequential.stream().map(LocalDMNPredictionProviderTest::toValues).collect(Collectors.toList()));
+            assertThat(threads).isNotEmpty().doesNotContain(Thread.currentThread().getName());
+        } finally {
+            tracking.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testPredictionIsAsync() {
+        Map<String, Object> context = new HashMap<>();
+        context.put("FICO Score", 800);
+        context.put("DTI Ratio", .1);
+        context.put("PITI Ratio", .1);
+        List<PredictionInput> inputs = List.of(LocalDMNPredictionProvider.toPredictionInput(context), LocalDMNPredictionProvider.toPredictionInput(context));
+        List<Runnable> tasks = new ArrayList<>();
+
+        LocalDMNPredictionProvider provider = new LocalDMNPredictionProvider(dmnEvaluator, tasks::add, 2);
+        CompletableFuture<List<PredictionOutput>> future = provider.predictAsync(inputs);
+
+        assertThat(future).isNotDone();
+        assertThat(tasks).hasSize(2);
+        tasks.forEach(Runnable::run);
+        assertThat(future).isCompleted();
+        assertThat(future.join()).hasSize(2);
+    }
+
+    @Test
+    public void testToContext() {
+        Map<String, Object> nested = new HashMap<>();
+        nested.put("aNestedString", "test");
+        nested.put("aNestedBoolean", false);
+        Map<String, Object> context = new HashMap<>();
+        context.put("stringInput", "test");
+        context.put("booleanInput", true);
+        context.put("complexInput", nested);
+
+        PredictionInput input = LocalDMNPredictionProvider.toPredictionInput(context);
+
+        assertThat(LocalDMNPredictionProvider.toContext(input.getFeatures())).isEqualTo(context);
+    }
+
+    private static List<Object> toValues(PredictionOutput output) {
+        return output.getOutputs().stream().map(Output::getValue).map(Value::getUnderlyingObject).collect(Collectors.toList());
+    }
+}
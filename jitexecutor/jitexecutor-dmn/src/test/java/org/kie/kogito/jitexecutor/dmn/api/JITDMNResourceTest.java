@@ -17,18 +17,22 @@
 package org.kie.kogito.jitexecutor.dmn.api;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.drools.util.IoUtils;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.kie.kogito.jitexecutor.dmn.requests.JITDMNBatchPayload;
 import org.kie.kogito.jitexecutor.dmn.requests.JITDMNPayload;
 
 import io.quarkus.test.junit.QuarkusTest;
 import io.restassured.http.ContentType;
 
 import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.containsString;
 
 @QuarkusTest
@@ -67,6 +71,54 @@ public class JITDMNResourceTest {
                 .body(containsString("Loan Approval"), containsString("Approved"), containsString("xls2dmn"));
     }
 
+    @Test
+    public void testjitdmnBatchEndpoint() {
+        Map<String, Object> declined = buildContext();
+        declined.put("FICO Score", 300);
+        JITDMNBatchPayload batchPayload = new JITDMNBatchPayload(model, List.of(buildContext(), declined, buildContext()));
+        String response = given()
+                .contentType(ContentType.JSON)
+                .body(batchPayload)
+                .when().post("/jitdmn/batch")
+                .then()
+                .statusCode(200)
+                .header("Content-Type", containsString(JITDMNResource.APPLICATION_NDJSON))
+                .extract().asString();
+
+        String[] lines = response.split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).contains("xls2dmn", "Loan Approval", "Approved");
+        assertThat(lines[2]).contains("xls2dmn", "Loan Approval", "Approved");
+    }
+
+    @Test
+    public void testjitdmnBatchEndpointWithFailingContext() {
+        JITDMNBatchPayload batchPayload = new JITDMNBatchPayload(model, Arrays.asList(buildContext(), null, buildContext()));
+        String response = given()
+                .contentType(ContentType.JSON)
+                .body(batchPayload)
+                .when().post("/jitdmn/batch")
+                .then()
+                .statusCode(200)
+                .extract().asString();
+
+        String[] lines = response.split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).contains("Loan Approval", "Approved");
+        assertThat(lines[1]).contains("xls2dmn", "ERROR").doesNotContain("Approved");
+        assertThat(lines[2]).contains("Loan Approval", "Approved");
+    }
+
+    @Test
+    public void testjitdmnBatchEndpointWithoutContexts() {
+        given()
+                .contentType(ContentType.JSON)
+                .body(new JITDMNBatchPayload(model, null))
+                .when().post("/jitdmn/batch")
+                .then()
+                .statusCode(400);
+    }
+
     @Test
     public void testjitExplainabilityEndpoint() {
         JITDMNPayload jitdmnpayload = new JITDMNPayload(model, buildContext());
@@ -18,6 +18,8 @@ package org.kie.kogito.jitexecutor.dmn.api;
 
 import java.io.IOException;
 
+import javax.ws.rs.core.EntityTag;
+
 import org.drools.util.IoUtils;
 import org.junit.jupiter.api.Test;
 
@@ -25,7 +27,10 @@ import io.quarkus.test.junit.QuarkusTest;
 import io.restassured.http.ContentType;
 
 import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
 
 @QuarkusTest
 public class SchemaResourceTest {
@@ -41,4 +46,56 @@ public class SchemaResourceTest {
                 .statusCode(200)
                 .body(containsString("InputSet"), containsString("x-dmn-type"));
     }
+
+    @Test
+    public void testNotModified() throws IOException {
+        final String MODEL = new String(IoUtils.readBytesFromInputStream(JITDMNResourceTest.class.getResourceAsStream("/test.dmn")));
+        String etag = given()
+                .contentType(ContentType.XML)
+                .body(MODEL)
+                .when().post("/jitdmn/schema/form")
+                .then()
+                .statusCode(200)
+                .header("ETag", notNullValue())
+                .body(containsString("$ref"))
+                .extract().header("ETag");
+
+        given()
+                .contentType(ContentType.XML)
+                .header("If-None-Match", etag)
+                .body(MODEL)
+                .when().post("/jitdmn/schema/form")
+                .then()
+                .statusCode(304);
+
+        //the full schema of the same model has its own tag
+        given()
+                .contentType(ContentType.XML)
+                .header("If-None-Match", etag)
+                .body(MODEL)
+                .when().post("/jitdmn/schema")
+                .then()
+                .statusCode(200)
+                .header("ETag", not(etag));
+
+        given()
+                .contentType(ContentType.XML)
+                .header("If-None-Match", etag)
+                .body(MODEL + "<!-- changed -->")
+                .when().post("/jitdmn/schema/form")
+                .then()
+                .statusCode(200)
+                .header("ETag", not(etag));
+    }
+
+    @Test
+    public void testMatches() {
+        EntityTag entityTag = new EntityTag("form-abc");
+        assertThat(SchemaResource.matches(null, entityTag)).isFalse();
+        assertThat(SchemaResource.matches("\"form-abc\"", entityTag)).isTrue();
+        assertThat(SchemaResource.matches("W/\"form-abc\"", entityTag)).isTrue();
+        assertThat(SchemaResource.matches("\"other\", \"form-abc\"", entityTag)).isTrue();
+        assertThat(SchemaResource.matches("*", entityTag)).isTrue();
+        assertThat(SchemaResource.matches("\"schema-abc\"", entityTag)).isFalse();
+    }
 }
@@ -20,6 +20,7 @@ import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
 import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.kie.kogito.job.recipient.common.http.HTTPClientOptions;
 import org.kie.kogito.job.recipient.common.http.HTTPRequest;
 import org.kie.kogito.job.recipient.common.http.HTTPRequestExecutor;
 import org.kie.kogito.jobs.service.api.recipient.http.HttpRecipient;
@@ -36,8 +37,27 @@ public class HttpJobExecutor extends HTTPRequestExecutor<HttpRecipient<?>> imple
     @Inject
     public HttpJobExecutor(@ConfigProperty(name = "kogito.job.recipient.http.timeout-in-millis") long timeout,
             Vertx vertx,
-            ObjectMapper objectMapper) {
-        super(timeout, vertx, objectMapper);
+            ObjectMapper objectMapper,
+            @ConfigProperty(name = "kogito.job.recipient.http.max-pool-size") int maxPoolSize,
+            @ConfigProperty(name = "kogito.job.recipient.http.http2") boolean http2,
+            @ConfigProperty(name = "kogito.job.recipient.http.http2-multiplexing-limit") int http2MultiplexingLimit,
+            @ConfigProperty(name = "kogito.job.recipient.http.keep-alive-timeout-in-seconds") int keepAliveTimeoutInSeconds,
+            @ConfigProperty(name = "kogito.job.recipient.http.rate-limit-per-second") int rateLimitPerSecond,
+            @ConfigProperty(name = "kogito.job.recipient.http.max-concurrent-requests-per-host") int maxConcurrentRequestsPerHost,
+            @ConfigProperty(name = "kogito.job.recipient.http.max-queued-requests-per-host") int maxQueuedRequestsPerHost) {
+        this(timeout, vertx, objectMapper, HTTPClientOptions.builder()
+                .maxPoolSize(maxPoolSize)
+                .http2(http2)
+                .http2MultiplexingLimit(http2MultiplexingLimit)
+                .keepAliveTimeoutInSeconds(keepAliveTimeoutInSeconds)
+                .rateLimitPerSecond(rateLimitPerSecond)
+                .maxConcurrentRequestsPerHost(maxConcurrentRequestsPerHost)
+                .maxQueuedRequestsPerHost(maxQueuedRequestsPerHost)
+                .build());
+    }
+
+    HttpJobExecutor(long timeout, Vertx vertx, ObjectMapper objectMapper, HTTPClientOptions clientOptions) {
+        super(timeout, vertx, objectMapper, clientOptions);
     }
 
     @PostConstruct
@@ -18,6 +18,7 @@ package org.kie.kogito.job.http.recipient;
 import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
 
+import org.kie.kogito.job.recipient.common.http.HTTPClientOptions;
 import org.kie.kogito.job.recipient.common.http.HTTPRequestExecutorTest;
 import org.kie.kogito.jobs.service.api.recipient.http.HttpRecipient;
 import org.kie.kogito.jobs.service.api.recipient.http.HttpRecipientStringPayloadData;
@@ -36,7 +37,7 @@ class HttpJobExecutorTest extends HTTPRequestExecutorTest<HttpRecipient<?>, Http
 
     @Override
     protected HttpJobExecutor createExecutor(long timeout, Vertx vertx, ObjectMapper objectMapper) {
-        return new HttpJobExecutor(timeout, vertx, objectMapper);
+        return new HttpJobExecutor(timeout, vertx, objectMapper, HTTPClientOptions.builder().build());
     }
 
     @Override
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.job.recipient.common.http;
+
+import java.util.StringJoiner;
+
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.web.client.WebClientOptions;
+
+/**
+ * Connection and per-host traffic settings of the {@link HTTPRequestExecutor}. Connections are pooled by Vert.x per
+ * target host, the rate limit and the bulkhead are applied per target host as well.
+ */
+public class HTTPClientOptions {
+
+    public static final int DEFAULT_MAX_POOL_SIZE = 20;
+    public static final int DEFAULT_HTTP2_MULTIPLEXING_LIMIT = 100;
+    public static final int DEFAULT_KEEP_ALIVE_TIMEOUT_IN_SECONDS = 60;
+    public static final int DEFAULT_MAX_QUEUED_REQUESTS_PER_HOST = 10000;
+
+    private final int maxPoolSize;
+    private final boolean http2;
+    private final int http2MultiplexingLimit;
+    private final int keepAliveTimeoutInSeconds;
+    private final int rateLimitPerSecond;
+    private final int maxConcurrentRequestsPerHost;
+    private final int maxQueuedRequestsPerHost;
+
+    private HTTPClientOptions(Builder builder) {
+        this.maxPoolSize = builder.maxPoolSize;
+        this.http2 = builder.http2;
+        this.http2MultiplexingLimit = builder.http2MultiplexingLimit;
+        this.keepAliveTimeoutInSeconds = builder.keepAliveTimeoutInSeconds;
+        this.rateLimitPerSecond = builder.rateLimitPerSecond;
+        this.maxConcurrentRequestsPerHost = builder.maxConcurrentRequestsPerHost;
+        this.maxQueuedRequestsPerHost = builder.maxQueuedRequestsPerHost;
+    }
+
+    /**
+     * @return the maximum number of connections per target host.
+     */
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    public boolean isHttp2() {
+        return http2;
+    }
+
+    /**
+     * @return the maximum number of concurrent streams per HTTP/2 connection.
+     */
+    public int getHttp2MultiplexingLimit() {
+        return http2MultiplexingLimit;
+    }
+
+    public int getKeepAliveTimeoutInSeconds() {
+        return keepAliveTimeoutInSeconds;
+    }
+
+    /**
+     * @return the maximum number of requests per second sent to a target host, 0 means no limit.
+     */
+    public int getRateLimitPerSecond() {
+        return rateLimitPerSecond;
+    }
+
+    /**
+     * @return the maximum number of in-flight requests per target host, 0 means no limit.
+     */
+    public int getMaxConcurrentRequestsPerHost() {
+        return maxConcurrentRequestsPerHost;
+    }
+
+    /**
+     * @return the maximum number of requests waiting for a slot when the concurrency limit per target host is
+     *         reached, further requests are rejected.
+     */
+    public int getMaxQueuedRequestsPerHost() {
+        return maxQueuedRequestsPerHost;
+    }
+
+    public WebClientOptions toWebClientOptions() {
+        WebClientOptions options = new WebClientOptions()
+                .setMaxPoolSize(maxPoolSize)
+                .setKeepAlive(true)
+                .setKeepAliveTimeout(keepAliveTimeoutInSeconds);
+        if (http2) {
+            options.setProtocolVersion(HttpVersion.HTTP_2)
+                    .setUseAlpn(true)
+                    .setHttp2ClearTextUpgrade(true)
+                    .setHttp2MaxPoolSize(maxPoolSize)
+                    .setHttp2MultiplexingLimit(http2MultiplexingLimit)
+                    .setHttp2KeepAliveTimeout(keepAliveTimeoutInSeconds);
+        }
+        return options;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", HTTPClientOptions.class.getSimpleName() + "[", "]")
+                .add("maxPoolSize=" + maxPoolSize)
+                .add("http2=" + http2)
+                .add("http2MultiplexingLimit=" + http2MultiplexingLimit)
+                .add("keepAliveTimeoutInSeconds=" + keepAliveTimeoutInSeconds)
+                .add("rateLimitPerSecond=" + rateLimitPerSecond)
+                .add("maxConcurrentRequestsPerHost=" + maxConcurrentRequestsPerHost)
+                .add("maxQueuedRequestsPerHost=" + maxQueuedRequestsPerHost)
+                .toString();
+    }
+
+    public static class Builder {
+
+        private int maxPoolSize = DEFAULT_MAX_POOL_SIZE;
+        private boolean http2;
+        private int http2MultiplexingLimit = DEFAULT_HTTP2_MULTIPLEXING_LIMIT;
+        private int keepAliveTimeoutInSeconds = DEFAULT_KEEP_ALIVE_TIMEOUT_IN_SECONDS;
+        private int rateLimitPerSecond;
+        private int maxConcurrentRequestsPerHost;
+        private int maxQueuedRequestsPerHost = DEFAULT_MAX_QUEUED_REQUESTS_PER_HOST;
+
+        private Builder() {
+        }
+
+        public Builder maxPoolSize(int maxPoolSize) {
+            this.maxPoolSize = maxPoolSize;
+            return this;
+        }
+
+        public Builder http2(boolean http2) {
+            this.http2 = http2;
+            return this;
+        }
+
+        public Builder http2MultiplexingLimit(int http2MultiplexingLimit) {
+            this.http2MultiplexingLimit = http2MultiplexingLimit;
+            return this;
+        }
+
+        public Builder keepAliveTimeoutInSeconds(int keepAliveTimeoutInSeconds) {
+            this.keepAliveTimeoutInSeconds = keepAliveTimeoutInSeconds;
+            return this;
+        }
+
+        public Builder rateLimitPerSecond(int rateLimitPerSecond) {
+            this.rateLimitPerSecond = rateLimitPerSecond;
+            return this;
+        }
+
+        public Builder maxConcurrentRequestsPerHost(int maxConcurrentRequestsPerHost) {
+            this.maxConcurrentRequestsPerHost = maxConcurrentRequestsPerHost;
+            return this;
+        }
+
+        public Builder maxQueuedRequestsPerHost(int maxQueuedRequestsPerHost) {
+            this.maxQueuedRequestsPerHost = maxQueuedRequestsPerHost;
+            return this;
+        }
+
+        public HTTPClientOptions build() {
+            return new HTTPClientOptions(this);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.job.recipient.common.http;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+
+/**
+ * Traffic control for a single target host: a bulkhead limiting the in-flight requests, with a bounded queue of
+ * waiting requests, and a token bucket limiting the request rate. The request rate is applied once a bulkhead slot
+ * is acquired, so the number of throttled requests is bounded by the bulkhead as well.
+ */
+public class HTTPHostLimiter {
+
+    static final String REQUESTS_METRIC = "kogito.job.recipient.http.requests";
+    static final String ACTIVE_REQUESTS_METRIC = "kogito.job.recipient.http.requests.active";
+    static final String QUEUED_REQUESTS_METRIC = "kogito.job.recipient.http.requests.queued";
+    static final String REJECTED_REQUESTS_METRIC = "kogito.job.recipient.http.requests.rejected";
+    static final String HOST_TAG = "host";
+    static final String RECIPIENT_TAG = "recipient";
+    static final String OUTCOME_TAG = "outcome";
+
+    private final String host;
+    private final int maxConcurrentRequests;
+    private final int maxQueuedRequests;
+    private final TokenBucket tokenBucket;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Counter rejected;
+
+    public HTTPHostLimiter(String host, String recipient, HTTPClientOptions options, MeterRegistry registry) {
+        this.host = host;
+        this.maxConcurrentRequests = options.getMaxConcurrentRequestsPerHost();
+        this.maxQueuedRequests = options.getMaxQueuedRequestsPerHost();
+        this.tokenBucket = options.getRateLimitPerSecond() > 0 ? new TokenBucket(options.getRateLimitPerSecond()) : null;
+        Gauge.builder(ACTIVE_REQUESTS_METRIC, inFlight, AtomicInteger::get)
+                .description("HTTP requests in flight per target host")
+                .tag(HOST_TAG, host)
+                .tag(RECIPIENT_TAG, recipient)
+                .register(registry);
+        Gauge.builder(QUEUED_REQUESTS_METRIC, queued, AtomicInteger::get)
+                .description("HTTP requests waiting for the concurrency limit per target host")
+                .tag(HOST_TAG, host)
+                .tag(RECIPIENT_TAG, recipient)
+                .register(registry);
+        this.successTimer = requestTimer(registry, recipient, "success");
+        this.failureTimer = requestTimer(registry, recipient, "failure");
+        this.rejected = Counter.builder(REJECTED_REQUESTS_METRIC)
+                .description("HTTP requests rejected because the queue per target host was full")
+                .tag(HOST_TAG, host)
+                .tag(RECIPIENT_TAG, recipient)
+                .register(registry);
+    }
+
+    private Timer requestTimer(MeterRegistry registry, String recipient, String outcome) {
+        return Timer.builder(REQUESTS_METRIC)
+                .description("HTTP requests latency per target host")
+                .tag(HOST_TAG, host)
+                .tag(RECIPIENT_TAG, recipient)
+                .tag(OUTCOME_TAG, outcome)
+                .register(registry);
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getQueued() {
+        return queued.get();
+    }
+
+    /**
+     * Executes the request once it is allowed by the bulkhead and the rate limit, the request fails with a
+     * {@link RejectedExecutionException} if the queue of waiting requests is full.
+     */
+    public <T> Uni<T> execute(Supplier<Uni<T>> request) {
+        return acquire()
+                .chain(acquired -> throttle()
+                        .chain(throttled -> timed(request))
+                        .onTermination().invoke(this::release));
+    }
+
+    private <T> Uni<T> timed(Supplier<Uni<T>> request) {
+        return Uni.createFrom().deferred(() -> {
+            final long start = System.nanoTime();
+            return Uni.createFrom().deferred(request)
+                    .onItemOrFailure().invoke((item, failure) -> (failure == null ? successTimer : failureTimer)
+                            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    private Uni<Void> acquire() {
+        if (maxConcurrentRequests <= 0) {
+            inFlight.incrementAndGet();
+            return Uni.createFrom().voidItem();
+        }
+        return Uni.createFrom().emitter(emitter -> {
+            if (tryAcquire()) {
+                emitter.complete(null);
+                return;
+            }
+            if (queued.incrementAndGet() > maxQueuedRequests) {
+                queued.decrementAndGet();
+                rejected.increment();
+                emitter.fail(new RejectedExecutionException("Too many queued HTTP requests for host " + host));
+                return;
+            }
+            final Waiter waiter = new Waiter(emitter);
+            emitter.onTermination(() -> {
+                if (waiter.done.compareAndSet(false, true)) {
+                    //cancelled while waiting
+                    waiters.remove(waiter);
+                    queued.decrementAndGet();
+                }
+            });
+            waiters.add(waiter);
+            //a slot might have been released after the tryAcquire()
+            drain();
+        });
+    }
+
+    private boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= maxConcurrentRequests) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private void release() {
+        inFlight.decrementAndGet();
+        if (maxConcurrentRequests > 0) {
+            drain();
+        }
+    }
+
+    private void drain() {
+        while (!waiters.isEmpty() && tryAcquire()) {
+            Waiter waiter = waiters.poll();
+            if (waiter != null && waiter.done.compareAndSet(false, true)) {
+                queued.decrementAndGet();
+                waiter.emitter.complete(null);
+            } else {
+                //nobody to hand the slot over
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    private Uni<Void> throttle() {
+        if (tokenBucket == null) {
+            return Uni.createFrom().voidItem();
+        }
+        final long delayNanos = tokenBucket.reserve();
+        if (delayNanos <= 0) {
+            return Uni.createFrom().voidItem();
+        }
+        return Uni.createFrom().voidItem().onItem().delayIt().by(Duration.ofNanos(delayNanos));
+    }
+
+    private static class Waiter {
+
+        private final UniEmitter<? super Void> emitter;
+        private final AtomicBoolean done = new AtomicBoolean(false);
+
+        private Waiter(UniEmitter<? super Void> emitter) {
+            this.emitter = emitter;
+        }
+    }
+
+    /**
+     * Token bucket with a capacity of one second of requests. Requests arriving when the bucket is empty reserve the
+     * next tokens and wait until they are available, so the requests are delayed instead of rejected.
+     */
+    static class TokenBucket {
+
+        private final long nanosPerToken;
+        private final double capacity;
+        private double tokens;
+        private long lastRefill;
+
+        TokenBucket(int permitsPerSecond) {
+            this.nanosPerToken = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+            this.capacity = permitsPerSecond;
+            this.tokens = permitsPerSecond;
+            this.lastRefill = System.nanoTime();
+        }
+
+        /**
+         * @return the time in nanoseconds to wait for the reserved token.
+         */
+        synchronized long reserve() {
+            final long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (double) (now - lastRefill) / nanosPerToken);
+            lastRefill = now;
+            tokens -= 1;
+            return tokens >= 0 ? 0 : (long) (-tokens * nanosPerToken);
+        }
+    }
+}
@@ -20,6 +20,7 @@ import java.net.URI;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Response;
@@ -38,6 +39,8 @@ import org.slf4j.LoggerFactory;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import io.smallrye.mutiny.Uni;
 import io.vertx.mutiny.core.Vertx;
 import io.vertx.mutiny.core.buffer.Buffer;
@@ -56,16 +59,32 @@ public abstract class HTTPRequestExecutor<R extends Recipient<?>> {
 
     protected ObjectMapper objectMapper;
 
+    protected HTTPClientOptions clientOptions;
+
+    /**
+     * Registry for the per host metrics, the global registry is bound to the application registry when the
+     * micrometer extension is present.
+     */
+    protected MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+    private final Map<String, HTTPHostLimiter> hostLimiters = new ConcurrentHashMap<>();
+
     protected HTTPRequestExecutor() {
     }
 
     protected HTTPRequestExecutor(long timeout, Vertx vertx, ObjectMapper objectMapper) {
+        this(timeout, vertx, objectMapper, HTTPClientOptions.builder().build());
+    }
+
+    protected HTTPRequestExecutor(long timeout, Vertx vertx, ObjectMapper objectMapper, HTTPClientOptions clientOptions) {
         this.timeout = timeout;
         this.vertx = vertx;
         this.objectMapper = objectMapper;
+        this.clientOptions = clientOptions;
     }
 
     protected void initialize() {
+        LOGGER.debug("Initializing HTTP client with {}", clientOptions);
         this.client = createClient();
     }
 
@@ -73,7 +92,7 @@ public abstract class HTTPRequestExecutor<R extends Recipient<?>> {
      * facilitates tests.
      */
     public WebClient createClient() {
-        return WebClient.create(vertx);
+        return WebClient.create(vertx, clientOptions.toWebClientOptions());
     }
 
     public Uni<JobExecutionResponse> execute(JobDetails jobDetails) {
@@ -103,6 +122,21 @@ public abstract class HTTPRequestExecutor<R extends Recipient<?>> {
     protected Uni<HttpResponse<Buffer>> executeRequest(HTTPRequest request, long timeout) {
         LOGGER.debug("Executing request {}", request);
         final URI uri = URIBuilder.toURI(request.getUrl());
+        return getHostLimiter(uri).execute(() -> sendRequest(uri, request, timeout));
+    }
+
+    protected HTTPHostLimiter getHostLimiter(URI uri) {
+        return hostLimiters.computeIfAbsent(uri.getHost() + ":" + uri.getPort(), host -> new HTTPHostLimiter(host, getRecipientName(), clientOptions, meterRegistry));
+    }
+
+    /**
+     * @return the recipient name used to tag the per host metrics.
+     */
+    protected String getRecipientName() {
+        return "http";
+    }
+
+    private Uni<HttpResponse<Buffer>> sendRequest(URI uri, HTTPRequest request, long timeout) {
         final HttpRequest<Buffer> clientRequest = client.request(HttpConverters.convertHttpMethod(request.getMethod()),
                 uri.getPort(),
                 uri.getHost(),
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.job.recipient.common.http;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.smallrye.mutiny.subscription.UniEmitter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.kie.kogito.job.recipient.common.http.HTTPHostLimiter.ACTIVE_REQUESTS_METRIC;
+import static org.kie.kogito.job.recipient.common.http.HTTPHostLimiter.HOST_TAG;
+import static org.kie.kogito.job.recipient.common.http.HTTPHostLimiter.OUTCOME_TAG;
+import static org.kie.kogito.job.recipient.common.http.HTTPHostLimiter.QUEUED_REQUESTS_METRIC;
+import static org.kie.kogito.job.recipient.common.http.HTTPHostLimiter.REJECTED_REQUESTS_METRIC;
+import static org.kie.kogito.job.recipient.common.http.HTTPHostLimiter.REQUESTS_METRIC;
+
+class HTTPHostLimiterTest {
+
+    private static final String HOST = "localhost:8080";
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void bulkhead() {
+        HTTPHostLimiter limiter = new HTTPHostLimiter(HOST, "http", HTTPClientOptions.builder()
+                .maxConcurrentRequestsPerHost(1)
+                .maxQueuedRequestsPerHost(1)
+                .build(), registry);
+        PendingRequest first = new PendingRequest();
+        PendingRequest second = new PendingRequest();
+
+        UniAssertSubscriber<String> firstSubscriber = limiter.execute(first::send).subscribe().withSubscriber(UniAssertSubscriber.create());
+        UniAssertSubscriber<String> secondSubscriber = limiter.execute(second::send).subscribe().withSubscriber(UniAssertSubscriber.create());
+        UniAssertSubscriber<String> rejectedSubscriber = limiter.execute(() -> Uni.createFrom().item("rejected"))
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        assertThat(first.isSent()).isTrue();
+        assertThat(second.isSent()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.getQueued()).isEqualTo(1);
+        assertThat(gauge(ACTIVE_REQUESTS_METRIC)).isEqualTo(1);
+        assertThat(gauge(QUEUED_REQUESTS_METRIC)).isEqualTo(1);
+        rejectedSubscriber.assertFailedWith(RejectedExecutionException.class);
+        assertThat(registry.get(REJECTED_REQUESTS_METRIC).tag(HOST_TAG, HOST).counter().count()).isEqualTo(1);
+
+        //the queued request is sent once the first one finishes
+        first.complete("first");
+        firstSubscriber.assertItem("first");
+        assertThat(second.isSent()).isTrue();
+        assertThat(limiter.getQueued()).isZero();
+
+        second.fail(new IllegalStateException("error"));
+        secondSubscriber.assertFailedWith(IllegalStateException.class);
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(registry.get(REQUESTS_METRIC).tag(OUTCOME_TAG, "success").timer().count()).isEqualTo(1);
+        assertThat(registry.get(REQUESTS_METRIC).tag(OUTCOME_TAG, "failure").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void bulkheadCancelWaiting() {
+        HTTPHostLimiter limiter = new HTTPHostLimiter(HOST, "http", HTTPClientOptions.builder()
+                .maxConcurrentRequestsPerHost(1)
+                .build(), registry);
+        PendingRequest first = new PendingRequest();
+        PendingRequest second = new PendingRequest();
+        limiter.execute(first::send).subscribe().withSubscriber(UniAssertSubscriber.create());
+        UniAssertSubscriber<String> cancelled = limiter.execute(second::send).subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        cancelled.cancel();
+        assertThat(limiter.getQueued()).isZero();
+        first.complete("first");
+        assertThat(second.isSent()).isFalse();
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void rateLimit() {
+        HTTPHostLimiter limiter = new HTTPHostLimiter(HOST, "http", HTTPClientOptions.builder()
+                .rateLimitPerSecond(10)
+                .build(), registry);
+        long start = System.nanoTime();
+        //the bucket starts full, the requests over the burst wait for new tokens
+        for (int i = 0; i < 15; i++) {
+            limiter.execute(() -> Uni.createFrom().item("ok")).await().atMost(Duration.ofSeconds(5));
+        }
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(400));
+        assertThat(registry.get(REQUESTS_METRIC).tag(OUTCOME_TAG, "success").timer().count()).isEqualTo(15);
+    }
+
+    @Test
+    void tokenBucket() {
+        HTTPHostLimiter.TokenBucket bucket = new HTTPHostLimiter.TokenBucket(2);
+        assertThat(bucket.reserve()).isZero();
+        assertThat(bucket.reserve()).isZero();
+        //reservations over the capacity wait for one token period each
+        assertThat(bucket.reserve()).isPositive().isLessThanOrEqualTo(Duration.ofMillis(500).toNanos());
+        assertThat(bucket.reserve()).isGreaterThan(Duration.ofMillis(500).toNanos());
+    }
+
+    private double gauge(String name) {
+        return registry.get(name).tag(HOST_TAG, HOST).gauge().value();
+    }
+
+    private static class PendingRequest {
+
+        private UniEmitter<? super String> emitter;
+
+        Uni<String> send() {
+            return Uni.createFrom().emitter(e -> emitter = e);
+        }
+
+        boolean isSent() {
+            return emitter != null;
+        }
+
+        void complete(String item) {
+            emitter.complete(item);
+        }
+
+        void fail(Throwable failure) {
+            emitter.fail(failure);
+        }
+    }
+}
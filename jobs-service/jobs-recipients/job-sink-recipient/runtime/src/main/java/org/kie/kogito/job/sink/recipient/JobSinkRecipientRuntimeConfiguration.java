@@ -35,4 +35,48 @@ public class JobSinkRecipientRuntimeConfiguration {
      */
     @ConfigItem(name = "max-timeout-in-millis", defaultValue = "60000")
     long maxTimeoutInMillis;
+
+    /**
+     * Max number of pooled connections per target host.
+     */
+    @ConfigItem(name = "max-pool-size", defaultValue = "20")
+    int maxPoolSize;
+
+    /**
+     * Use HTTP/2, with ALPN for TLS connections and the clear text upgrade otherwise, requests to the same host are
+     * multiplexed over the pooled connections.
+     */
+    @ConfigItem(name = "http2", defaultValue = "false")
+    boolean http2;
+
+    /**
+     * Max number of concurrent requests per HTTP/2 connection.
+     */
+    @ConfigItem(name = "http2-multiplexing-limit", defaultValue = "100")
+    int http2MultiplexingLimit;
+
+    /**
+     * Time an idle pooled connection is kept open.
+     */
+    @ConfigItem(name = "keep-alive-timeout-in-seconds", defaultValue = "60")
+    int keepAliveTimeoutInSeconds;
+
+    /**
+     * Max number of requests per second sent to a target host, requests over the limit are delayed. 0 means no limit.
+     */
+    @ConfigItem(name = "rate-limit-per-second", defaultValue = "0")
+    int rateLimitPerSecond;
+
+    /**
+     * Max number of in-flight requests per target host, requests over the limit wait in a queue. 0 means no limit.
+     */
+    @ConfigItem(name = "max-concurrent-requests-per-host", defaultValue = "0")
+    int maxConcurrentRequestsPerHost;
+
+    /**
+     * Max number of requests waiting for the concurrency limit per target host, further requests fail and the job
+     * is retried.
+     */
+    @ConfigItem(name = "max-queued-requests-per-host", defaultValue = "10000")
+    int maxQueuedRequestsPerHost;
 }
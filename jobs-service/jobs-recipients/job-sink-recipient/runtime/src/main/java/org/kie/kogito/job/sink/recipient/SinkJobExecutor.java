@@ -24,6 +24,7 @@ import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
 import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.kie.kogito.job.recipient.common.http.HTTPClientOptions;
 import org.kie.kogito.job.recipient.common.http.HTTPRequest;
 import org.kie.kogito.job.recipient.common.http.HTTPRequestExecutor;
 import org.kie.kogito.jobs.service.api.recipient.sink.SinkRecipient;
@@ -57,8 +58,27 @@ public class SinkJobExecutor extends HTTPRequestExecutor<SinkRecipient<?>> imple
     @Inject
     public SinkJobExecutor(@ConfigProperty(name = "kogito.job.recipient.sink.timeout-in-millis") long timeout,
             Vertx vertx,
-            ObjectMapper objectMapper) {
-        super(timeout, vertx, objectMapper);
+            ObjectMapper objectMapper,
+            @ConfigProperty(name = "kogito.job.recipient.sink.max-pool-size") int maxPoolSize,
+            @ConfigProperty(name = "kogito.job.recipient.sink.http2") boolean http2,
+            @ConfigProperty(name = "kogito.job.recipient.sink.http2-multiplexing-limit") int http2MultiplexingLimit,
+            @ConfigProperty(name = "kogito.job.recipient.sink.keep-alive-timeout-in-seconds") int keepAliveTimeoutInSeconds,
+            @ConfigProperty(name = "kogito.job.recipient.sink.rate-limit-per-second") int rateLimitPerSecond,
+            @ConfigProperty(name = "kogito.job.recipient.sink.max-concurrent-requests-per-host") int maxConcurrentRequestsPerHost,
+            @ConfigProperty(name = "kogito.job.recipient.sink.max-queued-requests-per-host") int maxQueuedRequestsPerHost) {
+        this(timeout, vertx, objectMapper, HTTPClientOptions.builder()
+                .maxPoolSize(maxPoolSize)
+                .http2(http2)
+                .http2MultiplexingLimit(http2MultiplexingLimit)
+                .keepAliveTimeoutInSeconds(keepAliveTimeoutInSeconds)
+                .rateLimitPerSecond(rateLimitPerSecond)
+                .maxConcurrentRequestsPerHost(maxConcurrentRequestsPerHost)
+                .maxQueuedRequestsPerHost(maxQueuedRequestsPerHost)
+                .build());
+    }
+
+    SinkJobExecutor(long timeout, Vertx vertx, ObjectMapper objectMapper, HTTPClientOptions clientOptions) {
+        super(timeout, vertx, objectMapper, clientOptions);
     }
 
     @PostConstruct
@@ -67,6 +87,11 @@ public class SinkJobExecutor extends HTTPRequestExecutor<SinkRecipient<?>> imple
         super.initialize();
     }
 
+    @Override
+    protected String getRecipientName() {
+        return "sink";
+    }
+
     @Override
     public Class<SinkRecipient> type() {
         return SinkRecipient.class;
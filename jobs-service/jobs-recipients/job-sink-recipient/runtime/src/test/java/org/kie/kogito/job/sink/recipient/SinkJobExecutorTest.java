@@ -21,6 +21,7 @@ import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Map;
 
+import org.kie.kogito.job.recipient.common.http.HTTPClientOptions;
 import org.kie.kogito.job.recipient.common.http.HTTPRequestExecutorTest;
 import org.kie.kogito.jobs.service.api.recipient.sink.SinkRecipient;
 import org.kie.kogito.jobs.service.api.recipient.sink.SinkRecipientJsonPayloadData;
@@ -50,7 +51,7 @@ class SinkJobExecutorTest extends HTTPRequestExecutorTest<SinkRecipient<?>, Sink
 
     @Override
     protected SinkJobExecutor createExecutor(long timeout, Vertx vertx, ObjectMapper objectMapper) {
-        return new SinkJobExecutor(timeout, vertx, objectMapper);
+        return new SinkJobExecutor(timeout, vertx, objectMapper, HTTPClientOptions.builder().build());
     }
 
     @Override
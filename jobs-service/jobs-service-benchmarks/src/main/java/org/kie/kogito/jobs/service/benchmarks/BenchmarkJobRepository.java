@@ -0,0 +1,45 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.benchmarks;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import org.kie.kogito.jobs.service.model.JobDetails;
+import org.kie.kogito.jobs.service.repository.impl.InMemoryJobRepository;
+import org.kie.kogito.jobs.service.stream.JobStreams;
+
+/**
+ * {@link InMemoryJobRepository} running the operations on the caller thread and with no status change events, to
+ * keep the Vert.x worker pool and the messaging out of the measurements.
+ */
+public class BenchmarkJobRepository extends InMemoryJobRepository {
+
+    public BenchmarkJobRepository() {
+        super(null, new JobStreams() {
+            @Override
+            public JobDetails publishJobStatusChange(JobDetails scheduledJob) {
+                return scheduledJob;
+            }
+        });
+    }
+
+    @Override
+    public <T> CompletionStage<T> runAsync(Supplier<T> function) {
+        return CompletableFuture.completedFuture(function.get());
+    }
+}
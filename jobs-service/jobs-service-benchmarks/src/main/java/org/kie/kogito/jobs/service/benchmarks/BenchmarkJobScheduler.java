@@ -0,0 +1,53 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.benchmarks;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.kie.kogito.jobs.service.model.JobDetails;
+import org.kie.kogito.jobs.service.model.ManageableJobHandle;
+import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
+import org.kie.kogito.jobs.service.scheduler.BaseTimerJobScheduler;
+import org.kie.kogito.timer.Trigger;
+import org.reactivestreams.Publisher;
+
+/**
+ * Scheduler with a stubbed timer, so the benchmarks measure the scheduling pipeline of {@link BaseTimerJobScheduler}
+ * and not the timers or the job execution.
+ */
+public class BenchmarkJobScheduler extends BaseTimerJobScheduler {
+
+    private final AtomicLong handles = new AtomicLong();
+
+    public BenchmarkJobScheduler(ReactiveJobRepository jobRepository) {
+        //retries never exceed the limit during a benchmark run
+        super(jobRepository, 1, TimeUnit.DAYS.toMillis(365), 10, true);
+    }
+
+    @Override
+    public PublisherBuilder<ManageableJobHandle> doSchedule(JobDetails job, Optional<Trigger> trigger) {
+        return ReactiveStreams.of(new ManageableJobHandle(handles.incrementAndGet()));
+    }
+
+    @Override
+    public Publisher<ManageableJobHandle> doCancel(JobDetails scheduledJob) {
+        return ReactiveStreams.of(new ManageableJobHandle(true)).buildRs();
+    }
+}
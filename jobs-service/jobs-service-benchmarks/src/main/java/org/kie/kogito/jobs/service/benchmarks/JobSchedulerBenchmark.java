@@ -0,0 +1,128 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.kie.kogito.jobs.service.api.recipient.http.HttpRecipient;
+import org.kie.kogito.jobs.service.model.JobDetails;
+import org.kie.kogito.jobs.service.model.JobExecutionResponse;
+import org.kie.kogito.jobs.service.model.JobStatus;
+import org.kie.kogito.jobs.service.model.RecipientInstance;
+import org.kie.kogito.jobs.service.utils.DateUtil;
+import org.kie.kogito.timer.impl.PointInTimeTrigger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Cost of the {@link org.kie.kogito.jobs.service.scheduler.BaseTimerJobScheduler} reactive chain for the main job
+ * lifecycle operations, over an in-memory repository and a stubbed timer.
+ * <p>
+ * Run with the GC profiler to get the allocations per operation (gc.alloc.rate.norm):
+ * java -jar target/benchmarks.jar JobSchedulerBenchmark -prof gc
+ */
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JobSchedulerBenchmark {
+
+    private static final String RETRY_JOB_ID = "retry-job";
+
+    private final AtomicLong ids = new AtomicLong();
+
+    private BenchmarkJobRepository repository;
+
+    private BenchmarkJobScheduler scheduler;
+
+    private RecipientInstance recipient;
+
+    private JobExecutionResponse retryResponse;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        repository = new BenchmarkJobRepository();
+        scheduler = new BenchmarkJobScheduler(repository);
+        recipient = new RecipientInstance(HttpRecipient.builder().forStringPayload().url("http://localhost:8080/callback").build());
+        repository.save(newJob(RETRY_JOB_ID)).toCompletableFuture().join();
+        retryResponse = JobExecutionResponse.builder().jobId(RETRY_JOB_ID).now().build();
+    }
+
+    /**
+     * Allocations of creating the job, included in all the other benchmarks, to be subtracted from them.
+     */
+    @Benchmark
+    public JobDetails baseline() {
+        return newJob(nextId());
+    }
+
+    /**
+     * Schedules a new job on the current scheduler chunk, the job is deleted afterwards to keep the repository size
+     * stable.
+     */
+    @Benchmark
+    public JobDetails schedule() {
+        JobDetails job = newJob(nextId());
+        JobDetails scheduled = Uni.createFrom().publisher(scheduler.schedule(job)).await().indefinitely();
+        repository.delete(scheduled).toCompletableFuture().join();
+        return scheduled;
+    }
+
+    /**
+     * Successful execution of a one time job, it ends with the job removed from the repository.
+     */
+    @Benchmark
+    public List<JobDetails> handleJobExecutionSuccess() {
+        JobDetails job = repository.save(newJob(nextId())).toCompletableFuture().join();
+        return scheduler.handleJobExecutionSuccess(job).toList().run().toCompletableFuture().join();
+    }
+
+    /**
+     * Failed execution of a job that is retried, the job stays in the repository in RETRY status.
+     */
+    @Benchmark
+    public List<JobDetails> handleJobExecutionError() {
+        return scheduler.handleJobExecutionError(retryResponse).toList().run().toCompletableFuture().join();
+    }
+
+    private String nextId() {
+        return String.valueOf(ids.incrementAndGet());
+    }
+
+    private JobDetails newJob(String id) {
+        return JobDetails.builder()
+                .id(id)
+                .status(JobStatus.SCHEDULED)
+                .recipient(recipient)
+                .trigger(new PointInTimeTrigger(DateUtil.now().plusMinutes(1).toInstant().toEpochMilli(), null, null))
+                .build();
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.benchmarks;
+
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.kogito.jobs.service.api.recipient.http.HttpRecipient;
+import org.kie.kogito.jobs.service.api.recipient.http.HttpRecipientStringPayloadData;
+import org.kie.kogito.jobs.service.model.JobDetails;
+import org.kie.kogito.jobs.service.model.JobStatus;
+import org.kie.kogito.jobs.service.model.RecipientInstance;
+import org.kie.kogito.jobs.service.repository.marshaller.JobDetailsMarshaller;
+import org.kie.kogito.jobs.service.repository.marshaller.RecipientMarshaller;
+import org.kie.kogito.jobs.service.repository.marshaller.TriggerMarshaller;
+import org.kie.kogito.jobs.service.utils.DateUtil;
+import org.kie.kogito.timer.Trigger;
+import org.kie.kogito.timer.impl.IntervalTrigger;
+import org.kie.kogito.timer.impl.PointInTimeTrigger;
+import org.kie.kogito.timer.impl.SimpleTimerTrigger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Round trips of the marshallers used by the storages to persist the jobs.
+ * <p>
+ * Run with the GC profiler to get the allocations per operation (gc.alloc.rate.norm):
+ * java -jar target/benchmarks.jar MarshallerBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MarshallerBenchmark {
+
+    @Param({ "PointInTimeTrigger", "IntervalTrigger", "SimpleTimerTrigger" })
+    String triggerType;
+
+    private TriggerMarshaller triggerMarshaller;
+
+    private JobDetailsMarshaller jobDetailsMarshaller;
+
+    private Trigger trigger;
+
+    private JsonObject triggerJson;
+
+    private JobDetails job;
+
+    private JsonObject jobJson;
+
+    @Setup
+    public void setUp() {
+        triggerMarshaller = new TriggerMarshaller();
+        jobDetailsMarshaller = new JobDetailsMarshaller(triggerMarshaller, new RecipientMarshaller());
+        trigger = createTrigger();
+        triggerJson = triggerMarshaller.marshall(trigger);
+        job = JobDetails.builder()
+                .id("8350b8b6-c5d9-432d-a339-a9fc85f642d4")
+                .correlationId("8350b8b6-c5d9-432d-a339-a9fc85f642d4")
+                .status(JobStatus.SCHEDULED)
+                .lastUpdate(DateUtil.now())
+                .retries(0)
+                .executionCounter(0)
+                .scheduledId("1")
+                .priority(5)
+                .recipient(new RecipientInstance(HttpRecipient.builder().forStringPayload()
+                        .url("http://localhost:8080/management/jobs/travels/instances/5f0eb92c/timers/1a2b3c")
+                        .header("processInstanceId", "5f0eb92c")
+                        .header("processId", "travels")
+                        .payload(HttpRecipientStringPayloadData.from("{\"timerId\":\"1a2b3c\"}"))
+                        .build()))
+                .trigger(trigger)
+                .executionTimeout(5000L)
+                .executionTimeoutUnit(ChronoUnit.MILLIS)
+                .build();
+        jobJson = jobDetailsMarshaller.marshall(job);
+    }
+
+    private Trigger createTrigger() {
+        Date start = DateUtil.toDate(DateUtil.now().plusMinutes(1).toOffsetDateTime());
+        switch (triggerType) {
+            case "IntervalTrigger":
+                IntervalTrigger intervalTrigger = new IntervalTrigger();
+                intervalTrigger.setStartTime(start);
+                intervalTrigger.setNextFireTime(start);
+                intervalTrigger.setRepeatLimit(10);
+                intervalTrigger.setPeriod(1000);
+                return intervalTrigger;
+            case "SimpleTimerTrigger":
+                return new SimpleTimerTrigger(start, 1, ChronoUnit.SECONDS, 10, null);
+            default:
+                return new PointInTimeTrigger(start.getTime(), null, null);
+        }
+    }
+
+    @Benchmark
+    public JsonObject marshallTrigger() {
+        return triggerMarshaller.marshall(trigger);
+    }
+
+    /**
+     * The unmarshall removes the class type from the json, so it is applied on a copy, same as the storages reading a
+     * new json every time.
+     */
+    @Benchmark
+    public Trigger unmarshallTrigger() {
+        return triggerMarshaller.unmarshall(triggerJson.copy());
+    }
+
+    @Benchmark
+    public Trigger roundTripTrigger() {
+        return triggerMarshaller.unmarshall(triggerMarshaller.marshall(trigger));
+    }
+
+    @Benchmark
+    public JsonObject marshallJobDetails() {
+        return jobDetailsMarshaller.marshall(job);
+    }
+
+    @Benchmark
+    public JobDetails unmarshallJobDetails() {
+        return jobDetailsMarshaller.unmarshall(jobJson);
+    }
+
+    @Benchmark
+    public JobDetails roundTripJobDetails() {
+        return jobDetailsMarshaller.unmarshall(jobDetailsMarshaller.marshall(job));
+    }
+}
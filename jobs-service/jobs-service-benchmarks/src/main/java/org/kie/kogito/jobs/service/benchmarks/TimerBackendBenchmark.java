@@ -0,0 +1,135 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.kogito.jobs.service.scheduler.impl.TimerBackend;
+import org.kie.kogito.jobs.service.scheduler.impl.TimingWheelTimerBackend;
+import org.kie.kogito.jobs.service.scheduler.impl.VertxTimerBackend;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.vertx.mutiny.core.Vertx;
+
+/**
+ * Compares the {@link TimerBackend} implementations used by the in-memory scheduler with different amounts of
+ * pending jobs.
+ * <p>
+ * Run with: java -jar target/benchmarks.jar TimerBackendBenchmark
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = { "-Xmx4g" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class TimerBackendBenchmark {
+
+    private static final long FAR_FUTURE_DELAY = TimeUnit.HOURS.toMillis(1);
+
+    private static final long FIRING_DELAY = 200;
+
+    @Param({ "10000", "100000", "1000000" })
+    int pendingJobs;
+
+    @Param({ TimerBackend.VERTX, TimerBackend.TIMING_WHEEL })
+    String backend;
+
+    private Vertx vertx;
+
+    private TimerBackend timerBackend;
+
+    private long[] pending;
+
+    private final Runnable noop = () -> {
+    };
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        vertx = Vertx.vertx();
+        timerBackend = TimerBackend.VERTX.equals(backend)
+                ? new VertxTimerBackend(vertx)
+                : new TimingWheelTimerBackend(vertx, 100, 512, 4);
+        //the backlog of jobs waiting in the current scheduler chunk
+        pending = new long[pendingJobs];
+        for (int i = 0; i < pendingJobs; i++) {
+            pending[i] = timerBackend.setTimer(FAR_FUTURE_DELAY + i, noop);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        for (long id : pending) {
+            timerBackend.cancelTimer(id);
+        }
+        timerBackend.shutdown();
+        vertx.closeAndAwait();
+    }
+
+    /**
+     * Steady state cost of scheduling and cancelling a job while the backlog is pending.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean scheduleAndCancel() {
+        long id = timerBackend.setTimer(FAR_FUTURE_DELAY, noop);
+        return timerBackend.cancelTimer(id);
+    }
+
+    /**
+     * Cost of firing a burst of the same size of the backlog, all of them due at the same time.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void fireBurst(Blackhole blackhole) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(pendingJobs);
+        Runnable countDown = latch::countDown;
+        for (int i = 0; i < pendingJobs; i++) {
+            blackhole.consume(timerBackend.setTimer(FIRING_DELAY, countDown));
+        }
+        latch.await();
+    }
+
+    /**
+     * Cost of cancelling the whole backlog, e.g. when all the jobs of a chunk are rescheduled.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int cancelBacklog() {
+        int cancelled = 0;
+        for (long id : pending) {
+            if (timerBackend.cancelTimer(id)) {
+                cancelled++;
+            }
+        }
+        return cancelled;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.health;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
+import org.kie.kogito.jobs.service.metrics.JobServiceMetrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.smallrye.health.api.Wellness;
+
+/**
+ * Reports the instance as degraded while the jobs are fired later than the configured threshold. The lag is the
+ * max of the {@link JobServiceMetrics#FIRING_LAG} timers, which is kept for a rolling window of a few minutes, so the
+ * check recovers once the jobs are fired on time again.
+ * <p>
+ * This is a wellness check, exposed on /q/health/well, and not a readiness one: the lag grows while an instance
+ * drains its backlog, e.g. after a restart or a failover, and removing it from the readiness at that moment would
+ * only make the backlog grow.
+ */
+@Wellness
+@ApplicationScoped
+public class FiringLagHealthCheck implements HealthCheck {
+
+    /**
+     * The max firing lag tolerated, 0 disables the check.
+     */
+    @ConfigProperty(name = "kogito.jobs-service.health.firingLagThresholdMillis", defaultValue = "60000")
+    long firingLagThresholdMillis;
+
+    protected MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+    @Override
+    public HealthCheckResponse call() {
+        final long lag = (long) meterRegistry.find(JobServiceMetrics.FIRING_LAG).timers().stream()
+                .mapToDouble(timer -> timer.max(TimeUnit.MILLISECONDS))
+                .max()
+                .orElse(0);
+        final HealthCheckResponseBuilder responseBuilder = HealthCheckResponse.named("Firing Lag")
+                .withData("lagMillis", lag)
+                .withData("thresholdMillis", firingLagThresholdMillis);
+        if (firingLagThresholdMillis <= 0 || lag <= firingLagThresholdMillis) {
+            return responseBuilder.up().build();
+        }
+        return responseBuilder.down().build();
+    }
+}
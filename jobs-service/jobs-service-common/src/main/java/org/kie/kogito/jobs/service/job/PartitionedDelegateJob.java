@@ -0,0 +1,100 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.job;
+
+import java.util.Date;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.kie.kogito.jobs.service.executor.JobExecutorResolver;
+import org.kie.kogito.jobs.service.management.JobServicePartitionManager;
+import org.kie.kogito.jobs.service.model.JobDetails;
+import org.kie.kogito.jobs.service.model.JobDetailsContext;
+import org.kie.kogito.jobs.service.model.JobExecutionResponse;
+import org.kie.kogito.jobs.service.model.JobStatus;
+import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
+import org.kie.kogito.jobs.service.stream.JobStreams;
+import org.kie.kogito.timer.Trigger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link DelegateJob} used in the partitioned mode. A job can be cancelled or rescheduled through any instance, but
+ * only the instance owning its partition has the timer, so the persisted job is checked before the execution to
+ * avoid firing a stale timer.
+ * <p>
+ * The partition ownership is checked again when the timer fires, since the partition could have been released or
+ * lost after the job was programmed, and the new owner executes it. If the persisted job cannot be read the execution
+ * is skipped and reported as a failed execution, so it follows the retry handling instead of risking a duplicated or
+ * stale execution.
+ */
+public class PartitionedDelegateJob extends DelegateJob {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PartitionedDelegateJob.class);
+
+    private final JobStreams jobStreams;
+
+    private final ReactiveJobRepository repository;
+
+    private final JobServicePartitionManager partitionManager;
+
+    public PartitionedDelegateJob(JobExecutorResolver executorResolver, JobStreams jobStreams, ReactiveJobRepository repository,
+            JobServicePartitionManager partitionManager) {
+        super(executorResolver, jobStreams);
+        this.jobStreams = jobStreams;
+        this.repository = repository;
+        this.partitionManager = partitionManager;
+    }
+
+    @Override
+    public void execute(JobDetailsContext ctx) {
+        final JobDetails job = ctx.getJobDetails();
+        if (!partitionManager.isOwned(job.getId())) {
+            LOGGER.info("Skipping execution of job {}, its partition is not owned by this instance anymore", job.getId());
+            return;
+        }
+        repository.get(job.getId())
+                .whenComplete((current, ex) -> {
+                    if (Objects.nonNull(ex)) {
+                        LOGGER.error("Error checking job {} before the execution, skipping it", job.getId(), ex);
+                        jobStreams.publishJobError(JobExecutionResponse.builder()
+                                .message("Error checking the job before the execution: " + ex.getMessage())
+                                .now()
+                                .jobId(job.getId())
+                                .build());
+                    } else if (!partitionManager.isOwned(job.getId())) {
+                        //the partition was released while the job was read
+                        LOGGER.info("Skipping execution of job {}, its partition is not owned by this instance anymore", job.getId());
+                    } else if (isCurrent(current, job)) {
+                        super.execute(ctx);
+                    } else {
+                        LOGGER.info("Skipping execution of job {}, it was cancelled or rescheduled", job.getId());
+                    }
+                });
+    }
+
+    private static boolean isCurrent(JobDetails current, JobDetails scheduled) {
+        return Objects.nonNull(current)
+                && (JobStatus.SCHEDULED.equals(current.getStatus()) || JobStatus.RETRY.equals(current.getStatus()))
+                && Objects.equals(fireTime(current), fireTime(scheduled));
+    }
+
+    private static Optional<Long> fireTime(JobDetails job) {
+        return Optional.ofNullable(job.getTrigger())
+                .map(Trigger::hasNextFireTime)
+                .map(Date::getTime);
+    }
+}
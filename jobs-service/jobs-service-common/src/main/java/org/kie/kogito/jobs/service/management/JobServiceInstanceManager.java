@@ -71,8 +71,19 @@ public class JobServiceInstanceManager {
     @Inject
     JobServiceManagementRepository repository;
 
+    /**
+     * When the due jobs are polled from the storage, the instances claim them concurrently and there is no leader.
+     */
+    @ConfigProperty(name = "kogito.jobs-service.poller.enabled", defaultValue = "false")
+    boolean pollerEnabled;
+
+    @Inject
+    JobServicePartitionManager partitionManager;
+
     private TimeoutStream checkLeader;
 
+    private TimeoutStream rebalance;
+
     private TimeoutStream heartbeat;
 
     private final AtomicReference<JobServiceManagementInfo> currentInfo = new AtomicReference<>();
@@ -82,6 +93,16 @@ public class JobServiceInstanceManager {
     void startup(@Observes StartupEvent startupEvent) {
         buildAndSetInstanceInfo();
 
+        if (pollerEnabled) {
+            enableCommunication();
+            return;
+        }
+
+        if (partitionManager.isEnabled()) {
+            startupPartitioned();
+            return;
+        }
+
         //background task for leader check, it will be started after the first tryBecomeLeader() execution
         checkLeader = vertx.periodicStream(TimeUnit.SECONDS.toMillis(leaderCheckIntervalInSeconds))
                 .handler(id -> tryBecomeLeader(currentInfo.get(), checkLeader, heartbeat)
@@ -102,6 +123,27 @@ public class JobServiceInstanceManager {
                         ex -> LOGGER.error("Error on initial check leader", ex));
     }
 
+    /**
+     * In the partitioned mode all the instances are active, there is no leader election, and the jobs are
+     * distributed among them by the {@link JobServicePartitionManager}.
+     */
+    private void startupPartitioned() {
+        enableCommunication();
+
+        //background task for heartbeat and partitions rebalancing
+        rebalance = vertx.periodicStream(TimeUnit.SECONDS.toMillis(heardBeatIntervalInSeconds))
+                .handler(id -> rebalance(currentInfo.get()));
+
+        //initial partitions assignment
+        rebalance(currentInfo.get());
+    }
+
+    protected void rebalance(JobServiceManagementInfo info) {
+        partitionManager.rebalance(info.getToken())
+                .subscribe().with(owned -> LOGGER.trace("Partitions rebalance completed {}", owned),
+                        ex -> LOGGER.error("Error on partitions rebalance {}", info, ex));
+    }
+
     private void disableCommunication() {
         //disable consuming events
         messagingHandlerInstance.stream().forEach(MessagingHandler::pause);
@@ -129,6 +171,18 @@ public class JobServiceInstanceManager {
     }
 
     private void shutdown() {
+        if (pollerEnabled) {
+            disableCommunication();
+            return;
+        }
+        if (partitionManager.isEnabled()) {
+            rebalance.cancel();
+            partitionManager.release(currentInfo.get().getToken())
+                    .onItem().invoke(this::disableCommunication)
+                    .subscribe().with(i -> LOGGER.info("Partitions released, shutting down instance"),
+                            ex -> LOGGER.error("Shutdown error", ex));
+            return;
+        }
         release(currentInfo.get())
                 .onItem().invoke(i -> checkLeader.cancel())
                 .onItem().invoke(i -> heartbeat.cancel())
@@ -205,4 +259,8 @@ public class JobServiceInstanceManager {
     protected TimeoutStream getHeartbeat() {
         return heartbeat;
     }
+
+    protected TimeoutStream getRebalance() {
+        return rebalance;
+    }
 }
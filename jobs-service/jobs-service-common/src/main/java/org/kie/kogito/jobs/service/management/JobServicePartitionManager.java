@@ -0,0 +1,319 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.management;
+
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Event;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.kie.kogito.jobs.service.model.JobServiceManagementInfo;
+import org.kie.kogito.jobs.service.repository.JobServiceManagementRepository;
+import org.kie.kogito.jobs.service.utils.DateUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Distributes the job execution across the active Job Service instances when the partitioned mode is enabled, with
+ * {@link #partitions} greater than 0.
+ * <p>
+ * Jobs are hashed by id into a fixed number of partitions and every instance leases a fair share of them through the
+ * {@link JobServiceManagementRepository}. Each instance registers itself with a member entry that is refreshed on
+ * every {@link #rebalance(String)} round, the number of live members defines the share of partitions per instance.
+ * Leases are renewed on each round as well, an instance holding more partitions than its share releases the extra
+ * ones, and an instance holding less acquires free or expired leases, in this way the partitions of a failed instance
+ * are taken over by the remaining ones after {@link #heartbeatExpirationInSeconds}.
+ * <p>
+ * A {@link PartitionChangeEvent} is fired when partitions are acquired or released, released partitions are removed
+ * from the owned set before the lease is given up, so their jobs are not scheduled again by this instance.
+ * <p>
+ * Jobs created through an instance that does not own their partition are only persisted. When they are on the current
+ * chunk, the instance notifies the owner with {@link #notifyOwner(String)}, which updates a notification entry of the
+ * partition with a new token. The owner reads the entries on every round and fires a {@link PartitionChangeEvent} with
+ * the notified partitions, so their jobs are loaded without waiting for the next periodic load.
+ * <p>
+ * The number of partitions must be the same in all the instances and it should not be changed while any instance is
+ * running.
+ */
+@ApplicationScoped
+public class JobServicePartitionManager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobServicePartitionManager.class);
+
+    static final String MEMBER_ID = "-member-";
+
+    static final String PARTITION_ID = "-partition-";
+
+    static final String NOTIFICATION_ID = "-notification-";
+
+    /**
+     * The number of partitions the jobs are distributed in, 0 disables the partitioned mode and a single leader
+     * instance executes all the jobs.
+     */
+    @ConfigProperty(name = "kogito.jobs-service.management.partitions", defaultValue = "0")
+    int partitions;
+
+    @ConfigProperty(name = "kogito.jobs-service.management.heartbeat.expiration-in-seconds", defaultValue = "10")
+    long heartbeatExpirationInSeconds;
+
+    @ConfigProperty(name = "kogito.jobs-service.management.heartbeat.management-id", defaultValue = "kogito-jobs-service-leader")
+    String managementId;
+
+    @Inject
+    JobServiceManagementRepository repository;
+
+    @Inject
+    Event<PartitionChangeEvent> partitionChangeEvent;
+
+    private final Set<Integer> owned = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean rebalancing = new AtomicBoolean(false);
+
+    /**
+     * Last notification token seen for each partition.
+     */
+    private final Map<Integer, String> notifications = new ConcurrentHashMap<>();
+
+    public boolean isEnabled() {
+        return partitions > 0;
+    }
+
+    public int partitionOf(String jobId) {
+        //String.hashCode() is specified, so all the instances compute the same partition
+        return Math.floorMod(jobId.hashCode(), partitions);
+    }
+
+    /**
+     * @return true if the job should be scheduled by the current instance, always true when the partitioned mode is
+     *         disabled.
+     */
+    public boolean isOwned(String jobId) {
+        return !isEnabled() || owned.contains(partitionOf(jobId));
+    }
+
+    public Set<Integer> getOwnedPartitions() {
+        return Collections.unmodifiableSet(new TreeSet<>(owned));
+    }
+
+    /**
+     * Notifies the instance owning the partition of the given job that the job was persisted and it should be loaded.
+     * A new token is set on every notification, so consecutive notifications are always seen as a change by the
+     * owner, even within the same clock tick.
+     *
+     * @param jobId the id of the persisted job.
+     */
+    public Uni<Void> notifyOwner(String jobId) {
+        final int partition = partitionOf(jobId);
+        return repository.set(new JobServiceManagementInfo(notificationId(partition), UUID.randomUUID().toString(), DateUtil.now().toOffsetDateTime()))
+                .replaceWithVoid();
+    }
+
+    /**
+     * Runs a rebalance round for the instance identified by the given token, a round is skipped if the previous one
+     * is still running.
+     *
+     * @param token the current instance token.
+     * @return the partitions owned after the round.
+     */
+    public Uni<Set<Integer>> rebalance(String token) {
+        if (!rebalancing.compareAndSet(false, true)) {
+            LOGGER.debug("Rebalance already in progress");
+            return Uni.createFrom().item(getOwnedPartitions());
+        }
+        final OffsetDateTime now = DateUtil.now().toOffsetDateTime();
+        final OffsetDateTime expiration = now.minusSeconds(heartbeatExpirationInSeconds);
+        return repository.set(new JobServiceManagementInfo(memberId(token), token, now))
+                .chain(member -> repository.findAll(managementId + "-"))
+                .chain(entries -> removeExpiredMembers(entries, expiration)
+                        .chain(members -> renew(token)
+                                .chain(renewed -> {
+                                    final int share = (partitions + members - 1) / members;
+                                    if (renewed.size() > share) {
+                                        return release(token, renewed.stream()
+                                                .sorted(Collections.reverseOrder())
+                                                .limit((long) renewed.size() - share)
+                                                .collect(Collectors.toSet()));
+                                    }
+                                    if (renewed.size() < share) {
+                                        return acquire(token, leases(entries), share - renewed.size(), now, expiration);
+                                    }
+                                    return Uni.createFrom().voidItem();
+                                }))
+                        .onItem().invoke(v -> checkNotifications(entries)))
+                .map(v -> getOwnedPartitions())
+                .onItem().invoke(p -> LOGGER.trace("Owned partitions {}", p))
+                .onTermination().invoke(() -> rebalancing.set(false));
+    }
+
+    /**
+     * Releases all the partitions owned by the instance and removes its member entry, used on shutdown.
+     */
+    public Uni<Void> release(String token) {
+        return release(token, new HashSet<>(owned))
+                .chain(v -> repository.delete(memberId(token)));
+    }
+
+    private void checkNotifications(List<JobServiceManagementInfo> entries) {
+        final String prefix = managementId + NOTIFICATION_ID;
+        final Set<Integer> notified = entries.stream()
+                .filter(e -> e.getId().startsWith(prefix) && Objects.nonNull(e.getToken()))
+                .filter(e -> e.getId().length() > prefix.length() && e.getId().substring(prefix.length()).chars().allMatch(Character::isDigit))
+                .filter(e -> {
+                    final int partition = Integer.parseInt(e.getId().substring(prefix.length()));
+                    //the token is tracked for all the partitions, so an old notification is not taken again on acquisition
+                    final String previous = notifications.put(partition, e.getToken());
+                    return owned.contains(partition) && !e.getToken().equals(previous);
+                })
+                .map(e -> Integer.parseInt(e.getId().substring(prefix.length())))
+                .collect(Collectors.toSet());
+        if (!notified.isEmpty()) {
+            LOGGER.debug("Jobs notified for partitions {}", notified);
+            partitionChangeEvent.fire(new PartitionChangeEvent(Collections.emptySet(), Collections.emptySet(), notified));
+        }
+    }
+
+    private Uni<Integer> removeExpiredMembers(List<JobServiceManagementInfo> entries, OffsetDateTime expiration) {
+        final List<JobServiceManagementInfo> members = entries.stream()
+                .filter(e -> e.getId().startsWith(managementId + MEMBER_ID))
+                .collect(Collectors.toList());
+        final int alive = (int) members.stream().filter(m -> isAlive(m, expiration)).count();
+        return Multi.createFrom().iterable(members)
+                .select().where(m -> !isAlive(m, expiration))
+                .onItem().transformToUniAndConcatenate(m -> repository.delete(m.getId()))
+                .collect().last()
+                //the current instance was registered in this round, so there is at least one member
+                .map(v -> Math.max(alive, 1));
+    }
+
+    private Uni<Set<Integer>> renew(String token) {
+        final Set<Integer> current = new HashSet<>(owned);
+        return Multi.createFrom().iterable(current)
+                .onItem().transformToUniAndConcatenate(p -> repository.heartbeat(new JobServiceManagementInfo(partitionId(p), token, null))
+                        .map(renewed -> Objects.isNull(renewed) ? -1 : p))
+                .select().where(p -> p >= 0)
+                .collect().with(Collectors.toSet())
+                .chain(renewed -> {
+                    final Set<Integer> lost = current.stream().filter(p -> !renewed.contains(p)).collect(Collectors.toSet());
+                    if (!lost.isEmpty()) {
+                        //the lease expired and it was taken by another instance
+                        LOGGER.warn("Partitions {} lost", lost);
+                        owned.removeAll(lost);
+                        partitionChangeEvent.fire(new PartitionChangeEvent(Collections.emptySet(), lost));
+                    }
+                    return Uni.createFrom().item(renewed);
+                });
+    }
+
+    private Uni<Void> release(String token, Set<Integer> released) {
+        if (released.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        LOGGER.info("Releasing partitions {}", released);
+        //stop handling the jobs before releasing the leases, to avoid duplicated executions with the next owner
+        owned.removeAll(released);
+        partitionChangeEvent.fire(new PartitionChangeEvent(Collections.emptySet(), released));
+        return Multi.createFrom().iterable(released)
+                .onItem().transformToUniAndConcatenate(p -> repository.getAndUpdate(partitionId(p),
+                        c -> Objects.nonNull(c) && Objects.equals(c.getToken(), token) ? new JobServiceManagementInfo(partitionId(p), null, null) : null))
+                .collect().last()
+                .replaceWithVoid();
+    }
+
+    private Uni<Void> acquire(String token, Map<Integer, JobServiceManagementInfo> leases, int count, OffsetDateTime now, OffsetDateTime expiration) {
+        //start from a different partition on each instance to reduce the contention
+        final int offset = Math.floorMod(token.hashCode(), partitions);
+        final List<Integer> candidates = IntStream.range(0, partitions)
+                .map(i -> (i + offset) % partitions)
+                .filter(p -> !owned.contains(p))
+                .filter(p -> leases.containsKey(p) && !isAlive(leases.get(p), expiration))
+                .limit(count)
+                .boxed()
+                .collect(Collectors.toList());
+        return createMissingLeases(leases)
+                .chain(v -> Multi.createFrom().iterable(candidates)
+                        .onItem().transformToUniAndConcatenate(p -> repository.getAndUpdate(partitionId(p),
+                                //the lease is acquired under the repository lock, only if it is still free
+                                c -> Objects.nonNull(c) && !isAlive(c, expiration) ? new JobServiceManagementInfo(partitionId(p), token, now) : null)
+                                .map(acquired -> Objects.isNull(acquired) ? -1 : p))
+                        .select().where(p -> p >= 0)
+                        .collect().with(Collectors.toSet()))
+                .onItem().invoke(acquired -> {
+                    if (!acquired.isEmpty()) {
+                        LOGGER.info("Acquired partitions {}", acquired);
+                        owned.addAll(acquired);
+                        partitionChangeEvent.fire(new PartitionChangeEvent(acquired, Collections.emptySet()));
+                    }
+                })
+                .replaceWithVoid();
+    }
+
+    /**
+     * Creates the lease entries that do not exist yet without owner, they are acquired on the next rounds. Leases are
+     * only acquired over existing entries, in this way concurrent instances are always serialized by the repository
+     * lock on the entry.
+     */
+    private Uni<Void> createMissingLeases(Map<Integer, JobServiceManagementInfo> leases) {
+        return Multi.createFrom().range(0, partitions)
+                .select().where(p -> !leases.containsKey(p))
+                .onItem().transformToUniAndConcatenate(p -> repository.getAndUpdate(partitionId(p),
+                        c -> Objects.isNull(c) ? new JobServiceManagementInfo(partitionId(p), null, null) : null))
+                .collect().last()
+                .replaceWithVoid();
+    }
+
+    private Map<Integer, JobServiceManagementInfo> leases(List<JobServiceManagementInfo> entries) {
+        final String prefix = managementId + PARTITION_ID;
+        return entries.stream()
+                .filter(e -> e.getId().startsWith(prefix))
+                .filter(e -> e.getId().length() > prefix.length() && e.getId().substring(prefix.length()).chars().allMatch(Character::isDigit))
+                .filter(e -> Integer.parseInt(e.getId().substring(prefix.length())) < partitions)
+                .collect(Collectors.toMap(e -> Integer.parseInt(e.getId().substring(prefix.length())), Function.identity()));
+    }
+
+    private static boolean isAlive(JobServiceManagementInfo info, OffsetDateTime expiration) {
+        return Objects.nonNull(info.getToken()) && Objects.nonNull(info.getLastHeartbeat()) && info.getLastHeartbeat().isAfter(expiration);
+    }
+
+    String memberId(String token) {
+        return managementId + MEMBER_ID + token;
+    }
+
+    String partitionId(int partition) {
+        return managementId + PARTITION_ID + partition;
+    }
+
+    String notificationId(int partition) {
+        return managementId + NOTIFICATION_ID + partition;
+    }
+}
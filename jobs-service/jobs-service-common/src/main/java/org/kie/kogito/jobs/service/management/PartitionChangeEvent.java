@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.management;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Fired when the current instance acquires or releases job partitions in the partitioned mode, or when other
+ * instances notify that they persisted jobs on the current chunk for owned partitions.
+ */
+public class PartitionChangeEvent {
+
+    private final Set<Integer> acquired;
+
+    private final Set<Integer> released;
+
+    private final Set<Integer> notified;
+
+    public PartitionChangeEvent(Set<Integer> acquired, Set<Integer> released) {
+        this(acquired, released, Collections.emptySet());
+    }
+
+    public PartitionChangeEvent(Set<Integer> acquired, Set<Integer> released, Set<Integer> notified) {
+        this.acquired = Collections.unmodifiableSet(acquired);
+        this.released = Collections.unmodifiableSet(released);
+        this.notified = Collections.unmodifiableSet(notified);
+    }
+
+    public Set<Integer> getAcquired() {
+        return acquired;
+    }
+
+    public Set<Integer> getReleased() {
+        return released;
+    }
+
+    public Set<Integer> getNotified() {
+        return notified;
+    }
+
+    @Override
+    public String toString() {
+        return "PartitionChangeEvent{" +
+                "acquired=" + acquired +
+                ", released=" + released +
+                ", notified=" + notified +
+                '}';
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.metrics;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.kie.kogito.jobs.service.model.JobDetails;
+
+/**
+ * Names and tags of the Micrometer metrics of the jobs service.
+ */
+public final class JobServiceMetrics {
+
+    /**
+     * Time from the schedule request to the job persisted and programmed on the timers.
+     */
+    public static final String SCHEDULING_LATENCY = "jobs.service.scheduling.latency";
+
+    /**
+     * Delay between the expected fire time of a job and its actual firing. The timers expect the jobs that were
+     * already overdue when scheduled to fire at their scheduling time.
+     */
+    public static final String FIRING_LAG = "jobs.service.firing.lag";
+
+    /**
+     * Number of jobs programmed on the in-memory timers of the instance.
+     */
+    public static final String PENDING_TIMERS = "jobs.service.scheduler.pending.timers";
+
+    public static final String EXECUTION_ERRORS = "jobs.service.execution.errors";
+
+    public static final String RETRIES = "jobs.service.retries";
+
+    public static final String LOAD_DURATION = "jobs.service.load.duration";
+
+    public static final String LOADED_JOBS = "jobs.service.load.jobs";
+
+    public static final String REPOSITORY_OPERATIONS = "jobs.service.repository.operations";
+
+    public static final String RECIPIENT_TAG = "recipient";
+
+    public static final String SOURCE_TAG = "source";
+
+    public static final String REPOSITORY_TAG = "repository";
+
+    public static final String OPERATION_TAG = "operation";
+
+    public static final String OUTCOME_TAG = "outcome";
+
+    public static final String SUCCESS = "success";
+
+    public static final String FAILURE = "failure";
+
+    private static final String UNKNOWN = "unknown";
+
+    private static final String RECIPIENT_SUFFIX = "Recipient";
+
+    private static final Map<Class<?>, String> RECIPIENT_TYPES = new ConcurrentHashMap<>();
+
+    private JobServiceMetrics() {
+    }
+
+    /**
+     * @return the recipient type tag of the job, e.g. http for an HttpRecipient.
+     */
+    public static String recipientType(JobDetails job) {
+        if (job == null || job.getRecipient() == null || job.getRecipient().getRecipient() == null) {
+            return UNKNOWN;
+        }
+        return RECIPIENT_TYPES.computeIfAbsent(job.getRecipient().getRecipient().getClass(), type -> {
+            String name = type.getSimpleName();
+            if (name.endsWith(RECIPIENT_SUFFIX) && name.length() > RECIPIENT_SUFFIX.length()) {
+                name = name.substring(0, name.length() - RECIPIENT_SUFFIX.length());
+            }
+            return name.toLowerCase(Locale.ROOT);
+        });
+    }
+}
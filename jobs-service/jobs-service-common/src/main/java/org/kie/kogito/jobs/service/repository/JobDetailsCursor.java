@@ -0,0 +1,126 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.repository;
+
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.kie.kogito.jobs.service.model.JobDetails;
+import org.kie.kogito.timer.Trigger;
+
+/**
+ * Keyset pagination position over the jobs ordered by (fireTime ASC, priority DESC NULLS LAST, id ASC). A page
+ * starting after a cursor contains the jobs strictly after the job the cursor was created from.
+ * <p>
+ * Jobs without priority, e.g. the ones created through the V2 API, are the lowest priority ones. The storages must
+ * sort and filter them the same way, otherwise the jobs sharing a fire time across a page boundary are skipped.
+ */
+public class JobDetailsCursor {
+
+    /**
+     * Descending priority, null being the lowest priority.
+     */
+    public static final Comparator<Integer> PRIORITY_ORDER = Comparator.nullsFirst(Comparator.<Integer> naturalOrder()).reversed();
+
+    public static final Comparator<JobDetails> ORDER = Comparator
+            .comparingLong(JobDetailsCursor::fireTime)
+            .thenComparing(JobDetails::getPriority, PRIORITY_ORDER)
+            .thenComparing(JobDetails::getId);
+
+    private final long fireTime;
+
+    private final Integer priority;
+
+    private final String id;
+
+    public JobDetailsCursor(long fireTime, Integer priority, String id) {
+        this.fireTime = fireTime;
+        this.priority = priority;
+        this.id = id;
+    }
+
+    public static JobDetailsCursor of(JobDetails job) {
+        return new JobDetailsCursor(fireTime(job), job.getPriority(), job.getId());
+    }
+
+    /**
+     * @return the fire time in epoch milliseconds.
+     */
+    public long getFireTime() {
+        return fireTime;
+    }
+
+    /**
+     * @return the priority, null if the job has no priority.
+     */
+    public Integer getPriority() {
+        return priority;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return true if the given job comes after this position.
+     */
+    public boolean isBefore(JobDetails job) {
+        long jobFireTime = fireTime(job);
+        if (jobFireTime != fireTime) {
+            return jobFireTime > fireTime;
+        }
+        int priorityComparison = PRIORITY_ORDER.compare(job.getPriority(), priority);
+        if (priorityComparison != 0) {
+            return priorityComparison > 0;
+        }
+        return job.getId().compareTo(id) > 0;
+    }
+
+    static long fireTime(JobDetails job) {
+        return Optional.ofNullable(job.getTrigger())
+                .map(Trigger::hasNextFireTime)
+                .map(Date::getTime)
+                .orElse(Long.MAX_VALUE);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof JobDetailsCursor)) {
+            return false;
+        }
+        JobDetailsCursor that = (JobDetailsCursor) o;
+        return fireTime == that.fireTime && Objects.equals(priority, that.priority) && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fireTime, priority, id);
+    }
+
+    @Override
+    public String toString() {
+        return "JobDetailsCursor{" +
+                "fireTime=" + fireTime +
+                ", priority=" + priority +
+                ", id='" + id + '\'' +
+                '}';
+    }
+}
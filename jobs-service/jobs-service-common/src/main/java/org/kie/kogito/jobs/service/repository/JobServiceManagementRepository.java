@@ -15,6 +15,7 @@
  */
 package org.kie.kogito.jobs.service.repository;
 
+import java.util.List;
 import java.util.function.Function;
 
 import org.kie.kogito.jobs.service.model.JobServiceManagementInfo;
@@ -29,4 +30,12 @@ public interface JobServiceManagementRepository {
 
     Uni<JobServiceManagementInfo> heartbeat(JobServiceManagementInfo info);
 
+    /**
+     * Returns all the management entries with an id starting with the given prefix, used by the partitioned mode to
+     * discover the active instances and the partition leases.
+     */
+    Uni<List<JobServiceManagementInfo>> findAll(String idPrefix);
+
+    Uni<Void> delete(String id);
+
 }
@@ -16,6 +16,9 @@
 package org.kie.kogito.jobs.service.repository;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
@@ -36,9 +39,56 @@ public interface ReactiveJobRepository {
 
     CompletionStage<JobDetails> delete(JobDetails job);
 
+    /**
+     * Saves all the given jobs using the minimum number of round trips the storage supports.
+     *
+     * @param jobs the jobs to save.
+     * @return the saved jobs.
+     */
+    CompletionStage<List<JobDetails>> saveAll(List<JobDetails> jobs);
+
+    /**
+     * @param ids the ids of the jobs to fetch.
+     * @return the jobs found, ids not found are ignored.
+     */
+    CompletionStage<List<JobDetails>> getAll(Collection<String> ids);
+
+    /**
+     * @param ids the ids of the jobs to check.
+     * @return the subset of the given ids that exist in the repository.
+     */
+    CompletionStage<Set<String>> findExistingIds(Collection<String> ids);
+
+    /**
+     * Deletes all the given jobs.
+     *
+     * @param jobs the jobs to delete.
+     * @return the deleted jobs.
+     */
+    CompletionStage<List<JobDetails>> deleteAll(List<JobDetails> jobs);
+
     PublisherBuilder<JobDetails> findByStatus(JobStatus... status);
 
     PublisherBuilder<JobDetails> findAll();
 
     PublisherBuilder<JobDetails> findByStatusBetweenDatesOrderByPriority(ZonedDateTime from, ZonedDateTime to, JobStatus... status);
+
+    /**
+     * Fetches a page of the jobs with the given status and fire time between the given dates (inclusive), ordered by
+     * (fireTime ASC, priority DESC, id ASC).
+     *
+     * @param after the position of the last job of the previous page, null to fetch the first page.
+     * @param limit the page size.
+     */
+    CompletionStage<List<JobDetails>> findPageByStatusBetweenDates(ZonedDateTime from, ZonedDateTime to, JobDetailsCursor after, int limit,
+            JobStatus... status);
+
+    /**
+     * Streams all the jobs with the given status and fire time between the given dates, fetching the pages with
+     * {@link #findPageByStatusBetweenDates(ZonedDateTime, ZonedDateTime, JobDetailsCursor, int, JobStatus...)} only
+     * when the subscriber requests more items.
+     *
+     * @param pageSize the number of jobs fetched on each round trip.
+     */
+    PublisherBuilder<JobDetails> streamByStatusBetweenDates(ZonedDateTime from, ZonedDateTime to, int pageSize, JobStatus... status);
 }
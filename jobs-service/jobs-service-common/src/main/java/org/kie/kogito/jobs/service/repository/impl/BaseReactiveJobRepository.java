@@ -15,20 +15,37 @@
  */
 package org.kie.kogito.jobs.service.repository.impl;
 
+import java.time.ZonedDateTime;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.kie.kogito.jobs.service.metrics.JobServiceMetrics;
 import org.kie.kogito.jobs.service.model.JobDetails;
 import org.kie.kogito.jobs.service.model.JobStatus;
+import org.kie.kogito.jobs.service.repository.JobDetailsCursor;
 import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
 import org.kie.kogito.jobs.service.stream.JobStreams;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.smallrye.mutiny.Multi;
 import io.vertx.core.Vertx;
 
 public abstract class BaseReactiveJobRepository implements ReactiveJobRepository {
@@ -37,6 +54,12 @@ public abstract class BaseReactiveJobRepository implements ReactiveJobRepository
 
     private JobStreams jobStreams;
 
+    protected MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+    private final Map<String, Timer> successTimers = new ConcurrentHashMap<>();
+
+    private final Map<String, Timer> failureTimers = new ConcurrentHashMap<>();
+
     protected BaseReactiveJobRepository(Vertx vertx, JobStreams jobStreams) {
         this.vertx = vertx;
         this.jobStreams = jobStreams;
@@ -49,6 +72,29 @@ public abstract class BaseReactiveJobRepository implements ReactiveJobRepository
         return future;
     }
 
+    /**
+     * Records the duration of the given repository operation, tagged with the repository and the operation names.
+     */
+    protected <T> CompletionStage<T> timed(String operation, Supplier<CompletionStage<T>> action) {
+        final long start = System.nanoTime();
+        return action.get()
+                .whenComplete((result, ex) -> operationTimer(ex == null ? successTimers : failureTimers, operation, ex == null)
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+    }
+
+    private Timer operationTimer(Map<String, Timer> timers, String operation, boolean success) {
+        return timers.computeIfAbsent(operation, op -> Timer.builder(JobServiceMetrics.REPOSITORY_OPERATIONS)
+                .description("Duration of the job repository operations")
+                .tag(JobServiceMetrics.REPOSITORY_TAG, getRepositoryName())
+                .tag(JobServiceMetrics.OPERATION_TAG, op)
+                .tag(JobServiceMetrics.OUTCOME_TAG, success ? JobServiceMetrics.SUCCESS : JobServiceMetrics.FAILURE)
+                .register(meterRegistry));
+    }
+
+    protected String getRepositoryName() {
+        return getClass().getSimpleName();
+    }
+
     @Override
     public PublisherBuilder<JobDetails> findByStatus(JobStatus... status) {
         return findAll()
@@ -56,20 +102,119 @@ public abstract class BaseReactiveJobRepository implements ReactiveJobRepository
                 .filter(job -> Arrays.stream(status).anyMatch(job.getStatus()::equals));
     }
 
+    @Override
+    public PublisherBuilder<JobDetails> streamByStatusBetweenDates(ZonedDateTime from, ZonedDateTime to, int pageSize, JobStatus... status) {
+        final AtomicReference<JobDetailsCursor> cursor = new AtomicReference<>();
+        return ReactiveStreams.fromPublisher(Multi.createBy().repeating()
+                .completionStage(() -> timed("findPage", () -> findPageByStatusBetweenDates(from, to, cursor.get(), pageSize, status))
+                        .thenApply(page -> {
+                            if (!page.isEmpty()) {
+                                cursor.set(JobDetailsCursor.of(page.get(page.size() - 1)));
+                            }
+                            return page;
+                        }))
+                //a page smaller than the page size is the last one
+                .whilst(page -> page.size() == pageSize)
+                .onItem().<JobDetails> disjoint());
+    }
+
+    /**
+     * By default the page is resolved in memory over
+     * {@link #findByStatusBetweenDatesOrderByPriority(ZonedDateTime, ZonedDateTime, JobStatus...)}, the concrete
+     * repositories should override it to push the keyset condition down to the storage.
+     */
+    @Override
+    public CompletionStage<List<JobDetails>> findPageByStatusBetweenDates(ZonedDateTime from, ZonedDateTime to, JobDetailsCursor after, int limit,
+            JobStatus... status) {
+        return findByStatusBetweenDatesOrderByPriority(from, to, status)
+                .filter(job -> after == null || after.isBefore(job))
+                .toList()
+                .run()
+                .thenApply(jobs -> jobs.stream()
+                        .sorted(JobDetailsCursor.ORDER)
+                        .limit(limit)
+                        .collect(Collectors.toList()));
+    }
+
     @Override
     public CompletionStage<JobDetails> save(JobDetails job) {
-        return doSave(job)
+        return timed("save", () -> doSave(job))
                 .thenApply(jobStreams::publishJobStatusChange);
     }
 
     public abstract CompletionStage<JobDetails> doSave(JobDetails job);
 
+    @Override
+    public CompletionStage<List<JobDetails>> saveAll(List<JobDetails> jobs) {
+        if (jobs.isEmpty()) {
+            return CompletableFuture.completedFuture(jobs);
+        }
+        return timed("saveAll", () -> doSaveAll(jobs))
+                .thenApply(saved -> saved.stream()
+                        .map(jobStreams::publishJobStatusChange)
+                        .collect(Collectors.toList()));
+    }
+
+    /**
+     * Saves all the given jobs, by default it saves the jobs one by one, the concrete repositories should override it
+     * to use the batch operations of the storage.
+     */
+    public CompletionStage<List<JobDetails>> doSaveAll(List<JobDetails> jobs) {
+        return allOf(jobs, this::doSave);
+    }
+
+    @Override
+    public CompletionStage<List<JobDetails>> getAll(Collection<String> ids) {
+        return allOf(ids, this::get);
+    }
+
+    @Override
+    public CompletionStage<Set<String>> findExistingIds(Collection<String> ids) {
+        return getAll(ids)
+                .thenApply(jobs -> jobs.stream()
+                        .map(JobDetails::getId)
+                        .collect(Collectors.toSet()));
+    }
+
     @Override
     public CompletionStage<JobDetails> delete(JobDetails job) {
-        return delete(job.getId())
+        return timed("delete", () -> delete(job.getId()))
                 .thenApply(j -> jobStreams.publishJobStatusChange(job));
     }
 
+    @Override
+    public CompletionStage<List<JobDetails>> deleteAll(List<JobDetails> jobs) {
+        if (jobs.isEmpty()) {
+            return CompletableFuture.completedFuture(jobs);
+        }
+        return timed("deleteAll", () -> doDeleteAll(jobs.stream().map(JobDetails::getId).collect(Collectors.toList())))
+                .thenApply(deleted -> jobs.stream()
+                        .map(jobStreams::publishJobStatusChange)
+                        .collect(Collectors.toList()));
+    }
+
+    /**
+     * Deletes all the jobs with the given ids, by default it deletes the jobs one by one, the concrete repositories
+     * should override it to use the batch operations of the storage.
+     *
+     * @return the deleted jobs.
+     */
+    public CompletionStage<List<JobDetails>> doDeleteAll(Collection<String> ids) {
+        return allOf(ids, this::delete);
+    }
+
+    private static <T> CompletionStage<List<JobDetails>> allOf(Collection<T> items, Function<T, CompletionStage<JobDetails>> operation) {
+        final List<CompletableFuture<JobDetails>> futures = items.stream()
+                .map(operation)
+                .map(CompletionStage::toCompletableFuture)
+                .collect(Collectors.toList());
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(v -> futures.stream()
+                        .map(CompletableFuture::join)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList()));
+    }
+
     @Override
     public CompletionStage<JobDetails> merge(String id, JobDetails jobToMerge) {
         return Optional.ofNullable(id)
@@ -15,8 +15,12 @@
  */
 package org.kie.kogito.jobs.service.repository.impl;
 
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import javax.enterprise.context.ApplicationScoped;
 
@@ -31,22 +35,46 @@ import io.smallrye.mutiny.Uni;
 @ApplicationScoped
 public class DefaultJobServiceManagementRepository implements JobServiceManagementRepository {
 
-    private AtomicReference<JobServiceManagementInfo> instance = new AtomicReference<>(new JobServiceManagementInfo(null, null, null));
+    private final Map<String, JobServiceManagementInfo> instances = new HashMap<>();
 
     @Override
-    public Uni<JobServiceManagementInfo> getAndUpdate(String id, Function<JobServiceManagementInfo, JobServiceManagementInfo> computeUpdate) {
-        return set(computeUpdate.apply(instance.get()));
+    public synchronized Uni<JobServiceManagementInfo> getAndUpdate(String id, Function<JobServiceManagementInfo, JobServiceManagementInfo> computeUpdate) {
+        JobServiceManagementInfo updated = computeUpdate.apply(instances.get(id));
+        if (Objects.isNull(updated)) {
+            return Uni.createFrom().nullItem();
+        }
+        return set(updated);
     }
 
     @Override
-    public Uni<JobServiceManagementInfo> set(JobServiceManagementInfo info) {
-        instance.set(info);
-        return Uni.createFrom().item(instance.get());
+    public synchronized Uni<JobServiceManagementInfo> set(JobServiceManagementInfo info) {
+        instances.put(info.getId(), info);
+        return Uni.createFrom().item(info);
     }
 
     @Override
-    public Uni<JobServiceManagementInfo> heartbeat(JobServiceManagementInfo info) {
+    public synchronized Uni<JobServiceManagementInfo> heartbeat(JobServiceManagementInfo info) {
+        JobServiceManagementInfo current = instances.get(info.getId());
+        if (Objects.isNull(current) || !Objects.equals(current.getToken(), info.getToken())) {
+            //the instance does not hold the entry anymore
+            return Uni.createFrom().nullItem();
+        }
         info.setLastHeartbeat(DateUtil.now().toOffsetDateTime());
         return set(info);
     }
+
+    @Override
+    public synchronized Uni<List<JobServiceManagementInfo>> findAll(String idPrefix) {
+        return Uni.createFrom().item(instances.values()
+                .stream()
+                .filter(i -> Objects.nonNull(i.getId()) && i.getId().startsWith(idPrefix))
+                .map(i -> new JobServiceManagementInfo(i.getId(), i.getToken(), i.getLastHeartbeat()))
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public synchronized Uni<Void> delete(String id) {
+        instances.remove(id);
+        return Uni.createFrom().voidItem();
+    }
 }
@@ -16,10 +16,13 @@
 package org.kie.kogito.jobs.service.repository.impl;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
@@ -32,6 +35,7 @@ import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
 import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
 import org.kie.kogito.jobs.service.model.JobDetails;
 import org.kie.kogito.jobs.service.model.JobStatus;
+import org.kie.kogito.jobs.service.repository.JobDetailsCursor;
 import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
 import org.kie.kogito.jobs.service.stream.JobStreams;
 import org.kie.kogito.jobs.service.utils.DateUtil;
@@ -62,6 +66,14 @@ public class InMemoryJobRepository extends BaseReactiveJobRepository implements
         });
     }
 
+    @Override
+    public CompletionStage<List<JobDetails>> doSaveAll(List<JobDetails> jobs) {
+        return runAsync(() -> {
+            jobs.forEach(job -> jobMap.put(job.getId(), job));
+            return jobs;
+        });
+    }
+
     @Override
     public CompletionStage<JobDetails> get(String key) {
         return runAsync(() -> jobMap.get(key));
@@ -72,11 +84,34 @@ public class InMemoryJobRepository extends BaseReactiveJobRepository implements
         return runAsync(() -> jobMap.containsKey(key));
     }
 
+    @Override
+    public CompletionStage<List<JobDetails>> getAll(Collection<String> keys) {
+        return runAsync(() -> keys.stream()
+                .map(jobMap::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public CompletionStage<Set<String>> findExistingIds(Collection<String> keys) {
+        return runAsync(() -> keys.stream()
+                .filter(jobMap::containsKey)
+                .collect(Collectors.toSet()));
+    }
+
     @Override
     public CompletionStage<JobDetails> delete(String key) {
         return runAsync(() -> jobMap.remove(key));
     }
 
+    @Override
+    public CompletionStage<List<JobDetails>> doDeleteAll(Collection<String> keys) {
+        return runAsync(() -> keys.stream()
+                .map(jobMap::remove)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()));
+    }
+
     @Override
     public PublisherBuilder<JobDetails> findAll() {
         return ReactiveStreams.fromIterable(jobMap.values());
@@ -94,4 +129,21 @@ public class InMemoryJobRepository extends BaseReactiveJobRepository implements
                         .sorted(Comparator.comparing(JobDetails::getPriority).reversed())
                         .collect(Collectors.toList()));
     }
+
+    @Override
+    public CompletionStage<List<JobDetails>> findPageByStatusBetweenDates(ZonedDateTime from, ZonedDateTime to, JobDetailsCursor after, int limit,
+            JobStatus... status) {
+        return runAsync(() -> jobMap.values()
+                .stream()
+                .filter(j -> Objects.nonNull(j.getStatus()) && Stream.of(status).anyMatch(j.getStatus()::equals))
+                .filter(j -> Objects.nonNull(j.getTrigger()) && Objects.nonNull(j.getTrigger().hasNextFireTime()))
+                .filter(j -> {
+                    ZonedDateTime fireTime = DateUtil.fromDate(j.getTrigger().hasNextFireTime());
+                    return !fireTime.isBefore(from) && !fireTime.isAfter(to);
+                })
+                .filter(j -> after == null || after.isBefore(j))
+                .sorted(JobDetailsCursor.ORDER)
+                .limit(limit)
+                .collect(Collectors.toList()));
+    }
 }
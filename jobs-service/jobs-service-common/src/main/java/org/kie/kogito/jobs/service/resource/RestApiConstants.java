@@ -20,4 +20,5 @@ public interface RestApiConstants {
     String V1 = "";
     String V2 = "/v2";
     String JOBS_PATH = "/jobs";
+    String BATCH_PATH = "/batch";
 }
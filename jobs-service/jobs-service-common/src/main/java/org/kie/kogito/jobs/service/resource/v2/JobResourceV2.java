@@ -15,6 +15,9 @@
  */
 package org.kie.kogito.jobs.service.resource.v2;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 import javax.ws.rs.Consumes;
@@ -68,6 +71,23 @@ public class JobResourceV2 {
                 .onItem().transform(JobDetailsAdapter::toJob);
     }
 
+    @POST
+    @Produces(MediaType.APPLICATION_JSON)
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Path(RestApiConstants.BATCH_PATH)
+    @Operation(operationId = "createJobsV2")
+    public Uni<List<Job>> createBatch(List<Job> jobs) {
+        LOGGER.debug("REST create batch of {} jobs", jobs.size());
+        jobs.forEach(jobValidator::validateToCreate);
+        List<JobDetails> jobDetails = jobs.stream()
+                .map(JobDetailsAdapter::from)
+                .collect(Collectors.toList());
+        return Uni.createFrom().completionStage(scheduler.schedule(jobDetails))
+                .onItem().transform(scheduled -> scheduled.stream()
+                        .map(JobDetailsAdapter::toJob)
+                        .collect(Collectors.toList()));
+    }
+
     @DELETE
     @Produces(MediaType.APPLICATION_JSON)
     @Path("/{id}")
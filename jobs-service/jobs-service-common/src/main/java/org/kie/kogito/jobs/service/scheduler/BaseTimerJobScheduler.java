@@ -18,19 +18,29 @@ package org.kie.kogito.jobs.service.scheduler;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
 import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
 import org.kie.kogito.jobs.service.exception.InvalidScheduleTimeException;
 import org.kie.kogito.jobs.service.exception.JobServiceException;
+import org.kie.kogito.jobs.service.metrics.JobServiceMetrics;
 import org.kie.kogito.jobs.service.model.JobDetails;
 import org.kie.kogito.jobs.service.model.JobExecutionResponse;
 import org.kie.kogito.jobs.service.model.JobStatus;
@@ -44,6 +54,12 @@ import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 /**
@@ -74,6 +90,16 @@ public abstract class BaseTimerJobScheduler implements ReactiveJobScheduler {
 
     private final Map<String, ZonedDateTime> schedulerControl;
 
+    protected MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+    private Timer schedulingLatency;
+
+    private final AtomicBoolean pendingTimersRegistered = new AtomicBoolean(false);
+
+    private final Map<String, Counter> executionErrors = new ConcurrentHashMap<>();
+
+    private final Map<String, Counter> retries = new ConcurrentHashMap<>();
+
     protected BaseTimerJobScheduler() {
         this(null, 0, 0, 0, null);
     }
@@ -94,20 +120,101 @@ public abstract class BaseTimerJobScheduler implements ReactiveJobScheduler {
     @Override
     public Publisher<JobDetails> schedule(JobDetails job) {
         LOGGER.debug("Scheduling {}", job);
+        final Publisher<JobDetails> scheduling = doScheduleJob(job);
+        return Multi.createFrom().deferred(() -> {
+            final long start = System.nanoTime();
+            return Multi.createFrom().publisher(scheduling)
+                    .onTermination().invoke(() -> schedulingLatency().record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    private Publisher<JobDetails> doScheduleJob(JobDetails job) {
         return ReactiveStreams
                 //check if the job is already scheduled and persisted
                 .fromCompletionStage(jobRepository.exists(job.getId()))
                 .flatMap(exists -> Boolean.TRUE.equals(exists)
                         ? handleExistingJob(job).map(existingJob -> Pair.of(exists, existingJob))
                         : ReactiveStreams.of(Pair.of(exists, job)))
-                .flatMap(pair -> isOnCurrentSchedulerChunk(job)
+                .flatMap(pair -> isOnCurrentSchedulerChunk(job) && isOwned(job)
                         //in case the job is on the current bulk, proceed with scheduling process
                         ? doJobScheduling(job, pair.getLeft())
                         //in case the job is not on the current bulk, just save it to be scheduled later
-                        : ReactiveStreams.fromCompletionStage(jobRepository.save(jobWithStatus(job, JobStatus.SCHEDULED))))
+                        : ReactiveStreams.fromCompletionStage(jobRepository.save(jobWithStatus(job, JobStatus.SCHEDULED)))
+                                //jobs on the current bulk of other instances are notified to be loaded by their owner
+                                .peek(saved -> {
+                                    if (isOnCurrentSchedulerChunk(saved)) {
+                                        notifyOwner(saved);
+                                    }
+                                }))
                 .buildRs();
     }
 
+    /**
+     * Schedules a list of jobs using the batch operations of the repository. New jobs are persisted with a single
+     * {@link ReactiveJobRepository#saveAll(List)} before being scheduled, and the ones on the current chunk are saved
+     * again with their scheduling handles in a second batch. Already existing jobs require the cancel and retry
+     * handling, so they follow the same path as {@link #schedule(JobDetails)}. When a job id is repeated in the list,
+     * only its last occurrence is scheduled, as if the jobs were scheduled one after the other.
+     *
+     * @param jobs the jobs to schedule.
+     * @return the scheduled jobs.
+     */
+    @Override
+    public CompletionStage<List<JobDetails>> schedule(List<JobDetails> batch) {
+        LOGGER.debug("Scheduling {} jobs", batch.size());
+        final List<JobDetails> jobs = new ArrayList<>(batch.stream()
+                .collect(Collectors.toMap(JobDetails::getId, Function.identity(), (first, last) -> last, LinkedHashMap::new))
+                .values());
+        return Uni.createFrom().completionStage(jobRepository.findExistingIds(jobs.stream().map(JobDetails::getId).collect(Collectors.toList())))
+                .chain(existing -> scheduleNewJobs(jobs.stream().filter(j -> !existing.contains(j.getId())).collect(Collectors.toList()))
+                        .chain(scheduled -> scheduleExistingJobs(jobs, existing)
+                                .map(rescheduled -> {
+                                    List<JobDetails> result = new ArrayList<>(scheduled);
+                                    result.addAll(rescheduled);
+                                    return result;
+                                })))
+                .convert()
+                .toCompletionStage();
+    }
+
+    private Uni<List<JobDetails>> scheduleNewJobs(List<JobDetails> jobs) {
+        final List<JobDetails> onCurrentChunk = jobs.stream().filter(this::isOnCurrentSchedulerChunk).filter(this::isOwned).collect(Collectors.toList());
+        //validate the whole batch before persisting anything
+        onCurrentChunk.forEach(this::validateScheduleTime);
+        return Uni.createFrom().completionStage(jobRepository.saveAll(jobs.stream()
+                .map(job -> jobWithStatus(job, JobStatus.SCHEDULED))
+                .collect(Collectors.toList())))
+                .onItem().invoke(saved -> saved.stream()
+                        .filter(this::isOnCurrentSchedulerChunk)
+                        .filter(job -> !isOwned(job))
+                        .forEach(this::notifyOwner))
+                .chain(saved -> Multi.createFrom().iterable(onCurrentChunk)
+                        .onItem().transformToUniAndConcatenate(job -> Uni.createFrom().publisher(scheduleRegistering(job, Optional.empty()).buildRs())
+                                .map(handle -> jobWithStatusAndHandle(job, JobStatus.SCHEDULED, handle)))
+                        .collect().asList()
+                        .chain(scheduled -> Uni.createFrom().completionStage(jobRepository.saveAll(scheduled)))
+                        .map(scheduled -> {
+                            //jobs out of the current chunk are only persisted to be scheduled later
+                            Set<String> scheduledIds = scheduled.stream().map(JobDetails::getId).collect(Collectors.toSet());
+                            List<JobDetails> result = new ArrayList<>(scheduled);
+                            saved.stream().filter(j -> !scheduledIds.contains(j.getId())).forEach(result::add);
+                            return result;
+                        }));
+    }
+
+    private Uni<List<JobDetails>> scheduleExistingJobs(List<JobDetails> jobs, Set<String> existing) {
+        return Multi.createFrom().iterable(jobs)
+                .select().where(j -> existing.contains(j.getId()))
+                .onItem().transformToUniAndConcatenate(job -> Uni.createFrom().publisher(schedule(job)))
+                .collect().asList();
+    }
+
+    private void validateScheduleTime(JobDetails job) {
+        if (calculateDelay(DateUtil.fromDate(job.getTrigger().hasNextFireTime())).isNegative()) {
+            throw new InvalidScheduleTimeException("The expirationTime should be greater than current time");
+        }
+    }
+
     @Override
     public PublisherBuilder<JobDetails> reschedule(String id, Trigger trigger) {
         return ReactiveStreams.fromCompletionStageNullable(jobRepository.merge(id, JobDetails.builder().trigger(trigger).build()))
@@ -144,14 +251,16 @@ public abstract class BaseTimerJobScheduler implements ReactiveJobScheduler {
                 // new jobs in current bulk must be stored in the repository before we proceed to schedule, the same as
                 // way as we do with new jobs that aren't. In this way we provide the same pattern for both cases.
                 // https://issues.redhat.com/browse/KOGITO-8513
-                .flatMap(delay -> !exists
+                .flatMap(delay -> !exists || !isOwned(job)
                         ? ReactiveStreams.fromCompletionStage(jobRepository.save(jobWithStatus(job, JobStatus.SCHEDULED)))
                         : ReactiveStreams.fromCompletionStage(CompletableFuture.completedFuture(job)))
-                //schedule the job on the scheduler
-                .flatMap(j -> scheduleRegistering(job, Optional.empty()))
-                .map(handle -> jobWithStatusAndHandle(job, JobStatus.SCHEDULED, handle))
-                .map(scheduledJob -> jobRepository.save(scheduledJob))
-                .flatMapCompletionStage(p -> p);
+                //schedule the job on the scheduler, jobs not owned are only persisted with the next fire time
+                .flatMap(j -> isOwned(job)
+                        ? scheduleRegistering(job, Optional.empty())
+                                .map(handle -> jobWithStatusAndHandle(job, JobStatus.SCHEDULED, handle))
+                                .map(scheduledJob -> jobRepository.save(scheduledJob))
+                                .flatMapCompletionStage(p -> p)
+                        : ReactiveStreams.of(j));
     }
 
     /**
@@ -163,6 +272,22 @@ public abstract class BaseTimerJobScheduler implements ReactiveJobScheduler {
         return DateUtil.fromDate(job.getTrigger().hasNextFireTime()).isBefore(DateUtil.now().plusMinutes(schedulerChunkInMinutes));
     }
 
+    /**
+     * Check if the job should be handled by the current instance, jobs that are not owned are only persisted, to be
+     * scheduled by the instance they belong to.
+     */
+    protected boolean isOwned(JobDetails job) {
+        return true;
+    }
+
+    /**
+     * Notifies the instance owning the given job that it was persisted by the current instance within the current
+     * chunk, so it is loaded without waiting for the next periodic load. Only called for jobs that are not owned.
+     */
+    protected void notifyOwner(JobDetails job) {
+        //nothing to notify when the current instance handles all the jobs
+    }
+
     private PublisherBuilder<JobDetails> handleExistingJob(JobDetails job) {
         //always returns true, canceling in case the job is already schedule
         return ReactiveStreams.fromCompletionStage(jobRepository.get(job.getId()))
@@ -256,7 +381,13 @@ public abstract class BaseTimerJobScheduler implements ReactiveJobScheduler {
      */
     @Override
     public PublisherBuilder<JobDetails> handleJobExecutionError(JobExecutionResponse errorResponse) {
-        return handleRetry(jobRepository.get(errorResponse.getJobId()));
+        return handleRetry(jobRepository.get(errorResponse.getJobId())
+                .thenApply(job -> {
+                    if (job != null) {
+                        counter(executionErrors, JobServiceMetrics.EXECUTION_ERRORS, "Failed job executions", job).increment();
+                    }
+                    return job;
+                }));
     }
 
     private PublisherBuilder<JobDetails> handleRetry(CompletionStage<JobDetails> futureJob) {
@@ -264,12 +395,16 @@ public abstract class BaseTimerJobScheduler implements ReactiveJobScheduler {
                 .flatMap(scheduledJob -> handleExpirationTime(scheduledJob)
                         .map(JobDetails::getStatus)
                         .filter(s -> !JobStatus.ERROR.equals(s))
-                        .map(s -> scheduleRegistering(scheduledJob, Optional.of(getRetryTrigger())))
-                        .flatMap(p -> p)
-                        .map(scheduleId -> JobDetails.builder()
-                                .of(jobWithStatusAndHandle(scheduledJob, JobStatus.RETRY, scheduleId))
+                        .flatMap(s -> isOwned(scheduledJob)
+                                ? scheduleRegistering(scheduledJob, Optional.of(getRetryTrigger()))
+                                        .map(scheduleId -> jobWithStatusAndHandle(scheduledJob, JobStatus.RETRY, scheduleId))
+                                //jobs not owned are only persisted in RETRY status, to be retried by their executor
+                                : ReactiveStreams.of(jobWithStatus(scheduledJob, JobStatus.RETRY)))
+                        .map(retryJob -> JobDetails.builder()
+                                .of(retryJob)
                                 .incrementRetries()
                                 .build())
+                        .peek(retryJob -> counter(retries, JobServiceMetrics.RETRIES, "Retries of failed job executions", retryJob).increment())
                         .map(jobRepository::save)
                         .flatMapCompletionStage(p -> p))
                 .peek(job -> LOGGER.debug("Retry executed {}", job));
@@ -299,7 +434,39 @@ public abstract class BaseTimerJobScheduler implements ReactiveJobScheduler {
     }
 
     private Consumer<JobHandle> registerScheduledJob(JobDetails job) {
-        return s -> schedulerControl.put(job.getId(), DateUtil.now());
+        return s -> {
+            registerPendingTimers();
+            schedulerControl.put(job.getId(), DateUtil.now());
+        };
+    }
+
+    /**
+     * The gauge is bound to this instance, it is registered on the first scheduled job, so it is not bound to a
+     * client proxy.
+     */
+    private void registerPendingTimers() {
+        if (pendingTimersRegistered.compareAndSet(false, true)) {
+            Gauge.builder(JobServiceMetrics.PENDING_TIMERS, schedulerControl, Map::size)
+                    .description("Jobs programmed on the in-memory timers")
+                    .register(meterRegistry);
+        }
+    }
+
+    private Timer schedulingLatency() {
+        if (schedulingLatency == null) {
+            schedulingLatency = Timer.builder(JobServiceMetrics.SCHEDULING_LATENCY)
+                    .description("Time to persist and program a job on the scheduler")
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry);
+        }
+        return schedulingLatency;
+    }
+
+    private Counter counter(Map<String, Counter> counters, String name, String description, JobDetails job) {
+        return counters.computeIfAbsent(JobServiceMetrics.recipientType(job), recipient -> Counter.builder(name)
+                .description(description)
+                .tag(JobServiceMetrics.RECIPIENT_TAG, recipient)
+                .register(meterRegistry));
     }
 
     public abstract PublisherBuilder<ManageableJobHandle> doSchedule(JobDetails job, Optional<Trigger> trigger);
@@ -311,7 +478,9 @@ public abstract class BaseTimerJobScheduler implements ReactiveJobScheduler {
     public CompletionStage<JobDetails> cancel(CompletionStage<JobDetails> futureJob) {
         return Uni.createFrom().completionStage(futureJob)
                 .onItem().invoke(job -> LOGGER.debug("Cancel Job Scheduling {}", job))
+                //the scheduled id is only valid on the instance that owns the job
                 .chain(scheduledJob -> Optional.ofNullable(scheduledJob.getScheduledId())
+                        .filter(id -> isOwned(scheduledJob))
                         .map(id -> Uni.createFrom().publisher(this.doCancel(scheduledJob))
                                 .onItem().transform(b -> scheduledJob))
                         .orElse(Uni.createFrom().item(scheduledJob)))
@@ -333,6 +502,33 @@ public abstract class BaseTimerJobScheduler implements ReactiveJobScheduler {
 
     public abstract Publisher<ManageableJobHandle> doCancel(JobDetails scheduledJob);
 
+    /**
+     * Removes the jobs matching the given filter from the in-memory scheduler, keeping them in the repository, e.g.
+     * when the current instance is not responsible for them anymore.
+     *
+     * @param filter the job ids filter.
+     * @return the number of unscheduled jobs.
+     */
+    public CompletionStage<Integer> unschedule(Predicate<String> filter) {
+        final List<String> ids = schedulerControl.keySet().stream().filter(filter).collect(Collectors.toList());
+        return Multi.createFrom().iterable(ids)
+                .onItem().transformToUniAndConcatenate(id -> Uni.createFrom().completionStage(jobRepository.get(id))
+                        .onItem().ifNotNull().transformToUni(job -> Uni.createFrom().publisher(doCancel(job)))
+                        .onItem().transform(handle -> {
+                            schedulerControl.remove(id);
+                            return id;
+                        }))
+                .collect().with(Collectors.counting())
+                .map(Long::intValue)
+                .onItem().invoke(count -> LOGGER.debug("Unscheduled {} jobs", count))
+                .convert()
+                .toCompletionStage();
+    }
+
+    protected ReactiveJobRepository getJobRepository() {
+        return jobRepository;
+    }
+
     @Override
     public Optional<ZonedDateTime> scheduled(String jobId) {
         return Optional.ofNullable(schedulerControl.get(jobId));
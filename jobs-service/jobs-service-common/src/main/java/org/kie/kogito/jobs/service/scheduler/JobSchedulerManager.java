@@ -15,9 +15,12 @@
  */
 package org.kie.kogito.jobs.service.scheduler;
 
+import java.time.ZonedDateTime;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.annotation.Priority;
 import javax.enterprise.context.ApplicationScoped;
@@ -27,16 +30,25 @@ import javax.interceptor.Interceptor;
 
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.kie.kogito.jobs.service.management.JobServicePartitionManager;
 import org.kie.kogito.jobs.service.management.MessagingChangeEvent;
+import org.kie.kogito.jobs.service.management.PartitionChangeEvent;
+import org.kie.kogito.jobs.service.metrics.JobServiceMetrics;
 import org.kie.kogito.jobs.service.model.JobDetails;
 import org.kie.kogito.jobs.service.model.JobStatus;
 import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
 import org.kie.kogito.jobs.service.scheduler.impl.TimerDelegateJobScheduler;
 import org.kie.kogito.jobs.service.utils.DateUtil;
 import org.kie.kogito.jobs.service.utils.ErrorHandling;
+import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import io.quarkus.runtime.StartupEvent;
 import io.vertx.mutiny.core.Vertx;
 
@@ -65,16 +77,44 @@ public class JobSchedulerManager {
     @ConfigProperty(name = "kogito.jobs-service.loadJobFromCurrentTimeIntervalInMinutes", defaultValue = "0")
     long loadJobFromCurrentTimeIntervalInMinutes;
 
+    /**
+     * The number of jobs fetched from the repository on each round trip of the job loading method, the next page is
+     * only fetched when the previous one was scheduled.
+     */
+    @ConfigProperty(name = "kogito.jobs-service.loadJobPageSize", defaultValue = "1000")
+    int loadJobPageSize;
+
+    /**
+     * When the due jobs are polled from the storage there is nothing to load in the in-memory scheduler.
+     */
+    @ConfigProperty(name = "kogito.jobs-service.poller.enabled", defaultValue = "false")
+    boolean pollerEnabled;
+
     @Inject
     TimerDelegateJobScheduler scheduler;
 
     @Inject
     ReactiveJobRepository repository;
 
+    @Inject
+    JobServicePartitionManager partitionManager;
+
     @Inject
     Vertx vertx;
+
+    protected MeterRegistry meterRegistry = Metrics.globalRegistry;
+
     private AtomicBoolean enabled = new AtomicBoolean(false);
 
+    /**
+     * High-water mark of the loaded jobs, the upper fire time limit of the last successful load. Jobs with fire time
+     * up to this limit were already loaded, or scheduled directly when they were created since they were on the
+     * current chunk, so the next periodic load only fetches the jobs after it. When some jobs of a load failed to be
+     * scheduled, the mark stops at the earliest fire time of them, so they are loaded again by the next load. It is
+     * not used in the partitioned mode, since jobs owned by this instance can be created through any other instance.
+     */
+    private final AtomicReference<ZonedDateTime> loadedUntil = new AtomicReference<>();
+
     void onStartup(@Observes @Priority(Interceptor.Priority.PLATFORM_AFTER) StartupEvent startupEvent) {
         if (loadJobIntervalInMinutes > schedulerChunkInMinutes) {
             LOGGER.warn("The loadJobIntervalInMinutes ({}) cannot be greater than schedulerChunkInMinutes ({}), " +
@@ -93,33 +133,93 @@ public class JobSchedulerManager {
 
     protected void onMessagingStatusChange(@Observes MessagingChangeEvent event) {
         this.enabled.set(event.isEnabled());
+        //any change on the instance status requires a full load
+        this.loadedUntil.set(null);
+    }
+
+    protected void onPartitionChange(@Observes PartitionChangeEvent event) {
+        if (!event.getReleased().isEmpty()) {
+            //the jobs of the released partitions are going to be executed by other instances
+            scheduler.unschedule(id -> event.getReleased().contains(partitionManager.partitionOf(id)))
+                    .whenComplete((count, ex) -> Optional.ofNullable(ex)
+                            .ifPresentOrElse(e -> LOGGER.error("Error unscheduling jobs of partitions {}", event.getReleased(), e),
+                                    () -> LOGGER.info("Unscheduled {} jobs of released partitions {}", count, event.getReleased())));
+        }
+        if (!event.getAcquired().isEmpty() || !event.getNotified().isEmpty()) {
+            //load the jobs of the new partitions, or the ones persisted through other instances on the current chunk
+            vertx.runOnContext(this::loadJobDetails);
+        }
     }
 
     //Runs periodically loading the jobs from the repository in chunks
     void loadJobDetails() {
+        if (pollerEnabled) {
+            LOGGER.debug("Skip loading scheduled jobs, due jobs are polled from the repository");
+            return;
+        }
         if (!enabled.get()) {
             LOGGER.info("Skip loading scheduled jobs");
             return;
         }
-        loadJobsInCurrentChunk()
+        final ZonedDateTime previousLoadedUntil = partitionManager.isEnabled() ? null : loadedUntil.get();
+        final ZonedDateTime from = Optional.ofNullable(previousLoadedUntil)
+                .orElseGet(() -> DateUtil.now().minusMinutes(loadJobFromCurrentTimeIntervalInMinutes));
+        final ZonedDateTime to = DateUtil.now().plusMinutes(schedulerChunkInMinutes);
+        final long start = System.nanoTime();
+        final AtomicInteger loaded = new AtomicInteger();
+        final AtomicReference<ZonedDateTime> loadedUntilNow = new AtomicReference<>(to);
+        loadJobsBetweenDates(from, to)
+                .peek(j -> loaded.incrementAndGet())
+                .filter(j -> partitionManager.isOwned(j.getId()))//not consider jobs of other instances partitions
                 .filter(j -> !scheduler.scheduled(j.getId()).isPresent())//not consider already scheduled jobs
-                .flatMapRsPublisher(t -> ErrorHandling.skipErrorPublisher(scheduler::schedule, t))
+                .flatMapRsPublisher(t -> ErrorHandling.skipErrorPublisher(j -> schedule(j, from, loadedUntilNow), t))
                 .forEach(a -> LOGGER.debug("Loaded and scheduled job {}", a))
                 .run()
                 .whenComplete((v, t) -> Optional.ofNullable(t)
                         .map(ex -> {
+                            recordLoad(JobServiceMetrics.FAILURE, start, loaded.get());
                             LOGGER.error("Error Loading scheduled jobs!", ex);
                             return null;
                         })
                         .orElseGet(() -> {
-                            LOGGER.info("Loading scheduled jobs completed !");
+                            //only move the mark if no full load was requested in the meantime
+                            loadedUntil.compareAndSet(previousLoadedUntil, loadedUntilNow.get());
+                            recordLoad(JobServiceMetrics.SUCCESS, start, loaded.get());
+                            LOGGER.info("Loading scheduled jobs completed, {} jobs loaded !", loaded.get());
                             return null;
                         }));
     }
 
-    private PublisherBuilder<JobDetails> loadJobsInCurrentChunk() {
-        return repository.findByStatusBetweenDatesOrderByPriority(DateUtil.now().minusMinutes(loadJobFromCurrentTimeIntervalInMinutes),
-                DateUtil.now().plusMinutes(schedulerChunkInMinutes),
-                JobStatus.SCHEDULED, JobStatus.RETRY);
+    /**
+     * Schedules a loaded job, moving the given mark back to the fire time of the job when it fails to be scheduled,
+     * or to the start of the load when the job has no fire time.
+     */
+    private Publisher<JobDetails> schedule(JobDetails job, ZonedDateTime from, AtomicReference<ZonedDateTime> loadedUntilNow) {
+        return ReactiveStreams.fromPublisher(scheduler.schedule(job))
+                .onError(e -> {
+                    ZonedDateTime fireTime = Optional.ofNullable(job.getTrigger())
+                            .map(trigger -> trigger.hasNextFireTime())
+                            .map(DateUtil::fromDate)
+                            .orElse(from);
+                    loadedUntilNow.accumulateAndGet(fireTime, (current, failed) -> failed.isBefore(current) ? failed : current);
+                })
+                .buildRs();
+    }
+
+    private void recordLoad(String outcome, long start, int loaded) {
+        Timer.builder(JobServiceMetrics.LOAD_DURATION)
+                .description("Duration of the periodic loads of the jobs from the repository")
+                .tag(JobServiceMetrics.OUTCOME_TAG, outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder(JobServiceMetrics.LOADED_JOBS)
+                .description("Jobs read from the repository on each periodic load")
+                .register(meterRegistry)
+                .record(loaded);
+    }
+
+    private PublisherBuilder<JobDetails> loadJobsBetweenDates(ZonedDateTime from, ZonedDateTime to) {
+        LOGGER.debug("Loading jobs between {} and {}", from, to);
+        return repository.streamByStatusBetweenDates(from, to, loadJobPageSize, JobStatus.SCHEDULED, JobStatus.RETRY);
     }
 }
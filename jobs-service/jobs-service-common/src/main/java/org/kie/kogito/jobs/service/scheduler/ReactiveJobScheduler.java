@@ -15,6 +15,7 @@
  */
 package org.kie.kogito.jobs.service.scheduler;
 
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
@@ -27,6 +28,8 @@ public interface ReactiveJobScheduler extends JobScheduler<Publisher<JobDetails>
 
     Publisher<JobDetails> schedule(JobDetails job);
 
+    CompletionStage<List<JobDetails>> schedule(List<JobDetails> jobs);
+
     CompletionStage<JobDetails> cancel(String jobId);
 
     PublisherBuilder<JobDetails> reschedule(String id, Trigger trigger);
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.scheduler.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel that keeps the timers bucketed in slots by their deadline tick.
+ * <p>
+ * Level 0 has one slot per tick, every upper level slot covers a whole rotation of the level below. Timers are
+ * cascaded down to the lower levels when the wheel reaches their slot, and fired in batch when the level 0 slot is
+ * reached. Timers are stored in primitive arrays and linked in per slot doubly linked lists of array indexes, which
+ * gives constant time add and cancel operations.
+ * <p>
+ * Timer ids encode the entry index and a generation number, in this way a stale id, i.e. the id of an already
+ * fired or cancelled timer, never cancels a different timer that reused the same entry.
+ * <p>
+ * The wheel does not use any thread by itself, it must be periodically advanced by calling {@link #advance(long)}.
+ */
+public class HierarchicalTimingWheel {
+
+    private static final int NIL = -1;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final long tickMillis;
+
+    private final int bits;
+
+    private final int mask;
+
+    private final int levels;
+
+    private final long maxDelta;
+
+    //heads of the per slot lists, indexed by level * slotsPerLevel + slot
+    private final int[] heads;
+
+    //entries
+    private long[] deadlines;
+    private int[] next;
+    private int[] previous;
+    private int[] buckets;
+    private int[] generations;
+    private Runnable[] tasks;
+
+    private int freeHead = NIL;
+    private int allocated;
+    private int size;
+
+    //the next tick to be processed
+    private long currentTick;
+
+    /**
+     * @param tickMillis the duration of a tick in milliseconds, the wheel resolution.
+     * @param slotsPerLevel the number of slots per level, rounded up to a power of two.
+     * @param levels the number of levels.
+     * @param startMillis the current time in milliseconds.
+     */
+    public HierarchicalTimingWheel(long tickMillis, int slotsPerLevel, int levels, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("The tickMillis must be greater than 0");
+        }
+        if (levels <= 0) {
+            throw new IllegalArgumentException("The levels must be greater than 0");
+        }
+        if (slotsPerLevel < 2) {
+            throw new IllegalArgumentException("The slotsPerLevel must be greater than 1");
+        }
+        this.tickMillis = tickMillis;
+        this.bits = 32 - Integer.numberOfLeadingZeros(slotsPerLevel - 1);
+        if ((long) bits * levels >= Long.SIZE - 1) {
+            throw new IllegalArgumentException("The wheel range exceeds the supported limits, reduce the slotsPerLevel or the levels");
+        }
+        this.mask = (1 << bits) - 1;
+        this.levels = levels;
+        this.maxDelta = (1L << (bits * levels)) - 1;
+        this.heads = new int[levels << bits];
+        Arrays.fill(heads, NIL);
+        this.deadlines = new long[INITIAL_CAPACITY];
+        this.next = new int[INITIAL_CAPACITY];
+        this.previous = new int[INITIAL_CAPACITY];
+        this.buckets = new int[INITIAL_CAPACITY];
+        this.generations = new int[INITIAL_CAPACITY];
+        this.tasks = new Runnable[INITIAL_CAPACITY];
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Adds a timer to the wheel.
+     *
+     * @param deadlineMillis the absolute time in milliseconds the task should be fired, timers with a deadline in the
+     *        past are fired on the next tick.
+     * @param task the task to be fired.
+     * @return the timer id.
+     */
+    public synchronized long add(long deadlineMillis, Runnable task) {
+        int entry = allocate();
+        deadlines[entry] = deadlineMillis;
+        tasks[entry] = task;
+        insert(entry);
+        size++;
+        return ((long) generations[entry] << Integer.SIZE) | entry;
+    }
+
+    /**
+     * Cancels a timer in constant time.
+     *
+     * @param timerId the id returned by {@link #add(long, Runnable)}.
+     * @return true if the timer was pending and it was cancelled.
+     */
+    public synchronized boolean cancel(long timerId) {
+        int entry = (int) timerId;
+        int generation = (int) (timerId >>> Integer.SIZE);
+        if (entry < 0 || entry >= allocated || generations[entry] != generation || buckets[entry] == NIL) {
+            return false;
+        }
+        unlink(entry);
+        release(entry);
+        size--;
+        return true;
+    }
+
+    /**
+     * Advances the wheel up to the given time, cascading the upper level timers and collecting all timers that are
+     * due.
+     *
+     * @param nowMillis the current time in milliseconds.
+     * @return the tasks that are due, in the firing order, they must be executed by the caller.
+     */
+    public List<Runnable> advance(long nowMillis) {
+        List<Runnable> due = new ArrayList<>();
+        advance(nowMillis, due);
+        return due;
+    }
+
+    synchronized void advance(long nowMillis, List<Runnable> due) {
+        final long nowTick = nowMillis / tickMillis;
+        while (currentTick <= nowTick) {
+            if (size == 0) {
+                //nothing to cascade or fire, jump directly to the target tick
+                currentTick = nowTick + 1;
+                return;
+            }
+            //cascade from the top to the bottom, so entries cascaded from a level can be cascaded again in the same tick
+            for (int level = levels - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (bits * level)) - 1)) == 0) {
+                    cascade(bucket(level, (int) ((currentTick >>> (bits * level)) & mask)));
+                }
+            }
+            fire(bucket(0, (int) (currentTick & mask)), due);
+            currentTick++;
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    private long deadlineTick(long deadlineMillis) {
+        //round up, a timer is never fired before its deadline
+        return deadlineMillis / tickMillis + (deadlineMillis % tickMillis == 0 ? 0 : 1);
+    }
+
+    private void insert(int entry) {
+        long tick = Math.max(deadlineTick(deadlines[entry]), currentTick);
+        long delta = tick - currentTick;
+        if (delta > maxDelta) {
+            //out of the wheel range, keep it in the top level, it is cascaded again until it gets in the range
+            tick = currentTick + maxDelta;
+            delta = maxDelta;
+        }
+        int level = 0;
+        while (level < levels - 1 && (delta >>> (bits * (level + 1))) != 0) {
+            level++;
+        }
+        link(entry, bucket(level, (int) ((tick >>> (bits * level)) & mask)));
+    }
+
+    private int bucket(int level, int slot) {
+        return (level << bits) | slot;
+    }
+
+    private void cascade(int bucket) {
+        int entry = heads[bucket];
+        heads[bucket] = NIL;
+        while (entry != NIL) {
+            int following = next[entry];
+            insert(entry);
+            entry = following;
+        }
+    }
+
+    private void fire(int bucket, List<Runnable> due) {
+        int entry = heads[bucket];
+        heads[bucket] = NIL;
+        while (entry != NIL) {
+            int following = next[entry];
+            due.add(tasks[entry]);
+            release(entry);
+            size--;
+            entry = following;
+        }
+    }
+
+    private void link(int entry, int bucket) {
+        int head = heads[bucket];
+        buckets[entry] = bucket;
+        previous[entry] = NIL;
+        next[entry] = head;
+        if (head != NIL) {
+            previous[head] = entry;
+        }
+        heads[bucket] = entry;
+    }
+
+    private void unlink(int entry) {
+        int before = previous[entry];
+        int after = next[entry];
+        if (before != NIL) {
+            next[before] = after;
+        } else {
+            heads[buckets[entry]] = after;
+        }
+        if (after != NIL) {
+            previous[after] = before;
+        }
+    }
+
+    private int allocate() {
+        if (freeHead != NIL) {
+            int entry = freeHead;
+            freeHead = next[entry];
+            return entry;
+        }
+        if (allocated == deadlines.length) {
+            grow();
+        }
+        //generations start at 1, so a timer id is never 0
+        generations[allocated] = 1;
+        return allocated++;
+    }
+
+    private void release(int entry) {
+        tasks[entry] = null;
+        buckets[entry] = NIL;
+        //a new generation invalidates the ids already returned for this entry
+        int generation = (generations[entry] + 1) & Integer.MAX_VALUE;
+        generations[entry] = generation == 0 ? 1 : generation;
+        next[entry] = freeHead;
+        freeHead = entry;
+    }
+
+    private void grow() {
+        int capacity = deadlines.length << 1;
+        deadlines = Arrays.copyOf(deadlines, capacity);
+        next = Arrays.copyOf(next, capacity);
+        previous = Arrays.copyOf(previous, capacity);
+        buckets = Arrays.copyOf(buckets, capacity);
+        generations = Arrays.copyOf(generations, capacity);
+        tasks = Arrays.copyOf(tasks, capacity);
+    }
+}
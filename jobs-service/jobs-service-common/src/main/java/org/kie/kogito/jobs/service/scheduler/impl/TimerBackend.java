@@ -0,0 +1,45 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.scheduler.impl;
+
+/**
+ * Low level timer facility used by the {@link VertxTimerServiceScheduler} to program the in-memory job executions.
+ */
+public interface TimerBackend {
+
+    String VERTX = "vertx";
+
+    String TIMING_WHEEL = "timing-wheel";
+
+    /**
+     * Programs the given task to be executed after the given delay.
+     *
+     * @param delayMillis the delay in milliseconds.
+     * @param task the task to execute.
+     * @return the timer identifier that can be used to cancel the timer.
+     */
+    long setTimer(long delayMillis, Runnable task);
+
+    /**
+     * Cancels a previously programmed timer.
+     *
+     * @param timerId the timer identifier.
+     * @return true if the timer was cancelled, false if it was not found or already fired.
+     */
+    boolean cancelTimer(long timerId);
+
+    void shutdown();
+}
@@ -29,6 +29,8 @@ import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
 import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
 import org.kie.kogito.jobs.service.executor.JobExecutorResolver;
 import org.kie.kogito.jobs.service.job.DelegateJob;
+import org.kie.kogito.jobs.service.job.PartitionedDelegateJob;
+import org.kie.kogito.jobs.service.management.JobServicePartitionManager;
 import org.kie.kogito.jobs.service.model.JobDetails;
 import org.kie.kogito.jobs.service.model.JobDetailsContext;
 import org.kie.kogito.jobs.service.model.JobExecutionResponse;
@@ -57,6 +59,13 @@ public class TimerDelegateJobScheduler extends BaseTimerJobScheduler {
 
     private JobStreams jobStreams;
 
+    private JobServicePartitionManager partitionManager;
+
+    /**
+     * When the due jobs are polled from the storage, no job is programmed on the in-memory timers.
+     */
+    private boolean pollerEnabled;
+
     protected TimerDelegateJobScheduler() {
     }
 
@@ -67,11 +76,14 @@ public class TimerDelegateJobScheduler extends BaseTimerJobScheduler {
             @ConfigProperty(name = "kogito.jobs-service.schedulerChunkInMinutes", defaultValue = "10") long schedulerChunkInMinutes,
             @ConfigProperty(name = "kogito.jobs-service.forceExecuteExpiredJobs", defaultValue = "true") boolean forceExecuteExpiredJobs,
             JobExecutorResolver jobExecutorResolver, VertxTimerServiceScheduler delegate,
-            JobStreams jobStreams) {
+            JobStreams jobStreams, JobServicePartitionManager partitionManager,
+            @ConfigProperty(name = "kogito.jobs-service.poller.enabled", defaultValue = "false") boolean pollerEnabled) {
         super(jobRepository, backoffRetryMillis, maxIntervalLimitToRetryMillis, schedulerChunkInMinutes, forceExecuteExpiredJobs);
         this.jobExecutorResolver = jobExecutorResolver;
         this.delegate = delegate;
         this.jobStreams = jobStreams;
+        this.partitionManager = partitionManager;
+        this.pollerEnabled = pollerEnabled;
     }
 
     @Override
@@ -79,10 +91,31 @@ public class TimerDelegateJobScheduler extends BaseTimerJobScheduler {
         LOGGER.debug("Job Scheduling {}", job);
         return ReactiveStreams
                 .of(job)
-                .map(j -> delegate.scheduleJob(new DelegateJob(jobExecutorResolver, jobStreams), new JobDetailsContext(j),
+                .map(j -> delegate.scheduleJob(createDelegateJob(), new JobDetailsContext(j),
                         trigger.orElse(j.getTrigger())));
     }
 
+    private DelegateJob createDelegateJob() {
+        return partitionManager.isEnabled()
+                ? new PartitionedDelegateJob(jobExecutorResolver, jobStreams, getJobRepository(), partitionManager)
+                : new DelegateJob(jobExecutorResolver, jobStreams);
+    }
+
+    @Override
+    protected boolean isOwned(JobDetails job) {
+        return !pollerEnabled && partitionManager.isOwned(job.getId());
+    }
+
+    @Override
+    protected void notifyOwner(JobDetails job) {
+        if (pollerEnabled || !partitionManager.isEnabled()) {
+            return;
+        }
+        partitionManager.notifyOwner(job.getId())
+                .subscribe().with(v -> LOGGER.debug("Owner of job {} notified", job.getId()),
+                        ex -> LOGGER.error("Error notifying the owner of job {}, it is loaded on the next periodic load", job.getId(), ex));
+    }
+
     @Override
     public Publisher<ManageableJobHandle> doCancel(JobDetails scheduledJob) {
         return ReactiveStreams
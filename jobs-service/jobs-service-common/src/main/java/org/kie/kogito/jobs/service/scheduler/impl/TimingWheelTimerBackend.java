@@ -0,0 +1,98 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.scheduler.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.vertx.mutiny.core.Vertx;
+
+/**
+ * {@link TimerBackend} based on a {@link HierarchicalTimingWheel}. A single Vert.x periodic timer advances the wheel
+ * every tick and all the timers due on that tick are fired as a batch, instead of programming one Vert.x timer per
+ * job.
+ */
+public class TimingWheelTimerBackend implements TimerBackend {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimingWheelTimerBackend.class);
+
+    private static final long NO_TIMER = -1;
+
+    private final Vertx vertx;
+
+    private final HierarchicalTimingWheel wheel;
+
+    private final AtomicLong tickerId = new AtomicLong(NO_TIMER);
+
+    public TimingWheelTimerBackend(Vertx vertx, long tickMillis, int slotsPerLevel, int levels) {
+        this(vertx, new HierarchicalTimingWheel(tickMillis, slotsPerLevel, levels, System.currentTimeMillis()));
+    }
+
+    public TimingWheelTimerBackend(Vertx vertx, HierarchicalTimingWheel wheel) {
+        this.vertx = vertx;
+        this.wheel = wheel;
+    }
+
+    @Override
+    public long setTimer(long delayMillis, Runnable task) {
+        long timerId = wheel.add(System.currentTimeMillis() + delayMillis, task);
+        startTicker();
+        return timerId;
+    }
+
+    @Override
+    public boolean cancelTimer(long timerId) {
+        return wheel.cancel(timerId);
+    }
+
+    @Override
+    public void shutdown() {
+        long id = tickerId.getAndSet(NO_TIMER);
+        if (id != NO_TIMER) {
+            vertx.cancelTimer(id);
+        }
+    }
+
+    public int getPendingTimers() {
+        return wheel.size();
+    }
+
+    private void startTicker() {
+        if (tickerId.get() == NO_TIMER) {
+            long id = vertx.setPeriodic(wheel.getTickMillis(), i -> tick());
+            if (!tickerId.compareAndSet(NO_TIMER, id)) {
+                //started concurrently by another thread
+                vertx.cancelTimer(id);
+            }
+        }
+    }
+
+    void tick() {
+        List<Runnable> due = new ArrayList<>();
+        wheel.advance(System.currentTimeMillis(), due);
+        for (Runnable task : due) {
+            try {
+                task.run();
+            } catch (Exception e) {
+                LOGGER.error("Error firing timer task", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.scheduler.impl;
+
+import io.vertx.mutiny.core.Vertx;
+
+/**
+ * Default {@link TimerBackend}, programs one Vert.x timer per job.
+ */
+public class VertxTimerBackend implements TimerBackend {
+
+    private final Vertx vertx;
+
+    public VertxTimerBackend(Vertx vertx) {
+        this.vertx = vertx;
+    }
+
+    @Override
+    public long setTimer(long delayMillis, Runnable task) {
+        return vertx.setTimer(delayMillis, i -> task.run());
+    }
+
+    @Override
+    public boolean cancelTimer(long timerId) {
+        return vertx.cancelTimer(timerId);
+    }
+
+    @Override
+    public void shutdown() {
+        //no action is required, the Vert.x instance is managed by the scheduler
+    }
+}
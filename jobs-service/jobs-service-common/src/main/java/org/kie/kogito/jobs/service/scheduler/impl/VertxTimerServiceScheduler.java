@@ -20,9 +20,13 @@ import java.time.ZonedDateTime;
 import java.time.chrono.ChronoZonedDateTime;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.kie.kogito.jobs.service.metrics.JobServiceMetrics;
 import org.kie.kogito.jobs.service.model.ManageableJobHandle;
 import org.kie.kogito.jobs.service.utils.DateUtil;
 import org.kie.kogito.timer.InternalSchedulerService;
@@ -34,6 +38,9 @@ import org.kie.kogito.timer.impl.DefaultTimerJobFactoryManager;
 import org.kie.kogito.timer.impl.TimerJobFactoryManager;
 import org.kie.kogito.timer.impl.TimerJobInstance;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import io.vertx.mutiny.core.Vertx;
 
 @ApplicationScoped
@@ -44,8 +51,47 @@ public class VertxTimerServiceScheduler implements TimerService<ManageableJobHan
 
     protected final Vertx vertx;
 
+    protected final TimerBackend timerBackend;
+
+    protected MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+    private Timer firingLag;
+
     public VertxTimerServiceScheduler(Vertx vertx) {
+        this(vertx, new VertxTimerBackend(vertx));
+    }
+
+    /**
+     * @param timerBackend the backend used to program the timers, {@link TimerBackend#VERTX} (one Vert.x timer per
+     *        job) or {@link TimerBackend#TIMING_WHEEL} (hierarchical timing wheel, fired in batches per tick).
+     * @param tickMillis the timing wheel resolution.
+     * @param slotsPerLevel the number of slots on each timing wheel level.
+     * @param levels the number of timing wheel levels.
+     */
+    @Inject
+    public VertxTimerServiceScheduler(Vertx vertx,
+            @ConfigProperty(name = "kogito.jobs-service.timerBackend", defaultValue = TimerBackend.VERTX) String timerBackend,
+            @ConfigProperty(name = "kogito.jobs-service.timingWheel.tickMillis", defaultValue = "100") long tickMillis,
+            @ConfigProperty(name = "kogito.jobs-service.timingWheel.slotsPerLevel", defaultValue = "512") int slotsPerLevel,
+            @ConfigProperty(name = "kogito.jobs-service.timingWheel.levels", defaultValue = "4") int levels) {
+        this(vertx, createTimerBackend(vertx, timerBackend, tickMillis, slotsPerLevel, levels));
+    }
+
+    public VertxTimerServiceScheduler(Vertx vertx, TimerBackend timerBackend) {
         this.vertx = vertx;
+        this.timerBackend = timerBackend;
+    }
+
+    private static TimerBackend createTimerBackend(Vertx vertx, String timerBackend, long tickMillis, int slotsPerLevel, int levels) {
+        switch (timerBackend) {
+            case TimerBackend.VERTX:
+                return new VertxTimerBackend(vertx);
+            case TimerBackend.TIMING_WHEEL:
+                return new TimingWheelTimerBackend(vertx, tickMillis, slotsPerLevel, levels);
+            default:
+                throw new IllegalArgumentException("Invalid timer backend: " + timerBackend + ", supported values are: "
+                        + TimerBackend.VERTX + ", " + TimerBackend.TIMING_WHEEL);
+        }
     }
 
     @Override
@@ -60,6 +106,7 @@ public class VertxTimerServiceScheduler implements TimerService<ManageableJobHan
 
     @Override
     public void shutdown() {
+        timerBackend.shutdown();
         vertx.close();
     }
 
@@ -97,7 +144,7 @@ public class VertxTimerServiceScheduler implements TimerService<ManageableJobHan
 
     @Override
     public boolean removeJob(ManageableJobHandle jobHandle) {
-        return vertx.cancelTimer(jobHandle.getId());
+        return timerBackend.cancelTimer(jobHandle.getId());
     }
 
     @Override
@@ -109,12 +156,29 @@ public class VertxTimerServiceScheduler implements TimerService<ManageableJobHan
         final long then = trigger.hasNextFireTime().getTime();
         final ZonedDateTime now = DateUtil.now();
         final long delay = calculateDelay(then, now);
+        //jobs already overdue when scheduled, e.g. loaded after a restart, are expected to fire right away, their
+        //lag is the time the timer took to fire and not the age of the backlog
+        final long expected = Math.max(then, now.toInstant().toEpochMilli());
         final ManageableJobHandle handle = (ManageableJobHandle) timerJobInstance.getJobHandle();
-        long scheduledId = vertx.setTimer(delay, i -> timerJobInstance.getJob().execute(timerJobInstance.getJobContext()));
+        long scheduledId = timerBackend.setTimer(delay, () -> {
+            firingLag().record(Math.max(0, System.currentTimeMillis() - expected), TimeUnit.MILLISECONDS);
+            timerJobInstance.getJob().execute(timerJobInstance.getJobContext());
+        });
         handle.setId(scheduledId);
         handle.setScheduledTime(now);
     }
 
+    private Timer firingLag() {
+        if (firingLag == null) {
+            firingLag = Timer.builder(JobServiceMetrics.FIRING_LAG)
+                    .description("Delay between the expected fire time of the jobs, or their scheduling time if they were overdue, and the firing of their timers")
+                    .tag(JobServiceMetrics.SOURCE_TAG, "timer")
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry);
+        }
+        return firingLag;
+    }
+
     private Long calculateDelay(long then, ZonedDateTime now) {
         return Optional.of(now)
                 .map(ChronoZonedDateTime::toInstant)
@@ -127,4 +191,8 @@ public class VertxTimerServiceScheduler implements TimerService<ManageableJobHan
     public Vertx getVertx() {
         return vertx;
     }
+
+    public TimerBackend getTimerBackend() {
+        return timerBackend;
+    }
 }
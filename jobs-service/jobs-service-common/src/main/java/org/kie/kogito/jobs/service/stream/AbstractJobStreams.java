@@ -16,8 +16,18 @@
 
 package org.kie.kogito.jobs.service.stream;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import javax.annotation.PreDestroy;
 
 import org.eclipse.microprofile.reactive.messaging.Emitter;
 import org.eclipse.microprofile.reactive.messaging.Message;
@@ -30,12 +40,47 @@ import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.reactive.messaging.providers.locals.ContextAwareMessage;
 
+/**
+ * Publishes the job status changes as CloudEvents.
+ * <p>
+ * When {@link #coalesceWindowInMillis} is greater than 0 the status changes are buffered during the window and only
+ * the last state of each job is published, e.g. a repeatable job goes through several status changes on every
+ * execution. The buffered events are flushed together on the worker pool when the window elapses or when
+ * {@link #maxBatchSize} jobs are buffered.
+ * <p>
+ * The emitters of the implementations use a {@link org.eclipse.microprofile.reactive.messaging.OnOverflow.Strategy#BUFFER}
+ * overflow strategy of {@link #EMITTER_BUFFER_SIZE}, a flush sends the events in chunks of that size and waits for the
+ * previous chunk to be acknowledged before sending the next one, so a flush never overflows the emitter.
+ */
 public abstract class AbstractJobStreams {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractJobStreams.class);
 
+    public static final String COALESCE_WINDOW_CONFIG_KEY = "kogito.jobs-service.events.coalesce-window-in-millis";
+
+    public static final String MAX_BATCH_SIZE_CONFIG_KEY = "kogito.jobs-service.events.max-batch-size";
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 500;
+
+    /**
+     * Size of the buffer of the status change events emitters.
+     */
+    public static final int EMITTER_BUFFER_SIZE = 1024;
+
+    static final long ACK_TIMEOUT_IN_MILLIS = 30000;
+
+    static final String PRODUCED_EVENTS_METRIC = "jobs.service.status.change.events.produced";
+
+    static final String COALESCED_EVENTS_METRIC = "jobs.service.status.change.events.coalesced";
+
+    static final String STREAM_TAG = "stream";
+
     protected ObjectMapper objectMapper;
 
     protected boolean enabled;
@@ -44,33 +89,144 @@ public abstract class AbstractJobStreams {
 
     protected String url;
 
+    protected long coalesceWindowInMillis;
+
+    protected int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+    protected MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+    //last status of the jobs changed during the current window, in arrival order
+    private final Map<String, JobDetails> pending = new LinkedHashMap<>();
+
+    //flushes are serialized, so the events of a job are always published in order
+    private final Object flushLock = new Object();
+
+    private boolean flushScheduled;
+
+    private boolean immediateFlushScheduled;
+
+    private Counter producedEvents;
+
+    private Counter coalescedEvents;
+
     protected AbstractJobStreams() {
     }
 
     protected AbstractJobStreams(ObjectMapper objectMapper, boolean enabled, Emitter<String> emitter, String url) {
+        this(objectMapper, enabled, emitter, url, 0, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    protected AbstractJobStreams(ObjectMapper objectMapper, boolean enabled, Emitter<String> emitter, String url,
+            long coalesceWindowInMillis, int maxBatchSize) {
         this.objectMapper = objectMapper;
         this.enabled = enabled;
         this.emitter = emitter;
         this.url = url;
+        this.coalesceWindowInMillis = coalesceWindowInMillis;
+        this.maxBatchSize = maxBatchSize;
     }
 
     protected void jobStatusChange(JobDetails job) {
-        if (enabled) {
-            try {
-                JobDataEvent event = JobDataEvent
-                        .builder()
-                        .source(url + RestApiConstants.JOBS_PATH)
-                        .data(ScheduledJobAdapter.of(job))//this should support jobs crated with V1 and V2
-                        .build();
-                String json = objectMapper.writeValueAsString(event);
-                emitter.send(decorate(ContextAwareMessage.of(json)
-                        .withAck(() -> onAck(job))
-                        .withNack(reason -> onNack(reason, job))));
-            } catch (Exception e) {
-                String msg = String.format("An unexpected error was produced while processing a Job status change for the job: %s", job);
-                LOGGER.error(msg, e);
+        if (!enabled) {
+            return;
+        }
+        if (coalesceWindowInMillis <= 0) {
+            publish(job);
+            return;
+        }
+        boolean flushNow = false;
+        boolean scheduleFlush = false;
+        synchronized (pending) {
+            if (pending.put(job.getId(), job) != null) {
+                coalescedEvents().increment();
+            }
+            if (pending.size() >= maxBatchSize) {
+                flushNow = !immediateFlushScheduled;
+                immediateFlushScheduled = true;
+            } else if (!flushScheduled) {
+                flushScheduled = true;
+                scheduleFlush = true;
             }
         }
+        //the caller is not blocked by the flush, it can be a messaging or an event loop thread
+        if (flushNow) {
+            Infrastructure.getDefaultWorkerPool().execute(this::flush);
+        } else if (scheduleFlush) {
+            Infrastructure.getDefaultWorkerPool().schedule(this::flush, coalesceWindowInMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Publishes the buffered status changes.
+     */
+    @PreDestroy
+    protected void flush() {
+        synchronized (flushLock) {
+            final List<JobDetails> batch;
+            synchronized (pending) {
+                batch = new ArrayList<>(pending.values());
+                pending.clear();
+                flushScheduled = false;
+                immediateFlushScheduled = false;
+            }
+            if (!batch.isEmpty()) {
+                LOGGER.debug("Publishing {} coalesced job status changes", batch.size());
+                List<CompletableFuture<Void>> sent = new ArrayList<>();
+                for (int from = 0; from < batch.size(); from += EMITTER_BUFFER_SIZE) {
+                    awaitAcks(sent);
+                    sent = batch.subList(from, Math.min(from + EMITTER_BUFFER_SIZE, batch.size()))
+                            .stream()
+                            .map(this::publish)
+                            .collect(Collectors.toList());
+                }
+            }
+        }
+    }
+
+    private static void awaitAcks(List<CompletableFuture<Void>> sent) {
+        if (sent.isEmpty()) {
+            return;
+        }
+        try {
+            CompletableFuture.allOf(sent.toArray(new CompletableFuture[0])).get(ACK_TIMEOUT_IN_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            LOGGER.warn("Job status changes not acknowledged after {} ms, publishing the next ones", ACK_TIMEOUT_IN_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            //acks and nacks always complete normally
+            LOGGER.warn("Unexpected error waiting for the job status changes acknowledgement", e);
+        }
+    }
+
+    protected int getPendingCount() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * @return a future completed when the event is acknowledged or not acknowledged, or when it could not be sent.
+     */
+    private CompletableFuture<Void> publish(JobDetails job) {
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        try {
+            JobDataEvent event = JobDataEvent
+                    .builder()
+                    .source(url + RestApiConstants.JOBS_PATH)
+                    .data(ScheduledJobAdapter.of(job))//this should support jobs crated with V1 and V2
+                    .build();
+            String json = objectMapper.writeValueAsString(event);
+            emitter.send(decorate(ContextAwareMessage.of(json)
+                    .withAck(() -> onAck(job).whenComplete((r, e) -> done.complete(null)))
+                    .withNack(reason -> onNack(reason, job).whenComplete((r, e) -> done.complete(null)))));
+            producedEvents().increment();
+        } catch (Exception e) {
+            String msg = String.format("An unexpected error was produced while processing a Job status change for the job: %s", job);
+            LOGGER.error(msg, e);
+            done.complete(null);
+        }
+        return done;
     }
 
     protected CompletionStage<Void> onAck(JobDetails job) {
@@ -87,4 +243,31 @@ public abstract class AbstractJobStreams {
     protected Message<String> decorate(Message<String> message) {
         return message;
     }
+
+    /**
+     * @return the name used to tag the metrics of the stream.
+     */
+    protected String getStreamName() {
+        return "default";
+    }
+
+    private Counter producedEvents() {
+        if (producedEvents == null) {
+            producedEvents = Counter.builder(PRODUCED_EVENTS_METRIC)
+                    .description("Job status change events published")
+                    .tag(STREAM_TAG, getStreamName())
+                    .register(meterRegistry);
+        }
+        return producedEvents;
+    }
+
+    private Counter coalescedEvents() {
+        if (coalescedEvents == null) {
+            coalescedEvents = Counter.builder(COALESCED_EVENTS_METRIC)
+                    .description("Job status change events replaced by a later status of the same job before being published")
+                    .tag(STREAM_TAG, getStreamName())
+                    .register(meterRegistry);
+        }
+        return coalescedEvents;
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.health;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.jobs.service.metrics.JobServiceMetrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FiringLagHealthCheckTest {
+
+    private FiringLagHealthCheck healthCheck;
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        healthCheck = new FiringLagHealthCheck();
+        healthCheck.meterRegistry = registry;
+        healthCheck.firingLagThresholdMillis = 1000;
+    }
+
+    @Test
+    void callNoJobsFired() {
+        HealthCheckResponse response = healthCheck.call();
+        assertThat(response.getStatus()).isEqualTo(HealthCheckResponse.Status.UP);
+    }
+
+    @Test
+    void callLagUnderThreshold() {
+        firingLag("timer").record(500, TimeUnit.MILLISECONDS);
+        HealthCheckResponse response = healthCheck.call();
+        assertThat(response.getStatus()).isEqualTo(HealthCheckResponse.Status.UP);
+    }
+
+    @Test
+    void callLagOverThreshold() {
+        firingLag("timer").record(500, TimeUnit.MILLISECONDS);
+        firingLag("poller").record(1500, TimeUnit.MILLISECONDS);
+        HealthCheckResponse response = healthCheck.call();
+        assertThat(response.getStatus()).isEqualTo(HealthCheckResponse.Status.DOWN);
+        assertThat(response.getData()).hasValueSatisfying(data -> assertThat(data).containsEntry("lagMillis", 1500L));
+    }
+
+    @Test
+    void callCheckDisabled() {
+        healthCheck.firingLagThresholdMillis = 0;
+        firingLag("timer").record(1500, TimeUnit.MILLISECONDS);
+        HealthCheckResponse response = healthCheck.call();
+        assertThat(response.getStatus()).isEqualTo(HealthCheckResponse.Status.UP);
+    }
+
+    private Timer firingLag(String source) {
+        return Timer.builder(JobServiceMetrics.FIRING_LAG)
+                .tag(JobServiceMetrics.SOURCE_TAG, source)
+                .register(registry);
+    }
+}
@@ -17,6 +17,7 @@ package org.kie.kogito.jobs.service.management;
 
 import java.time.OffsetDateTime;
 import java.util.Arrays;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -39,12 +40,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import io.quarkus.runtime.ShutdownEvent;
 import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Uni;
 import io.vertx.mutiny.core.TimeoutStream;
 import io.vertx.mutiny.core.Vertx;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -67,6 +70,9 @@ class JobServiceInstanceManagerTest {
     @Mock
     Instance<MessagingHandler> messagingHandlerInstance;
 
+    @Mock
+    JobServicePartitionManager partitionManager;
+
     private MessagingHandler messagingHandler;
 
     @Mock
@@ -129,7 +135,7 @@ class JobServiceInstanceManagerTest {
     @Test
     void tryBecomeLeaderFail() {
         JobServiceManagementInfo info = new JobServiceManagementInfo("id", "token", OffsetDateTime.now());
-        JobServiceManagementInfo info2 = new JobServiceManagementInfo("id2", "token2", OffsetDateTime.now());
+        JobServiceManagementInfo info2 = new JobServiceManagementInfo("id", "token2", OffsetDateTime.now());
         repository.set(info).await().indefinitely();
         ArgumentCaptor<Function<JobServiceManagementInfo, JobServiceManagementInfo>> updateFunction = ArgumentCaptor.forClass(Function.class);
 
@@ -153,4 +159,24 @@ class JobServiceInstanceManagerTest {
         tested.heartbeat(tested.getCurrentInfo()).await().indefinitely();
         verify(repository).heartbeat(tested.getCurrentInfo());
     }
+
+    @Test
+    void startupPartitioned() {
+        lenient().when(partitionManager.isEnabled()).thenReturn(true);
+        lenient().when(partitionManager.rebalance(anyString())).thenReturn(Uni.createFrom().item(Set.of(0, 1)));
+        lenient().when(partitionManager.release(anyString())).thenReturn(Uni.createFrom().voidItem());
+        lenient().doAnswer(i -> Stream.of(messagingHandler)).when(messagingHandlerInstance).stream();
+
+        tested.startup(startupEvent);
+
+        //no leader election, all the instances are active
+        verify(tested, never()).tryBecomeLeader(any(), any(), any());
+        verify(messagingHandler).resume();
+        verify(partitionManager).rebalance(tested.getCurrentInfo().getToken());
+        assertThat(tested.getRebalance()).isNotNull();
+
+        tested.onShutdown(shutdownEvent);
+        verify(partitionManager).release(tested.getCurrentInfo().getToken());
+        verify(messagingHandler).pause();
+    }
 }
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.management;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.enterprise.event.Event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.jobs.service.model.JobServiceManagementInfo;
+import org.kie.kogito.jobs.service.repository.JobServiceManagementRepository;
+import org.kie.kogito.jobs.service.repository.impl.DefaultJobServiceManagementRepository;
+import org.kie.kogito.jobs.service.utils.DateUtil;
+import org.mockito.ArgumentCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Runs several partition managers, one per simulated Job Service instance, over the same in-memory management
+ * repository.
+ */
+class JobServicePartitionManagerTest {
+
+    private static final int PARTITIONS = 12;
+
+    private static final String MANAGEMENT_ID = "jobs-service-test";
+
+    private JobServiceManagementRepository repository;
+
+    private List<Instance> instances;
+
+    @BeforeEach
+    void setUp() {
+        repository = new DefaultJobServiceManagementRepository();
+        instances = new ArrayList<>();
+    }
+
+    @Test
+    void disabled() {
+        JobServicePartitionManager manager = new JobServicePartitionManager();
+        assertThat(manager.isEnabled()).isFalse();
+        assertThat(manager.isOwned(UUID.randomUUID().toString())).isTrue();
+    }
+
+    @Test
+    void distributePartitions() {
+        startInstances(3);
+        rounds(instances, 3);
+
+        assertBalanced(instances, 4);
+        List<String> jobIds = IntStream.range(0, 1000).mapToObj(i -> UUID.randomUUID().toString()).collect(Collectors.toList());
+        //every job is executed by exactly one instance
+        jobIds.forEach(id -> assertThat(instances.stream().filter(i -> i.manager.isOwned(id)).count()).isEqualTo(1));
+    }
+
+    @Test
+    void takeOverFailedInstance() {
+        startInstances(3);
+        rounds(instances, 3);
+        Instance failed = instances.get(2);
+        Set<Integer> failedPartitions = failed.manager.getOwnedPartitions();
+
+        //the failed instance stops its heartbeats and its entries expire
+        expire(failed);
+        List<Instance> alive = instances.subList(0, 2);
+        rounds(alive, 2);
+
+        assertBalanced(alive, 6);
+        Set<Integer> acquired = new HashSet<>();
+        alive.forEach(i -> {
+            ArgumentCaptor<PartitionChangeEvent> captor = ArgumentCaptor.forClass(PartitionChangeEvent.class);
+            verify(i.event, atLeastOnce()).fire(captor.capture());
+            acquired.addAll(captor.getValue().getAcquired());
+        });
+        assertThat(acquired).containsExactlyInAnyOrderElementsOf(failedPartitions);
+
+        //the failed instance is back, its leases are not valid anymore
+        failed.rebalance();
+        assertThat(failed.manager.getOwnedPartitions()).doesNotContainAnyElementsOf(failedPartitions);
+        rounds(instances, 3);
+        assertBalanced(instances, 4);
+    }
+
+    @Test
+    void rebalanceOnScaleOut() {
+        startInstances(3);
+        rounds(instances, 3);
+        assertBalanced(instances, 4);
+
+        startInstances(1);
+        rounds(instances, 3);
+
+        assertBalanced(instances, 3);
+        instances.subList(0, 3).forEach(i -> {
+            ArgumentCaptor<PartitionChangeEvent> captor = ArgumentCaptor.forClass(PartitionChangeEvent.class);
+            verify(i.event, atLeastOnce()).fire(captor.capture());
+            assertThat(captor.getAllValues()).anyMatch(e -> e.getReleased().size() == 1);
+        });
+    }
+
+    @Test
+    void releaseOnShutdown() {
+        startInstances(2);
+        rounds(instances, 3);
+        assertBalanced(instances, 6);
+
+        Instance stopped = instances.remove(1);
+        stopped.manager.release(stopped.token).await().indefinitely();
+        assertThat(stopped.manager.getOwnedPartitions()).isEmpty();
+
+        //released partitions are acquired without waiting for the expiration
+        rounds(instances, 1);
+        assertBalanced(instances, PARTITIONS);
+    }
+
+    @Test
+    void notifyOwner() {
+        startInstances(2);
+        rounds(instances, 3);
+        String jobId = UUID.randomUUID().toString();
+        Instance owner = instances.stream().filter(i -> i.manager.isOwned(jobId)).findFirst().orElseThrow();
+        Instance other = instances.stream().filter(i -> i != owner).findFirst().orElseThrow();
+
+        other.manager.notifyOwner(jobId).await().indefinitely();
+        rounds(instances, 1);
+        assertThat(notified(owner)).containsExactly(owner.manager.partitionOf(jobId));
+        assertThat(notified(other)).isEmpty();
+
+        //the same notification is not taken twice, a new one is
+        rounds(instances, 1);
+        assertThat(notified(owner)).containsExactly(owner.manager.partitionOf(jobId));
+        other.manager.notifyOwner(jobId).await().indefinitely();
+        rounds(instances, 1);
+        assertThat(notified(owner)).containsExactly(owner.manager.partitionOf(jobId), owner.manager.partitionOf(jobId));
+    }
+
+    private static List<Integer> notified(Instance instance) {
+        ArgumentCaptor<PartitionChangeEvent> captor = ArgumentCaptor.forClass(PartitionChangeEvent.class);
+        verify(instance.event, atLeastOnce()).fire(captor.capture());
+        return captor.getAllValues().stream().flatMap(e -> e.getNotified().stream()).collect(Collectors.toList());
+    }
+
+    private void startInstances(int count) {
+        IntStream.range(0, count).forEach(i -> instances.add(new Instance(repository)));
+    }
+
+    private static void rounds(List<Instance> instances, int rounds) {
+        IntStream.range(0, rounds).forEach(r -> instances.forEach(Instance::rebalance));
+    }
+
+    private void expire(Instance instance) {
+        repository.findAll(MANAGEMENT_ID).await().indefinitely()
+                .stream()
+                .filter(e -> instance.token.equals(e.getToken()))
+                .forEach(e -> repository.set(new JobServiceManagementInfo(e.getId(), e.getToken(), DateUtil.now().minusMinutes(1).toOffsetDateTime()))
+                        .await().indefinitely());
+    }
+
+    private static void assertBalanced(List<Instance> instances, int share) {
+        Set<Integer> all = new HashSet<>();
+        instances.forEach(i -> {
+            Set<Integer> owned = i.manager.getOwnedPartitions();
+            assertThat(owned).hasSize(share);
+            //no partition is owned by two instances
+            assertThat(all).doesNotContainAnyElementsOf(owned);
+            all.addAll(owned);
+        });
+        assertThat(all).hasSize(PARTITIONS);
+    }
+
+    private static class Instance {
+
+        private final String token = UUID.randomUUID().toString();
+
+        private final JobServicePartitionManager manager = new JobServicePartitionManager();
+
+        @SuppressWarnings("unchecked")
+        private final Event<PartitionChangeEvent> event = mock(Event.class);
+
+        Instance(JobServiceManagementRepository repository) {
+            manager.partitions = PARTITIONS;
+            manager.heartbeatExpirationInSeconds = 10;
+            manager.managementId = MANAGEMENT_ID;
+            manager.repository = repository;
+            manager.partitionChangeEvent = event;
+        }
+
+        void rebalance() {
+            manager.rebalance(token).await().indefinitely();
+        }
+    }
+}
@@ -15,7 +15,9 @@
  */
 package org.kie.kogito.jobs.service.repository.impl;
 
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
@@ -30,6 +32,7 @@ import org.kie.kogito.jobs.service.model.JobExecutionResponse;
 import org.kie.kogito.jobs.service.model.JobStatus;
 import org.kie.kogito.jobs.service.model.Recipient;
 import org.kie.kogito.jobs.service.model.RecipientInstance;
+import org.kie.kogito.jobs.service.repository.JobDetailsCursor;
 import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
 import org.kie.kogito.jobs.service.stream.JobStreams;
 import org.kie.kogito.jobs.service.utils.DateUtil;
@@ -155,6 +158,116 @@ public abstract class BaseJobRepositoryTest {
         assertThat(fetchedNotFound.size()).isZero();
     }
 
+    @Test
+    void testBatchOperations() throws ExecutionException, InterruptedException {
+        List<JobDetails> jobs = IntStream.rangeClosed(1, 5).boxed()
+                .map(id -> JobDetails.builder()
+                        .id(UUID.randomUUID().toString())
+                        .status(JobStatus.SCHEDULED)
+                        .priority(id)
+                        .trigger(new PointInTimeTrigger(DateUtil.now().plusMinutes(id).toInstant().toEpochMilli(), null, null))
+                        .build())
+                .collect(Collectors.toList());
+        List<String> ids = jobs.stream().map(JobDetails::getId).collect(Collectors.toList());
+        String notFound = UUID.randomUUID().toString();
+
+        List<JobDetails> saved = tested().saveAll(jobs).toCompletableFuture().get();
+        assertThat(saved).extracting(JobDetails::getId).containsExactlyInAnyOrderElementsOf(ids);
+
+        List<JobDetails> fetched = tested().getAll(List.of(ids.get(0), ids.get(1), notFound)).toCompletableFuture().get();
+        assertThat(fetched).containsExactlyInAnyOrder(jobs.get(0), jobs.get(1));
+
+        Set<String> existing = tested().findExistingIds(List.of(ids.get(2), ID, notFound)).toCompletableFuture().get();
+        assertThat(existing).containsExactlyInAnyOrder(ids.get(2), ID);
+
+        List<JobDetails> deleted = tested().deleteAll(jobs.subList(0, 3)).toCompletableFuture().get();
+        assertThat(deleted).extracting(JobDetails::getId).containsExactlyInAnyOrderElementsOf(ids.subList(0, 3));
+        assertThat(tested().findExistingIds(ids).toCompletableFuture().get()).containsExactlyInAnyOrderElementsOf(ids.subList(3, 5));
+    }
+
+    @Test
+    void testFindPageAndStreamByStatusBetweenDates() throws ExecutionException, InterruptedException {
+        final long baseTime = DateUtil.now().plusMinutes(1).withNano(0).toInstant().toEpochMilli();
+        //pairs of jobs sharing the same fire time with different priorities
+        List<JobDetails> jobs = IntStream.range(0, 7).boxed()
+                .map(i -> JobDetails.builder()
+                        .id("page-" + i)
+                        .status(i == 6 ? JobStatus.RETRY : JobStatus.SCHEDULED)
+                        .priority(i % 2)
+                        .trigger(new PointInTimeTrigger(baseTime + (i / 2) * 1000L, null, null))
+                        .build())
+                .collect(Collectors.toList());
+        tested().saveAll(jobs).toCompletableFuture().get();
+        //ordered by fire time, then by priority desc and id
+        List<String> expected = List.of("page-1", "page-0", "page-3", "page-2", "page-5", "page-4", "page-6");
+        ZonedDateTime from = DateUtil.now();
+        ZonedDateTime to = DateUtil.now().plusMinutes(10);
+
+        List<JobDetails> page = tested().findPageByStatusBetweenDates(from, to, null, 3, JobStatus.SCHEDULED, JobStatus.RETRY)
+                .toCompletableFuture().get();
+        assertThat(page).extracting(JobDetails::getId).containsExactlyElementsOf(expected.subList(0, 3));
+
+        page = tested().findPageByStatusBetweenDates(from, to, JobDetailsCursor.of(page.get(2)), 3, JobStatus.SCHEDULED, JobStatus.RETRY)
+                .toCompletableFuture().get();
+        assertThat(page).extracting(JobDetails::getId).containsExactlyElementsOf(expected.subList(3, 6));
+
+        List<JobDetails> streamed = tested().streamByStatusBetweenDates(from, to, 2, JobStatus.SCHEDULED, JobStatus.RETRY)
+                .toList()
+                .run()
+                .toCompletableFuture()
+                .get();
+        assertThat(streamed).extracting(JobDetails::getId).containsExactlyElementsOf(expected);
+
+        streamed = tested().streamByStatusBetweenDates(from, to, 2, JobStatus.RETRY)
+                .toList()
+                .run()
+                .toCompletableFuture()
+                .get();
+        assertThat(streamed).extracting(JobDetails::getId).containsExactly("page-6");
+    }
+
+    @Test
+    void testFindPageAndStreamByStatusBetweenDatesWithoutPriority() throws ExecutionException, InterruptedException {
+        final long baseTime = DateUtil.now().plusMinutes(30).withNano(0).toInstant().toEpochMilli();
+        //jobs without priority, as created by the V2 API, mixed with prioritized ones on the same fire time
+        Integer[] priorities = { 1, null, null, 2, null, null };
+        List<JobDetails> jobs = IntStream.range(0, priorities.length).boxed()
+                .map(i -> JobDetails.builder()
+                        .id("null-priority-" + i)
+                        .status(JobStatus.SCHEDULED)
+                        .priority(priorities[i])
+                        .trigger(new PointInTimeTrigger(baseTime + (i == 5 ? 1000L : 0L), null, null))
+                        .build())
+                .collect(Collectors.toList());
+        tested().saveAll(jobs).toCompletableFuture().get();
+        //the jobs without priority come last on their fire time
+        List<String> expected = List.of("null-priority-3", "null-priority-0", "null-priority-1", "null-priority-2", "null-priority-4",
+                "null-priority-5");
+        ZonedDateTime from = DateUtil.now().plusMinutes(29);
+        ZonedDateTime to = DateUtil.now().plusMinutes(31);
+
+        //a page boundary between a prioritized job and the jobs without priority
+        List<JobDetails> page = tested().findPageByStatusBetweenDates(from, to, null, 2, JobStatus.SCHEDULED)
+                .toCompletableFuture().get();
+        assertThat(page).extracting(JobDetails::getId).containsExactlyElementsOf(expected.subList(0, 2));
+
+        //a page boundary between jobs without priority sharing the fire time
+        page = tested().findPageByStatusBetweenDates(from, to, JobDetailsCursor.of(page.get(1)), 2, JobStatus.SCHEDULED)
+                .toCompletableFuture().get();
+        assertThat(page).extracting(JobDetails::getId).containsExactlyElementsOf(expected.subList(2, 4));
+
+        page = tested().findPageByStatusBetweenDates(from, to, JobDetailsCursor.of(page.get(1)), 2, JobStatus.SCHEDULED)
+                .toCompletableFuture().get();
+        assertThat(page).extracting(JobDetails::getId).containsExactlyElementsOf(expected.subList(4, 6));
+
+        List<JobDetails> streamed = tested().streamByStatusBetweenDates(from, to, 2, JobStatus.SCHEDULED)
+                .toList()
+                .run()
+                .toCompletableFuture()
+                .get();
+        assertThat(streamed).extracting(JobDetails::getId).containsExactlyElementsOf(expected);
+    }
+
     @Test
     void testMergeCallbackEndpoint() throws Exception {
         String id = UUID.randomUUID().toString();
@@ -29,6 +29,11 @@ import org.kie.kogito.jobs.service.api.schedule.timer.TimerSchedule;
 import org.kie.kogito.jobs.service.resource.CommonBaseJobResourceTest;
 import org.kie.kogito.jobs.service.resource.RestApiConstants;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import io.restassured.http.ContentType;
+
+import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public abstract class BaseJobResourceV2Test extends CommonBaseJobResourceTest {
@@ -105,6 +110,29 @@ public abstract class BaseJobResourceV2Test extends CommonBaseJobResourceTest {
         getJob(created.getId(), Job.class, 404);
     }
 
+    @Test
+    public void testCreateBatch() throws Exception {
+        List<Job> jobs = List.of(buildJob("JOB_ID_B1", OffsetDateTime.now().plusMinutes(1)),
+                buildJob("JOB_ID_B2", OffsetDateTime.now().plusHours(1)));
+        String response = given()
+                .contentType(ContentType.JSON)
+                .body(objectMapper.writeValueAsString(jobs))
+                .post(getCreatePath() + RestApiConstants.BATCH_PATH)
+                .then()
+                .statusCode(OK)
+                .extract()
+                .body()
+                .asString();
+        List<Job> created = objectMapper.readValue(response, new TypeReference<List<Job>>() {
+        });
+        assertThat(created).extracting(Job::getId).containsExactlyInAnyOrder("JOB_ID_B1", "JOB_ID_B2");
+        assertThat(getJob("JOB_ID_B1", Job.class).getId()).isEqualTo("JOB_ID_B1");
+        assertThat(getJob("JOB_ID_B2", Job.class).getId()).isEqualTo("JOB_ID_B2");
+
+        deleteJob("JOB_ID_B1");
+        deleteJob("JOB_ID_B2");
+    }
+
     private Job buildJob(String jobId, OffsetDateTime time) {
         return Job.builder()
                 .id(jobId)
@@ -18,7 +18,9 @@ package org.kie.kogito.jobs.service.scheduler;
 import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -29,8 +31,10 @@ import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
 import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.kie.kogito.jobs.service.exception.InvalidScheduleTimeException;
 import org.kie.kogito.jobs.service.exception.JobServiceException;
 import org.kie.kogito.jobs.service.executor.JobExecutor;
+import org.kie.kogito.jobs.service.metrics.JobServiceMetrics;
 import org.kie.kogito.jobs.service.model.JobDetails;
 import org.kie.kogito.jobs.service.model.JobExecutionResponse;
 import org.kie.kogito.jobs.service.model.JobStatus;
@@ -45,6 +49,7 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 import org.reactivestreams.Publisher;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
@@ -268,6 +273,17 @@ public abstract class BaseTimerJobSchedulerTest {
         assertThat(saved.getStatus()).isEqualTo(JobStatus.RETRY);
     }
 
+    @Test
+    void testHandleJobExecutionErrorMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        tested().meterRegistry = registry;
+
+        subscribeOn(tested().handleJobExecutionError(errorResponse).buildRs());
+
+        assertThat(registry.get(JobServiceMetrics.EXECUTION_ERRORS).tag(JobServiceMetrics.RECIPIENT_TAG, "unknown").counter().count()).isEqualTo(1);
+        assertThat(registry.get(JobServiceMetrics.RETRIES).tag(JobServiceMetrics.RECIPIENT_TAG, "unknown").counter().count()).isEqualTo(1);
+    }
+
     @Test
     void testHandleJobExecutionErrorFinal() {
         scheduledJob = JobDetails.builder().of(scheduledJob).status(JobStatus.ERROR).build();
@@ -346,6 +362,64 @@ public abstract class BaseTimerJobSchedulerTest {
         assertThat(current.getScheduledId()).isNotNull();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void testScheduleBatch() throws Exception {
+        JobDetails notInCurrentChunk = JobDetails.builder()
+                .id(UUID.randomUUID().toString())
+                .trigger(new PointInTimeTrigger(DateUtil.now().plusHours(1).toInstant().toEpochMilli(), null, null))
+                .build();
+        when(jobRepository.findExistingIds(any())).thenReturn(CompletableFuture.completedFuture(Set.of()));
+        when(jobRepository.saveAll(any())).thenAnswer(a -> CompletableFuture.completedFuture(a.getArgument(0)));
+
+        List<JobDetails> result = tested().schedule(List.of(scheduledJob, notInCurrentChunk)).toCompletableFuture().get();
+
+        verify(tested()).doSchedule(eq(scheduledJob), delayCaptor.capture());
+        verify(tested(), never()).doSchedule(eq(notInCurrentChunk), any());
+        verify(jobRepository, never()).save(any(JobDetails.class));
+        ArgumentCaptor<List<JobDetails>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(jobRepository, times(2)).saveAll(batchCaptor.capture());
+        assertThat(batchCaptor.getAllValues().get(0)).hasSize(2).allMatch(j -> SCHEDULED.equals(j.getStatus()));
+        assertThat(batchCaptor.getAllValues().get(1)).hasSize(1).allMatch(j -> j.getScheduledId() != null);
+        assertThat(result).extracting(JobDetails::getId).containsExactly(JOB_ID, notInCurrentChunk.getId());
+        assertThat(result.get(0).getScheduledId()).isEqualTo(SCHEDULED_ID);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testScheduleBatchDuplicatedIds() throws Exception {
+        String id = UUID.randomUUID().toString();
+        long first = DateUtil.now().plusHours(1).toInstant().toEpochMilli();
+        long last = DateUtil.now().plusHours(2).toInstant().toEpochMilli();
+        List<JobDetails> jobs = List.of(
+                JobDetails.builder().id(id).trigger(new PointInTimeTrigger(first, null, null)).build(),
+                JobDetails.builder().id(id).trigger(new PointInTimeTrigger(last, null, null)).build());
+        when(jobRepository.findExistingIds(any())).thenReturn(CompletableFuture.completedFuture(Set.of()));
+        when(jobRepository.saveAll(any())).thenAnswer(a -> CompletableFuture.completedFuture(a.getArgument(0)));
+
+        List<JobDetails> result = tested().schedule(jobs).toCompletableFuture().get();
+
+        ArgumentCaptor<List<JobDetails>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(jobRepository, times(2)).saveAll(batchCaptor.capture());
+        assertThat(batchCaptor.getAllValues().get(0)).hasSize(1);
+        assertThat(batchCaptor.getAllValues().get(0).get(0).getTrigger().hasNextFireTime().getTime()).isEqualTo(last);
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getTrigger().hasNextFireTime().getTime()).isEqualTo(last);
+    }
+
+    @Test
+    void testScheduleBatchExpiredJob() {
+        JobDetails expired = JobDetails.builder()
+                .id(JOB_ID)
+                .trigger(new PointInTimeTrigger(DateUtil.now().minusHours(1).toInstant().toEpochMilli(), null, null))
+                .build();
+        when(jobRepository.findExistingIds(any())).thenReturn(CompletableFuture.completedFuture(Set.of()));
+
+        assertThatThrownBy(() -> tested().schedule(List.of(expired)).toCompletableFuture().get())
+                .hasCauseInstanceOf(InvalidScheduleTimeException.class);
+        verify(jobRepository, never()).saveAll(any());
+    }
+
     @Test
     void testScheduled() {
         testExistingJob(false, SCHEDULED);
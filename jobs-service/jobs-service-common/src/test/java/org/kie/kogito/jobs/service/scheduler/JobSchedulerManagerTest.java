@@ -17,14 +17,19 @@ package org.kie.kogito.jobs.service.scheduler;
 
 import java.time.ZonedDateTime;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.kie.kogito.jobs.service.management.JobServicePartitionManager;
 import org.kie.kogito.jobs.service.management.MessagingChangeEvent;
+import org.kie.kogito.jobs.service.management.PartitionChangeEvent;
 import org.kie.kogito.jobs.service.model.JobDetails;
 import org.kie.kogito.jobs.service.model.JobStatus;
 import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
@@ -43,9 +48,12 @@ import io.vertx.mutiny.core.Vertx;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -63,6 +71,9 @@ class JobSchedulerManagerTest {
     @Mock
     Vertx vertx;
 
+    @Mock
+    JobServicePartitionManager partitionManager;
+
     @Spy
     @InjectMocks
     private JobSchedulerManager tested;
@@ -83,8 +94,9 @@ class JobSchedulerManagerTest {
                 .trigger(new PointInTimeTrigger(System.currentTimeMillis(), null, null))
                 .build();
 
-        lenient().when(repository.findByStatusBetweenDatesOrderByPriority(any(ZonedDateTime.class),
+        lenient().when(repository.streamByStatusBetweenDates(any(ZonedDateTime.class),
                 any(ZonedDateTime.class),
+                anyInt(),
                 any(JobStatus.class),
                 any(JobStatus.class)))
                 .thenReturn(ReactiveStreams.of(scheduledJob));
@@ -92,6 +104,7 @@ class JobSchedulerManagerTest {
                 .thenReturn(Optional.empty());
         lenient().when(scheduler.schedule(scheduledJob))
                 .thenReturn(ReactiveStreams.of(scheduledJob).buildRs());
+        lenient().when(partitionManager.isOwned(anyString())).thenReturn(true);
         tested.onMessagingStatusChange(new MessagingChangeEvent(true));
     }
 
@@ -118,6 +131,72 @@ class JobSchedulerManagerTest {
         verify(scheduler).schedule(scheduledJob);
     }
 
+    @Test
+    void testLoadJobDetailsFromHighWaterMark() {
+        tested.schedulerChunkInMinutes = 10;
+        ArgumentCaptor<ZonedDateTime> fromCaptor = ArgumentCaptor.forClass(ZonedDateTime.class);
+        ArgumentCaptor<ZonedDateTime> toCaptor = ArgumentCaptor.forClass(ZonedDateTime.class);
+
+        tested.loadJobDetails();
+        tested.loadJobDetails();
+        verify(repository, times(2)).streamByStatusBetweenDates(fromCaptor.capture(), toCaptor.capture(), anyInt(), any(JobStatus.class),
+                any(JobStatus.class));
+        //the second load starts where the first one finished
+        assertThat(fromCaptor.getAllValues().get(1)).isEqualTo(toCaptor.getAllValues().get(0));
+
+        //a full load is performed after a status change
+        tested.onMessagingStatusChange(new MessagingChangeEvent(true));
+        tested.loadJobDetails();
+        verify(repository, times(3)).streamByStatusBetweenDates(fromCaptor.capture(), toCaptor.capture(), anyInt(), any(JobStatus.class),
+                any(JobStatus.class));
+        assertThat(fromCaptor.getValue()).isBefore(toCaptor.getAllValues().get(0));
+    }
+
+    @Test
+    void testLoadJobDetailsAfterSchedulingFailure() {
+        when(scheduler.schedule(scheduledJob))
+                .thenReturn(ReactiveStreams.<JobDetails> failed(new IllegalStateException("Timer failure")).buildRs())
+                .thenReturn(ReactiveStreams.of(scheduledJob).buildRs());
+        ArgumentCaptor<ZonedDateTime> fromCaptor = ArgumentCaptor.forClass(ZonedDateTime.class);
+
+        tested.loadJobDetails();
+        tested.loadJobDetails();
+        verify(repository, times(2)).streamByStatusBetweenDates(fromCaptor.capture(), any(ZonedDateTime.class), anyInt(), any(JobStatus.class),
+                any(JobStatus.class));
+        //the job that failed to be scheduled is within the second load
+        ZonedDateTime fireTime = DateUtil.fromDate(scheduledJob.getTrigger().hasNextFireTime());
+        assertThat(fromCaptor.getAllValues().get(1)).isEqualTo(fireTime);
+        verify(scheduler, times(2)).schedule(scheduledJob);
+    }
+
+    @Test
+    void testLoadJobDetailsNotOwned() {
+        when(partitionManager.isOwned(JOB_ID)).thenReturn(false);
+        tested.loadJobDetails();
+        verify(scheduler, never()).schedule(scheduledJob);
+    }
+
+    @Test
+    void testOnPartitionChange() {
+        when(scheduler.unschedule(any())).thenReturn(CompletableFuture.completedFuture(1));
+        when(partitionManager.partitionOf(JOB_ID)).thenReturn(1);
+
+        tested.onPartitionChange(new PartitionChangeEvent(Set.of(2), Set.of(1)));
+
+        ArgumentCaptor<Predicate<String>> filter = ArgumentCaptor.forClass(Predicate.class);
+        verify(scheduler).unschedule(filter.capture());
+        assertThat(filter.getValue().test(JOB_ID)).isTrue();
+        verify(vertx).runOnContext(captorFirstExecution.capture());
+    }
+
+    @Test
+    void testOnPartitionNotified() {
+        tested.onPartitionChange(new PartitionChangeEvent(Set.of(), Set.of(), Set.of(1)));
+
+        verify(scheduler, never()).unschedule(any());
+        verify(vertx).runOnContext(captorFirstExecution.capture());
+    }
+
     @Test
     void testLoadAlreadyJobDetailss() {
         when(scheduler.scheduled(JOB_ID)).thenReturn(Optional.of(DateUtil.now()));
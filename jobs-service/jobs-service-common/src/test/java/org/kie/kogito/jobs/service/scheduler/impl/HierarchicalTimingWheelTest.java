@@ -0,0 +1,130 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.scheduler.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK = 10;
+    private static final long START = 1_000_000;
+
+    private HierarchicalTimingWheel tested;
+
+    private List<Long> fired;
+
+    @BeforeEach
+    void setUp() {
+        tested = new HierarchicalTimingWheel(TICK, 8, 3, START);
+        fired = new ArrayList<>();
+    }
+
+    @Test
+    void fireOnDeadline() {
+        tested.add(START + 55, () -> fired.add(55L));
+        tested.add(START + 20, () -> fired.add(20L));
+
+        run(START + 19);
+        assertThat(fired).isEmpty();
+
+        run(START + 20);
+        assertThat(fired).containsExactly(20L);
+
+        run(START + 59);
+        assertThat(fired).containsExactly(20L, 55L);
+        assertThat(tested.size()).isZero();
+    }
+
+    @Test
+    void fireInThePast() {
+        tested.add(START - 1000, () -> fired.add(0L));
+        run(START);
+        assertThat(fired).containsExactly(0L);
+    }
+
+    @Test
+    void cascadeAllLevelsAndOverflow() {
+        Random random = new Random(7);
+        //the wheel covers 8^3 ticks, include deadlines out of the range to check the overflow handling
+        long range = TICK * 8 * 8 * 8 * 4;
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            long delay = (long) (random.nextDouble() * range);
+            expected.add(delay);
+            tested.add(START + delay, () -> fired.add(delay));
+        }
+        for (long now = START; now <= START + range + TICK; now += TICK) {
+            long current = now;
+            tested.advance(now).forEach(Runnable::run);
+            //nothing fired before the deadline, nothing kept after the deadline tick
+            assertThat(fired).allMatch(delay -> START + delay <= current + TICK);
+            assertThat(expected).filteredOn(delay -> START + delay < current - TICK).allMatch(fired::contains);
+        }
+        assertThat(fired).containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(tested.size()).isZero();
+    }
+
+    @Test
+    void cancel() {
+        long id1 = tested.add(START + 100, () -> fired.add(1L));
+        long id2 = tested.add(START + 100, () -> fired.add(2L));
+        long id3 = tested.add(START + 5000, () -> fired.add(3L));
+        assertThat(tested.size()).isEqualTo(3);
+
+        assertThat(tested.cancel(id2)).isTrue();
+        assertThat(tested.cancel(id3)).isTrue();
+        assertThat(tested.cancel(id3)).isFalse();
+        assertThat(tested.size()).isEqualTo(1);
+
+        run(START + 10000);
+        assertThat(fired).containsExactly(1L);
+        //already fired
+        assertThat(tested.cancel(id1)).isFalse();
+    }
+
+    @Test
+    void staleIdDoesNotCancelReusedEntry() {
+        long id = tested.add(START + 10, () -> fired.add(1L));
+        assertThat(id).isNotZero();
+        assertThat(tested.cancel(id)).isTrue();
+
+        long reused = tested.add(START + 10, () -> fired.add(2L));
+        assertThat(reused).isNotEqualTo(id);
+        assertThat(tested.cancel(id)).isFalse();
+
+        run(START + 10);
+        assertThat(fired).containsExactly(2L);
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThatThrownBy(() -> new HierarchicalTimingWheel(0, 8, 3, START)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HierarchicalTimingWheel(TICK, 1, 3, START)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HierarchicalTimingWheel(TICK, 8, 0, START)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void run(long now) {
+        tested.advance(now).forEach(Runnable::run);
+    }
+}
@@ -17,6 +17,7 @@ package org.kie.kogito.jobs.service.scheduler.impl;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
 import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
@@ -24,6 +25,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.kie.kogito.jobs.service.job.DelegateJob;
+import org.kie.kogito.jobs.service.job.PartitionedDelegateJob;
+import org.kie.kogito.jobs.service.management.JobServicePartitionManager;
 import org.kie.kogito.jobs.service.model.JobDetails;
 import org.kie.kogito.jobs.service.model.JobDetailsContext;
 import org.kie.kogito.jobs.service.model.JobExecutionResponse;
@@ -41,6 +44,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.reactivestreams.Publisher;
 
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -49,6 +53,7 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class TimerDelegateJobSchedulerTest extends BaseTimerJobSchedulerTest {
@@ -60,8 +65,12 @@ class TimerDelegateJobSchedulerTest extends BaseTimerJobSchedulerTest {
     @Mock
     private VertxTimerServiceScheduler timer;
 
+    @Mock
+    private JobServicePartitionManager partitionManager;
+
     @BeforeEach
     public void setUp() {
+        lenient().when(partitionManager.isOwned(any(String.class))).thenReturn(true);
         super.setUp();
         ManageableJobHandle handle = new ManageableJobHandle(SCHEDULED_ID);
         handle.setScheduledTime(DateUtil.now());
@@ -80,6 +89,37 @@ class TimerDelegateJobSchedulerTest extends BaseTimerJobSchedulerTest {
         verify(timer).scheduleJob(any(DelegateJob.class), any(JobDetailsContext.class), eq(scheduledJob.getTrigger()));
     }
 
+    @Test
+    void testDoSchedulePartitioned() {
+        lenient().when(partitionManager.isEnabled()).thenReturn(true);
+        PublisherBuilder<ManageableJobHandle> schedule = tested.doSchedule(scheduledJob, Optional.empty());
+        Multi.createFrom().publisher(schedule.buildRs()).subscribe().with(dummyCallback(), dummyCallback());
+        verify(timer).scheduleJob(any(PartitionedDelegateJob.class), any(JobDetailsContext.class), eq(scheduledJob.getTrigger()));
+    }
+
+    @Test
+    void testScheduleNotOwned() {
+        lenient().when(partitionManager.isOwned(scheduledJob.getId())).thenReturn(false);
+        when(jobRepository.exists(JOB_ID)).thenReturn(CompletableFuture.completedFuture(false));
+        Multi.createFrom().publisher(tested.schedule(scheduledJob)).subscribe().with(dummyCallback(), dummyCallback());
+        //only persisted, it is scheduled by the instance owning the partition
+        verify(tested, never()).doSchedule(any(JobDetails.class), any());
+        verify(jobRepository).save(any(JobDetails.class));
+        verify(partitionManager, never()).notifyOwner(any(String.class));
+    }
+
+    @Test
+    void testScheduleNotOwnedPartitioned() {
+        lenient().when(partitionManager.isEnabled()).thenReturn(true);
+        lenient().when(partitionManager.isOwned(scheduledJob.getId())).thenReturn(false);
+        when(partitionManager.notifyOwner(JOB_ID)).thenReturn(Uni.createFrom().voidItem());
+        when(jobRepository.exists(JOB_ID)).thenReturn(CompletableFuture.completedFuture(false));
+        Multi.createFrom().publisher(tested.schedule(scheduledJob)).subscribe().with(dummyCallback(), dummyCallback());
+        //the job is on the current chunk, the owner is notified to load it
+        verify(tested, never()).doSchedule(any(JobDetails.class), any());
+        verify(partitionManager).notifyOwner(JOB_ID);
+    }
+
     @Test
     void testDoCancel() {
         Publisher<ManageableJobHandle> cancel = tested.doCancel(JobDetails.builder().of(scheduledJob).scheduledId(SCHEDULED_ID).build());
@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.kie.kogito.jobs.service.executor.JobExecutorResolver;
 import org.kie.kogito.jobs.service.job.DelegateJob;
+import org.kie.kogito.jobs.service.metrics.JobServiceMetrics;
 import org.kie.kogito.jobs.service.model.JobDetails;
 import org.kie.kogito.jobs.service.model.JobDetailsContext;
 import org.kie.kogito.jobs.service.model.ManageableJobHandle;
@@ -38,11 +39,14 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.vertx.mutiny.core.Vertx;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.given;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
@@ -102,6 +106,39 @@ class VertxTimerServiceSchedulerTest {
         assertThat(tested.removeJob(handle)).isTrue();
     }
 
+    @Test
+    void testScheduleAndRemoveJobWithTimingWheel() {
+        tested = new VertxTimerServiceScheduler(vertx, TimerBackend.TIMING_WHEEL, 10, 64, 4);
+        final ManageableJobHandle removed = schedule(DateUtil.now().plusHours(1));
+        assertThat(tested.removeJob(removed)).isTrue();
+        assertThat(tested.removeJob(removed)).isFalse();
+
+        ZonedDateTime time = DateUtil.now().plusSeconds(1);
+        final ManageableJobHandle handle = schedule(time);
+        verify(vertx, never()).setTimer(anyLong(), any());
+        given().await()
+                .atMost(2, TimeUnit.SECONDS)
+                .untilAsserted(() -> verify(jobExecutorResolver).get(jobCaptor.capture()));
+        assertThat(jobCaptor.getValue()).isEqualTo(jobDetails);
+        assertThat(handle.getScheduledTime()).isNotNull();
+        assertThat(tested.removeJob(handle)).isFalse();
+        tested.shutdown();
+    }
+
+    @Test
+    void testFiringLagOfOverdueJob() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        tested.meterRegistry = registry;
+        //a job loaded after a restart, overdue by a few minutes, is fired right away and is not reported as late
+        schedule(DateUtil.now().minusMinutes(5));
+        given().await()
+                .atMost(2, TimeUnit.SECONDS)
+                .untilAsserted(() -> verify(jobExecutorResolver).get(jobCaptor.capture()));
+        Timer firingLag = registry.get(JobServiceMetrics.FIRING_LAG).timer();
+        assertThat(firingLag.count()).isEqualTo(1);
+        assertThat(firingLag.max(TimeUnit.MILLISECONDS)).isLessThan(TimeUnit.SECONDS.toMillis(2));
+    }
+
     private ManageableJobHandle schedule(ZonedDateTime time) {
         final long timestamp = time.toInstant().toEpochMilli();
         trigger = new PointInTimeTrigger(timestamp, null, null);
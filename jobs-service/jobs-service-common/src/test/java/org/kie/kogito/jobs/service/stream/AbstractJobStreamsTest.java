@@ -17,6 +17,13 @@
 package org.kie.kogito.jobs.service.stream;
 
 import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 import org.eclipse.microprofile.reactive.messaging.Emitter;
 import org.eclipse.microprofile.reactive.messaging.Message;
@@ -40,12 +47,18 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -81,10 +94,10 @@ public abstract class AbstractJobStreamsTest<T extends AbstractJobStreams> {
 
     @BeforeEach
     void setUp() {
-        jobStreams = spy(createJobStreams());
+        jobStreams = spy(createJobStreams(0));
     }
 
-    protected abstract T createJobStreams();
+    protected abstract T createJobStreams(long coalesceWindowInMillis);
 
     @Test
     void jobStatusChangeWithAck() throws Exception {
@@ -150,6 +163,90 @@ public abstract class AbstractJobStreamsTest<T extends AbstractJobStreams> {
         verify(jobStreams, never()).onNack(any(), any());
     }
 
+    @Test
+    void jobStatusChangeCoalesced() throws Exception {
+        //the window never elapses during the test, the events are published by the explicit flush
+        T coalescing = spy(createJobStreams(60000));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        coalescing.meterRegistry = registry;
+        doReturn(SERIALIZED_MESSAGE).when(objectMapper).writeValueAsString(any());
+
+        coalescing.jobStatusChange(mockJobDetails(JOB_ID, JobStatus.SCHEDULED));
+        coalescing.jobStatusChange(mockJobDetails(JOB_ID, JobStatus.RETRY));
+        coalescing.jobStatusChange(mockJobDetails("ANOTHER_JOB_ID", JobStatus.SCHEDULED));
+        coalescing.jobStatusChange(mockJobDetails(JOB_ID, JobStatus.EXECUTED));
+
+        verify(emitter, never()).send(any(Message.class));
+        assertThat(coalescing.getPendingCount()).isEqualTo(2);
+
+        coalescing.flush();
+
+        verify(objectMapper, times(2)).writeValueAsString(eventCaptor.capture());
+        assertThat(eventCaptor.getAllValues())
+                .extracting(e -> ((JobDataEvent) e).getData())
+                .extracting(ScheduledJob::getId, ScheduledJob::getStatus)
+                .containsExactly(tuple(JOB_ID, JobStatus.EXECUTED), tuple("ANOTHER_JOB_ID", JobStatus.SCHEDULED));
+        verify(emitter, times(2)).send(any(Message.class));
+        assertThat(coalescing.getPendingCount()).isZero();
+        assertThat(registry.get(AbstractJobStreams.PRODUCED_EVENTS_METRIC).counter().count()).isEqualTo(2);
+        assertThat(registry.get(AbstractJobStreams.COALESCED_EVENTS_METRIC).counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void jobStatusChangeCoalescedWindowElapsed() throws Exception {
+        T coalescing = spy(createJobStreams(50));
+        doReturn(SERIALIZED_MESSAGE).when(objectMapper).writeValueAsString(any());
+
+        coalescing.jobStatusChange(mockJobDetails(JOB_ID, JobStatus.SCHEDULED));
+        coalescing.jobStatusChange(mockJobDetails(JOB_ID, JobStatus.EXECUTED));
+
+        verify(emitter, timeout(5000)).send(any(Message.class));
+        verify(objectMapper).writeValueAsString(eventCaptor.capture());
+        assertThat(((JobDataEvent) eventCaptor.getValue()).getData().getStatus()).isEqualTo(JobStatus.EXECUTED);
+    }
+
+    @Test
+    void jobStatusChangeCoalescedMaxBatchSize() throws Exception {
+        T coalescing = spy(createJobStreams(60000));
+        doReturn(SERIALIZED_MESSAGE).when(objectMapper).writeValueAsString(any());
+        Set<Thread> publishers = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> publishers.add(Thread.currentThread())).when(emitter).send(any(Message.class));
+
+        IntStream.range(0, AbstractJobStreams.DEFAULT_MAX_BATCH_SIZE)
+                .forEach(i -> coalescing.jobStatusChange(mockJobDetails(JOB_ID + i, JobStatus.SCHEDULED)));
+
+        //the batch is flushed when it is full, out of the caller thread
+        verify(emitter, timeout(5000).times(AbstractJobStreams.DEFAULT_MAX_BATCH_SIZE)).send(any(Message.class));
+        assertThat(publishers).isNotEmpty().doesNotContain(Thread.currentThread());
+    }
+
+    @Test
+    void jobStatusChangeCoalescedBackpressure() throws Exception {
+        T coalescing = spy(createJobStreams(60000));
+        coalescing.maxBatchSize = Integer.MAX_VALUE;
+        doReturn(SERIALIZED_MESSAGE).when(objectMapper).writeValueAsString(any());
+        List<Message<String>> sent = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> sent.add(invocation.getArgument(0))).when(emitter).send(any(Message.class));
+        int count = AbstractJobStreams.EMITTER_BUFFER_SIZE + 1;
+        IntStream.range(0, count).forEach(i -> coalescing.jobStatusChange(mockJobDetails(JOB_ID + i, JobStatus.SCHEDULED)));
+
+        CompletableFuture<Void> flush = CompletableFuture.runAsync(coalescing::flush);
+
+        //the second chunk is not sent until the first one is acknowledged
+        verify(emitter, timeout(5000).times(AbstractJobStreams.EMITTER_BUFFER_SIZE)).send(any(Message.class));
+        assertThat(flush).isNotDone();
+        sent.forEach(Message::ack);
+        flush.get(5, TimeUnit.SECONDS);
+        verify(emitter, times(count)).send(any(Message.class));
+    }
+
+    private JobDetails mockJobDetails(String id, JobStatus status) {
+        return JobDetails.builder()
+                .id(id)
+                .status(status)
+                .build();
+    }
+
     private JobDetails mockJobDetails() {
         return JobDetails.builder()
                 .id(JOB_ID)
@@ -16,8 +16,17 @@
 package org.kie.kogito.jobs.service.repository.infinispan;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -34,6 +43,7 @@ import org.infinispan.query.dsl.Query;
 import org.infinispan.query.dsl.QueryFactory;
 import org.kie.kogito.jobs.service.model.JobDetails;
 import org.kie.kogito.jobs.service.model.JobStatus;
+import org.kie.kogito.jobs.service.repository.JobDetailsCursor;
 import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
 import org.kie.kogito.jobs.service.repository.impl.BaseReactiveJobRepository;
 import org.kie.kogito.jobs.service.stream.JobStreams;
@@ -45,6 +55,9 @@ import static org.kie.kogito.jobs.service.repository.infinispan.InfinispanConfig
 @ApplicationScoped
 public class InfinispanJobRepository extends BaseReactiveJobRepository implements ReactiveJobRepository {
 
+    //indexNullAs of the priority in library.proto, so the jobs without priority sort last on the descending priority
+    static final int NULL_PRIORITY = Integer.MIN_VALUE;
+
     private RemoteCache<String, JobDetails> cache;
     private QueryFactory queryFactory;
     private RemoteCacheManager remoteCacheManager;
@@ -72,11 +85,29 @@ public class InfinispanJobRepository extends BaseReactiveJobRepository implement
                 .thenApply(j -> job);
     }
 
+    @Override
+    public CompletionStage<List<JobDetails>> doSaveAll(List<JobDetails> jobs) {
+        return runAsync(() -> {
+            cache.putAll(jobs.stream().collect(Collectors.toMap(JobDetails::getId, Function.identity(), (first, last) -> last)));
+            return jobs;
+        });
+    }
+
     @Override
     public CompletionStage<JobDetails> get(String id) {
         return runAsync(() -> cache.get(id));
     }
 
+    @Override
+    public CompletionStage<List<JobDetails>> getAll(Collection<String> ids) {
+        return runAsync(() -> new ArrayList<>(cache.getAll(new HashSet<>(ids)).values()));
+    }
+
+    @Override
+    public CompletionStage<Set<String>> findExistingIds(Collection<String> ids) {
+        return runAsync(() -> new HashSet<>(cache.getAll(new HashSet<>(ids)).keySet()));
+    }
+
     @Override
     public CompletionStage<Boolean> exists(String id) {
         return runAsync(() -> cache.containsKey(id));
@@ -89,6 +120,18 @@ public class InfinispanJobRepository extends BaseReactiveJobRepository implement
                 .remove(id));
     }
 
+    @Override
+    public CompletionStage<List<JobDetails>> doDeleteAll(Collection<String> ids) {
+        return runAsync(() -> {
+            Map<String, JobDetails> existing = cache.getAll(new HashSet<>(ids));
+            CompletableFuture.allOf(existing.keySet().stream()
+                    .map(cache::removeAsync)
+                    .toArray(CompletableFuture[]::new))
+                    .join();
+            return new ArrayList<>(existing.values());
+        });
+    }
+
     @Override
     public PublisherBuilder<JobDetails> findAll() {
         Query<JobDetails> query = queryFactory.<JobDetails> create("from job.service.JobDetails");
@@ -117,6 +160,31 @@ public class InfinispanJobRepository extends BaseReactiveJobRepository implement
         return ReactiveStreams.fromIterable(query.execute().list());
     }
 
+    @Override
+    public CompletionStage<List<JobDetails>> findPageByStatusBetweenDates(ZonedDateTime from, ZonedDateTime to, JobDetailsCursor after, int limit,
+            JobStatus... status) {
+        String keysetQuery = after == null ? ""
+                //jobs strictly after the (fireTime, priority, id) position, null priorities are indexed as NULL_PRIORITY
+                : "and (j.trigger.nextFireTime > :fireTime " +
+                        "or (j.trigger.nextFireTime = :fireTime and (j.priority < :priority or (j.priority = :priority and j.id > :id)))) ";
+        Query<JobDetails> query = queryFactory.create("from job.service.JobDetails j " +
+                "where " +
+                "j.trigger.nextFireTime >= :from " +
+                "and j.trigger.nextFireTime <= :to " +
+                "and j.status in (" + createStatusQuery(status) + ") " +
+                keysetQuery +
+                "order by j.trigger.nextFireTime asc, j.priority desc, j.id asc");
+        query.setParameter("to", to.toInstant().toEpochMilli());
+        query.setParameter("from", from.toInstant().toEpochMilli());
+        if (after != null) {
+            query.setParameter("fireTime", after.getFireTime());
+            query.setParameter("priority", Optional.ofNullable(after.getPriority()).orElse(NULL_PRIORITY));
+            query.setParameter("id", after.getId());
+        }
+        query.maxResults(limit);
+        return runAsync(() -> query.execute().list());
+    }
+
     //building the query sentence for the status IN (not supported to use array in setParameter on the query)
     private String createStatusQuery(JobStatus[] status) {
         return Arrays.stream(status)
@@ -55,9 +55,11 @@ public class HttpJobStreams extends AbstractJobStreams {
     @Inject
     public HttpJobStreams(ObjectMapper objectMapper,
             @ConfigProperty(name = PUBLISH_EVENTS_CONFIG_KEY) Optional<Boolean> config,
-            @Channel(JOB_STATUS_CHANGE_EVENTS_HTTP) @OnOverflow(value = OnOverflow.Strategy.LATEST) Emitter<String> emitter,
-            @ConfigProperty(name = "kogito.service.url", defaultValue = "http://localhost:8080") String url) {
-        super(objectMapper, config.orElse(false), emitter, url);
+            @Channel(JOB_STATUS_CHANGE_EVENTS_HTTP) @OnOverflow(value = OnOverflow.Strategy.BUFFER, bufferSize = EMITTER_BUFFER_SIZE) Emitter<String> emitter,
+            @ConfigProperty(name = "kogito.service.url", defaultValue = "http://localhost:8080") String url,
+            @ConfigProperty(name = COALESCE_WINDOW_CONFIG_KEY, defaultValue = "0") long coalesceWindowInMillis,
+            @ConfigProperty(name = MAX_BATCH_SIZE_CONFIG_KEY, defaultValue = "500") int maxBatchSize) {
+        super(objectMapper, config.orElse(false), emitter, url, coalesceWindowInMillis, maxBatchSize);
     }
 
     @Incoming(AvailableStreams.JOB_STATUS_CHANGE_EVENTS)
@@ -67,6 +69,11 @@ public class HttpJobStreams extends AbstractJobStreams {
         super.jobStatusChange(job);
     }
 
+    @Override
+    protected String getStreamName() {
+        return "http";
+    }
+
     @Override
     protected Message<String> decorate(Message<String> message) {
         return message.addMetadata(OUTGOING_HTTP_METADATA.get());
@@ -21,6 +21,7 @@ import java.util.Optional;
 import javax.ws.rs.core.HttpHeaders;
 
 import org.eclipse.microprofile.reactive.messaging.Message;
+import org.kie.kogito.jobs.service.stream.AbstractJobStreams;
 import org.kie.kogito.jobs.service.stream.AbstractJobStreamsTest;
 
 import io.cloudevents.jackson.JsonFormat;
@@ -31,8 +32,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 class HttpJobStreamsTest extends AbstractJobStreamsTest<HttpJobStreams> {
 
     @Override
-    protected HttpJobStreams createJobStreams() {
-        return new HttpJobStreams(objectMapper, Optional.of(true), emitter, AbstractJobStreamsTest.URL);
+    protected HttpJobStreams createJobStreams(long coalesceWindowInMillis) {
+        return new HttpJobStreams(objectMapper, Optional.of(true), emitter, AbstractJobStreamsTest.URL, coalesceWindowInMillis, AbstractJobStreams.DEFAULT_MAX_BATCH_SIZE);
     }
 
     @Override
@@ -40,9 +40,11 @@ public class KafkaJobStreams extends AbstractJobStreams {
     @Inject
     public KafkaJobStreams(ObjectMapper objectMapper,
             @ConfigProperty(name = PUBLISH_EVENTS_CONFIG_KEY) Optional<Boolean> config,
-            @Channel(AvailableStreams.JOB_STATUS_CHANGE_EVENTS_TOPIC) @OnOverflow(value = OnOverflow.Strategy.LATEST) Emitter<String> emitter,
-            @ConfigProperty(name = "kogito.service.url", defaultValue = "http://localhost:8080") String url) {
-        super(objectMapper, config.orElse(false), emitter, url);
+            @Channel(AvailableStreams.JOB_STATUS_CHANGE_EVENTS_TOPIC) @OnOverflow(value = OnOverflow.Strategy.BUFFER, bufferSize = EMITTER_BUFFER_SIZE) Emitter<String> emitter,
+            @ConfigProperty(name = "kogito.service.url", defaultValue = "http://localhost:8080") String url,
+            @ConfigProperty(name = COALESCE_WINDOW_CONFIG_KEY, defaultValue = "0") long coalesceWindowInMillis,
+            @ConfigProperty(name = MAX_BATCH_SIZE_CONFIG_KEY, defaultValue = "500") int maxBatchSize) {
+        super(objectMapper, config.orElse(false), emitter, url, coalesceWindowInMillis, maxBatchSize);
     }
 
     @Incoming(AvailableStreams.JOB_STATUS_CHANGE_EVENTS)
@@ -51,4 +53,9 @@ public class KafkaJobStreams extends AbstractJobStreams {
     public void jobStatusChange(JobDetails job) {
         super.jobStatusChange(job);
     }
+
+    @Override
+    protected String getStreamName() {
+        return "kafka";
+    }
 }
@@ -18,12 +18,13 @@ package org.kie.kogito.jobs.service.messaging.kafka.stream;
 
 import java.util.Optional;
 
+import org.kie.kogito.jobs.service.stream.AbstractJobStreams;
 import org.kie.kogito.jobs.service.stream.AbstractJobStreamsTest;
 
 class KafkaJobStreamsTest extends AbstractJobStreamsTest<KafkaJobStreams> {
 
     @Override
-    protected KafkaJobStreams createJobStreams() {
-        return new KafkaJobStreams(objectMapper, Optional.of(true), emitter, URL);
+    protected KafkaJobStreams createJobStreams(long coalesceWindowInMillis) {
+        return new KafkaJobStreams(objectMapper, Optional.of(true), emitter, URL, coalesceWindowInMillis, AbstractJobStreams.DEFAULT_MAX_BATCH_SIZE);
     }
 }
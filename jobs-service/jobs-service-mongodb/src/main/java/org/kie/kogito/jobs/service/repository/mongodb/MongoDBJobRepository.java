@@ -17,6 +17,11 @@
 package org.kie.kogito.jobs.service.repository.mongodb;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -24,17 +29,22 @@ import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 
 import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.bson.json.JsonWriterSettings;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
 import org.kie.kogito.jobs.service.model.JobDetails;
 import org.kie.kogito.jobs.service.model.JobStatus;
+import org.kie.kogito.jobs.service.repository.JobDetailsCursor;
 import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
 import org.kie.kogito.jobs.service.repository.impl.BaseReactiveJobRepository;
 import org.kie.kogito.jobs.service.repository.marshaller.JobDetailsMarshaller;
 import org.kie.kogito.jobs.service.stream.JobStreams;
 
 import com.mongodb.client.model.FindOneAndReplaceOptions;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.Sorts;
 
 import io.quarkus.mongodb.FindOptions;
 import io.quarkus.mongodb.reactive.ReactiveMongoClient;
@@ -47,15 +57,21 @@ import io.vertx.core.json.JsonObject;
 import static com.mongodb.client.model.Filters.and;
 import static com.mongodb.client.model.Filters.eq;
 import static com.mongodb.client.model.Filters.gt;
+import static com.mongodb.client.model.Filters.gte;
 import static com.mongodb.client.model.Filters.in;
 import static com.mongodb.client.model.Filters.lt;
+import static com.mongodb.client.model.Filters.lte;
+import static com.mongodb.client.model.Filters.or;
 import static com.mongodb.client.model.Indexes.ascending;
+import static com.mongodb.client.model.Projections.include;
 import static com.mongodb.client.model.ReturnDocument.AFTER;
 import static com.mongodb.client.model.Sorts.descending;
+import static com.mongodb.client.model.Sorts.orderBy;
 import static java.util.Arrays.stream;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.counting;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static org.bson.Document.parse;
 import static org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams.fromPublisher;
 
@@ -72,6 +88,8 @@ public class MongoDBJobRepository extends BaseReactiveJobRepository implements R
 
     static final String FIRE_TIME_COLUMN = "trigger.nextFireTime";
 
+    static final String PRIORITY_COLUMN = "priority";
+
     private static final JsonWriterSettings jsonWriterSettings = JsonWriterSettings.builder()
             .int64Converter((value, writer) -> writer.writeNumber(value.toString())).build();
 
@@ -94,6 +112,7 @@ public class MongoDBJobRepository extends BaseReactiveJobRepository implements R
 
     void onStart(@Observes StartupEvent ev) {
         this.collection.createIndex(ascending(STATUS_COLUMN, FIRE_TIME_COLUMN)).await().indefinitely();
+        this.collection.createIndex(orderBy(Sorts.ascending(FIRE_TIME_COLUMN), descending(PRIORITY_COLUMN), Sorts.ascending(ID))).await().indefinitely();
     }
 
     @Override
@@ -109,6 +128,23 @@ public class MongoDBJobRepository extends BaseReactiveJobRepository implements R
                 .toCompletionStage();
     }
 
+    /**
+     * Saves all the jobs with a single bulk write of upsert replacements.
+     */
+    @Override
+    public CompletionStage<List<JobDetails>> doSaveAll(List<JobDetails> jobs) {
+        return collection.bulkWrite(jobs.stream()
+                .map(job -> new ReplaceOneModel<>(
+                        eq(ID, job.getId()),
+                        jsonToDocument(jobDetailsMarshaller.marshall(job)),
+                        new ReplaceOptions().upsert(true)))
+                .collect(toList()))
+                .map(result -> jobs)
+                .emitOn(Infrastructure.getDefaultExecutor())
+                .convert()
+                .toCompletionStage();
+    }
+
     @Override
     public CompletionStage<JobDetails> get(String id) {
         return collection.find(eq(ID, id))
@@ -130,6 +166,33 @@ public class MongoDBJobRepository extends BaseReactiveJobRepository implements R
                 .toCompletionStage();
     }
 
+    @Override
+    public CompletionStage<List<JobDetails>> getAll(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return CompletableFuture.completedFuture(new ArrayList<>());
+        }
+        return collection.find(in(ID, ids))
+                .map(document -> documentToJson(document))
+                .map(jobDetailsMarshaller::unmarshall)
+                .collect().asList()
+                .emitOn(Infrastructure.getDefaultExecutor())
+                .convert()
+                .toCompletionStage();
+    }
+
+    @Override
+    public CompletionStage<Set<String>> findExistingIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return CompletableFuture.completedFuture(Set.of());
+        }
+        return collection.find(in(ID, ids), new FindOptions().projection(include(ID)))
+                .map(document -> document.getString(ID))
+                .collect().with(toSet())
+                .emitOn(Infrastructure.getDefaultExecutor())
+                .convert()
+                .toCompletionStage();
+    }
+
     @Override
     public CompletionStage<JobDetails> delete(String id) {
         return collection.findOneAndDelete(eq(ID, id))
@@ -140,6 +203,18 @@ public class MongoDBJobRepository extends BaseReactiveJobRepository implements R
                 .toCompletionStage();
     }
 
+    @Override
+    public CompletionStage<List<JobDetails>> doDeleteAll(Collection<String> ids) {
+        return collection.find(in(ID, ids))
+                .map(document -> documentToJson(document))
+                .map(jobDetailsMarshaller::unmarshall)
+                .collect().asList()
+                .call(deleted -> collection.deleteMany(in(ID, ids)))
+                .emitOn(Infrastructure.getDefaultExecutor())
+                .convert()
+                .toCompletionStage();
+    }
+
     @Override
     public PublisherBuilder<JobDetails> findAll() {
         return fromPublisher(collection.find()
@@ -158,7 +233,7 @@ public class MongoDBJobRepository extends BaseReactiveJobRepository implements R
                                 in(STATUS_COLUMN, stream(status).map(Enum::name).collect(toList())),
                                 gt(FIRE_TIME_COLUMN, from.toInstant().toEpochMilli()),
                                 lt(FIRE_TIME_COLUMN, to.toInstant().toEpochMilli())),
-                        new FindOptions().sort(descending("priority")))
+                        new FindOptions().sort(descending(PRIORITY_COLUMN)))
                         .map(document -> documentToJson(document))
                         .map(jobDetailsMarshaller::unmarshall)
                         .emitOn(Infrastructure.getDefaultExecutor())
@@ -166,6 +241,45 @@ public class MongoDBJobRepository extends BaseReactiveJobRepository implements R
                         .toPublisher());
     }
 
+    @Override
+    public CompletionStage<List<JobDetails>> findPageByStatusBetweenDates(ZonedDateTime from, ZonedDateTime to, JobDetailsCursor after, int limit,
+            JobStatus... status) {
+        List<Bson> filters = new ArrayList<>(List.of(
+                in(STATUS_COLUMN, stream(status).map(Enum::name).collect(toList())),
+                gte(FIRE_TIME_COLUMN, from.toInstant().toEpochMilli()),
+                lte(FIRE_TIME_COLUMN, to.toInstant().toEpochMilli())));
+        if (after != null) {
+            filters.add(createKeysetFilter(after));
+        }
+        return collection.find(and(filters),
+                new FindOptions()
+                        .sort(orderBy(Sorts.ascending(FIRE_TIME_COLUMN), descending(PRIORITY_COLUMN), Sorts.ascending(ID)))
+                        .limit(limit))
+                .map(document -> documentToJson(document))
+                .map(jobDetailsMarshaller::unmarshall)
+                .collect().asList()
+                .emitOn(Infrastructure.getDefaultExecutor())
+                .convert()
+                .toCompletionStage();
+    }
+
+    /**
+     * Jobs strictly after the (fireTime, priority, id) position. Missing and null priorities are the lowest values in
+     * the MongoDB sort order, so they come last on the descending priority sort, as in {@link JobDetailsCursor#ORDER}.
+     */
+    static Bson createKeysetFilter(JobDetailsCursor after) {
+        Bson samePriorityFilter;
+        if (after.getPriority() != null) {
+            samePriorityFilter = or(lt(PRIORITY_COLUMN, after.getPriority()),
+                    eq(PRIORITY_COLUMN, null),
+                    and(eq(PRIORITY_COLUMN, after.getPriority()), gt(ID, after.getId())));
+        } else {
+            samePriorityFilter = and(eq(PRIORITY_COLUMN, null), gt(ID, after.getId()));
+        }
+        return or(gt(FIRE_TIME_COLUMN, after.getFireTime()),
+                and(eq(FIRE_TIME_COLUMN, after.getFireTime()), samePriorityFilter));
+    }
+
     static JsonObject documentToJson(Document document) {
         return ofNullable(document).map(doc -> new JsonObject(doc.toJson(jsonWriterSettings))).orElse(null);
     }
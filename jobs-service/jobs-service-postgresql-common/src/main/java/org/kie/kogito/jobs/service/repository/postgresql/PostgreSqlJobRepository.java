@@ -18,8 +18,15 @@ package org.kie.kogito.jobs.service.repository.postgresql;
 
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -31,6 +38,7 @@ import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
 import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
 import org.kie.kogito.jobs.service.model.JobDetails;
 import org.kie.kogito.jobs.service.model.JobStatus;
+import org.kie.kogito.jobs.service.repository.JobDetailsCursor;
 import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
 import org.kie.kogito.jobs.service.repository.impl.BaseReactiveJobRepository;
 import org.kie.kogito.jobs.service.repository.marshaller.RecipientMarshaller;
@@ -60,6 +68,27 @@ public class PostgreSqlJobRepository extends BaseReactiveJobRepository implement
     private static final String JOB_DETAILS_COLUMNS = "id, correlation_id, status, last_update, retries, " +
             "execution_counter, scheduled_id, priority, recipient, trigger, fire_time, execution_timeout, execution_timeout_unit";
 
+    private static final String UPSERT_QUERY = "INSERT INTO " + JOB_DETAILS_TABLE + " (" + JOB_DETAILS_COLUMNS +
+            ") VALUES ($1, $2, $3, now(), $4, $5, $6, $7, $8, $9, $10, $11, $12) " +
+            "ON CONFLICT (id) DO " +
+            "UPDATE SET correlation_id = $2, status = $3, last_update = now(), retries = $4, " +
+            "execution_counter = $5, scheduled_id = $6, priority = $7, " +
+            "recipient = $8, trigger = $9, fire_time = $10, execution_timeout = $11, execution_timeout_unit = $12 " +
+            "RETURNING " + JOB_DETAILS_COLUMNS;
+
+    /**
+     * Claims the due jobs, skipping the rows locked by other instances. The fire time of the claimed jobs is moved
+     * to the claim expiration, so they are not claimed again while they are executed, and they become due again if
+     * the claiming instance fails before the execution result is handled. Jobs in RETRY status are due only after the
+     * retry backoff since their last update.
+     */
+    private static final String CLAIM_DUE_JOBS_QUERY = "UPDATE " + JOB_DETAILS_TABLE + " SET fire_time = $3, last_update = $2 " +
+            "WHERE id IN (SELECT id FROM " + JOB_DETAILS_TABLE + " " +
+            "WHERE fire_time <= $2 AND (status = 'SCHEDULED' OR (status = 'RETRY' AND last_update <= $4)) " +
+            "ORDER BY fire_time ASC, priority DESC " +
+            "LIMIT $1 FOR UPDATE SKIP LOCKED) " +
+            "RETURNING " + JOB_DETAILS_COLUMNS;
+
     private PgPool client;
 
     private final TriggerMarshaller triggerMarshaller;
@@ -81,33 +110,52 @@ public class PostgreSqlJobRepository extends BaseReactiveJobRepository implement
 
     @Override
     public CompletionStage<JobDetails> doSave(JobDetails job) {
-        return client.preparedQuery("INSERT INTO " + JOB_DETAILS_TABLE + " (" + JOB_DETAILS_COLUMNS +
-                ") VALUES ($1, $2, $3, now(), $4, $5, $6, $7, $8, $9, $10, $11, $12) " +
-                "ON CONFLICT (id) DO " +
-                "UPDATE SET correlation_id = $2, status = $3, last_update = now(), retries = $4, " +
-                "execution_counter = $5, scheduled_id = $6, priority = $7, " +
-                "recipient = $8, trigger = $9, fire_time = $10, execution_timeout = $11, execution_timeout_unit = $12 " +
-                "RETURNING " + JOB_DETAILS_COLUMNS)
-                .execute(Tuple.tuple(Stream.of(
-                        job.getId(),
-                        job.getCorrelationId(),
-                        Optional.ofNullable(job.getStatus()).map(Enum::name).orElse(null),
-                        job.getRetries(),
-                        job.getExecutionCounter(),
-                        job.getScheduledId(),
-                        job.getPriority(),
-                        recipientMarshaller.marshall(job.getRecipient()),
-                        triggerMarshaller.marshall(job.getTrigger()),
-                        Optional.ofNullable(job.getTrigger()).map(Trigger::hasNextFireTime).map(DateUtil::dateToOffsetDateTime).orElse(null),
-                        job.getExecutionTimeout(),
-                        Optional.ofNullable(job.getExecutionTimeoutUnit()).map(Enum::name).orElse(null))
-                        .collect(toList())))
+        return client.preparedQuery(UPSERT_QUERY)
+                .execute(toTuple(job))
                 .onItem().transform(RowSet::iterator)
                 .onItem().transform(iterator -> iterator.hasNext() ? from(iterator.next()) : null)
                 .convert()
                 .toCompletableFuture();
     }
 
+    /**
+     * Saves all the jobs in a single pipelined batch execution of the upsert statement.
+     */
+    @Override
+    public CompletionStage<List<JobDetails>> doSaveAll(List<JobDetails> jobs) {
+        return client.preparedQuery(UPSERT_QUERY)
+                .executeBatch(jobs.stream().map(this::toTuple).collect(toList()))
+                .onItem().transform(this::fromRowSets)
+                .convert()
+                .toCompletableFuture();
+    }
+
+    private Tuple toTuple(JobDetails job) {
+        return Tuple.tuple(Stream.of(
+                job.getId(),
+                job.getCorrelationId(),
+                Optional.ofNullable(job.getStatus()).map(Enum::name).orElse(null),
+                job.getRetries(),
+                job.getExecutionCounter(),
+                job.getScheduledId(),
+                job.getPriority(),
+                recipientMarshaller.marshall(job.getRecipient()),
+                triggerMarshaller.marshall(job.getTrigger()),
+                Optional.ofNullable(job.getTrigger()).map(Trigger::hasNextFireTime).map(DateUtil::dateToOffsetDateTime).orElse(null),
+                job.getExecutionTimeout(),
+                Optional.ofNullable(job.getExecutionTimeoutUnit()).map(Enum::name).orElse(null))
+                .collect(toList()));
+    }
+
+    //a batch execution returns one row set per batch item, chained with RowSet.next()
+    private List<JobDetails> fromRowSets(RowSet<Row> rowSet) {
+        List<JobDetails> result = new ArrayList<>();
+        for (RowSet<Row> current = rowSet; current != null; current = current.next()) {
+            current.forEach(row -> result.add(from(row)));
+        }
+        return result;
+    }
+
     @Override
     public CompletionStage<JobDetails> get(String id) {
         return client.preparedQuery("SELECT " + JOB_DETAILS_COLUMNS + " FROM " + JOB_DETAILS_TABLE + " WHERE id = $1").execute(Tuple.of(id))
@@ -134,6 +182,43 @@ public class PostgreSqlJobRepository extends BaseReactiveJobRepository implement
                 .toCompletableFuture();
     }
 
+    @Override
+    public CompletionStage<List<JobDetails>> getAll(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return CompletableFuture.completedFuture(new ArrayList<>());
+        }
+        return client.preparedQuery("SELECT " + JOB_DETAILS_COLUMNS + " FROM " + JOB_DETAILS_TABLE + " WHERE id = ANY($1)")
+                .execute(Tuple.of(ids.toArray(new String[0])))
+                .onItem().transform(this::fromRowSets)
+                .convert()
+                .toCompletableFuture();
+    }
+
+    @Override
+    public CompletionStage<Set<String>> findExistingIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return CompletableFuture.completedFuture(Set.of());
+        }
+        return client.preparedQuery("SELECT id FROM " + JOB_DETAILS_TABLE + " WHERE id = ANY($1)")
+                .execute(Tuple.of(ids.toArray(new String[0])))
+                .onItem().transform(rowSet -> {
+                    Set<String> existing = new HashSet<>();
+                    rowSet.forEach(row -> existing.add(row.getString("id")));
+                    return existing;
+                })
+                .convert()
+                .toCompletableFuture();
+    }
+
+    @Override
+    public CompletionStage<List<JobDetails>> doDeleteAll(Collection<String> ids) {
+        return client.preparedQuery("DELETE FROM " + JOB_DETAILS_TABLE + " WHERE id = ANY($1) RETURNING " + JOB_DETAILS_COLUMNS)
+                .execute(Tuple.of(ids.toArray(new String[0])))
+                .onItem().transform(this::fromRowSets)
+                .convert()
+                .toCompletableFuture();
+    }
+
     @Override
     public PublisherBuilder<JobDetails> findByStatus(JobStatus... status) {
         String statusQuery = createStatusQuery(status);
@@ -165,6 +250,50 @@ public class PostgreSqlJobRepository extends BaseReactiveJobRepository implement
                         .onItem().transform(this::from));
     }
 
+    /**
+     * Claims up to limit jobs that are due at the given time, safe to be executed concurrently by several instances.
+     *
+     * @param limit the maximum number of jobs to claim.
+     * @param now the current time.
+     * @param claimExpiration the time the claimed jobs become due again if they were not handled.
+     * @param retryBefore jobs in RETRY status last updated before this time are due.
+     * @return the claimed jobs.
+     */
+    public CompletionStage<List<JobDetails>> claimDueJobs(int limit, ZonedDateTime now, ZonedDateTime claimExpiration, ZonedDateTime retryBefore) {
+        return client.preparedQuery(CLAIM_DUE_JOBS_QUERY)
+                .execute(Tuple.of(limit, now.toOffsetDateTime(), claimExpiration.toOffsetDateTime(), retryBefore.toOffsetDateTime()))
+                .onItem().transform(this::fromRowSets)
+                .convert()
+                .toCompletableFuture();
+    }
+
+    @Override
+    public CompletionStage<List<JobDetails>> findPageByStatusBetweenDates(ZonedDateTime from, ZonedDateTime to, JobDetailsCursor after, int limit,
+            JobStatus... status) {
+        String statusQuery = createStatusQuery(status);
+        String timeQuery = createTimeQuery("$2", "$3");
+        List<Object> parameters = new ArrayList<>(List.of(limit, from.toOffsetDateTime(), to.toOffsetDateTime()));
+        String keysetQuery = "";
+        if (after != null) {
+            parameters.add(DateUtil.dateToOffsetDateTime(new Date(after.getFireTime())));
+            if (after.getPriority() != null) {
+                keysetQuery = " AND " + createKeysetQuery("$4", "$5", "$6");
+                parameters.add(after.getPriority());
+            } else {
+                keysetQuery = " AND " + createNullPriorityKeysetQuery("$4", "$5");
+            }
+            parameters.add(after.getId());
+        }
+        String query = " WHERE " + statusQuery + " AND " + timeQuery + keysetQuery;
+
+        return client.preparedQuery("SELECT " + JOB_DETAILS_COLUMNS + " FROM " + JOB_DETAILS_TABLE + query +
+                " ORDER BY fire_time ASC, priority DESC NULLS LAST, id ASC LIMIT $1")
+                .execute(Tuple.tuple(parameters))
+                .onItem().transform(this::fromRowSets)
+                .convert()
+                .toCompletableFuture();
+    }
+
     static String createStatusQuery(JobStatus... status) {
         return Arrays.stream(status).map(JobStatus::name)
                 .collect(Collectors.joining("', '", "status IN ('", "')"));
@@ -174,6 +303,17 @@ public class PostgreSqlJobRepository extends BaseReactiveJobRepository implement
         return String.format("fire_time BETWEEN %s AND %s", indexFrom, indexTo);
     }
 
+    //jobs strictly after the (fire_time, priority, id) position, on the fire_time ASC, priority DESC NULLS LAST, id ASC order
+    static String createKeysetQuery(String fireTime, String priority, String id) {
+        return String.format("(fire_time > %1$s OR (fire_time = %1$s AND (priority < %2$s OR priority IS NULL OR (priority = %2$s AND id > %3$s))))",
+                fireTime, priority, id);
+    }
+
+    //same as createKeysetQuery when the position has no priority, only jobs without priority can follow it on the same fire_time
+    static String createNullPriorityKeysetQuery(String fireTime, String id) {
+        return String.format("(fire_time > %1$s OR (fire_time = %1$s AND priority IS NULL AND id > %2$s))", fireTime, id);
+    }
+
     JobDetails from(Row row) {
         return JobDetails.builder()
                 .id(row.getString("id"))
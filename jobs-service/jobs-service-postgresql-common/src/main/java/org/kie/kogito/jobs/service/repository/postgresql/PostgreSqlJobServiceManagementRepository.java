@@ -15,10 +15,12 @@
  */
 package org.kie.kogito.jobs.service.repository.postgresql;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
@@ -96,4 +98,20 @@ public class PostgreSqlJobServiceManagementRepository implements JobServiceManag
                 .onItem().transform(iterator -> iterator.hasNext() ? from(iterator.next()) : null)
                 .onItem().invoke(r -> LOGGER.trace("Heartbeat {}", r)));
     }
+
+    @Override
+    public Uni<List<JobServiceManagementInfo>> findAll(String idPrefix) {
+        return client.preparedQuery("SELECT id, token, last_heartbeat FROM job_service_management WHERE starts_with(id, $1)")
+                .execute(Tuple.of(idPrefix))
+                .onItem().transform(rows -> StreamSupport.stream(rows.spliterator(), false)
+                        .map(this::from)
+                        .collect(Collectors.toList()));
+    }
+
+    @Override
+    public Uni<Void> delete(String id) {
+        return client.preparedQuery("DELETE FROM job_service_management WHERE id = $1")
+                .execute(Tuple.of(id))
+                .replaceWithVoid();
+    }
 }
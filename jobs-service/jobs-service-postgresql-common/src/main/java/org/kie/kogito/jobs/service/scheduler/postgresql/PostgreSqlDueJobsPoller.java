@@ -0,0 +1,228 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.scheduler.postgresql;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.kie.kogito.jobs.service.exception.JobExecutionException;
+import org.kie.kogito.jobs.service.executor.JobExecutorResolver;
+import org.kie.kogito.jobs.service.metrics.JobServiceMetrics;
+import org.kie.kogito.jobs.service.model.JobDetails;
+import org.kie.kogito.jobs.service.model.JobExecutionResponse;
+import org.kie.kogito.jobs.service.repository.postgresql.PostgreSqlJobRepository;
+import org.kie.kogito.jobs.service.stream.JobStreams;
+import org.kie.kogito.jobs.service.utils.DateUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.vertx.mutiny.core.Vertx;
+
+/**
+ * Optional execution mode where the due jobs are claimed directly from the job_details table instead of being
+ * programmed on the in-memory timers, enabled with kogito.jobs-service.poller.enabled.
+ * <p>
+ * Every poll claims up to {@link #batchSize} due jobs with FOR UPDATE SKIP LOCKED, so several instances can drain the
+ * table concurrently, and hands them to the {@link JobExecutorResolver}. The execution results follow the regular
+ * flow through the {@link JobStreams}. The next poll starts as soon as the claimed batch is executed if the batch was
+ * full, otherwise it waits for {@link #intervalMillis}. Memory usage does not depend on the number of pending jobs.
+ */
+@ApplicationScoped
+public class PostgreSqlDueJobsPoller {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostgreSqlDueJobsPoller.class);
+
+    static final String CLAIM_LATENCY_METRIC = "jobs.service.poller.claim.latency";
+
+    static final String FIRING_LAG_METRIC = JobServiceMetrics.FIRING_LAG;
+
+    static final String LAST_FIRING_LAG_METRIC = "jobs.service.poller.firing.lag.last";
+
+    static final String CLAIMED_JOBS_METRIC = "jobs.service.poller.claimed";
+
+    @ConfigProperty(name = "kogito.jobs-service.poller.enabled", defaultValue = "false")
+    boolean enabled;
+
+    /**
+     * The maximum number of jobs claimed on each poll.
+     */
+    @ConfigProperty(name = "kogito.jobs-service.poller.batchSize", defaultValue = "100")
+    int batchSize;
+
+    /**
+     * The interval between polls when there are no more due jobs.
+     */
+    @ConfigProperty(name = "kogito.jobs-service.poller.intervalMillis", defaultValue = "1000")
+    long intervalMillis;
+
+    /**
+     * The time a claimed job is kept away from other instances, it becomes due again after this time if the
+     * execution result was not handled, e.g. when the instance fails.
+     */
+    @ConfigProperty(name = "kogito.jobs-service.poller.claimTimeoutMillis", defaultValue = "60000")
+    long claimTimeoutMillis;
+
+    @ConfigProperty(name = "kogito.jobs-service.backoffRetryMillis", defaultValue = "1000")
+    long backoffRetryMillis;
+
+    @Inject
+    PostgreSqlJobRepository repository;
+
+    @Inject
+    JobExecutorResolver jobExecutorResolver;
+
+    @Inject
+    JobStreams jobStreams;
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    MeterRegistry registry;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    private final AtomicLong lastFiringLag = new AtomicLong();
+
+    private Timer claimLatency;
+
+    private Timer firingLag;
+
+    private Counter claimedJobs;
+
+    void onStartup(@Observes StartupEvent startupEvent) {
+        if (!enabled) {
+            return;
+        }
+        claimLatency = Timer.builder(CLAIM_LATENCY_METRIC)
+                .description("Time to claim a batch of due jobs")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+        firingLag = Timer.builder(FIRING_LAG_METRIC)
+                .description("Delay between the fire time and the claim of the jobs")
+                .tag(JobServiceMetrics.SOURCE_TAG, "poller")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+        Gauge.builder(LAST_FIRING_LAG_METRIC, lastFiringLag, AtomicLong::get)
+                .description("Highest firing delay in milliseconds of the last claimed batch")
+                .baseUnit("milliseconds")
+                .register(registry);
+        claimedJobs = Counter.builder(CLAIMED_JOBS_METRIC)
+                .description("Number of claimed due jobs")
+                .register(registry);
+        running.set(true);
+        LOGGER.info("Polling due jobs every {} ms in batches of {}", intervalMillis, batchSize);
+        vertx.runOnContext(this::poll);
+    }
+
+    void onShutdown(@Observes ShutdownEvent event) {
+        running.set(false);
+    }
+
+    void poll() {
+        if (!running.get()) {
+            return;
+        }
+        pollDueJobs()
+                .subscribe().with(claimed -> scheduleNextPoll(claimed < batchSize ? intervalMillis : 0),
+                        ex -> {
+                            LOGGER.error("Error polling due jobs", ex);
+                            scheduleNextPoll(intervalMillis);
+                        });
+    }
+
+    private void scheduleNextPoll(long delay) {
+        if (!running.get()) {
+            return;
+        }
+        if (delay <= 0) {
+            //more jobs are due, keep draining
+            vertx.runOnContext(this::poll);
+        } else {
+            vertx.setTimer(delay, id -> poll());
+        }
+    }
+
+    /**
+     * Claims a batch of due jobs and executes them.
+     *
+     * @return the number of claimed jobs.
+     */
+    Uni<Integer> pollDueJobs() {
+        final ZonedDateTime now = DateUtil.now();
+        final long start = System.nanoTime();
+        return Uni.createFrom().completionStage(() -> repository.claimDueJobs(batchSize,
+                now,
+                now.plus(claimTimeoutMillis, ChronoUnit.MILLIS),
+                now.minus(backoffRetryMillis, ChronoUnit.MILLIS)))
+                .onItem().invoke(jobs -> record(jobs, now, System.nanoTime() - start))
+                .chain(jobs -> Multi.createFrom().iterable(jobs)
+                        .onItem().transformToUniAndMerge(this::execute)
+                        .collect().last()
+                        .map(v -> jobs.size()));
+    }
+
+    private void record(List<JobDetails> jobs, ZonedDateTime now, long claimNanos) {
+        claimLatency.record(claimNanos, TimeUnit.NANOSECONDS);
+        claimedJobs.increment(jobs.size());
+        long maxLag = 0;
+        for (JobDetails job : jobs) {
+            long lag = Math.max(0, Duration.between(DateUtil.fromDate(job.getTrigger().hasNextFireTime()), now).toMillis());
+            firingLag.record(lag, TimeUnit.MILLISECONDS);
+            maxLag = Math.max(maxLag, lag);
+        }
+        lastFiringLag.set(maxLag);
+        LOGGER.debug("Claimed {} due jobs in {} ms", jobs.size(), TimeUnit.NANOSECONDS.toMillis(claimNanos));
+    }
+
+    private Uni<JobExecutionResponse> execute(JobDetails job) {
+        LOGGER.debug("Executing claimed job {}", job);
+        return Uni.createFrom().deferred(() -> jobExecutorResolver.get(job).execute(job))
+                .onItem().invoke(jobStreams::publishJobSuccess)
+                .onFailure(JobExecutionException.class).invoke(ex -> {
+                    String jobId = ((JobExecutionException) ex).getJobId();
+                    LOGGER.error("Error executing job {}", jobId, ex);
+                    jobStreams.publishJobError(JobExecutionResponse.builder()
+                            .message(ex.getMessage())
+                            .now()
+                            .jobId(jobId)
+                            .build());
+                })
+                //the job is claimed again after the claim timeout if the result was not handled
+                .onFailure().recoverWithNull()
+                //execute() might be blocking, keep it out of the event loop
+                .runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+    }
+}
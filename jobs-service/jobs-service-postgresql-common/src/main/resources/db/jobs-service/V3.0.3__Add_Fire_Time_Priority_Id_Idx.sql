@@ -0,0 +1,2 @@
+CREATE INDEX job_details_fire_time_priority_id_idx
+    ON job_details (fire_time ASC, priority DESC NULLS LAST, id ASC);
@@ -17,18 +17,28 @@
 package org.kie.kogito.jobs.service.repository.postgresql;
 
 import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 import javax.inject.Inject;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.jobs.service.model.JobDetails;
+import org.kie.kogito.jobs.service.model.JobStatus;
 import org.kie.kogito.jobs.service.repository.ReactiveJobRepository;
 import org.kie.kogito.jobs.service.repository.impl.BaseJobRepositoryTest;
+import org.kie.kogito.jobs.service.utils.DateUtil;
 import org.kie.kogito.testcontainers.quarkus.PostgreSqlQuarkusTestResource;
+import org.kie.kogito.timer.impl.PointInTimeTrigger;
 
 import io.quarkus.test.common.QuarkusTestResource;
 import io.quarkus.test.junit.QuarkusTest;
 import io.vertx.mutiny.pgclient.PgPool;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 @QuarkusTest
 @QuarkusTestResource(PostgreSqlQuarkusTestResource.class)
 public class PostgreSqlJobRepositoryTest extends BaseJobRepositoryTest {
@@ -54,4 +64,34 @@ public class PostgreSqlJobRepositoryTest extends BaseJobRepositoryTest {
     public ReactiveJobRepository tested() {
         return tested;
     }
+
+    @Test
+    void testClaimDueJobs() throws ExecutionException, InterruptedException {
+        ZonedDateTime now = DateUtil.now();
+        saveJob("due", JobStatus.SCHEDULED, now.minusSeconds(10));
+        saveJob("future", JobStatus.SCHEDULED, now.plusMinutes(10));
+        saveJob("retry", JobStatus.RETRY, now.minusSeconds(10));
+        saveJob("executed", JobStatus.EXECUTED, now.minusSeconds(10));
+
+        //the retry job was just updated, it is still waiting for the backoff
+        List<JobDetails> claimed = tested.claimDueJobs(10, now, now.plusMinutes(1), now.minusMinutes(1)).toCompletableFuture().get();
+        assertThat(claimed).extracting(JobDetails::getId).containsExactly("due");
+
+        //claimed jobs are not claimed again until the claim expires
+        claimed = tested.claimDueJobs(10, now, now.plusMinutes(1), now.minusMinutes(1)).toCompletableFuture().get();
+        assertThat(claimed).isEmpty();
+
+        ZonedDateTime later = now.plusMinutes(2);
+        claimed = tested.claimDueJobs(10, later, later.plusMinutes(1), later.minusSeconds(1)).toCompletableFuture().get();
+        assertThat(claimed).extracting(JobDetails::getId).containsExactlyInAnyOrder("due", "retry");
+    }
+
+    private void saveJob(String id, JobStatus status, ZonedDateTime fireTime) throws ExecutionException, InterruptedException {
+        tested.save(JobDetails.builder()
+                .id(id)
+                .status(status)
+                .trigger(new PointInTimeTrigger(fireTime.toInstant().toEpochMilli(), null, null))
+                .build())
+                .toCompletableFuture().get();
+    }
 }
@@ -16,6 +16,7 @@
 package org.kie.kogito.jobs.service.repository.postgresql;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
 import javax.inject.Inject;
@@ -101,4 +102,19 @@ class PostgreSqlJobServiceManagementRepositoryTest {
         JobServiceManagementInfo updated = tested.heartbeat(new JobServiceManagementInfo(id, "differentToken", null)).await().indefinitely();
         assertThat(updated).isNull();
     }
+
+    @Test
+    void testFindAllAndDelete() {
+        create("partitions-test-partition-0", "token5");
+        create("partitions-test-partition-1", "token6");
+        create("partitions-other", "token7");
+
+        List<JobServiceManagementInfo> found = tested.findAll("partitions-test-").await().indefinitely();
+        assertThat(found).extracting(JobServiceManagementInfo::getId)
+                .containsExactlyInAnyOrder("partitions-test-partition-0", "partitions-test-partition-1");
+
+        tested.delete("partitions-test-partition-0").await().indefinitely();
+        found = tested.findAll("partitions-test-").await().indefinitely();
+        assertThat(found).extracting(JobServiceManagementInfo::getId).containsExactly("partitions-test-partition-1");
+    }
 }
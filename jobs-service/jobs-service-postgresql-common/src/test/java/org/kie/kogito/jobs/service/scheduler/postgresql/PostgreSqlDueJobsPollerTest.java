@@ -0,0 +1,136 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.jobs.service.scheduler.postgresql;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kie.kogito.jobs.service.exception.JobExecutionException;
+import org.kie.kogito.jobs.service.executor.JobExecutor;
+import org.kie.kogito.jobs.service.executor.JobExecutorResolver;
+import org.kie.kogito.jobs.service.model.JobDetails;
+import org.kie.kogito.jobs.service.model.JobExecutionResponse;
+import org.kie.kogito.jobs.service.model.JobStatus;
+import org.kie.kogito.jobs.service.repository.postgresql.PostgreSqlJobRepository;
+import org.kie.kogito.jobs.service.stream.JobStreams;
+import org.kie.kogito.jobs.service.utils.DateUtil;
+import org.kie.kogito.timer.impl.PointInTimeTrigger;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostgreSqlDueJobsPollerTest {
+
+    private static final String SUCCESS = "success";
+
+    private static final String ERROR = "error";
+
+    @Mock
+    PostgreSqlJobRepository repository;
+
+    @Mock
+    JobExecutorResolver jobExecutorResolver;
+
+    @Mock
+    JobExecutor jobExecutor;
+
+    @Mock
+    JobStreams jobStreams;
+
+    @Mock
+    Vertx vertx;
+
+    private PostgreSqlDueJobsPoller tested;
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        tested = new PostgreSqlDueJobsPoller();
+        tested.enabled = true;
+        tested.batchSize = 10;
+        tested.intervalMillis = 1000;
+        tested.claimTimeoutMillis = 60000;
+        tested.backoffRetryMillis = 1000;
+        tested.repository = repository;
+        tested.jobExecutorResolver = jobExecutorResolver;
+        tested.jobStreams = jobStreams;
+        tested.vertx = vertx;
+        tested.registry = registry;
+        tested.onStartup(null);
+    }
+
+    @Test
+    void pollDueJobs() {
+        JobDetails success = job(SUCCESS);
+        JobDetails error = job(ERROR);
+        when(repository.claimDueJobs(eq(10), any(), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(Arrays.asList(success, error)));
+        when(jobExecutorResolver.get(any())).thenReturn(jobExecutor);
+        JobExecutionResponse response = JobExecutionResponse.builder().jobId(SUCCESS).now().build();
+        when(jobExecutor.execute(success)).thenReturn(Uni.createFrom().item(response));
+        when(jobExecutor.execute(error)).thenReturn(Uni.createFrom().failure(new JobExecutionException(ERROR, "failed")));
+
+        Integer claimed = tested.pollDueJobs().await().indefinitely();
+
+        assertThat(claimed).isEqualTo(2);
+        verify(jobStreams, timeout(1000)).publishJobSuccess(response);
+        ArgumentCaptor<JobExecutionResponse> errorCaptor = ArgumentCaptor.forClass(JobExecutionResponse.class);
+        verify(jobStreams, timeout(1000)).publishJobError(errorCaptor.capture());
+        assertThat(errorCaptor.getValue().getJobId()).isEqualTo(ERROR);
+        assertThat(registry.get(PostgreSqlDueJobsPoller.CLAIMED_JOBS_METRIC).counter().count()).isEqualTo(2);
+        assertThat(registry.get(PostgreSqlDueJobsPoller.FIRING_LAG_METRIC).timer().count()).isEqualTo(2);
+        assertThat(registry.get(PostgreSqlDueJobsPoller.CLAIM_LATENCY_METRIC).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void pollNoDueJobs() {
+        when(repository.claimDueJobs(anyInt(), any(), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
+
+        Integer claimed = tested.pollDueJobs().await().indefinitely();
+
+        assertThat(claimed).isZero();
+        verify(jobExecutorResolver, never()).get(any());
+    }
+
+    private static JobDetails job(String id) {
+        return JobDetails.builder()
+                .id(id)
+                .status(JobStatus.SCHEDULED)
+                .trigger(new PointInTimeTrigger(DateUtil.now().minusSeconds(1).toInstant().toEpochMilli(), null, null))
+                .build();
+    }
+}
@@ -15,6 +15,8 @@
  */
 package org.kie.kogito.persistence.api;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.kie.kogito.persistence.api.query.Query;
@@ -53,6 +55,24 @@ public interface Storage<K, V> {
      */
     V get(K key);
 
+    /**
+     * Gets all the elements with the given keys, the elements not present in the storage are not included. By default
+     * each element is read one by one, the storages supporting bulk reads read all of them at once.
+     *
+     * @param keys The keys.
+     * @return The elements by key.
+     */
+    default Map<K, V> getAll(Collection<K> keys) {
+        Map<K, V> values = new HashMap<>();
+        for (K key : keys) {
+            V value = get(key);
+            if (value != null) {
+                values.put(key, value);
+            }
+        }
+        return values;
+    }
+
     /**
      * Puts an element with a key. If an element with the same key is already present in the storage, then it is replaced.
      *
@@ -62,6 +82,16 @@ public interface Storage<K, V> {
      */
     V put(K key, V value);
 
+    /**
+     * Puts all the given elements, replacing the ones already present in the storage. By default each element is put
+     * one by one, the storages supporting bulk writes write all of them at once.
+     *
+     * @param values The elements by key.
+     */
+    default void putAll(Map<K, V> values) {
+        values.forEach(this::put);
+    }
+
     /**
      * Removes an element by key. If the element is not present in the storage, then `null` is returned.
      *
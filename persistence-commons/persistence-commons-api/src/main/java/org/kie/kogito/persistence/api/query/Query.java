@@ -17,15 +17,46 @@ package org.kie.kogito.persistence.api.query;
 
 import java.util.List;
 
+import io.smallrye.mutiny.Multi;
+
 public interface Query<T> {
 
     Query<T> limit(Integer limit);
 
     Query<T> offset(Integer offset);
 
+    /**
+     * Keyset pagination, restricts the results to the ones sorted after the given values of the sort attributes,
+     * usually the ones of the last result of the previous page. Unlike {@link #offset(Integer)}, the results of the
+     * previous pages are not read again, so the cost of a page does not depend on its position. The sort attributes
+     * must identify a single result, e.g. ending with the id, whose value can not be null. The values of the other
+     * attributes may be null, null values are sorted as the greatest ones, last in ascending order, except by the
+     * storages that sort them as the smallest ones, such as MongoDB.
+     *
+     * @param sortValues the values of the sort attributes, in the same order.
+     */
+    Query<T> after(List<Object> sortValues);
+
     Query<T> filter(List<AttributeFilter<?>> filters);
 
     Query<T> sort(List<AttributeSort> sortBy);
 
+    /**
+     * Projection hint, only the given top level attributes of the results are required by the caller, so the storage
+     * may skip reading and hydrating the remaining ones. Attributes unknown to the storage are ignored, and storages
+     * without projection support return the whole results.
+     *
+     * @param attributes the required attributes, null or empty to read the whole results.
+     */
+    default Query<T> project(List<String> attributes) {
+        return this;
+    }
+
     List<T> execute();
+
+    /**
+     * Executes the query emitting the results as they are read from the storage, instead of loading all of them in
+     * memory. The results must be consumed within the transaction of the caller, if any.
+     */
+    Multi<T> stream();
 }
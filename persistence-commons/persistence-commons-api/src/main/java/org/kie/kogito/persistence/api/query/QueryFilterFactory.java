@@ -15,6 +15,7 @@
  */
 package org.kie.kogito.persistence.api.query;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -90,4 +91,83 @@ public final class QueryFilterFactory {
     public static <T> AttributeFilter<AttributeFilter<T>> not(AttributeFilter<T> filter) {
         return new AttributeFilter<>(null, FilterCondition.NOT, filter);
     }
+
+    /**
+     * Filter of the keyset pagination, matching the results sorted after the given values of the sort attributes:
+     * the first attribute is after its value, or it is equal and the second one is after its value, and so on.
+     * Null values are sorted as the greatest ones.
+     *
+     * @see Query#after(List)
+     */
+    public static AttributeFilter<?> after(List<AttributeSort> sortBy, List<Object> sortValues) {
+        return after(sortBy, sortValues, true);
+    }
+
+    /**
+     * Filter of the keyset pagination, for the storages sorting the null values either as the greatest or as the
+     * smallest ones. A null value is matched with {@link #isNull(String)}, as the comparisons never match it.
+     *
+     * @param nullsGreatest true if the null values are sorted as the greatest ones, false if as the smallest ones.
+     * @see Query#after(List)
+     */
+    public static AttributeFilter<?> after(List<AttributeSort> sortBy, List<Object> sortValues, boolean nullsGreatest) {
+        if (sortBy == null || sortBy.isEmpty() || sortBy.size() != sortValues.size()) {
+            throw new IllegalArgumentException("Keyset pagination requires a value for each sort attribute");
+        }
+        if (sortValues.get(sortValues.size() - 1) == null) {
+            throw new IllegalArgumentException("Keyset pagination requires the last sort attribute to identify a single result, its value can not be null");
+        }
+        List<AttributeFilter<?>> alternatives = new ArrayList<>(sortBy.size());
+        for (int i = 0; i < sortBy.size(); i++) {
+            // the last attribute identifies a single result, so it has no null values
+            AttributeFilter<?> afterValue = afterValue(sortBy.get(i), sortValues.get(i), nullsGreatest, i < sortBy.size() - 1);
+            if (afterValue == null) {
+                continue;
+            }
+            List<AttributeFilter<?>> conditions = new ArrayList<>(i + 1);
+            for (int j = 0; j < i; j++) {
+                String attribute = sortBy.get(j).getAttribute();
+                Object value = sortValues.get(j);
+                conditions.add(value == null ? isNull(attribute) : equalTo(attribute, value));
+            }
+            conditions.add(afterValue);
+            alternatives.add(conditions.size() == 1 ? conditions.get(0) : and(conditions));
+        }
+        return alternatives.size() == 1 ? alternatives.get(0) : or(alternatives);
+    }
+
+    /**
+     * @return the filter matching the values of the attribute sorted after the given one, null if there is none.
+     */
+    private static AttributeFilter<?> afterValue(AttributeSort sort, Object value, boolean nullsGreatest, boolean nullable) {
+        String attribute = sort.getAttribute();
+        boolean descending = sort.getSort() == SortDirection.DESC;
+        boolean nullsLast = nullsGreatest != descending;
+        if (value == null) {
+            return nullsLast ? null : notNull(attribute);
+        }
+        AttributeFilter<?> compared = descending ? lessThan(attribute, value) : greaterThan(attribute, value);
+        return nullable && nullsLast ? or(List.of(compared, isNull(attribute))) : compared;
+    }
+
+    /**
+     * @return the given filters plus the keyset pagination one, if there are values of the sort attributes.
+     */
+    public static List<AttributeFilter<?>> withKeyset(List<AttributeFilter<?>> filters, List<AttributeSort> sortBy, List<Object> sortValues) {
+        return withKeyset(filters, sortBy, sortValues, true);
+    }
+
+    /**
+     * @return the given filters plus the keyset pagination one, if there are values of the sort attributes.
+     * @see #after(List, List, boolean)
+     */
+    public static List<AttributeFilter<?>> withKeyset(List<AttributeFilter<?>> filters, List<AttributeSort> sortBy, List<Object> sortValues,
+            boolean nullsGreatest) {
+        if (sortValues == null) {
+            return filters;
+        }
+        List<AttributeFilter<?>> keysetFilters = filters == null ? new ArrayList<>() : new ArrayList<>(filters);
+        keysetFilters.add(after(sortBy, sortValues, nullsGreatest));
+        return keysetFilters;
+    }
 }
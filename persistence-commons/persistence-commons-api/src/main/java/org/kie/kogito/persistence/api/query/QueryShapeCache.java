@@ -0,0 +1,153 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.persistence.api.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the query templates of the storages building their own query language statements. The template of a query
+ * only depends on its shape, i.e. the filters and the sorting without their values, which are bound as parameters in
+ * the order returned by {@link #parameters(List)}. Repeated queries then share the same statement, so it is only
+ * built once here and it can be prepared once by the database.
+ * <p>
+ * The number of shapes is bounded by the queries of the clients, the cache is cleared if it grows over its maximum size.
+ */
+public class QueryShapeCache<T> {
+
+    private final int maxSize;
+    private final Map<String, T> templates = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public QueryShapeCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public T get(List<AttributeFilter<?>> filters, List<AttributeSort> sortBy, Supplier<T> templateBuilder) {
+        String shape = shape(filters, sortBy);
+        T template = templates.get(shape);
+        if (template != null) {
+            hits.increment();
+            return template;
+        }
+        misses.increment();
+        template = templateBuilder.get();
+        if (templates.size() >= maxSize) {
+            templates.clear();
+        }
+        templates.put(shape, template);
+        return template;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return templates.size();
+    }
+
+    static String shape(List<AttributeFilter<?>> filters, List<AttributeSort> sortBy) {
+        StringBuilder shape = new StringBuilder();
+        if (filters != null) {
+            filters.forEach(filter -> shape(filter, shape));
+        }
+        shape.append('|');
+        if (sortBy != null) {
+            sortBy.forEach(sort -> shape.append(sort.getAttribute()).append(' ').append(sort.getSort()).append(','));
+        }
+        return shape.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void shape(AttributeFilter<?> filter, StringBuilder shape) {
+        shape.append(filter.getCondition()).append('(').append(filter.getAttribute());
+        switch (filter.getCondition()) {
+            case AND:
+            case OR:
+                ((List<AttributeFilter<?>>) filter.getValue()).forEach(child -> shape(child, shape));
+                break;
+            case NOT:
+                shape((AttributeFilter<?>) filter.getValue(), shape);
+                break;
+            case IN:
+            case CONTAINS_ALL:
+            case CONTAINS_ANY:
+            case BETWEEN:
+                ((List<Object>) filter.getValue()).forEach(value -> shape.append(' ').append(kind(value)));
+                break;
+            default:
+                shape.append(' ').append(kind(filter.getValue()));
+        }
+        shape.append(')');
+    }
+
+    //the templates cast the JSON attributes compared with numbers
+    private static char kind(Object value) {
+        if (value == null) {
+            return '-';
+        }
+        return value instanceof Number ? 'N' : 'S';
+    }
+
+    /**
+     * @return the values of the filters, in the same order they appear on the templates. The wildcard of the LIKE
+     *         patterns is replaced by %.
+     */
+    public static List<Object> parameters(List<AttributeFilter<?>> filters) {
+        List<Object> parameters = new ArrayList<>();
+        if (filters != null) {
+            filters.forEach(filter -> parameters(filter, parameters));
+        }
+        return parameters;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void parameters(AttributeFilter<?> filter, List<Object> parameters) {
+        switch (filter.getCondition()) {
+            case AND:
+            case OR:
+                ((List<AttributeFilter<?>>) filter.getValue()).forEach(child -> parameters(child, parameters));
+                break;
+            case NOT:
+                parameters((AttributeFilter<?>) filter.getValue(), parameters);
+                break;
+            case IN:
+            case CONTAINS_ALL:
+            case CONTAINS_ANY:
+            case BETWEEN:
+                parameters.addAll((List<Object>) filter.getValue());
+                break;
+            case LIKE:
+                parameters.add(filter.getValue().toString().replaceAll("\\*", "%"));
+                break;
+            case IS_NULL:
+            case NOT_NULL:
+                break;
+            default:
+                parameters.add(filter.getValue());
+        }
+    }
+}
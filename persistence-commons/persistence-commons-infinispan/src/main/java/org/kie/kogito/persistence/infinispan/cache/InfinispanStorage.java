@@ -16,7 +16,9 @@
 
 package org.kie.kogito.persistence.infinispan.cache;
 
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 
 import org.infinispan.client.hotrod.RemoteCache;
@@ -48,6 +50,11 @@ public class InfinispanStorage<K, V> implements Storage<K, V> {
         return delegate.get(key);
     }
 
+    @Override
+    public Map<K, V> getAll(Collection<K> keys) {
+        return delegate.getAll(new HashSet<>(keys));
+    }
+
     public void clear() {
         delegate.clear();
     }
@@ -70,6 +77,11 @@ public class InfinispanStorage<K, V> implements Storage<K, V> {
         return delegate.put(key, value);
     }
 
+    @Override
+    public void putAll(Map<K, V> values) {
+        delegate.putAll(values);
+    }
+
     @Override
     public Multi<V> objectCreatedListener() {
         LOGGER.debug("Adding new object created listener into Cache: {}", delegate.getName());
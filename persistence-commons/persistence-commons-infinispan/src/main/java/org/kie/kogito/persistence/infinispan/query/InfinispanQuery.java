@@ -15,7 +15,9 @@
  */
 package org.kie.kogito.persistence.infinispan.query;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import org.infinispan.client.hotrod.RemoteCache;
@@ -27,8 +29,11 @@ import org.kie.kogito.persistence.api.query.Query;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.smallrye.mutiny.Multi;
+
 import static java.lang.String.format;
 import static java.util.stream.Collectors.joining;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.withKeyset;
 
 public class InfinispanQuery<T> implements Query<T> {
 
@@ -36,12 +41,15 @@ public class InfinispanQuery<T> implements Query<T> {
     private static final String AND = " and ";
     private static final String OR = " or ";
     private static final String ATTRIBUTE_VALUE = "o.%s = %s";
+    //the remote queries have no server side cursor, the streamed results are read in pages of this size
+    static final int STREAM_PAGE_SIZE = 1000;
 
     private QueryFactory qf;
     private Integer limit;
     private Integer offset;
     private List<AttributeFilter<?>> filters;
     private List<AttributeSort> sortBy;
+    private List<Object> after;
     private String rootType;
 
     public InfinispanQuery(RemoteCache<?, T> delegate, String rootType) {
@@ -81,26 +89,59 @@ public class InfinispanQuery<T> implements Query<T> {
         return this;
     }
 
+    @Override
+    public Query<T> after(List<Object> sortValues) {
+        this.after = sortValues;
+        return this;
+    }
+
     @Override
     public List<T> execute() {
+        org.infinispan.query.dsl.Query<T> query = createQuery();
+        if (limit != null) {
+            query.maxResults(limit);
+        }
+        if (offset != null) {
+            query.startOffset(offset);
+        }
+        return query.execute().list();
+    }
+
+    @Override
+    public Multi<T> stream() {
+        final int start = offset == null ? 0 : offset;
+        final Integer max = limit;
+        return Multi.createBy().repeating()
+                .supplier(AtomicInteger::new, emitted -> {
+                    // The last page is bounded by the limit, so no more results than the requested ones are read
+                    int pageSize = max == null ? STREAM_PAGE_SIZE : Math.min(max - emitted.get(), STREAM_PAGE_SIZE);
+                    if (pageSize <= 0) {
+                        return Collections.<T> emptyList();
+                    }
+                    org.infinispan.query.dsl.Query<T> query = createQuery();
+                    query.startOffset(start + (long) emitted.get());
+                    query.maxResults(pageSize);
+                    List<T> page = query.execute().list();
+                    emitted.addAndGet(page.size());
+                    return page;
+                })
+                .whilst(page -> page.size() == STREAM_PAGE_SIZE)
+                .onItem().<T> disjoint();
+    }
+
+    private org.infinispan.query.dsl.Query<T> createQuery() {
+        List<AttributeFilter<?>> queryFilters = withKeyset(filters, sortBy, after);
         StringBuilder queryString = new StringBuilder("FROM " + rootType + " o");
-        if (filters != null && !filters.isEmpty()) {
+        if (queryFilters != null && !queryFilters.isEmpty()) {
             queryString.append(" WHERE ");
-            queryString.append(filters.stream().map(filterStringFunction()).collect(joining(AND)));
+            queryString.append(queryFilters.stream().map(filterStringFunction()).collect(joining(AND)));
         }
         if (sortBy != null && !sortBy.isEmpty()) {
             queryString.append(" ORDER BY ");
             queryString.append(sortBy.stream().map(f -> "o." + f.getAttribute() + " " + f.getSort().name()).collect(joining(", ")));
         }
         LOGGER.debug("Executing Infinispan query: {}", queryString);
-        org.infinispan.query.dsl.Query<T> query = qf.create(queryString.toString());
-        if (limit != null) {
-            query.maxResults(limit);
-        }
-        if (offset != null) {
-            query.startOffset(offset);
-        }
-        return query.execute().list();
+        return qf.create(queryString.toString());
     }
 
     private Function<AttributeFilter<?>, String> filterStringFunction() {
@@ -16,6 +16,7 @@
 package org.kie.kogito.persistence.infinispan.query;
 
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.infinispan.query.dsl.Query;
@@ -28,11 +29,16 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.kie.kogito.persistence.api.query.AttributeFilter;
+import org.kie.kogito.persistence.api.query.SortDirection;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.kie.kogito.persistence.infinispan.query.InfinispanQuery.STREAM_PAGE_SIZE;
 import static org.kie.kogito.persistence.api.query.QueryFilterFactory.and;
 import static org.kie.kogito.persistence.api.query.QueryFilterFactory.between;
 import static org.kie.kogito.persistence.api.query.QueryFilterFactory.contains;
@@ -53,6 +59,9 @@ import static org.kie.kogito.persistence.api.query.QueryFilterFactory.orderBy;
 import static org.kie.kogito.persistence.api.query.SortDirection.ASC;
 import static org.kie.kogito.persistence.api.query.SortDirection.DESC;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -182,6 +191,111 @@ class InfinispanQueryTest {
         verify(queryResult).list();
     }
 
+    @Test
+    void testKeysetPagination() {
+        InfinispanQuery query = new InfinispanQuery(factory, rootType);
+        query.sort(asList(orderBy("name", DESC), orderBy("id", ASC)));
+        query.after(asList("test", "8035b580-6ae4-4aa8-9ec0-e18e19809e0b"));
+        query.limit(10);
+
+        query.execute();
+
+        verify(factory).create("FROM org.kie.kogito.index.model.ProcessInstance o WHERE " +
+                "(o.name < 'test' or (o.name = 'test' and o.id > '8035b580-6ae4-4aa8-9ec0-e18e19809e0b')) ORDER BY o.name DESC, o.id ASC");
+        verify(mockQuery).maxResults(10);
+        verify(mockQuery, never()).startOffset(anyLong());
+    }
+
+    private static Stream<Arguments> provideKeysetValues() {
+        String id = "8035b580-6ae4-4aa8-9ec0-e18e19809e0b";
+        return Stream.of(
+                Arguments.of(ASC, "key",
+                        "FROM org.kie.kogito.index.model.ProcessInstance o WHERE ((o.businessKey > 'key' or o.businessKey is null) or (o.businessKey = 'key' and o.id > '" + id
+                                + "')) ORDER BY o.businessKey ASC, o.id ASC"),
+                Arguments.of(DESC, "key",
+                        "FROM org.kie.kogito.index.model.ProcessInstance o WHERE (o.businessKey < 'key' or (o.businessKey = 'key' and o.id > '" + id
+                                + "')) ORDER BY o.businessKey DESC, o.id ASC"),
+                Arguments.of(ASC, null,
+                        "FROM org.kie.kogito.index.model.ProcessInstance o WHERE (o.businessKey is null and o.id > '" + id
+                                + "') ORDER BY o.businessKey ASC, o.id ASC"),
+                Arguments.of(DESC, null,
+                        "FROM org.kie.kogito.index.model.ProcessInstance o WHERE (o.businessKey is not null or (o.businessKey is null and o.id > '" + id
+                                + "')) ORDER BY o.businessKey DESC, o.id ASC"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideKeysetValues")
+    void testKeysetPaginationWithNullableAttribute(SortDirection direction, String businessKey, String queryString) {
+        InfinispanQuery query = new InfinispanQuery(factory, rootType);
+        query.sort(asList(orderBy("businessKey", direction), orderBy("id", ASC)));
+        query.after(asList(businessKey, "8035b580-6ae4-4aa8-9ec0-e18e19809e0b"));
+
+        query.execute();
+
+        verify(factory).create(queryString);
+    }
+
+    @Test
+    void testStream() {
+        List<String> fullPage = IntStream.range(0, STREAM_PAGE_SIZE).mapToObj(String::valueOf).collect(toList());
+        when(queryResult.list()).thenReturn(fullPage, singletonList("last"));
+        InfinispanQuery<String> query = new InfinispanQuery<>(factory, rootType);
+        query.offset(5);
+
+        List<String> results = query.stream().collect().asList().await().indefinitely();
+
+        assertThat(results).hasSize(STREAM_PAGE_SIZE + 1).endsWith("last");
+        verify(mockQuery).startOffset(5);
+        verify(mockQuery).startOffset(5 + STREAM_PAGE_SIZE);
+        verify(mockQuery, times(2)).maxResults(STREAM_PAGE_SIZE);
+    }
+
+    @Test
+    void testStreamLimit() {
+        List<String> fullPage = IntStream.range(0, STREAM_PAGE_SIZE).mapToObj(String::valueOf).collect(toList());
+        when(queryResult.list()).thenReturn(fullPage.subList(0, 10));
+        InfinispanQuery<String> query = new InfinispanQuery<>(factory, rootType);
+        query.limit(10);
+
+        List<String> results = query.stream().collect().asList().await().indefinitely();
+
+        assertThat(results).containsExactlyElementsOf(fullPage.subList(0, 10));
+        verify(factory).create("FROM org.kie.kogito.index.model.ProcessInstance o");
+        verify(mockQuery).maxResults(10);
+        verify(queryResult).list();
+    }
+
+    @Test
+    void testStreamLimitAcrossPages() {
+        List<String> fullPage = IntStream.range(0, STREAM_PAGE_SIZE).mapToObj(String::valueOf).collect(toList());
+        when(queryResult.list()).thenReturn(fullPage, fullPage.subList(0, 10));
+        InfinispanQuery<String> query = new InfinispanQuery<>(factory, rootType);
+        query.limit(STREAM_PAGE_SIZE + 10);
+
+        List<String> results = query.stream().collect().asList().await().indefinitely();
+
+        assertThat(results).hasSize(STREAM_PAGE_SIZE + 10);
+        verify(mockQuery).startOffset(0);
+        verify(mockQuery).maxResults(STREAM_PAGE_SIZE);
+        verify(mockQuery).startOffset(STREAM_PAGE_SIZE);
+        verify(mockQuery).maxResults(10);
+        verify(queryResult, times(2)).list();
+    }
+
+    @Test
+    void testStreamLimitOfFullPages() {
+        List<String> fullPage = IntStream.range(0, STREAM_PAGE_SIZE).mapToObj(String::valueOf).collect(toList());
+        when(queryResult.list()).thenReturn(fullPage);
+        InfinispanQuery<String> query = new InfinispanQuery<>(factory, rootType);
+        query.limit(STREAM_PAGE_SIZE);
+
+        List<String> results = query.stream().collect().asList().await().indefinitely();
+
+        // The limit is reached by the first page, so no further page is read
+        assertThat(results).hasSize(STREAM_PAGE_SIZE);
+        verify(queryResult).list();
+    }
+
     @ParameterizedTest
     @MethodSource("provideFilters")
     void assertQueryFilters(List<AttributeFilter<?>> filters, String queryString) {
@@ -16,7 +16,7 @@
 
 package org.kie.kogito.persistence.mongodb.query;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,10 +34,14 @@ import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 
+import io.smallrye.mutiny.Multi;
+
+import static com.mongodb.client.model.Projections.include;
 import static com.mongodb.client.model.Sorts.ascending;
 import static com.mongodb.client.model.Sorts.descending;
 import static com.mongodb.client.model.Sorts.orderBy;
 import static java.util.stream.Collectors.toList;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.withKeyset;
 
 public class MongoQuery<V, E> implements Query<V> {
 
@@ -47,6 +51,8 @@ public class MongoQuery<V, E> implements Query<V> {
     Integer offset;
     List<AttributeFilter<?>> filters;
     List<AttributeSort> sortBy;
+    List<Object> after;
+    List<String> projection;
 
     MongoEntityMapper<V, E> mongoEntityMapper;
 
@@ -81,29 +87,51 @@ public class MongoQuery<V, E> implements Query<V> {
         return this;
     }
 
+    @Override
+    public Query<V> after(List<Object> sortValues) {
+        this.after = sortValues;
+        return this;
+    }
+
+    @Override
+    public Query<V> project(List<String> attributes) {
+        this.projection = attributes;
+        return this;
+    }
+
     @Override
     public List<V> execute() {
+        return find().map(mongoEntityMapper::mapToModel).into(new ArrayList<>());
+    }
+
+    @Override
+    public Multi<V> stream() {
+        //the cursor fetches the documents in batches while they are consumed
+        return Multi.createFrom().resource(() -> find().iterator(), cursor -> Multi.createFrom().<E> iterable(() -> cursor))
+                .withFinalizer(MongoCursor::close)
+                .map(mongoEntityMapper::mapToModel);
+    }
+
+    private FindIterable<E> find() {
         MongoCollection<E> collection = this.mongoCollection;
-        Optional<Bson> query = QueryUtils.generateQuery(this.filters, mongoEntityMapper::convertToMongoAttribute);
+        // MongoDB sorts the null and missing values as the smallest ones
+        Optional<Bson> query = QueryUtils.generateQuery(withKeyset(this.filters, this.sortBy, this.after, false), mongoEntityMapper::convertToMongoAttribute);
         Optional<Bson> sort = this.generateSort();
 
         FindIterable<E> find = query.map(collection::find).orElseGet(collection::find);
         find = sort.map(find::sort).orElse(find);
         find = Optional.ofNullable(this.offset).map(find::skip).orElse(find);
         find = Optional.ofNullable(this.limit).map(find::limit).orElse(find);
+        if (this.projection != null && !this.projection.isEmpty()) {
+            //the _id is always returned
+            find = find.projection(include(this.projection.stream().map(mongoEntityMapper::convertToMongoAttribute).collect(toList())));
+        }
 
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("-------------- Executing MongoDb query with { \"queryPlanner\": \"{}\"",
                     find.explain(ExplainVerbosity.QUERY_PLANNER).toBsonDocument().get("queryPlanner"));
         }
-        List<V> list = new LinkedList<>();
-        try (MongoCursor<E> cursor = find.iterator()) {
-            while (cursor.hasNext()) {
-                E e = cursor.next();
-                list.add(mongoEntityMapper.mapToModel(e));
-            }
-        }
-        return list;
+        return find;
     }
 
     private Optional<Bson> generateSort() {
@@ -16,17 +16,23 @@
 
 package org.kie.kogito.persistence.mongodb.storage;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
 import org.kie.kogito.persistence.api.Storage;
 import org.kie.kogito.persistence.api.query.Query;
 import org.kie.kogito.persistence.mongodb.model.MongoEntityMapper;
 import org.kie.kogito.persistence.mongodb.query.MongoQuery;
 
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.model.ReplaceOptions;
 
 import io.smallrye.mutiny.Multi;
@@ -34,6 +40,7 @@ import io.smallrye.mutiny.Multi;
 import static com.mongodb.client.model.Filters.eq;
 import static com.mongodb.client.model.Filters.in;
 import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 import static org.kie.kogito.persistence.mongodb.model.ModelUtils.MONGO_ID;
 import static org.kie.kogito.persistence.mongodb.storage.StorageUtils.watchCollectionEntries;
 import static org.kie.kogito.persistence.mongodb.storage.StorageUtils.watchCollectionKeys;
@@ -89,6 +96,16 @@ public class MongoStorage<V, E> implements Storage<String, V> {
         return Optional.ofNullable(this.mongoCollection.find(new Document(MONGO_ID, o)).first()).map(e -> mapper.mapToModel(e)).orElse(null);
     }
 
+    @Override
+    public Map<String, V> getAll(Collection<String> keys) {
+        //read as raw documents to get the key of each entity
+        Codec<E> codec = this.mongoCollection.getCodecRegistry().get(this.mongoCollection.getDocumentClass());
+        Map<String, V> values = new HashMap<>();
+        this.mongoCollection.withDocumentClass(RawBsonDocument.class).find(in(MONGO_ID, keys))
+                .forEach(document -> values.put(document.getString(MONGO_ID).getValue(), mapper.mapToModel(document.decode(codec))));
+        return values;
+    }
+
     @Override
     public V put(String s, V v) {
         V oldValue = this.get(s);
@@ -102,6 +119,18 @@ public class MongoStorage<V, E> implements Storage<String, V> {
         return Objects.nonNull(v) ? oldValue : null;
     }
 
+    @Override
+    public void putAll(Map<String, V> values) {
+        List<ReplaceOneModel<E>> writes = values.entrySet().stream()
+                .filter(entry -> Objects.nonNull(entry.getValue()))
+                .map(entry -> new ReplaceOneModel<>(new Document(MONGO_ID, entry.getKey()),
+                        mapper.mapToEntity(entry.getKey(), entry.getValue()), new ReplaceOptions().upsert(true)))
+                .collect(toList());
+        if (!writes.isEmpty()) {
+            this.mongoCollection.bulkWrite(writes);
+        }
+    }
+
     @Override
     public void clear() {
         this.mongoCollection.deleteMany(new Document());
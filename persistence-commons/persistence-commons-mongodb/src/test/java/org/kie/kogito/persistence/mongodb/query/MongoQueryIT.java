@@ -34,6 +34,7 @@ import com.mongodb.client.MongoCollection;
 import io.quarkus.test.common.QuarkusTestResource;
 import io.quarkus.test.junit.QuarkusTest;
 
+import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.kie.kogito.persistence.api.query.QueryFilterFactory.orderBy;
 import static org.kie.kogito.persistence.api.query.SortDirection.ASC;
@@ -79,4 +80,15 @@ class MongoQueryIT {
         assertEquals(1, results.size());
         assertEquals("5", results.get(0));
     }
+
+    @Test
+    void testProject() {
+        collection.insertOne(new Document(MONGO_ID, "1").append(TEST_ATTRIBUTE, "2").append("other", "3"));
+
+        mongoQuery.project(List.of(TEST_ATTRIBUTE));
+        assertEquals(List.of("2"), mongoQuery.execute());
+
+        mongoQuery.project(List.of("other"));
+        assertEquals(singletonList(null), mongoQuery.execute());
+    }
 }
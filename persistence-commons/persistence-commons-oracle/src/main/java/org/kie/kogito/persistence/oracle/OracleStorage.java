@@ -16,10 +16,16 @@
 
 package org.kie.kogito.persistence.oracle;
 
+import java.util.Collection;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
 import java.util.function.Function;
 
+import javax.persistence.EntityManager;
+
+import org.hibernate.Session;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.MaterializedBlobType;
 import org.kie.kogito.persistence.api.Storage;
 import org.kie.kogito.persistence.api.query.Query;
 import org.kie.kogito.persistence.oracle.model.CacheEntity;
@@ -33,11 +39,18 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.smallrye.mutiny.Multi;
 
 import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
 public class OracleStorage<V> implements Storage<String, V> {
 
     private static final String LISTENER_NOT_AVAILABLE_IN_ORACLE_SQL = "Listener not available in Oracle";
+    //single round trip insert or update, the previous row does not need to be loaded
+    private static final String UPSERT = "MERGE INTO kogito_data_cache t " +
+            "USING (SELECT ?1 name, ?2 key, ?3 json_value FROM dual) s ON (t.name = s.name AND t.key = s.key) " +
+            "WHEN MATCHED THEN UPDATE SET t.json_value = s.json_value " +
+            "WHEN NOT MATCHED THEN INSERT (name, key, json_value) VALUES (s.name, s.key, s.json_value)";
+
     private CacheEntityRepository repository;
     private String cacheName;
     private Class<V> type;
@@ -81,6 +94,16 @@ public class OracleStorage<V> implements Storage<String, V> {
         return repository.findByIdOptional(new CacheId(cacheName, key)).map(mapper()).orElse(null);
     }
 
+    @Override
+    public Map<String, V> getAll(Collection<String> keys) {
+        //loaded in batches of IN queries
+        return repository.getEntityManager().unwrap(Session.class).byMultipleIds(CacheEntity.class)
+                .multiLoad(keys.stream().map(key -> new CacheId(cacheName, key)).collect(toList()))
+                .stream()
+                .filter(Objects::nonNull)
+                .collect(toMap(CacheEntity::getKey, mapper()));
+    }
+
     protected Function<CacheEntity, V> mapper() {
         return entity -> {
             try {
@@ -97,24 +120,34 @@ public class OracleStorage<V> implements Storage<String, V> {
 
     @Override
     public V put(String key, V value) {
-        ObjectNode json;
+        EntityManager entityManager = repository.getEntityManager();
+        entityManager.createNativeQuery(UPSERT)
+                .unwrap(NativeQuery.class)
+                .setParameter(1, cacheName)
+                .setParameter(2, key)
+                //bound as a BLOB, the same way the JsonBlobType of the entity does
+                .setParameter(3, toJson(value), MaterializedBlobType.INSTANCE)
+                .executeUpdate();
+        //the managed entity, if it was loaded in this transaction, is stale after the upsert
+        entityManager.detach(entityManager.getReference(CacheEntity.class, new CacheId(cacheName, key)));
+        return value;
+    }
+
+    private ObjectNode toJsonNode(V value) {
         if (String.class.equals(type)) {
-            json = mapper.createObjectNode();
+            ObjectNode json = mapper.createObjectNode();
             json.put("value", (String) value);
-        } else {
-            json = mapper.valueToTree(value);
+            return json;
         }
-        CacheId cacheId = new CacheId(cacheName, key);
-        Optional<CacheEntity> byId = repository.findByIdOptional(cacheId);
-        CacheEntity entity;
-        if (byId.isPresent()) {
-            entity = byId.get();
-        } else {
-            entity = new CacheEntity(cacheName, key);
+        return mapper.valueToTree(value);
+    }
+
+    private byte[] toJson(V value) {
+        try {
+            return mapper.writeValueAsBytes(toJsonNode(value));
+        } catch (JsonProcessingException ex) {
+            throw new RuntimeException(format("Failed to convert type %s into JSON", rootType), ex);
         }
-        entity.setValue(json);
-        repository.persist(entity);
-        return value;
     }
 
     @Override
@@ -20,28 +20,54 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.hibernate.annotations.QueryHints;
+import org.hibernate.type.StringType;
 import org.kie.kogito.persistence.api.query.AttributeFilter;
 import org.kie.kogito.persistence.api.query.AttributeSort;
 import org.kie.kogito.persistence.api.query.FilterCondition;
 import org.kie.kogito.persistence.api.query.Query;
+import org.kie.kogito.persistence.api.query.QueryShapeCache;
 import org.kie.kogito.persistence.postgresql.model.CacheEntityRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.vladmihalcea.hibernate.type.json.JsonNodeBinaryType;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Metrics;
+import io.smallrye.mutiny.Multi;
 
 import static java.lang.String.format;
 import static java.util.stream.Collectors.joining;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.withKeyset;
 
 public class PostgresQuery<T> implements Query<T> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PostgresQuery.class);
     private static final String AND = " AND ";
     private static final String OR = " OR ";
+    //rows fetched on each round trip while streaming the results
+    private static final int STREAM_FETCH_SIZE = 500;
     private static final String ATTRIBUTE_ACCESSOR = "(json_value->>'%s')";
+    private static final String SELECT_ALL = "SELECT * FROM kogito_data_cache";
+    static final String TEMPLATE_CACHE_METRIC = "kogito.persistence.query.template.cache";
+    static final QueryShapeCache<String> TEMPLATES = new QueryShapeCache<>(1000);
+
+    static {
+        FunctionCounter.builder(TEMPLATE_CACHE_METRIC, TEMPLATES, QueryShapeCache::getHits)
+                .description("Lookups of the query statements in the template cache")
+                .tag("storage", "postgresql")
+                .tag("result", "hit")
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder(TEMPLATE_CACHE_METRIC, TEMPLATES, QueryShapeCache::getMisses)
+                .description("Lookups of the query statements in the template cache")
+                .tag("storage", "postgresql")
+                .tag("result", "miss")
+                .register(Metrics.globalRegistry);
+    }
 
     private final String name;
     private final CacheEntityRepository repository;
@@ -52,7 +78,10 @@ public class PostgresQuery<T> implements Query<T> {
     private Integer offset;
     private List<AttributeFilter<?>> filters;
     private List<AttributeSort> sortBy;
+    private List<Object> after;
+    private List<String> projection;
     private Map<String, JsonField> fields;
+    private int parameterIndex;
 
     private static final class JsonField {
 
@@ -100,24 +129,77 @@ public class PostgresQuery<T> implements Query<T> {
         return this;
     }
 
+    @Override
+    public Query<T> after(List<Object> sortValues) {
+        this.after = sortValues;
+        return this;
+    }
+
+    /**
+     * Fetches only the given top level attributes of the JSON documents, the remaining attributes of the results are
+     * left empty. Large documents are not transferred from the database when just a few fields are needed.
+     */
+    @Override
+    public PostgresQuery<T> project(List<String> attributes) {
+        this.projection = attributes;
+        return this;
+    }
+
     @Override
     public List<T> execute() {
+        List<?> results = createQuery().getResultList();
+
+        return results.stream().map(this::toModel).collect(Collectors.toList());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Multi<T> stream() {
+        return Multi.createFrom().resource(() -> (Stream<Object>) createQuery().setHint(QueryHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE).getResultStream(),
+                results -> Multi.createFrom().<Object> iterable(results::iterator))
+                .withFinalizer(Stream::close)
+                .map(this::toModel);
+    }
+
+    private javax.persistence.Query createQuery() {
+        List<AttributeFilter<?>> queryFilters = withKeyset(filters, sortBy, after);
+        String sql = selectClause() + TEMPLATES.get(queryFilters, sortBy, () -> buildQueryTemplate(queryFilters));
+
+        LOGGER.debug("Executing PostgreSQL query: {}", sql);
+        javax.persistence.Query query = repository.getEntityManager().createNativeQuery(sql);
+        // The JSON document is read as text and parsed once straight into the target type
+        query.unwrap(org.hibernate.query.NativeQuery.class).addScalar("json_value", StringType.INSTANCE);
+        query.setParameter(1, name);
+        List<Object> parameters = QueryShapeCache.parameters(queryFilters);
+        for (int i = 0; i < parameters.size(); i++) {
+            query.setParameter(i + 2, toParameter(parameters.get(i)));
+        }
+
+        if (limit != null) {
+            query.setMaxResults(limit);
+        }
+        if (offset != null) {
+            query.setFirstResult(offset);
+        }
+        return query;
+    }
+
+    // The filter values are bound as parameters, so the template only depends on the shape of the query
+    private String buildQueryTemplate(List<AttributeFilter<?>> queryFilters) {
         //Get type information from filters/sorting to cast JSON document fields in query
-        fields = addFilters(new HashMap<>(), filters);
+        fields = addFilters(new HashMap<>(), queryFilters);
         if (sortBy != null && !sortBy.isEmpty()) {
             sortBy.stream().filter(sortBy -> !fields.containsKey(sortBy.getAttribute()))
                     .forEach(sortBy -> fields.put(sortBy.getAttribute(),
                             new JsonField(sortBy.getAttribute())));
         }
 
-        // Build the query to retrieve the filtered data from the temporary table above.
-        StringBuilder queryString = new StringBuilder("SELECT * FROM kogito_data_cache")
-                .append(" WHERE name = '")
-                .append(name)
-                .append("'");
-        if (filters != null && !filters.isEmpty()) {
+        // The first parameter is the cache name
+        parameterIndex = 1;
+        StringBuilder queryString = new StringBuilder(" WHERE name = ?1");
+        if (queryFilters != null && !queryFilters.isEmpty()) {
             queryString.append(" AND ");
-            queryString.append(filters.stream()
+            queryString.append(queryFilters.stream()
                     .map(filter -> new StringBuilder()
                             .append(filterStringFunction(filter)))
                     .collect(joining(AND)));
@@ -131,30 +213,29 @@ public class PostgresQuery<T> implements Query<T> {
                 return cast(field, format(ATTRIBUTE_ACCESSOR, f.getAttribute())).append(" ").append(f.getSort().name());
             }).collect(joining(", ")));
         }
+        return queryString.toString();
+    }
 
-        LOGGER.debug("Executing PostgreSQL query: {}", queryString);
-        javax.persistence.Query query = repository.getEntityManager().createNativeQuery(queryString.toString());
-        query.unwrap(org.hibernate.query.NativeQuery.class).addScalar("json_value", JsonNodeBinaryType.INSTANCE);
+    private String selectClause() {
+        if (projection == null || projection.isEmpty()) {
+            return SELECT_ALL;
+        }
+        // Only the attributes present in the document are kept, so unknown attributes are not added as nulls
+        return projection.stream()
+                .map(attribute -> "'" + attribute + "'")
+                .collect(joining(", ", "SELECT COALESCE((SELECT jsonb_object_agg(key, value) FROM jsonb_each(json_value) WHERE key IN (",
+                        ")), '{}') AS json_value FROM kogito_data_cache"));
+    }
 
-        if (limit != null) {
-            query.setMaxResults(limit);
+    private T toModel(Object r) {
+        if (r == null) {
+            return null;
         }
-        if (offset != null) {
-            query.setFirstResult(offset);
+        try {
+            return objectMapper.readValue((String) r, type);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
         }
-
-        List<?> results = query.getResultList();
-
-        return results.stream().map(r -> {
-            if (r == null) {
-                return null;
-            }
-            try {
-                return objectMapper.readValue(objectMapper.writeValueAsString(r), type);
-            } catch (JsonProcessingException e) {
-                throw new RuntimeException(e);
-            }
-        }).collect(Collectors.toList());
     }
 
     @SuppressWarnings("unchecked")
@@ -214,32 +295,31 @@ public class PostgresQuery<T> implements Query<T> {
         switch (filter.getCondition()) {
             case CONTAINS:
                 return cast(field, format(ATTRIBUTE_ACCESSOR, filter.getAttribute()))
-                        .append(format("= %s", getValueForQueryString(filter.getValue())))
+                        .append("= " + parameter())
                         .toString();
             case CONTAINS_ALL:
                 return (String) ((List) filter.getValue())
                         .stream()
                         .map(o -> cast(field, format(ATTRIBUTE_ACCESSOR, filter.getAttribute()))
-                                .append(format("= %s", getValueForQueryString(o))))
+                                .append("= " + parameter()))
                         .collect(joining(AND));
             case CONTAINS_ANY:
                 return (String) ((List) filter.getValue())
                         .stream()
                         .map(o -> cast(field, format(ATTRIBUTE_ACCESSOR, filter.getAttribute()))
-                                .append(format("= %s", getValueForQueryString(o))))
+                                .append("= " + parameter()))
                         .collect(joining(OR));
             case LIKE:
                 return cast(field, format(ATTRIBUTE_ACCESSOR, filter.getAttribute()))
-                        .append(format("LIKE %s", getValueForQueryString(filter.getValue())))
-                        .toString()
-                        .replaceAll("\\*", "%");
+                        .append("LIKE " + parameter())
+                        .toString();
             case EQUAL:
                 return cast(field, format(ATTRIBUTE_ACCESSOR, filter.getAttribute()))
-                        .append(format("= %s", getValueForQueryString(filter.getValue())))
+                        .append("= " + parameter())
                         .toString();
             case IN:
                 return cast(field, format(ATTRIBUTE_ACCESSOR, filter.getAttribute()))
-                        .append(format("IN (%s)", ((List) filter.getValue()).stream().map(PostgresQuery::getValueForQueryString).collect(joining(", "))))
+                        .append(format("IN (%s)", ((List<?>) filter.getValue()).stream().map(v -> parameter()).collect(joining(", "))))
                         .toString();
             case IS_NULL:
                 return cast(field, format(ATTRIBUTE_ACCESSOR, filter.getAttribute()))
@@ -250,25 +330,24 @@ public class PostgresQuery<T> implements Query<T> {
                         .append("IS NOT NULL")
                         .toString();
             case BETWEEN:
-                List<Object> value = (List<Object>) filter.getValue();
                 return cast(field, format(ATTRIBUTE_ACCESSOR, filter.getAttribute()))
-                        .append(format("BETWEEN %s AND %s", getValueForQueryString(value.get(0)), getValueForQueryString(value.get(1))))
+                        .append("BETWEEN " + parameter() + " AND " + parameter())
                         .toString();
             case GT:
                 return cast(field, format(ATTRIBUTE_ACCESSOR, filter.getAttribute()))
-                        .append(format("> %s", getValueForQueryString(filter.getValue())))
+                        .append("> " + parameter())
                         .toString();
             case GTE:
                 return cast(field, format(ATTRIBUTE_ACCESSOR, filter.getAttribute()))
-                        .append(format(">= %s", getValueForQueryString(filter.getValue())))
+                        .append(">= " + parameter())
                         .toString();
             case LT:
                 return cast(field, format(ATTRIBUTE_ACCESSOR, filter.getAttribute()))
-                        .append(format("< %s", getValueForQueryString(filter.getValue())))
+                        .append("< " + parameter())
                         .toString();
             case LTE:
                 return cast(field, format(ATTRIBUTE_ACCESSOR, filter.getAttribute()))
-                        .append(format("<= %s", getValueForQueryString(filter.getValue())))
+                        .append("<= " + parameter())
                         .toString();
             case OR:
                 return getRecursiveString(filter, OR);
@@ -293,8 +372,12 @@ public class PostgresQuery<T> implements Query<T> {
         return cast;
     }
 
-    private static String getValueForQueryString(Object value) {
-        return value instanceof String ? "'" + value + "'" : value.toString();
+    private String parameter() {
+        return "?" + (++parameterIndex);
+    }
+
+    private static Object toParameter(Object value) {
+        return value instanceof Number ? value : value.toString();
     }
 
     @SuppressWarnings("unchecked")
@@ -16,10 +16,14 @@
 
 package org.kie.kogito.persistence.postgresql;
 
+import java.util.Collection;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
 import java.util.function.Function;
 
+import javax.persistence.EntityManager;
+
+import org.hibernate.Session;
 import org.kie.kogito.persistence.api.Storage;
 import org.kie.kogito.persistence.api.query.Query;
 import org.kie.kogito.persistence.postgresql.model.CacheEntity;
@@ -33,11 +37,16 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.smallrye.mutiny.Multi;
 
 import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
 public class PostgresStorage<V> implements Storage<String, V> {
 
     private static final String LISTENER_NOT_AVAILABLE_IN_POSTGRES_SQL = "Listener not available in PostgresSQL";
+    //single round trip insert or update, the previous row does not need to be loaded
+    private static final String UPSERT = "INSERT INTO kogito_data_cache (name, key, json_value) VALUES (?1, ?2, CAST(?3 AS jsonb)) " +
+            "ON CONFLICT (key, name) DO UPDATE SET json_value = EXCLUDED.json_value";
+
     private CacheEntityRepository repository;
     private String cacheName;
     private Class<V> type;
@@ -81,6 +90,16 @@ public class PostgresStorage<V> implements Storage<String, V> {
         return repository.findByIdOptional(new CacheId(cacheName, key)).map(mapper()).orElse(null);
     }
 
+    @Override
+    public Map<String, V> getAll(Collection<String> keys) {
+        //loaded in batches of IN queries
+        return repository.getEntityManager().unwrap(Session.class).byMultipleIds(CacheEntity.class)
+                .multiLoad(keys.stream().map(key -> new CacheId(cacheName, key)).collect(toList()))
+                .stream()
+                .filter(Objects::nonNull)
+                .collect(toMap(CacheEntity::getKey, mapper()));
+    }
+
     protected Function<CacheEntity, V> mapper() {
         return entity -> {
             try {
@@ -97,26 +116,31 @@ public class PostgresStorage<V> implements Storage<String, V> {
 
     @Override
     public V put(String key, V value) {
-        ObjectNode json;
-        if (String.class.equals(type)) {
-            json = mapper.createObjectNode();
-            json.put("value", (String) value);
-        } else {
-            json = mapper.valueToTree(value);
-        }
-        CacheId cacheId = new CacheId(cacheName, key);
-        Optional<CacheEntity> byId = repository.findByIdOptional(cacheId);
-        CacheEntity entity;
-        if (byId.isPresent()) {
-            entity = byId.get();
-        } else {
-            entity = new CacheEntity(cacheName, key);
-        }
-        entity.setValue(json);
-        repository.persist(entity);
+        EntityManager entityManager = repository.getEntityManager();
+        entityManager.createNativeQuery(UPSERT)
+                .setParameter(1, cacheName)
+                .setParameter(2, key)
+                .setParameter(3, toJson(value))
+                .executeUpdate();
+        //the managed entity, if it was loaded in this transaction, is stale after the upsert
+        entityManager.detach(entityManager.getReference(CacheEntity.class, new CacheId(cacheName, key)));
         return value;
     }
 
+    private String toJson(V value) {
+        try {
+            if (String.class.equals(type)) {
+                ObjectNode json = mapper.createObjectNode();
+                json.put("value", (String) value);
+                return mapper.writeValueAsString(json);
+            }
+            //serialized straight to text, without building the intermediate tree
+            return mapper.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new RuntimeException(format("Failed to convert type %s into JSON", rootType), ex);
+        }
+    }
+
     @Override
     public V remove(String key) {
         V value = get(key);
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2023 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.persistence.postgresql;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.query.NativeQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.persistence.postgresql.model.CacheEntityRepository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.equalTo;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.greaterThan;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.in;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.like;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.orderBy;
+import static org.kie.kogito.persistence.api.query.SortDirection.ASC;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostgresQueryTest {
+
+    private static final String TEMPLATE = "SELECT * FROM kogito_data_cache WHERE name = ?1" +
+            " AND (json_value->>'name') = ?2" +
+            " AND ((json_value->>'age'))\\:\\:numeric > ?3" +
+            " AND (json_value->>'status') IN (?4, ?5)" +
+            " AND (json_value->>'name') LIKE ?6" +
+            " ORDER BY ((json_value->>'age'))\\:\\:numeric  ASC";
+
+    private EntityManager entityManager;
+
+    private NativeQuery<?> nativeQuery;
+
+    private PostgresQuery<ObjectNode> query;
+
+    @BeforeEach
+    void setup() {
+        CacheEntityRepository repository = mock(CacheEntityRepository.class);
+        entityManager = mock(EntityManager.class);
+        nativeQuery = mock(NativeQuery.class);
+        when(repository.getEntityManager()).thenReturn(entityManager);
+        when(entityManager.createNativeQuery(anyString())).thenReturn(nativeQuery);
+        when(nativeQuery.unwrap(NativeQuery.class)).thenReturn(nativeQuery);
+        doReturn(emptyList()).when(nativeQuery).getResultList();
+        query = new PostgresQuery<>("test", repository, new ObjectMapper(), ObjectNode.class);
+    }
+
+    @Test
+    void testBindParameters() {
+        query.filter(asList(equalTo("name", "pippo"), greaterThan("age", 10), in("status", asList("ACTIVE", "COMPLETED")), like("name", "pi*")))
+                .sort(singletonList(orderBy("age", ASC)))
+                .execute();
+
+        verify(entityManager).createNativeQuery(TEMPLATE);
+        verify(nativeQuery).setParameter(1, "test");
+        verify(nativeQuery).setParameter(2, "pippo");
+        verify(nativeQuery).setParameter(3, 10);
+        verify(nativeQuery).setParameter(4, "ACTIVE");
+        verify(nativeQuery).setParameter(5, "COMPLETED");
+        verify(nativeQuery).setParameter(6, "pi%");
+    }
+
+    @Test
+    void testTemplateCache() {
+        long hits = PostgresQuery.TEMPLATES.getHits();
+
+        query.filter(asList(equalTo("name", "pippo"), greaterThan("age", 10), in("status", asList("ACTIVE", "COMPLETED")), like("name", "pi*")))
+                .sort(singletonList(orderBy("age", ASC)))
+                .execute();
+        query.filter(asList(equalTo("name", "pluto"), greaterThan("age", 20), in("status", asList("ABORTED", "ERROR")), like("name", "pl*")))
+                .sort(singletonList(orderBy("age", ASC)))
+                .execute();
+
+        verify(entityManager, times(2)).createNativeQuery(TEMPLATE);
+        verify(nativeQuery).setParameter(2, "pluto");
+        assertThat(PostgresQuery.TEMPLATES.getHits()).isGreaterThanOrEqualTo(hits + 1);
+    }
+
+    @Test
+    void testResultMapping() {
+        doReturn(asList("{\"name\":\"pippo\",\"age\":10}", null)).when(nativeQuery).getResultList();
+
+        assertThat(query.execute()).containsExactly(new ObjectMapper().createObjectNode().put("name", "pippo").put("age", 10), null);
+    }
+
+    @Test
+    void testProjection() {
+        query.project(asList("name", "age")).filter(singletonList(equalTo("name", "pippo"))).execute();
+
+        verify(entityManager).createNativeQuery("SELECT COALESCE((SELECT jsonb_object_agg(key, value) FROM jsonb_each(json_value) WHERE key IN ('name', 'age')), '{}')" +
+                " AS json_value FROM kogito_data_cache WHERE name = ?1 AND (json_value->>'name') = ?2");
+    }
+
+    @Test
+    void testTemplateCacheShape() {
+        query.filter(singletonList(in("status", asList("ACTIVE", "COMPLETED")))).execute();
+        query.filter(singletonList(in("status", asList("ACTIVE", "COMPLETED", "ABORTED")))).execute();
+        query.filter(singletonList(equalTo("age", 10))).execute();
+        query.filter(singletonList(equalTo("age", "10"))).execute();
+
+        verify(entityManager).createNativeQuery("SELECT * FROM kogito_data_cache WHERE name = ?1 AND (json_value->>'status') IN (?2, ?3)");
+        verify(entityManager).createNativeQuery("SELECT * FROM kogito_data_cache WHERE name = ?1 AND (json_value->>'status') IN (?2, ?3, ?4)");
+        verify(entityManager).createNativeQuery("SELECT * FROM kogito_data_cache WHERE name = ?1 AND ((json_value->>'age'))\\:\\:numeric = ?2");
+        verify(entityManager).createNativeQuery("SELECT * FROM kogito_data_cache WHERE name = ?1 AND (json_value->>'age') = ?2");
+    }
+}
@@ -17,7 +17,9 @@
 package org.kie.kogito.persistence.redis;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.kie.kogito.persistence.api.query.AttributeFilter;
@@ -29,17 +31,23 @@ import org.slf4j.LoggerFactory;
 
 import io.redisearch.Client;
 import io.redisearch.SearchResult;
+import io.smallrye.mutiny.Multi;
 
+import static java.util.Collections.singletonList;
+import static org.kie.kogito.persistence.api.query.QueryFilterFactory.withKeyset;
 import static org.kie.kogito.persistence.redis.Constants.RAW_OBJECT_FIELD;
 
 public class RedisQuery<V> implements Query<V> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RedisQuery.class);
+    //RediSearch has no cursor for the search results, the streamed results are read in pages of this size
+    static final int STREAM_PAGE_SIZE = 1000;
 
     Integer limit;
     Integer offset;
     List<AttributeFilter<?>> filters;
     AttributeSort sortBy;
+    List<Object> after;
     String indexName;
 
     private Class<V> type;
@@ -82,16 +90,52 @@ public class RedisQuery<V> implements Query<V> {
     }
 
     @Override
-    public List<V> execute() {
-        io.redisearch.Query query = new io.redisearch.Query(RedisQueryFactory.buildQueryBody(indexName, filters));
+    public Query<V> after(List<Object> sortValues) {
+        this.after = sortValues;
+        return this;
+    }
 
+    @Override
+    public List<V> execute() {
+        io.redisearch.Query query = createQuery();
         setQueryLimitAndOffset(query);
+        return search(query);
+    }
+
+    @Override
+    public Multi<V> stream() {
+        final int start = offset == null ? 0 : offset;
+        final Integer max = limit;
+        return Multi.createBy().repeating()
+                .supplier(AtomicInteger::new, emitted -> {
+                    // The last page is bounded by the limit, so no more results than the requested ones are read
+                    int pageSize = max == null ? STREAM_PAGE_SIZE : Math.min(max - emitted.get(), STREAM_PAGE_SIZE);
+                    if (pageSize <= 0) {
+                        return Collections.<V> emptyList();
+                    }
+                    io.redisearch.Query query = createQuery();
+                    query.limit(start + emitted.get(), pageSize);
+                    List<V> page = search(query);
+                    emitted.addAndGet(page.size());
+                    return page;
+                })
+                .whilst(page -> page.size() == STREAM_PAGE_SIZE)
+                .onItem().<V> disjoint();
+    }
+
+    private io.redisearch.Query createQuery() {
+        List<AttributeFilter<?>> queryFilters = withKeyset(filters, sortBy == null ? null : singletonList(sortBy), after);
+        io.redisearch.Query query = new io.redisearch.Query(RedisQueryFactory.buildQueryBody(indexName, queryFilters));
 
         if (sortBy != null) {
             query.setSortBy(sortBy.getAttribute(), SortDirection.ASC.equals(sortBy.getSort()));
         }
 
-        RedisQueryFactory.addFilters(query, filters);
+        RedisQueryFactory.addFilters(query, queryFilters);
+        return query;
+    }
+
+    private List<V> search(io.redisearch.Query query) {
         SearchResult search = redisClient.search(query);
         LOGGER.debug(String.format("%d documets have been found for the query.", search.totalResults));
 
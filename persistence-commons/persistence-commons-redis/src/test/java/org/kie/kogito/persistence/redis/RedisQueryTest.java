@@ -39,8 +39,11 @@ import static java.util.Collections.singletonList;
 import static org.kie.kogito.persistence.api.query.QueryFilterFactory.orderBy;
 import static org.kie.kogito.persistence.redis.Constants.RAW_OBJECT_FIELD;
 import static org.kie.kogito.persistence.redis.Person.NAME_PROPERTY;
+import static org.kie.kogito.persistence.redis.RedisQuery.STREAM_PAGE_SIZE;
 import static org.kie.kogito.persistence.redis.TestContants.TEST_INDEX_NAME;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class RedisQueryTest {
@@ -80,4 +83,46 @@ public class RedisQueryTest {
         Assertions.assertEquals("pippo", result.get(0).getName());
         Assertions.assertEquals(20, result.get(0).getAge());
     }
+
+    @Test
+    public void streamTest() throws JsonProcessingException {
+        Client client = Mockito.mock(Client.class);
+        when(client.search(any(Query.class))).thenReturn(searchResult(STREAM_PAGE_SIZE), searchResult(1));
+
+        RedisQuery<Person> redisQuery = new RedisQuery<>(client, TEST_INDEX_NAME, Person.class);
+        redisQuery.filter(new ArrayList<>());
+
+        List<Person> result = redisQuery.stream().collect().asList().await().indefinitely();
+
+        // The results are read in pages until a page is not full
+        Assertions.assertEquals(STREAM_PAGE_SIZE + 1, result.size());
+        verify(client, times(2)).search(any(Query.class));
+    }
+
+    @Test
+    public void streamLimitTest() throws JsonProcessingException {
+        Client client = Mockito.mock(Client.class);
+        when(client.search(any(Query.class))).thenReturn(searchResult(STREAM_PAGE_SIZE), searchResult(5));
+
+        RedisQuery<Person> redisQuery = new RedisQuery<>(client, TEST_INDEX_NAME, Person.class);
+        redisQuery.filter(new ArrayList<>());
+        redisQuery.limit(STREAM_PAGE_SIZE);
+
+        List<Person> result = redisQuery.stream().collect().asList().await().indefinitely();
+
+        // The limit is reached by the first page, so no further page is read
+        Assertions.assertEquals(STREAM_PAGE_SIZE, result.size());
+        verify(client, times(1)).search(any(Query.class));
+    }
+
+    private static SearchResult searchResult(int size) throws JsonProcessingException {
+        SearchResult searchResult = new SearchResult(singletonList((long) size), false, false, false);
+        for (int i = 0; i < size; i++) {
+            Person person = new Person("pippo" + i, i);
+            Map<String, Object> map = JsonUtils.getMapper().convertValue(person, Map.class);
+            map.put(RAW_OBJECT_FIELD, JsonUtils.getMapper().writeValueAsString(person));
+            searchResult.docs.add(new Document(person.getName(), map));
+        }
+        return searchResult;
+    }
 }
@@ -105,16 +105,25 @@ public class TrustyServiceImpl implements TrustyService {
         filters.add(QueryFilterFactory.like(Execution.EXECUTION_ID_FIELD, prefix + "*"));
         filters.add(QueryFilterFactory.greaterThanEqual(Execution.EXECUTION_TIMESTAMP_FIELD, from.toInstant().toEpochMilli()));
         filters.add(QueryFilterFactory.lessThanEqual(Execution.EXECUTION_TIMESTAMP_FIELD, to.toInstant().toEpochMilli()));
-        ArrayList result = new ArrayList<>(storage.query()
+        //only the requested page is kept in memory, the rest of the matched executions are just counted
+        List<Execution> result = new ArrayList<>();
+        int available = 0;
+        for (Decision decision : storage.query()
                 .sort(asList(orderBy(Execution.EXECUTION_TIMESTAMP_FIELD, DESC)))
                 .filter(filters)
-                .execute());
+                .stream()
+                .subscribe().asIterable()) {
+            if (available >= offset && result.size() < limit) {
+                result.add(decision);
+            }
+            available++;
+        }
 
-        if (result.size() < offset) {
+        if (available < offset) {
             throw new IllegalArgumentException("Out of bound start offset in result");
         }
 
-        return new MatchedExecutionHeaders(result.subList(offset, Math.min(offset + limit, result.size())), result.size());
+        return new MatchedExecutionHeaders(result, available);
     }
 
     @Override
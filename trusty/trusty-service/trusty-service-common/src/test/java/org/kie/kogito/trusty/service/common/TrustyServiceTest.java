@@ -70,6 +70,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.IntNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 
+import io.smallrye.mutiny.Multi;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -146,7 +148,7 @@ public class TrustyServiceTest {
         when(queryMock.filter(any(List.class))).thenReturn(queryMock);
         when(queryMock.offset(any(Integer.class))).thenReturn(queryMock);
         when(queryMock.sort(any(List.class))).thenReturn(queryMock);
-        when(queryMock.execute()).thenReturn(List.of(decision));
+        when(queryMock.stream()).thenReturn(Multi.createFrom().item(decision));
 
         Storage storageMock = mock(Storage.class);
         when(storageMock.put(eq(TEST_EXECUTION_ID), any(Object.class))).thenReturn(decision);
@@ -176,7 +178,7 @@ public class TrustyServiceTest {
         Query queryMock = mock(Query.class);
         when(queryMock.filter(any(List.class))).thenReturn(queryMock);
         when(queryMock.sort(any(List.class))).thenReturn(queryMock);
-        when(queryMock.execute()).thenReturn(decisions);
+        when(queryMock.stream()).thenAnswer(invocation -> Multi.createFrom().iterable(decisions));
 
         Storage storageMock = mock(Storage.class);
         decisions.forEach(x -> {
@@ -200,13 +202,34 @@ public class TrustyServiceTest {
         assertEquals(decisions.size(), result.getAvailableResults());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenAnOffsetOutOfBoundsThenAnExceptionIsRaised() {
+        Decision decision = new Decision();
+        decision.setExecutionId(TEST_EXECUTION_ID);
+
+        Query queryMock = mock(Query.class);
+        when(queryMock.filter(any(List.class))).thenReturn(queryMock);
+        when(queryMock.sort(any(List.class))).thenReturn(queryMock);
+        when(queryMock.stream()).thenReturn(Multi.createFrom().item(decision));
+
+        Storage storageMock = mock(Storage.class);
+        when(storageMock.query()).thenReturn(queryMock);
+
+        when(trustyStorageServiceMock.getDecisionsStorage()).thenReturn(storageMock);
+
+        OffsetDateTime from = OffsetDateTime.now().minusDays(1);
+        OffsetDateTime to = OffsetDateTime.now();
+        assertThrows(IllegalArgumentException.class, () -> trustyService.getExecutionHeaders(from, to, 100, 2, ""));
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     void givenNoExecutionsNoExceptionsAreRaised() {
         Query queryMock = mock(Query.class);
         when(queryMock.filter(any(List.class))).thenReturn(queryMock);
         when(queryMock.sort(any(List.class))).thenReturn(queryMock);
-        when(queryMock.execute()).thenReturn(new ArrayList<>());
+        when(queryMock.stream()).thenReturn(Multi.createFrom().empty());
 
         Storage storageMock = mock(Storage.class);
         when(storageMock.query()).thenReturn(queryMock);
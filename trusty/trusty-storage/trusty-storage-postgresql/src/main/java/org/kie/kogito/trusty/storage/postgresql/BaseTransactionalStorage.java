@@ -15,6 +15,7 @@
  */
 package org.kie.kogito.trusty.storage.postgresql;
 
+import java.util.Collection;
 import java.util.Map;
 
 import javax.transaction.Transactional;
@@ -72,6 +73,12 @@ public abstract class BaseTransactionalStorage<T> implements Storage<String, T>
         return delegate.get(key);
     }
 
+    @Override
+    @Transactional
+    public Map<String, T> getAll(Collection<String> keys) {
+        return delegate.getAll(keys);
+    }
+
     @Override
     @Transactional
     public T put(String key, T value) {